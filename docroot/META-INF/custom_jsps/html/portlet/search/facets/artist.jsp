@@ -17,10 +17,10 @@
 <%@ include file="/html/portlet/search/facets/init.jsp" %>
 
 <%@ page import="com.liferay.portal.kernel.repository.model.FileEntry" %>
+<%@ page import="com.liferay.portal.kernel.repository.model.FileVersion" %>
 <%@ page import="com.liferay.portal.model.Repository" %>
 <%@ page import="com.liferay.portal.portletfilerepository.PortletFileRepositoryUtil" %>
 <%@ page import="com.liferay.portlet.documentlibrary.model.DLFolderConstants" %>
-<%@ page import="com.liferay.portlet.documentlibrary.util.DLUtil" %>
 
 <%
 if (termCollectors.isEmpty()) {
@@ -112,9 +112,18 @@ protected String getImageURL(long artistId, ThemeDisplay themeDisplay) throws Sy
 
 	try {
 		if (repository != null) {
-			FileEntry fileEntry = PortletFileRepositoryUtil.getPortletFileEntry(repository.getRepositoryId(), DLFolderConstants.DEFAULT_PARENT_FOLDER_ID, String.valueOf(artistId));
+			FileEntry fileEntry = null;
 
-			return DLUtil.getPreviewURL(fileEntry, fileEntry.getLatestFileVersion(), themeDisplay, StringPool.BLANK);
+			try {
+				fileEntry = PortletFileRepositoryUtil.getPortletFileEntry(repository.getRepositoryId(), DLFolderConstants.DEFAULT_PARENT_FOLDER_ID, artistId + "_thumbnail");
+			}
+			catch (Exception e) {
+				fileEntry = PortletFileRepositoryUtil.getPortletFileEntry(repository.getRepositoryId(), DLFolderConstants.DEFAULT_PARENT_FOLDER_ID, String.valueOf(artistId));
+			}
+
+			FileVersion fileVersion = fileEntry.getLatestFileVersion();
+
+			return themeDisplay.getPortalURL() + themeDisplay.getPathContext() + "/delegate/jukebox-cover/" + fileEntry.getFileEntryId() + StringPool.SLASH + fileVersion.getFileVersionId();
 		}
 	}
 	catch (Exception e) {
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.model;
+
+import java.io.Serializable;
+
+/**
+ * Holds the fields of an album that a list of albums shows, together with the
+ * name of its artist, read in one query with the album.
+ *
+ * @author Julio Camarero
+ */
+public class AlbumSummary implements Serializable {
+
+	public AlbumSummary(
+		long albumId, long groupId, long artistId, String name, int year,
+		int status, String artistName) {
+
+		_albumId = albumId;
+		_groupId = groupId;
+		_artistId = artistId;
+		_name = name;
+		_year = year;
+		_status = status;
+		_artistName = artistName;
+	}
+
+	public long getAlbumId() {
+		return _albumId;
+	}
+
+	public long getArtistId() {
+		return _artistId;
+	}
+
+	public String getArtistName() {
+		return _artistName;
+	}
+
+	public long getGroupId() {
+		return _groupId;
+	}
+
+	public String getName() {
+		return _name;
+	}
+
+	public int getStatus() {
+		return _status;
+	}
+
+	public int getYear() {
+		return _year;
+	}
+
+	private static final long serialVersionUID = 1L;
+
+	private final long _albumId;
+	private final long _artistId;
+	private final String _artistName;
+	private final long _groupId;
+	private final String _name;
+	private final int _status;
+	private final int _year;
+
+}
\ No newline at end of file
@@ -839,6 +839,15 @@ public class AlbumWrapper implements Album, ModelWrapper<Album> {
 		return _album.getImageURL(themeDisplay);
 	}
 
+	@Override
+	public java.lang.String getImageURL(
+		com.liferay.portal.theme.ThemeDisplay themeDisplay,
+		java.lang.String variant)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return _album.getImageURL(themeDisplay, variant);
+	}
+
 	@Override
 	public boolean hasCustomImage()
 		throws com.liferay.portal.kernel.exception.PortalException,
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.model;
+
+import java.io.Serializable;
+
+/**
+ * Holds the fields of an artist that a list of artists shows, without the
+ * biography, so that listing artists neither reads nor caches it.
+ *
+ * @author Julio Camarero
+ */
+public class ArtistSummary implements Serializable {
+
+	public ArtistSummary(long artistId, long groupId, String name, int status) {
+		_artistId = artistId;
+		_groupId = groupId;
+		_name = name;
+		_status = status;
+	}
+
+	public long getArtistId() {
+		return _artistId;
+	}
+
+	public long getGroupId() {
+		return _groupId;
+	}
+
+	public String getName() {
+		return _name;
+	}
+
+	public int getStatus() {
+		return _status;
+	}
+
+	private static final long serialVersionUID = 1L;
+
+	private final long _artistId;
+	private final long _groupId;
+	private final String _name;
+	private final int _status;
+
+}
\ No newline at end of file
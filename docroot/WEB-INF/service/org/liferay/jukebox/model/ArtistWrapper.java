@@ -762,6 +762,15 @@ public class ArtistWrapper implements Artist, ModelWrapper<Artist> {
 		return _artist.getImageURL(themeDisplay);
 	}
 
+	@Override
+	public java.lang.String getImageURL(
+		com.liferay.portal.theme.ThemeDisplay themeDisplay,
+		java.lang.String variant)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return _artist.getImageURL(themeDisplay, variant);
+	}
+
 	@Override
 	public boolean hasCustomImage()
 		throws com.liferay.portal.kernel.exception.PortalException,
@@ -31,6 +31,10 @@ public interface Song extends SongModel, PersistedModel {
 	 *
 	 * Never modify this interface directly. Add methods to {@link org.liferay.jukebox.model.impl.SongImpl} and rerun ServiceBuilder to automatically copy the method declarations to this interface.
 	 */
+	public com.liferay.portal.kernel.repository.model.FileVersion getAudioFileVersion()
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException;
+
 	public java.lang.String getImageURL(
 		com.liferay.portal.theme.ThemeDisplay themeDisplay)
 		throws com.liferay.portal.kernel.exception.SystemException;
@@ -40,9 +44,31 @@ public interface Song extends SongModel, PersistedModel {
 		throws com.liferay.portal.kernel.exception.PortalException,
 			com.liferay.portal.kernel.exception.SystemException;
 
+	public com.liferay.portal.kernel.repository.model.FileVersion getRenditionFileVersion(
+		java.lang.String audioContainer, int bitRate)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException;
+
+	public com.liferay.portal.kernel.json.JSONObject getRenditionURLs(
+		com.liferay.portal.theme.ThemeDisplay themeDisplay,
+		java.lang.String audioContainer)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException;
+
+	public com.liferay.portal.kernel.json.JSONObject getRenditionURLs(
+		com.liferay.portal.theme.ThemeDisplay themeDisplay,
+		java.lang.String audioContainer,
+		org.liferay.jukebox.model.SongMedia songMedia);
+
 	public java.lang.String getSongURL(
 		com.liferay.portal.theme.ThemeDisplay themeDisplay,
 		java.lang.String audioContainer)
 		throws com.liferay.portal.kernel.exception.PortalException,
 			com.liferay.portal.kernel.exception.SystemException;
+
+	public java.lang.String getSongURL(
+		com.liferay.portal.theme.ThemeDisplay themeDisplay,
+		java.lang.String audioContainer, int bitRate)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException;
 }
\ No newline at end of file
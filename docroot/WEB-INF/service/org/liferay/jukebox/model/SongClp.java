@@ -100,6 +100,7 @@ public class SongClp extends BaseModelImpl<Song> implements Song {
 		attributes.put("artistId", getArtistId());
 		attributes.put("albumId", getAlbumId());
 		attributes.put("name", getName());
+		attributes.put("renditionStatus", getRenditionStatus());
 		attributes.put("status", getStatus());
 		attributes.put("statusByUserId", getStatusByUserId());
 		attributes.put("statusByUserName", getStatusByUserName());
@@ -179,6 +180,12 @@ public class SongClp extends BaseModelImpl<Song> implements Song {
 			setName(name);
 		}
 
+		Integer renditionStatus = (Integer)attributes.get("renditionStatus");
+
+		if (renditionStatus != null) {
+			setRenditionStatus(renditionStatus);
+		}
+
 		Integer status = (Integer)attributes.get("status");
 
 		if (status != null) {
@@ -476,6 +483,29 @@ public class SongClp extends BaseModelImpl<Song> implements Song {
 		}
 	}
 
+	@Override
+	public int getRenditionStatus() {
+		return _renditionStatus;
+	}
+
+	@Override
+	public void setRenditionStatus(int renditionStatus) {
+		_renditionStatus = renditionStatus;
+
+		if (_songRemoteModel != null) {
+			try {
+				Class<?> clazz = _songRemoteModel.getClass();
+
+				Method method = clazz.getMethod("setRenditionStatus", int.class);
+
+				method.invoke(_songRemoteModel, renditionStatus);
+			}
+			catch (Exception e) {
+				throw new UnsupportedOperationException(e);
+			}
+		}
+	}
+
 	@Override
 	public int getStatus() {
 		return _status;
@@ -609,6 +639,125 @@ public class SongClp extends BaseModelImpl<Song> implements Song {
 		}
 	}
 
+	@Override
+	public java.lang.String getSongURL(
+		com.liferay.portal.theme.ThemeDisplay themeDisplay,
+		java.lang.String audioContainer, int bitRate) {
+		try {
+			String methodName = "getSongURL";
+
+			Class<?>[] parameterTypes = new Class<?>[] {
+					com.liferay.portal.theme.ThemeDisplay.class,
+					java.lang.String.class, int.class
+				};
+
+			Object[] parameterValues = new Object[] {
+					themeDisplay, audioContainer, bitRate
+				};
+
+			java.lang.String returnObj = (java.lang.String)invokeOnRemoteModel(methodName,
+					parameterTypes, parameterValues);
+
+			return returnObj;
+		}
+		catch (Exception e) {
+			throw new UnsupportedOperationException(e);
+		}
+	}
+
+	@Override
+	public com.liferay.portal.kernel.repository.model.FileVersion getRenditionFileVersion(
+		java.lang.String audioContainer, int bitRate) {
+		try {
+			String methodName = "getRenditionFileVersion";
+
+			Class<?>[] parameterTypes = new Class<?>[] {
+					java.lang.String.class, int.class
+				};
+
+			Object[] parameterValues = new Object[] { audioContainer, bitRate };
+
+			com.liferay.portal.kernel.repository.model.FileVersion returnObj = (com.liferay.portal.kernel.repository.model.FileVersion)invokeOnRemoteModel(methodName,
+					parameterTypes, parameterValues);
+
+			return returnObj;
+		}
+		catch (Exception e) {
+			throw new UnsupportedOperationException(e);
+		}
+	}
+
+	@Override
+	public com.liferay.portal.kernel.json.JSONObject getRenditionURLs(
+		com.liferay.portal.theme.ThemeDisplay themeDisplay,
+		java.lang.String audioContainer) {
+		try {
+			String methodName = "getRenditionURLs";
+
+			Class<?>[] parameterTypes = new Class<?>[] {
+					com.liferay.portal.theme.ThemeDisplay.class,
+					java.lang.String.class
+				};
+
+			Object[] parameterValues = new Object[] { themeDisplay, audioContainer };
+
+			com.liferay.portal.kernel.json.JSONObject returnObj = (com.liferay.portal.kernel.json.JSONObject)invokeOnRemoteModel(methodName,
+					parameterTypes, parameterValues);
+
+			return returnObj;
+		}
+		catch (Exception e) {
+			throw new UnsupportedOperationException(e);
+		}
+	}
+
+	@Override
+	public com.liferay.portal.kernel.json.JSONObject getRenditionURLs(
+		com.liferay.portal.theme.ThemeDisplay themeDisplay,
+		java.lang.String audioContainer,
+		org.liferay.jukebox.model.SongMedia songMedia) {
+		try {
+			String methodName = "getRenditionURLs";
+
+			Class<?>[] parameterTypes = new Class<?>[] {
+					com.liferay.portal.theme.ThemeDisplay.class,
+					java.lang.String.class,
+					org.liferay.jukebox.model.SongMedia.class
+				};
+
+			Object[] parameterValues = new Object[] {
+					themeDisplay, audioContainer, songMedia
+				};
+
+			com.liferay.portal.kernel.json.JSONObject returnObj = (com.liferay.portal.kernel.json.JSONObject)invokeOnRemoteModel(methodName,
+					parameterTypes, parameterValues);
+
+			return returnObj;
+		}
+		catch (Exception e) {
+			throw new UnsupportedOperationException(e);
+		}
+	}
+
+	@Override
+	public com.liferay.portal.kernel.repository.model.FileVersion getAudioFileVersion() {
+		try {
+			String methodName = "getAudioFileVersion";
+
+			Class<?>[] parameterTypes = new Class<?>[] {  };
+
+			Object[] parameterValues = new Object[] {  };
+
+			com.liferay.portal.kernel.repository.model.FileVersion returnObj = (com.liferay.portal.kernel.repository.model.FileVersion)invokeOnRemoteModel(methodName,
+					parameterTypes, parameterValues);
+
+			return returnObj;
+		}
+		catch (Exception e) {
+			throw new UnsupportedOperationException(e);
+		}
+	}
+
 	@Override
 	public java.lang.String getImageURL(
 		com.liferay.portal.theme.ThemeDisplay themeDisplay) {
@@ -951,6 +1100,7 @@ public class SongClp extends BaseModelImpl<Song> implements Song {
 		clone.setArtistId(getArtistId());
 		clone.setAlbumId(getAlbumId());
 		clone.setName(getName());
+		clone.setRenditionStatus(getRenditionStatus());
 		clone.setStatus(getStatus());
 		clone.setStatusByUserId(getStatusByUserId());
 		clone.setStatusByUserName(getStatusByUserName());
@@ -1013,7 +1163,7 @@ public class SongClp extends BaseModelImpl<Song> implements Song {
 
 	@Override
 	public String toString() {
-		StringBundler sb = new StringBundler(31);
+		StringBundler sb = new StringBundler(33);
 
 		sb.append("{uuid=");
 		sb.append(getUuid());
@@ -1037,6 +1187,8 @@ public class SongClp extends BaseModelImpl<Song> implements Song {
 		sb.append(getAlbumId());
 		sb.append(", name=");
 		sb.append(getName());
+		sb.append(", renditionStatus=");
+		sb.append(getRenditionStatus());
 		sb.append(", status=");
 		sb.append(getStatus());
 		sb.append(", statusByUserId=");
@@ -1052,7 +1204,7 @@ public class SongClp extends BaseModelImpl<Song> implements Song {
 
 	@Override
 	public String toXmlString() {
-		StringBundler sb = new StringBundler(49);
+		StringBundler sb = new StringBundler(52);
 
 		sb.append("<model><model-name>");
 		sb.append("org.liferay.jukebox.model.Song");
@@ -1102,6 +1254,10 @@ public class SongClp extends BaseModelImpl<Song> implements Song {
 			"<column><column-name>name</column-name><column-value><![CDATA[");
 		sb.append(getName());
 		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>renditionStatus</column-name><column-value><![CDATA[");
+		sb.append(getRenditionStatus());
+		sb.append("]]></column-value></column>");
 		sb.append(
 			"<column><column-name>status</column-name><column-value><![CDATA[");
 		sb.append(getStatus());
@@ -1135,6 +1291,7 @@ public class SongClp extends BaseModelImpl<Song> implements Song {
 	private long _artistId;
 	private long _albumId;
 	private String _name;
+	private int _renditionStatus;
 	private int _status;
 	private long _statusByUserId;
 	private String _statusByUserName;
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.model;
+
+import java.io.Serializable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Holds the outcome of a bulk import of songs: the number of songs imported,
+ * the number of songs skipped because the album already had a song with the
+ * same name, and the reason each failed entry of the manifest was not
+ * imported, keyed by its index in the manifest.
+ *
+ * @author Julio Camarero
+ */
+public class SongImportResult implements Serializable {
+
+	public void addFailure(int index, String message) {
+		_failures.put(index, message);
+	}
+
+	public void addImportedCount(int importedCount) {
+		_importedCount += importedCount;
+	}
+
+	public void addSkippedCount(int skippedCount) {
+		_skippedCount += skippedCount;
+	}
+
+	public int getFailedCount() {
+		return _failures.size();
+	}
+
+	public Map<Integer, String> getFailures() {
+		return Collections.unmodifiableMap(_failures);
+	}
+
+	public int getImportedCount() {
+		return _importedCount;
+	}
+
+	public int getSkippedCount() {
+		return _skippedCount;
+	}
+
+	public boolean hasFailures() {
+		return !_failures.isEmpty();
+	}
+
+	private static final long serialVersionUID = 1L;
+
+	private final Map<Integer, String> _failures =
+		new TreeMap<Integer, String>();
+	private int _importedCount;
+	private int _skippedCount;
+
+}
\ No newline at end of file
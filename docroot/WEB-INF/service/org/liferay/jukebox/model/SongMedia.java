@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.model;
+
+import java.io.Serializable;
+
+import java.util.Map;
+
+/**
+ * Holds the audio, lyrics and rendition media resolved for a song. The
+ * rendition locators are keyed by rendition file name.
+ *
+ * @author Julio Camarero
+ */
+public class SongMedia implements Serializable {
+
+	public SongMedia(
+		long songId, SongMediaLocator songLocator,
+		SongMediaLocator lyricsLocator,
+		Map<String, SongMediaLocator> renditionLocators) {
+
+		_songId = songId;
+		_songLocator = songLocator;
+		_lyricsLocator = lyricsLocator;
+		_renditionLocators = renditionLocators;
+	}
+
+	public SongMediaLocator getLyricsLocator() {
+		return _lyricsLocator;
+	}
+
+	public SongMediaLocator getRenditionLocator(String fileName) {
+		SongMediaLocator renditionLocator = _renditionLocators.get(fileName);
+
+		if (renditionLocator == null) {
+			return SongMediaLocator.EMPTY;
+		}
+
+		return renditionLocator;
+	}
+
+	public long getSongId() {
+		return _songId;
+	}
+
+	public SongMediaLocator getSongLocator() {
+		return _songLocator;
+	}
+
+	public boolean hasLyrics() {
+		return !_lyricsLocator.isEmpty();
+	}
+
+	public boolean hasRendition(String fileName) {
+		SongMediaLocator renditionLocator = getRenditionLocator(fileName);
+
+		return !renditionLocator.isEmpty();
+	}
+
+	public boolean hasSong() {
+		return !_songLocator.isEmpty();
+	}
+
+	private static final long serialVersionUID = 1L;
+
+	private final SongMediaLocator _lyricsLocator;
+	private final Map<String, SongMediaLocator> _renditionLocators;
+	private final long _songId;
+	private final SongMediaLocator _songLocator;
+
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.model;
+
+import java.io.Serializable;
+
+/**
+ * Identifies the file entry and file version stored in one of the media
+ * folders (songs, lyrics or renditions) of a song. An empty locator records
+ * that the folder holds no file, so that misses are cached too.
+ *
+ * @author Julio Camarero
+ */
+public class SongMediaLocator implements Serializable {
+
+	public static final SongMediaLocator EMPTY = new SongMediaLocator(0, 0);
+
+	public SongMediaLocator(long fileEntryId, long fileVersionId) {
+		_fileEntryId = fileEntryId;
+		_fileVersionId = fileVersionId;
+	}
+
+	public long getFileEntryId() {
+		return _fileEntryId;
+	}
+
+	public long getFileVersionId() {
+		return _fileVersionId;
+	}
+
+	public boolean isEmpty() {
+		if (_fileEntryId <= 0) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private static final long serialVersionUID = 1L;
+
+	private final long _fileEntryId;
+	private final long _fileVersionId;
+
+}
\ No newline at end of file
@@ -253,6 +253,20 @@ public interface SongModel extends BaseModel<Song>, StagedGroupedModel,
 	 */
 	public void setName(String name);
 
+	/**
+	 * Returns the rendition status of this song.
+	 *
+	 * @return the rendition status of this song
+	 */
+	public int getRenditionStatus();
+
+	/**
+	 * Sets the rendition status of this song.
+	 *
+	 * @param renditionStatus the rendition status of this song
+	 */
+	public void setRenditionStatus(int renditionStatus);
+
 	/**
 	 * Returns the status of this song.
 	 *
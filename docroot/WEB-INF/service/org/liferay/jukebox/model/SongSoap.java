@@ -42,6 +42,7 @@ public class SongSoap implements Serializable {
 		soapModel.setArtistId(model.getArtistId());
 		soapModel.setAlbumId(model.getAlbumId());
 		soapModel.setName(model.getName());
+		soapModel.setRenditionStatus(model.getRenditionStatus());
 		soapModel.setStatus(model.getStatus());
 		soapModel.setStatusByUserId(model.getStatusByUserId());
 		soapModel.setStatusByUserName(model.getStatusByUserName());
@@ -186,6 +187,14 @@ public class SongSoap implements Serializable {
 		_name = name;
 	}
 
+	public int getRenditionStatus() {
+		return _renditionStatus;
+	}
+
+	public void setRenditionStatus(int renditionStatus) {
+		_renditionStatus = renditionStatus;
+	}
+
 	public int getStatus() {
 		return _status;
 	}
@@ -229,6 +238,7 @@ public class SongSoap implements Serializable {
 	private long _artistId;
 	private long _albumId;
 	private String _name;
+	private int _renditionStatus;
 	private int _status;
 	private long _statusByUserId;
 	private String _statusByUserName;
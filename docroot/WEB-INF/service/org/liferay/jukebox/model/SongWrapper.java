@@ -61,6 +61,7 @@ public class SongWrapper implements Song, ModelWrapper<Song> {
 		attributes.put("artistId", getArtistId());
 		attributes.put("albumId", getAlbumId());
 		attributes.put("name", getName());
+		attributes.put("renditionStatus", getRenditionStatus());
 		attributes.put("status", getStatus());
 		attributes.put("statusByUserId", getStatusByUserId());
 		attributes.put("statusByUserName", getStatusByUserName());
@@ -137,6 +138,12 @@ public class SongWrapper implements Song, ModelWrapper<Song> {
 			setName(name);
 		}
 
+		Integer renditionStatus = (Integer)attributes.get("renditionStatus");
+
+		if (renditionStatus != null) {
+			setRenditionStatus(renditionStatus);
+		}
+
 		Integer status = (Integer)attributes.get("status");
 
 		if (status != null) {
@@ -422,6 +429,26 @@ public class SongWrapper implements Song, ModelWrapper<Song> {
 		_song.setName(name);
 	}
 
+	/**
+	* Returns the rendition status of this song.
+	*
+	* @return the rendition status of this song
+	*/
+	@Override
+	public int getRenditionStatus() {
+		return _song.getRenditionStatus();
+	}
+
+	/**
+	* Sets the rendition status of this song.
+	*
+	* @param renditionStatus the rendition status of this song
+	*/
+	@Override
+	public void setRenditionStatus(int renditionStatus) {
+		_song.setRenditionStatus(renditionStatus);
+	}
+
 	/**
 	* Returns the status of this song.
 	*
@@ -782,6 +809,13 @@ public class SongWrapper implements Song, ModelWrapper<Song> {
 		return _song.getImageURL(themeDisplay);
 	}
 
+	@Override
+	public com.liferay.portal.kernel.repository.model.FileVersion getAudioFileVersion()
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return _song.getAudioFileVersion();
+	}
+
 	@Override
 	public java.lang.String getLyricsURL(
 		com.liferay.portal.theme.ThemeDisplay themeDisplay)
@@ -790,6 +824,31 @@ public class SongWrapper implements Song, ModelWrapper<Song> {
 		return _song.getLyricsURL(themeDisplay);
 	}
 
+	@Override
+	public com.liferay.portal.kernel.repository.model.FileVersion getRenditionFileVersion(
+		java.lang.String audioContainer, int bitRate)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return _song.getRenditionFileVersion(audioContainer, bitRate);
+	}
+
+	@Override
+	public com.liferay.portal.kernel.json.JSONObject getRenditionURLs(
+		com.liferay.portal.theme.ThemeDisplay themeDisplay,
+		java.lang.String audioContainer)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return _song.getRenditionURLs(themeDisplay, audioContainer);
+	}
+
+	@Override
+	public com.liferay.portal.kernel.json.JSONObject getRenditionURLs(
+		com.liferay.portal.theme.ThemeDisplay themeDisplay,
+		java.lang.String audioContainer,
+		org.liferay.jukebox.model.SongMedia songMedia) {
+		return _song.getRenditionURLs(themeDisplay, audioContainer, songMedia);
+	}
+
 	@Override
 	public java.lang.String getSongURL(
 		com.liferay.portal.theme.ThemeDisplay themeDisplay,
@@ -799,6 +858,15 @@ public class SongWrapper implements Song, ModelWrapper<Song> {
 		return _song.getSongURL(themeDisplay, audioContainer);
 	}
 
+	@Override
+	public java.lang.String getSongURL(
+		com.liferay.portal.theme.ThemeDisplay themeDisplay,
+		java.lang.String audioContainer, int bitRate)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return _song.getSongURL(themeDisplay, audioContainer, bitRate);
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj) {
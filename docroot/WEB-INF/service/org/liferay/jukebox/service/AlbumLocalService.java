@@ -346,4 +346,26 @@ public interface AlbumLocalService extends BaseLocalService,
 		long[] assetLinkEntryIds)
 		throws com.liferay.portal.kernel.exception.PortalException,
 			com.liferay.portal.kernel.exception.SystemException;
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<org.liferay.jukebox.model.Album> getAlbumsAfter(
+		long groupId, int status, java.lang.String name, long albumId,
+		int size);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<org.liferay.jukebox.model.Album> getAlbums(
+		long[] albumIds);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummaries(
+		long[] albumIds);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummariesAfter(
+		long groupId, int status, java.lang.String name, long albumId,
+		int size);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummaries(
+		long groupId);
 }
\ No newline at end of file
@@ -202,6 +202,30 @@ public class AlbumLocalServiceClp implements AlbumLocalService {
 				"long", "org.liferay.jukebox.model.Album", "long[][]",
 				"java.lang.String[][]", "long[][]"
 			};
+
+		_methodName38 = "getAlbumsAfter";
+
+		_methodParameterTypes38 = new String[] {
+				"long", "int", "java.lang.String", "long", "int"
+			};
+
+		_methodName39 = "getAlbums";
+
+		_methodParameterTypes39 = new String[] { "long[][]" };
+
+		_methodName40 = "getAlbumSummaries";
+
+		_methodParameterTypes40 = new String[] { "long[][]" };
+
+		_methodName41 = "getAlbumSummariesAfter";
+
+		_methodParameterTypes41 = new String[] {
+				"long", "int", "java.lang.String", "long", "int"
+			};
+
+		_methodName42 = "getAlbumSummaries";
+
+		_methodParameterTypes42 = new String[] { "long" };
 	}
 
 	@Override
@@ -1304,6 +1328,150 @@ public class AlbumLocalServiceClp implements AlbumLocalService {
 		}
 	}
 
+	@Override
+	public java.util.List<org.liferay.jukebox.model.Album> getAlbumsAfter(
+		long groupId, int status, java.lang.String name, long albumId,
+		int size) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName38,
+					_methodParameterTypes38,
+					new Object[] {
+						groupId,
+						
+					status,
+						
+					ClpSerializer.translateInput(name),
+						
+					albumId,
+						
+					size
+					});
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<org.liferay.jukebox.model.Album>)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.Album> getAlbums(
+		long[] albumIds) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName39,
+					_methodParameterTypes39, new Object[] { ClpSerializer.translateInput(albumIds) });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<org.liferay.jukebox.model.Album>)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummaries(
+		long[] albumIds) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName40,
+					_methodParameterTypes40, new Object[] { ClpSerializer.translateInput(albumIds) });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<org.liferay.jukebox.model.AlbumSummary>)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummariesAfter(
+		long groupId, int status, java.lang.String name, long albumId,
+		int size) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName41,
+					_methodParameterTypes41,
+					new Object[] {
+						groupId,
+						
+					status,
+						
+					ClpSerializer.translateInput(name),
+						
+					albumId,
+						
+					size
+					});
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<org.liferay.jukebox.model.AlbumSummary>)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummaries(
+		long groupId) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName42,
+					_methodParameterTypes42, new Object[] { groupId });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<org.liferay.jukebox.model.AlbumSummary>)ClpSerializer.translateOutput(returnObj);
+	}
+
 	private InvokableLocalService _invokableLocalService;
 	private String _methodName0;
 	private String[] _methodParameterTypes0;
@@ -1379,4 +1547,14 @@ public class AlbumLocalServiceClp implements AlbumLocalService {
 	private String[] _methodParameterTypes36;
 	private String _methodName37;
 	private String[] _methodParameterTypes37;
+	private String _methodName38;
+	private String[] _methodParameterTypes38;
+	private String _methodName39;
+	private String[] _methodParameterTypes39;
+	private String _methodName40;
+	private String[] _methodParameterTypes40;
+	private String _methodName41;
+	private String[] _methodParameterTypes41;
+	private String _methodName42;
+	private String[] _methodParameterTypes42;
 }
\ No newline at end of file
@@ -410,6 +410,35 @@ public class AlbumLocalServiceUtil {
 			assetLinkEntryIds);
 	}
 
+	public static java.util.List<org.liferay.jukebox.model.Album> getAlbumsAfter(
+		long groupId, int status, java.lang.String name, long albumId,
+		int size) {
+		return getService().getAlbumsAfter(groupId, status, name, albumId,
+			size);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.Album> getAlbums(
+		long[] albumIds) {
+		return getService().getAlbums(albumIds);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummaries(
+		long[] albumIds) {
+		return getService().getAlbumSummaries(albumIds);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummariesAfter(
+		long groupId, int status, java.lang.String name, long albumId,
+		int size) {
+		return getService().getAlbumSummariesAfter(groupId, status, name,
+			albumId, size);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummaries(
+		long groupId) {
+		return getService().getAlbumSummaries(groupId);
+	}
+
 	public static void clearService() {
 		_service = null;
 	}
@@ -433,6 +433,40 @@ public class AlbumLocalServiceWrapper implements AlbumLocalService,
 			assetTagNames, assetLinkEntryIds);
 	}
 
+	@Override
+	public java.util.List<org.liferay.jukebox.model.Album> getAlbumsAfter(
+		long groupId, int status, java.lang.String name, long albumId,
+		int size) {
+		return _albumLocalService.getAlbumsAfter(groupId, status, name, albumId,
+			size);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.Album> getAlbums(
+		long[] albumIds) {
+		return _albumLocalService.getAlbums(albumIds);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummaries(
+		long[] albumIds) {
+		return _albumLocalService.getAlbumSummaries(albumIds);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummariesAfter(
+		long groupId, int status, java.lang.String name, long albumId,
+		int size) {
+		return _albumLocalService.getAlbumSummariesAfter(groupId, status, name,
+			albumId, size);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummaries(
+		long groupId) {
+		return _albumLocalService.getAlbumSummaries(groupId);
+	}
+
 	/**
 	 * @deprecated As of 6.1.0, replaced by {@link #getWrappedService}
 	 */
@@ -122,4 +122,20 @@ public interface AlbumService extends BaseService, InvokableService {
 		com.liferay.portal.service.ServiceContext serviceContext)
 		throws com.liferay.portal.kernel.exception.PortalException,
 			com.liferay.portal.kernel.exception.SystemException;
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<org.liferay.jukebox.model.Album> getAlbumsAfter(
+		long groupId, java.lang.String name, long albumId, int size);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummariesAfter(
+		long groupId, java.lang.String name, long albumId, int size);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummariesByArtistId(
+		long groupId, long artistId);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummaries(
+		long groupId, java.lang.String keywords);
 }
\ No newline at end of file
@@ -87,6 +87,26 @@ public class AlbumServiceClp implements AlbumService {
 				"long", "long", "java.lang.String", "int", "java.io.InputStream",
 				"com.liferay.portal.service.ServiceContext"
 			};
+
+		_methodName15 = "getAlbumsAfter";
+
+		_methodParameterTypes15 = new String[] {
+				"long", "java.lang.String", "long", "int"
+			};
+
+		_methodName16 = "getAlbumSummariesAfter";
+
+		_methodParameterTypes16 = new String[] {
+				"long", "java.lang.String", "long", "int"
+			};
+
+		_methodName17 = "getAlbumSummariesByArtistId";
+
+		_methodParameterTypes17 = new String[] { "long", "long" };
+
+		_methodName18 = "getAlbumSummaries";
+
+		_methodParameterTypes18 = new String[] { "long", "java.lang.String" };
 	}
 
 	@Override
@@ -543,6 +563,130 @@ public class AlbumServiceClp implements AlbumService {
 		return (org.liferay.jukebox.model.Album)ClpSerializer.translateOutput(returnObj);
 	}
 
+	@Override
+	public java.util.List<org.liferay.jukebox.model.Album> getAlbumsAfter(
+		long groupId, java.lang.String name, long albumId, int size) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableService.invokeMethod(_methodName15,
+					_methodParameterTypes15,
+					new Object[] {
+						groupId,
+						
+					ClpSerializer.translateInput(name),
+						
+					albumId,
+						
+					size
+					});
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<org.liferay.jukebox.model.Album>)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummariesAfter(
+		long groupId, java.lang.String name, long albumId, int size) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableService.invokeMethod(_methodName16,
+					_methodParameterTypes16,
+					new Object[] {
+						groupId,
+						
+					ClpSerializer.translateInput(name),
+						
+					albumId,
+						
+					size
+					});
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<org.liferay.jukebox.model.AlbumSummary>)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummariesByArtistId(
+		long groupId, long artistId) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableService.invokeMethod(_methodName17,
+					_methodParameterTypes17,
+					new Object[] {
+						groupId,
+						
+					artistId
+					});
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<org.liferay.jukebox.model.AlbumSummary>)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummaries(
+		long groupId, java.lang.String keywords) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableService.invokeMethod(_methodName18,
+					_methodParameterTypes18,
+					new Object[] {
+						groupId,
+						
+					ClpSerializer.translateInput(keywords)
+					});
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<org.liferay.jukebox.model.AlbumSummary>)ClpSerializer.translateOutput(returnObj);
+	}
+
 	private InvokableService _invokableService;
 	private String _methodName0;
 	private String[] _methodParameterTypes0;
@@ -572,4 +716,12 @@ public class AlbumServiceClp implements AlbumService {
 	private String[] _methodParameterTypes13;
 	private String _methodName14;
 	private String[] _methodParameterTypes14;
+	private String _methodName15;
+	private String[] _methodParameterTypes15;
+	private String _methodName16;
+	private String[] _methodParameterTypes16;
+	private String _methodName17;
+	private String[] _methodParameterTypes17;
+	private String _methodName18;
+	private String[] _methodParameterTypes18;
 }
\ No newline at end of file
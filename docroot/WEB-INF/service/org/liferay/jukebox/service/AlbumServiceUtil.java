@@ -142,6 +142,27 @@ public class AlbumServiceUtil {
 			serviceContext);
 	}
 
+	public static java.util.List<org.liferay.jukebox.model.Album> getAlbumsAfter(
+		long groupId, java.lang.String name, long albumId, int size) {
+		return getService().getAlbumsAfter(groupId, name, albumId, size);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummariesAfter(
+		long groupId, java.lang.String name, long albumId, int size) {
+		return getService().getAlbumSummariesAfter(groupId, name, albumId,
+			size);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummariesByArtistId(
+		long groupId, long artistId) {
+		return getService().getAlbumSummariesByArtistId(groupId, artistId);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummaries(
+		long groupId, java.lang.String keywords) {
+		return getService().getAlbumSummaries(groupId, keywords);
+	}
+
 	public static void clearService() {
 		_service = null;
 	}
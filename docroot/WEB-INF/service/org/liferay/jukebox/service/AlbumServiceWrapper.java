@@ -145,6 +145,31 @@ public class AlbumServiceWrapper implements AlbumService,
 			inputStream, serviceContext);
 	}
 
+	@Override
+	public java.util.List<org.liferay.jukebox.model.Album> getAlbumsAfter(
+		long groupId, java.lang.String name, long albumId, int size) {
+		return _albumService.getAlbumsAfter(groupId, name, albumId, size);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummariesAfter(
+		long groupId, java.lang.String name, long albumId, int size) {
+		return _albumService.getAlbumSummariesAfter(groupId, name, albumId,
+			size);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummariesByArtistId(
+		long groupId, long artistId) {
+		return _albumService.getAlbumSummariesByArtistId(groupId, artistId);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.AlbumSummary> getAlbumSummaries(
+		long groupId, java.lang.String keywords) {
+		return _albumService.getAlbumSummaries(groupId, keywords);
+	}
+
 	/**
 	 * @deprecated As of 6.1.0, replaced by {@link #getWrappedService}
 	 */
@@ -332,4 +332,26 @@ public interface ArtistLocalService extends BaseLocalService,
 		java.lang.String[] assetTagNames, long[] assetLinkEntryIds)
 		throws com.liferay.portal.kernel.exception.PortalException,
 			com.liferay.portal.kernel.exception.SystemException;
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<org.liferay.jukebox.model.Artist> getArtistsAfter(
+		long groupId, int status, java.lang.String name, long artistId,
+		int size);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<org.liferay.jukebox.model.ArtistSummary> getArtistSummaries(
+		long groupId);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<org.liferay.jukebox.model.ArtistSummary> getArtistSummaries(
+		long[] artistIds);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<org.liferay.jukebox.model.ArtistSummary> getArtistSummariesAfter(
+		long groupId, int status, java.lang.String name, long artistId,
+		int size);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<org.liferay.jukebox.model.Artist> getArtists(
+		long[] artistIds);
 }
\ No newline at end of file
@@ -193,6 +193,30 @@ public class ArtistLocalServiceClp implements ArtistLocalService {
 				"long", "org.liferay.jukebox.model.Artist", "long[][]",
 				"java.lang.String[][]", "long[][]"
 			};
+
+		_methodName35 = "getArtistsAfter";
+
+		_methodParameterTypes35 = new String[] {
+				"long", "int", "java.lang.String", "long", "int"
+			};
+
+		_methodName36 = "getArtistSummaries";
+
+		_methodParameterTypes36 = new String[] { "long" };
+
+		_methodName37 = "getArtistSummaries";
+
+		_methodParameterTypes37 = new String[] { "long[][]" };
+
+		_methodName38 = "getArtistSummariesAfter";
+
+		_methodParameterTypes38 = new String[] {
+				"long", "int", "java.lang.String", "long", "int"
+			};
+
+		_methodName39 = "getArtists";
+
+		_methodParameterTypes39 = new String[] { "long[][]" };
 	}
 
 	@Override
@@ -1195,6 +1219,150 @@ public class ArtistLocalServiceClp implements ArtistLocalService {
 		}
 	}
 
+	@Override
+	public java.util.List<org.liferay.jukebox.model.Artist> getArtistsAfter(
+		long groupId, int status, java.lang.String name, long artistId,
+		int size) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName35,
+					_methodParameterTypes35,
+					new Object[] {
+						groupId,
+						
+					status,
+						
+					ClpSerializer.translateInput(name),
+						
+					artistId,
+						
+					size
+					});
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<org.liferay.jukebox.model.Artist>)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.ArtistSummary> getArtistSummaries(
+		long groupId) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName36,
+					_methodParameterTypes36, new Object[] { groupId });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<org.liferay.jukebox.model.ArtistSummary>)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.ArtistSummary> getArtistSummaries(
+		long[] artistIds) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName37,
+					_methodParameterTypes37, new Object[] { ClpSerializer.translateInput(artistIds) });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<org.liferay.jukebox.model.ArtistSummary>)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.ArtistSummary> getArtistSummariesAfter(
+		long groupId, int status, java.lang.String name, long artistId,
+		int size) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName38,
+					_methodParameterTypes38,
+					new Object[] {
+						groupId,
+						
+					status,
+						
+					ClpSerializer.translateInput(name),
+						
+					artistId,
+						
+					size
+					});
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<org.liferay.jukebox.model.ArtistSummary>)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.Artist> getArtists(
+		long[] artistIds) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName39,
+					_methodParameterTypes39, new Object[] { ClpSerializer.translateInput(artistIds) });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<org.liferay.jukebox.model.Artist>)ClpSerializer.translateOutput(returnObj);
+	}
+
 	private InvokableLocalService _invokableLocalService;
 	private String _methodName0;
 	private String[] _methodParameterTypes0;
@@ -1264,4 +1432,14 @@ public class ArtistLocalServiceClp implements ArtistLocalService {
 	private String[] _methodParameterTypes33;
 	private String _methodName34;
 	private String[] _methodParameterTypes34;
+	private String _methodName35;
+	private String[] _methodParameterTypes35;
+	private String _methodName36;
+	private String[] _methodParameterTypes36;
+	private String _methodName37;
+	private String[] _methodParameterTypes37;
+	private String _methodName38;
+	private String[] _methodParameterTypes38;
+	private String _methodName39;
+	private String[] _methodParameterTypes39;
 }
\ No newline at end of file
@@ -390,6 +390,35 @@ public class ArtistLocalServiceUtil {
 			assetLinkEntryIds);
 	}
 
+	public static java.util.List<org.liferay.jukebox.model.Artist> getArtistsAfter(
+		long groupId, int status, java.lang.String name, long artistId,
+		int size) {
+		return getService().getArtistsAfter(groupId, status, name, artistId,
+			size);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.ArtistSummary> getArtistSummaries(
+		long groupId) {
+		return getService().getArtistSummaries(groupId);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.ArtistSummary> getArtistSummaries(
+		long[] artistIds) {
+		return getService().getArtistSummaries(artistIds);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.ArtistSummary> getArtistSummariesAfter(
+		long groupId, int status, java.lang.String name, long artistId,
+		int size) {
+		return getService().getArtistSummariesAfter(groupId, status, name,
+			artistId, size);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.Artist> getArtists(
+		long[] artistIds) {
+		return getService().getArtists(artistIds);
+	}
+
 	public static void clearService() {
 		_service = null;
 	}
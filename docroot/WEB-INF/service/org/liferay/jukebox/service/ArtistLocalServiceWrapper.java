@@ -411,6 +411,40 @@ public class ArtistLocalServiceWrapper implements ArtistLocalService,
 			assetTagNames, assetLinkEntryIds);
 	}
 
+	@Override
+	public java.util.List<org.liferay.jukebox.model.Artist> getArtistsAfter(
+		long groupId, int status, java.lang.String name, long artistId,
+		int size) {
+		return _artistLocalService.getArtistsAfter(groupId, status, name,
+			artistId, size);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.ArtistSummary> getArtistSummaries(
+		long groupId) {
+		return _artistLocalService.getArtistSummaries(groupId);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.ArtistSummary> getArtistSummaries(
+		long[] artistIds) {
+		return _artistLocalService.getArtistSummaries(artistIds);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.ArtistSummary> getArtistSummariesAfter(
+		long groupId, int status, java.lang.String name, long artistId,
+		int size) {
+		return _artistLocalService.getArtistSummariesAfter(groupId, status,
+			name, artistId, size);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.Artist> getArtists(
+		long[] artistIds) {
+		return _artistLocalService.getArtists(artistIds);
+	}
+
 	/**
 	 * @deprecated As of 6.1.0, replaced by {@link #getWrappedService}
 	 */
@@ -105,4 +105,16 @@ public interface ArtistService extends BaseService, InvokableService {
 		com.liferay.portal.service.ServiceContext serviceContext)
 		throws com.liferay.portal.kernel.exception.PortalException,
 			com.liferay.portal.kernel.exception.SystemException;
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<org.liferay.jukebox.model.Artist> getArtistsAfter(
+		long groupId, java.lang.String name, long artistId, int size);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<org.liferay.jukebox.model.ArtistSummary> getArtistSummaries(
+		long groupId, java.lang.String keywords);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<org.liferay.jukebox.model.ArtistSummary> getArtistSummariesAfter(
+		long groupId, java.lang.String name, long artistId, int size);
 }
\ No newline at end of file
@@ -72,6 +72,22 @@ public class ArtistServiceClp implements ArtistService {
 				"java.io.InputStream",
 				"com.liferay.portal.service.ServiceContext"
 			};
+
+		_methodName11 = "getArtistsAfter";
+
+		_methodParameterTypes11 = new String[] {
+				"long", "java.lang.String", "long", "int"
+			};
+
+		_methodName12 = "getArtistSummaries";
+
+		_methodParameterTypes12 = new String[] { "long", "java.lang.String" };
+
+		_methodName13 = "getArtistSummariesAfter";
+
+		_methodParameterTypes13 = new String[] {
+				"long", "java.lang.String", "long", "int"
+			};
 	}
 
 	@Override
@@ -401,6 +417,101 @@ public class ArtistServiceClp implements ArtistService {
 		return (org.liferay.jukebox.model.Artist)ClpSerializer.translateOutput(returnObj);
 	}
 
+	@Override
+	public java.util.List<org.liferay.jukebox.model.Artist> getArtistsAfter(
+		long groupId, java.lang.String name, long artistId, int size) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableService.invokeMethod(_methodName11,
+					_methodParameterTypes11,
+					new Object[] {
+						groupId,
+						
+					ClpSerializer.translateInput(name),
+						
+					artistId,
+						
+					size
+					});
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<org.liferay.jukebox.model.Artist>)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.ArtistSummary> getArtistSummaries(
+		long groupId, java.lang.String keywords) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableService.invokeMethod(_methodName12,
+					_methodParameterTypes12,
+					new Object[] {
+						groupId,
+						
+					ClpSerializer.translateInput(keywords)
+					});
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<org.liferay.jukebox.model.ArtistSummary>)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.ArtistSummary> getArtistSummariesAfter(
+		long groupId, java.lang.String name, long artistId, int size) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableService.invokeMethod(_methodName13,
+					_methodParameterTypes13,
+					new Object[] {
+						groupId,
+						
+					ClpSerializer.translateInput(name),
+						
+					artistId,
+						
+					size
+					});
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<org.liferay.jukebox.model.ArtistSummary>)ClpSerializer.translateOutput(returnObj);
+	}
+
 	private InvokableService _invokableService;
 	private String _methodName0;
 	private String[] _methodParameterTypes0;
@@ -422,4 +533,10 @@ public class ArtistServiceClp implements ArtistService {
 	private String[] _methodParameterTypes9;
 	private String _methodName10;
 	private String[] _methodParameterTypes10;
+	private String _methodName11;
+	private String[] _methodParameterTypes11;
+	private String _methodName12;
+	private String[] _methodParameterTypes12;
+	private String _methodName13;
+	private String[] _methodParameterTypes13;
 }
\ No newline at end of file
@@ -118,6 +118,22 @@ public class ArtistServiceUtil {
 			serviceContext);
 	}
 
+	public static java.util.List<org.liferay.jukebox.model.Artist> getArtistsAfter(
+		long groupId, java.lang.String name, long artistId, int size) {
+		return getService().getArtistsAfter(groupId, name, artistId, size);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.ArtistSummary> getArtistSummaries(
+		long groupId, java.lang.String keywords) {
+		return getService().getArtistSummaries(groupId, keywords);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.ArtistSummary> getArtistSummariesAfter(
+		long groupId, java.lang.String name, long artistId, int size) {
+		return getService().getArtistSummariesAfter(groupId, name, artistId,
+			size);
+	}
+
 	public static void clearService() {
 		_service = null;
 	}
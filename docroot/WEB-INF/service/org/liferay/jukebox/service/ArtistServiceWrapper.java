@@ -117,6 +117,25 @@ public class ArtistServiceWrapper implements ArtistService,
 			serviceContext);
 	}
 
+	@Override
+	public java.util.List<org.liferay.jukebox.model.Artist> getArtistsAfter(
+		long groupId, java.lang.String name, long artistId, int size) {
+		return _artistService.getArtistsAfter(groupId, name, artistId, size);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.ArtistSummary> getArtistSummaries(
+		long groupId, java.lang.String keywords) {
+		return _artistService.getArtistSummaries(groupId, keywords);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.ArtistSummary> getArtistSummariesAfter(
+		long groupId, java.lang.String name, long artistId, int size) {
+		return _artistService.getArtistSummariesAfter(groupId, name, artistId,
+			size);
+	}
+
 	/**
 	 * @deprecated As of 6.1.0, replaced by {@link #getWrappedService}
 	 */
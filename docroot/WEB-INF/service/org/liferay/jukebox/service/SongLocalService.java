@@ -372,4 +372,43 @@ public interface SongLocalService extends BaseLocalService, InvokableLocalServic
 		com.liferay.portal.service.ServiceContext serviceContext)
 		throws com.liferay.portal.kernel.exception.PortalException,
 			com.liferay.portal.kernel.exception.SystemException;
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.Map<java.lang.Long, org.liferay.jukebox.model.SongMedia> getSongMedia(
+		long groupId, long[] songIds)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException;
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<org.liferay.jukebox.model.Song> getSongsAfter(
+		long groupId, int status, java.lang.String name, long songId,
+		int size);
+
+	public void deleteSongsByAlbumId(long albumId)
+		throws com.liferay.portal.kernel.exception.PortalException;
+
+	public int cleanUpDeletedSongs(int size)
+		throws com.liferay.portal.kernel.exception.PortalException;
+
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public org.liferay.jukebox.model.SongImportResult importSongs(
+		long userId, java.io.File file,
+		com.liferay.portal.service.ServiceContext serviceContext)
+		throws com.liferay.portal.kernel.exception.PortalException;
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor =  {
+		PortalException.class, SystemException.class})
+	public int importSongs(long userId, java.io.File file,
+		java.lang.String manifest,
+		com.liferay.portal.service.ServiceContext serviceContext)
+		throws com.liferay.portal.kernel.exception.PortalException;
+
+	public org.liferay.jukebox.model.Song updateRenditions(long songId,
+		long fileEntryId,
+		java.util.Map<java.lang.String, java.io.File> renditionFiles)
+		throws com.liferay.portal.kernel.exception.PortalException;
+
+	public org.liferay.jukebox.model.Song updateRenditionStatus(long songId,
+		int renditionStatus)
+		throws com.liferay.portal.kernel.exception.PortalException;
 }
\ No newline at end of file
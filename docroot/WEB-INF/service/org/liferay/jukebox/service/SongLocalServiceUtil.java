@@ -441,6 +441,57 @@ public class SongLocalServiceUtil {
 			songInputStream, lyricsFileName, lyricsInputStream, serviceContext);
 	}
 
+	public static java.util.Map<java.lang.Long, org.liferay.jukebox.model.SongMedia> getSongMedia(
+		long groupId, long[] songIds)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getService().getSongMedia(groupId, songIds);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.Song> getSongsAfter(
+		long groupId, int status, java.lang.String name, long songId,
+		int size) {
+		return getService().getSongsAfter(groupId, status, name, songId, size);
+	}
+
+	public static void deleteSongsByAlbumId(long albumId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		getService().deleteSongsByAlbumId(albumId);
+	}
+
+	public static int cleanUpDeletedSongs(int size)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().cleanUpDeletedSongs(size);
+	}
+
+	public static org.liferay.jukebox.model.SongImportResult importSongs(
+		long userId, java.io.File file,
+		com.liferay.portal.service.ServiceContext serviceContext)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().importSongs(userId, file, serviceContext);
+	}
+
+	public static int importSongs(long userId, java.io.File file,
+		java.lang.String manifest,
+		com.liferay.portal.service.ServiceContext serviceContext)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().importSongs(userId, file, manifest, serviceContext);
+	}
+
+	public static org.liferay.jukebox.model.Song updateRenditions(long songId,
+		long fileEntryId,
+		java.util.Map<java.lang.String, java.io.File> renditionFiles)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().updateRenditions(songId, fileEntryId,
+			renditionFiles);
+	}
+
+	public static org.liferay.jukebox.model.Song updateRenditionStatus(
+		long songId, int renditionStatus)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().updateRenditionStatus(songId, renditionStatus);
+	}
+
 	public static void clearService() {
 		_service = null;
 	}
@@ -471,6 +471,67 @@ public class SongLocalServiceWrapper implements SongLocalService,
 			serviceContext);
 	}
 
+	@Override
+	public java.util.Map<java.lang.Long, org.liferay.jukebox.model.SongMedia> getSongMedia(
+		long groupId, long[] songIds)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return _songLocalService.getSongMedia(groupId, songIds);
+	}
+
+	@Override
+	public java.util.List<org.liferay.jukebox.model.Song> getSongsAfter(
+		long groupId, int status, java.lang.String name, long songId,
+		int size) {
+		return _songLocalService.getSongsAfter(groupId, status, name, songId,
+			size);
+	}
+
+	@Override
+	public void deleteSongsByAlbumId(long albumId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		_songLocalService.deleteSongsByAlbumId(albumId);
+	}
+
+	@Override
+	public int cleanUpDeletedSongs(int size)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _songLocalService.cleanUpDeletedSongs(size);
+	}
+
+	@Override
+	public org.liferay.jukebox.model.SongImportResult importSongs(
+		long userId, java.io.File file,
+		com.liferay.portal.service.ServiceContext serviceContext)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _songLocalService.importSongs(userId, file, serviceContext);
+	}
+
+	@Override
+	public int importSongs(long userId, java.io.File file,
+		java.lang.String manifest,
+		com.liferay.portal.service.ServiceContext serviceContext)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _songLocalService.importSongs(userId, file, manifest,
+			serviceContext);
+	}
+
+	@Override
+	public org.liferay.jukebox.model.Song updateRenditions(long songId,
+		long fileEntryId,
+		java.util.Map<java.lang.String, java.io.File> renditionFiles)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _songLocalService.updateRenditions(songId, fileEntryId,
+			renditionFiles);
+	}
+
+	@Override
+	public org.liferay.jukebox.model.Song updateRenditionStatus(long songId,
+		int renditionStatus)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _songLocalService.updateRenditionStatus(songId, renditionStatus);
+	}
+
 	/**
 	 * @deprecated As of 6.1.0, replaced by {@link #getWrappedService}
 	 */
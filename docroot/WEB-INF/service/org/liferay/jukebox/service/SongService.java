@@ -133,4 +133,14 @@ public interface SongService extends BaseService, InvokableService {
 		com.liferay.portal.service.ServiceContext serviceContext)
 		throws com.liferay.portal.kernel.exception.PortalException,
 			com.liferay.portal.kernel.exception.SystemException;
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<org.liferay.jukebox.model.Song> getSongsAfter(
+		long groupId, java.lang.String name, long songId, int size);
+
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public org.liferay.jukebox.model.SongImportResult importSongs(
+		java.io.File file,
+		com.liferay.portal.service.ServiceContext serviceContext)
+		throws com.liferay.portal.kernel.exception.PortalException;
 }
\ No newline at end of file
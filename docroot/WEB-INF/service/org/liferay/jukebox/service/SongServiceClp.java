@@ -97,6 +97,18 @@ public class SongServiceClp implements SongService {
 				"java.io.InputStream", "java.lang.String", "java.io.InputStream",
 				"com.liferay.portal.service.ServiceContext"
 			};
+
+		_methodName17 = "getSongsAfter";
+
+		_methodParameterTypes17 = new String[] {
+				"long", "java.lang.String", "long", "int"
+			};
+
+		_methodName18 = "importSongs";
+
+		_methodParameterTypes18 = new String[] {
+				"java.io.File", "com.liferay.portal.service.ServiceContext"
+			};
 	}
 
 	@Override
@@ -622,6 +634,74 @@ public class SongServiceClp implements SongService {
 		return (org.liferay.jukebox.model.Song)ClpSerializer.translateOutput(returnObj);
 	}
 
+	@Override
+	public java.util.List<org.liferay.jukebox.model.Song> getSongsAfter(
+		long groupId, java.lang.String name, long songId, int size) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableService.invokeMethod(_methodName17,
+					_methodParameterTypes17,
+					new Object[] {
+						groupId,
+						
+					ClpSerializer.translateInput(name),
+						
+					songId,
+						
+					size
+					});
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<org.liferay.jukebox.model.Song>)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public org.liferay.jukebox.model.SongImportResult importSongs(
+		java.io.File file,
+		com.liferay.portal.service.ServiceContext serviceContext)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableService.invokeMethod(_methodName18,
+					_methodParameterTypes18,
+					new Object[] {
+						ClpSerializer.translateInput(file),
+						
+					ClpSerializer.translateInput(serviceContext)
+					});
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof com.liferay.portal.kernel.exception.PortalException) {
+				throw (com.liferay.portal.kernel.exception.PortalException)t;
+			}
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (org.liferay.jukebox.model.SongImportResult)ClpSerializer.translateOutput(returnObj);
+	}
+
 	private InvokableService _invokableService;
 	private String _methodName0;
 	private String[] _methodParameterTypes0;
@@ -655,4 +735,8 @@ public class SongServiceClp implements SongService {
 	private String[] _methodParameterTypes15;
 	private String _methodName16;
 	private String[] _methodParameterTypes16;
+	private String _methodName17;
+	private String[] _methodParameterTypes17;
+	private String _methodName18;
+	private String[] _methodParameterTypes18;
 }
\ No newline at end of file
@@ -157,6 +157,18 @@ public class SongServiceUtil {
 			songInputStream, lyricsFileName, lyricsInputStream, serviceContext);
 	}
 
+	public static java.util.List<org.liferay.jukebox.model.Song> getSongsAfter(
+		long groupId, java.lang.String name, long songId, int size) {
+		return getService().getSongsAfter(groupId, name, songId, size);
+	}
+
+	public static org.liferay.jukebox.model.SongImportResult importSongs(
+		java.io.File file,
+		com.liferay.portal.service.ServiceContext serviceContext)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().importSongs(file, serviceContext);
+	}
+
 	public static void clearService() {
 		_service = null;
 	}
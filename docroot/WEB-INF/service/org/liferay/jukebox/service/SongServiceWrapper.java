@@ -160,6 +160,20 @@ public class SongServiceWrapper implements SongService,
 			songInputStream, lyricsFileName, lyricsInputStream, serviceContext);
 	}
 
+	@Override
+	public java.util.List<org.liferay.jukebox.model.Song> getSongsAfter(
+		long groupId, java.lang.String name, long songId, int size) {
+		return _songService.getSongsAfter(groupId, name, songId, size);
+	}
+
+	@Override
+	public org.liferay.jukebox.model.SongImportResult importSongs(
+		java.io.File file,
+		com.liferay.portal.service.ServiceContext serviceContext)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _songService.importSongs(file, serviceContext);
+	}
+
 	/**
 	 * @deprecated As of 6.1.0, replaced by {@link #getWrappedService}
 	 */
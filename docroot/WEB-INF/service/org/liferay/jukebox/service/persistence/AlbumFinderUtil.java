@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.service.persistence;
+
+import com.liferay.portal.kernel.bean.PortletBeanLocatorUtil;
+import com.liferay.portal.kernel.util.ReferenceRegistry;
+
+/**
+ * @author Julio Camarero
+ * @generated
+ */
+public class AlbumFinderUtil {
+	public static java.util.List<org.liferay.jukebox.model.Album> filterFindByG_S_After(
+		long groupId, int status, java.lang.String name, long albumId,
+		int size) {
+		return getFinder()
+				   .filterFindByG_S_After(groupId, status, name, albumId, size);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.AlbumSummary> filterFindSummariesByG_A_S(
+		long groupId, long artistId, int status) {
+		return getFinder()
+				   .filterFindSummariesByG_A_S(groupId, artistId, status);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.AlbumSummary> filterFindSummariesByG_LikeN_S(
+		long groupId, java.lang.String name, int status) {
+		return getFinder()
+				   .filterFindSummariesByG_LikeN_S(groupId, name, status);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.AlbumSummary> filterFindSummariesByG_S_After(
+		long groupId, int status, java.lang.String name, long albumId,
+		int size) {
+		return getFinder()
+				   .filterFindSummariesByG_S_After(groupId, status, name,
+			albumId, size);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.Album> findByG_S_After(
+		long groupId, int status, java.lang.String name, long albumId,
+		int size) {
+		return getFinder()
+				   .findByG_S_After(groupId, status, name, albumId, size);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.AlbumSummary> findSummariesByAlbumIds(
+		long[] albumIds) {
+		return getFinder().findSummariesByAlbumIds(albumIds);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.AlbumSummary> findSummariesByGroupId(
+		long groupId) {
+		return getFinder().findSummariesByGroupId(groupId);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.AlbumSummary> findSummariesByG_A_S(
+		long groupId, long artistId, int status) {
+		return getFinder().findSummariesByG_A_S(groupId, artistId, status);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.AlbumSummary> findSummariesByG_S_After(
+		long groupId, int status, java.lang.String name, long albumId,
+		int size) {
+		return getFinder()
+				   .findSummariesByG_S_After(groupId, status, name, albumId,
+			size);
+	}
+
+	public static AlbumFinder getFinder() {
+		if (_finder == null) {
+			_finder = (AlbumFinder)PortletBeanLocatorUtil.locate(org.liferay.jukebox.service.ClpSerializer.getServletContextName(),
+					AlbumFinder.class.getName());
+
+			ReferenceRegistry.registerReference(AlbumFinderUtil.class,
+				"_finder");
+		}
+
+		return _finder;
+	}
+
+	public void setFinder(AlbumFinder finder) {
+		_finder = finder;
+
+		ReferenceRegistry.registerReference(AlbumFinderUtil.class, "_finder");
+	}
+
+	private static AlbumFinder _finder;
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.service.persistence;
+
+/**
+ * @author Julio Camarero
+ * @generated
+ */
+public interface ArtistFinder {
+	public java.util.List<org.liferay.jukebox.model.Artist> filterFindByG_S_After(
+		long groupId, int status, java.lang.String name, long artistId,
+		int size);
+
+	public java.util.List<org.liferay.jukebox.model.ArtistSummary> filterFindSummariesByG_LikeN_S(
+		long groupId, java.lang.String name, int status);
+
+	public java.util.List<org.liferay.jukebox.model.ArtistSummary> filterFindSummariesByG_S_After(
+		long groupId, int status, java.lang.String name, long artistId,
+		int size);
+
+	public java.util.List<org.liferay.jukebox.model.Artist> findByG_S_After(
+		long groupId, int status, java.lang.String name, long artistId,
+		int size);
+
+	public java.util.List<org.liferay.jukebox.model.ArtistSummary> findSummariesByArtistIds(
+		long[] artistIds);
+
+	public java.util.List<org.liferay.jukebox.model.ArtistSummary> findSummariesByGroupId(
+		long groupId);
+
+	public java.util.List<org.liferay.jukebox.model.ArtistSummary> findSummariesByG_S_After(
+		long groupId, int status, java.lang.String name, long artistId,
+		int size);
+}
\ No newline at end of file
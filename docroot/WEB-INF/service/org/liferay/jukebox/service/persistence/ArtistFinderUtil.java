@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.service.persistence;
+
+import com.liferay.portal.kernel.bean.PortletBeanLocatorUtil;
+import com.liferay.portal.kernel.util.ReferenceRegistry;
+
+/**
+ * @author Julio Camarero
+ * @generated
+ */
+public class ArtistFinderUtil {
+	public static java.util.List<org.liferay.jukebox.model.Artist> filterFindByG_S_After(
+		long groupId, int status, java.lang.String name, long artistId,
+		int size) {
+		return getFinder()
+				   .filterFindByG_S_After(groupId, status, name, artistId, size);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.ArtistSummary> filterFindSummariesByG_LikeN_S(
+		long groupId, java.lang.String name, int status) {
+		return getFinder()
+				   .filterFindSummariesByG_LikeN_S(groupId, name, status);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.ArtistSummary> filterFindSummariesByG_S_After(
+		long groupId, int status, java.lang.String name, long artistId,
+		int size) {
+		return getFinder()
+				   .filterFindSummariesByG_S_After(groupId, status, name,
+			artistId, size);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.Artist> findByG_S_After(
+		long groupId, int status, java.lang.String name, long artistId,
+		int size) {
+		return getFinder()
+				   .findByG_S_After(groupId, status, name, artistId, size);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.ArtistSummary> findSummariesByArtistIds(
+		long[] artistIds) {
+		return getFinder().findSummariesByArtistIds(artistIds);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.ArtistSummary> findSummariesByGroupId(
+		long groupId) {
+		return getFinder().findSummariesByGroupId(groupId);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.ArtistSummary> findSummariesByG_S_After(
+		long groupId, int status, java.lang.String name, long artistId,
+		int size) {
+		return getFinder()
+				   .findSummariesByG_S_After(groupId, status, name, artistId,
+			size);
+	}
+
+	public static ArtistFinder getFinder() {
+		if (_finder == null) {
+			_finder = (ArtistFinder)PortletBeanLocatorUtil.locate(org.liferay.jukebox.service.ClpSerializer.getServletContextName(),
+					ArtistFinder.class.getName());
+
+			ReferenceRegistry.registerReference(ArtistFinderUtil.class,
+				"_finder");
+		}
+
+		return _finder;
+	}
+
+	public void setFinder(ArtistFinder finder) {
+		_finder = finder;
+
+		ReferenceRegistry.registerReference(ArtistFinderUtil.class, "_finder");
+	}
+
+	private static ArtistFinder _finder;
+}
\ No newline at end of file
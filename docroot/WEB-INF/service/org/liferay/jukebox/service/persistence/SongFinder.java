@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.service.persistence;
+
+/**
+ * @author Julio Camarero
+ * @generated
+ */
+public interface SongFinder {
+	public int deleteByAlbumId(long albumId);
+
+	public java.util.List<org.liferay.jukebox.model.Song> filterFindByG_S_After(
+		long groupId, int status, java.lang.String name, long songId,
+		int size);
+
+	public java.util.List<org.liferay.jukebox.model.Song> findByG_S_After(
+		long groupId, int status, java.lang.String name, long songId,
+		int size);
+
+	public java.util.List<java.lang.Long> findDeletedSongIds(int size);
+
+	public java.util.Map<java.lang.Long, java.lang.String> findNamesByG_S(
+		long groupId, int status);
+
+	public int moveToTrashByAlbumId(long albumId);
+
+	public int restoreFromTrashByAlbumId(long albumId);
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.service.persistence;
+
+import com.liferay.portal.kernel.bean.PortletBeanLocatorUtil;
+import com.liferay.portal.kernel.util.ReferenceRegistry;
+
+/**
+ * @author Julio Camarero
+ * @generated
+ */
+public class SongFinderUtil {
+	public static int deleteByAlbumId(long albumId) {
+		return getFinder().deleteByAlbumId(albumId);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.Song> filterFindByG_S_After(
+		long groupId, int status, java.lang.String name, long songId,
+		int size) {
+		return getFinder()
+				   .filterFindByG_S_After(groupId, status, name, songId, size);
+	}
+
+	public static java.util.List<org.liferay.jukebox.model.Song> findByG_S_After(
+		long groupId, int status, java.lang.String name, long songId,
+		int size) {
+		return getFinder()
+				   .findByG_S_After(groupId, status, name, songId, size);
+	}
+
+	public static java.util.List<java.lang.Long> findDeletedSongIds(int size) {
+		return getFinder().findDeletedSongIds(size);
+	}
+
+	public static java.util.Map<java.lang.Long, java.lang.String> findNamesByG_S(
+		long groupId, int status) {
+		return getFinder().findNamesByG_S(groupId, status);
+	}
+
+	public static int moveToTrashByAlbumId(long albumId) {
+		return getFinder().moveToTrashByAlbumId(albumId);
+	}
+
+	public static int restoreFromTrashByAlbumId(long albumId) {
+		return getFinder().restoreFromTrashByAlbumId(albumId);
+	}
+
+	public static SongFinder getFinder() {
+		if (_finder == null) {
+			_finder = (SongFinder)PortletBeanLocatorUtil.locate(org.liferay.jukebox.service.ClpSerializer.getServletContextName(),
+					SongFinder.class.getName());
+
+			ReferenceRegistry.registerReference(SongFinderUtil.class,
+				"_finder");
+		}
+
+		return _finder;
+	}
+
+	public void setFinder(SongFinder finder) {
+		_finder = finder;
+
+		ReferenceRegistry.registerReference(SongFinderUtil.class, "_finder");
+	}
+
+	private static SongFinder _finder;
+}
\ No newline at end of file
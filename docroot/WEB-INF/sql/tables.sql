@@ -45,6 +45,7 @@ create table jukebox_Song (
 	artistId LONG,
 	albumId LONG,
 	name VARCHAR(75) null,
+	renditionStatus INTEGER,
 	status INTEGER,
 	statusByUserId LONG,
 	statusByUserName VARCHAR(75) null,
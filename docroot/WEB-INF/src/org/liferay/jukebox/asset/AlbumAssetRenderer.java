@@ -42,6 +42,7 @@ import javax.portlet.WindowState;
 import org.liferay.jukebox.model.Album;
 import org.liferay.jukebox.portlet.AlbumsPortlet;
 import org.liferay.jukebox.service.permission.AlbumPermission;
+import org.liferay.jukebox.util.Constants;
 import org.liferay.jukebox.util.PortletKeys;
 
 /**
@@ -98,7 +99,8 @@ public class AlbumAssetRenderer
 		ThemeDisplay themeDisplay = (ThemeDisplay)portletRequest.getAttribute(
 			WebKeys.THEME_DISPLAY);
 
-		String thumbnailSrc = _album.getImageURL(themeDisplay);
+		String thumbnailSrc = _album.getImageURL(
+			themeDisplay, Constants.COVER_VARIANT_THUMBNAIL);
 
 		if (Validator.isNotNull(thumbnailSrc)) {
 			return thumbnailSrc;
@@ -198,7 +200,7 @@ public class AlbumAssetRenderer
 		throws PortalException {
 
 		return AlbumPermission.contains(
-			permissionChecker, _album.getAlbumId(), ActionKeys.DELETE);
+			permissionChecker, _album, ActionKeys.DELETE);
 	}
 
 	@Override
@@ -206,7 +208,7 @@ public class AlbumAssetRenderer
 		throws PortalException {
 
 		return AlbumPermission.contains(
-			permissionChecker, _album.getAlbumId(), ActionKeys.UPDATE);
+			permissionChecker, _album, ActionKeys.UPDATE);
 	}
 
 	@Override
@@ -214,7 +216,7 @@ public class AlbumAssetRenderer
 		throws PortalException {
 
 		return AlbumPermission.contains(
-			permissionChecker, _album.getAlbumId(), ActionKeys.VIEW);
+			permissionChecker, _album, ActionKeys.VIEW);
 	}
 
 	@Override
@@ -41,6 +41,7 @@ import javax.portlet.WindowState;
 import org.liferay.jukebox.model.Artist;
 import org.liferay.jukebox.portlet.ArtistsPortlet;
 import org.liferay.jukebox.service.permission.ArtistPermission;
+import org.liferay.jukebox.util.Constants;
 import org.liferay.jukebox.util.PortletKeys;
 
 /**
@@ -96,7 +97,8 @@ public class ArtistAssetRenderer extends BaseAssetRenderer {
 		ThemeDisplay themeDisplay = (ThemeDisplay)portletRequest.getAttribute(
 			WebKeys.THEME_DISPLAY);
 
-		String thumbnailSrc = _artist.getImageURL(themeDisplay);
+		String thumbnailSrc = _artist.getImageURL(
+			themeDisplay, Constants.COVER_VARIANT_THUMBNAIL);
 
 		if (Validator.isNotNull(thumbnailSrc)) {
 			return thumbnailSrc;
@@ -198,7 +200,7 @@ public class ArtistAssetRenderer extends BaseAssetRenderer {
 		throws PortalException {
 
 		return ArtistPermission.contains(
-			permissionChecker, _artist.getArtistId(), ActionKeys.DELETE);
+			permissionChecker, _artist, ActionKeys.DELETE);
 	}
 
 	@Override
@@ -206,7 +208,7 @@ public class ArtistAssetRenderer extends BaseAssetRenderer {
 		throws PortalException {
 
 		return ArtistPermission.contains(
-			permissionChecker, _artist.getArtistId(), ActionKeys.UPDATE);
+			permissionChecker, _artist, ActionKeys.UPDATE);
 	}
 
 	@Override
@@ -214,7 +216,7 @@ public class ArtistAssetRenderer extends BaseAssetRenderer {
 		throws PortalException {
 
 		return ArtistPermission.contains(
-			permissionChecker, _artist.getArtistId(), ActionKeys.VIEW);
+			permissionChecker, _artist, ActionKeys.VIEW);
 	}
 
 	@Override
@@ -203,7 +203,7 @@ public class SongAssetRenderer
 		throws PortalException {
 
 		return SongPermission.contains(
-			permissionChecker, _song.getSongId(), ActionKeys.DELETE);
+			permissionChecker, _song, ActionKeys.DELETE);
 	}
 
 	@Override
@@ -211,7 +211,7 @@ public class SongAssetRenderer
 		throws PortalException {
 
 		return SongPermission.contains(
-			permissionChecker, _song.getSongId(), ActionKeys.UPDATE);
+			permissionChecker, _song, ActionKeys.UPDATE);
 	}
 
 	@Override
@@ -219,7 +219,7 @@ public class SongAssetRenderer
 		throws PortalException {
 
 		return SongPermission.contains(
-			permissionChecker, _song.getSongId(), ActionKeys.VIEW);
+			permissionChecker, _song, ActionKeys.VIEW);
 	}
 
 	@Override
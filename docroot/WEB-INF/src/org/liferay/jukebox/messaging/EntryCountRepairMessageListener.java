@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.messaging;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.messaging.BaseMessageListener;
+import com.liferay.portal.kernel.messaging.Message;
+
+import org.liferay.jukebox.util.EntryCountUtil;
+
+/**
+ * Drops the counts kept by {@link EntryCountUtil}, so that they are loaded
+ * again from the database the next time they are needed.
+ *
+ * @author Julio Camarero
+ */
+public class EntryCountRepairMessageListener extends BaseMessageListener {
+
+	@Override
+	protected void doReceive(Message message) throws Exception {
+		EntryCountUtil.clearCache();
+
+		if (_log.isDebugEnabled()) {
+			_log.debug("Cleared the song, album and artist counts");
+		}
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(
+		EntryCountRepairMessageListener.class);
+
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.messaging;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.messaging.BaseMessageListener;
+import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.repository.model.FileVersion;
+import com.liferay.portal.kernel.util.Time;
+
+import java.util.Date;
+import java.util.List;
+
+import org.liferay.jukebox.model.Song;
+import org.liferay.jukebox.service.SongLocalServiceUtil;
+import org.liferay.jukebox.util.Constants;
+import org.liferay.jukebox.util.DLProcessorQueueUtil;
+import org.liferay.jukebox.util.PortletPropsValues;
+import org.liferay.jukebox.util.SongRenditionUtil;
+
+/**
+ * Queues again the renditions of the songs that are still pending one retry
+ * interval after they were last modified, such as the songs that were
+ * uploaded while the conversion queue was full or that were queued when the
+ * plugin was undeployed.
+ *
+ * <p>
+ * A song that is still waiting in the conversion queue of another node can
+ * be transcoded twice, which only replaces its renditions.
+ * </p>
+ *
+ * @author Julio Camarero
+ */
+public class RenditionRetryMessageListener extends BaseMessageListener {
+
+	@Override
+	protected void doReceive(Message message) throws Exception {
+		if (!SongRenditionUtil.isEnabled()) {
+			return;
+		}
+
+		DynamicQuery dynamicQuery = SongLocalServiceUtil.dynamicQuery();
+
+		dynamicQuery.add(
+			RestrictionsFactoryUtil.eq(
+				"renditionStatus", Constants.RENDITION_STATUS_PENDING));
+
+		Date modifiedDate = new Date(
+			System.currentTimeMillis() -
+				(PortletPropsValues.RENDITION_RETRY_INTERVAL * Time.MINUTE));
+
+		dynamicQuery.add(
+			RestrictionsFactoryUtil.lt("modifiedDate", modifiedDate));
+
+		dynamicQuery.addOrder(OrderFactoryUtil.asc("songId"));
+
+		List<Song> songs = SongLocalServiceUtil.dynamicQuery(
+			dynamicQuery, 0, PortletPropsValues.CONVERSION_QUEUE_CAPACITY);
+
+		int count = 0;
+
+		for (Song song : songs) {
+			FileVersion fileVersion = song.getAudioFileVersion();
+
+			if (fileVersion == null) {
+				SongLocalServiceUtil.updateRenditionStatus(
+					song.getSongId(), Constants.RENDITION_STATUS_FAILED);
+
+				continue;
+			}
+
+			if (!SongRenditionUtil.queueRenditions(
+					song.getSongId(), fileVersion.getFileEntry(),
+					DLProcessorQueueUtil.PRIORITY_LOW)) {
+
+				break;
+			}
+
+			count++;
+		}
+
+		if ((count > 0) && _log.isInfoEnabled()) {
+			_log.info("Queued the pending renditions of " + count + " songs");
+		}
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(
+		RenditionRetryMessageListener.class);
+
+}
\ No newline at end of file
@@ -19,6 +19,7 @@ import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.model.CacheModel;
 
 import org.liferay.jukebox.model.Album;
+import org.liferay.jukebox.util.ExternalizableUtil;
 
 import java.io.Externalizable;
 import java.io.IOException;
@@ -145,69 +146,53 @@ public class AlbumCacheModel implements CacheModel<Album>, Externalizable {
 
 	@Override
 	public void readExternal(ObjectInput objectInput) throws IOException {
-		uuid = objectInput.readUTF();
-		albumId = objectInput.readLong();
-		companyId = objectInput.readLong();
-		groupId = objectInput.readLong();
-		userId = objectInput.readLong();
-		userName = objectInput.readUTF();
-		createDate = objectInput.readLong();
-		modifiedDate = objectInput.readLong();
-		artistId = objectInput.readLong();
-		name = objectInput.readUTF();
-		year = objectInput.readInt();
-		status = objectInput.readInt();
-		statusByUserId = objectInput.readLong();
-		statusByUserName = objectInput.readUTF();
-		statusDate = objectInput.readLong();
+		ExternalizableUtil.checkVersion(
+			objectInput, AlbumCacheModel.class, _VERSION);
+
+		uuid = ExternalizableUtil.readUuid(objectInput);
+		albumId = ExternalizableUtil.readLong(objectInput);
+		companyId = ExternalizableUtil.readLong(objectInput);
+		groupId = ExternalizableUtil.readLong(objectInput);
+		userId = ExternalizableUtil.readLong(objectInput);
+		userName = ExternalizableUtil.readString(objectInput);
+		createDate = ExternalizableUtil.readDate(objectInput, Long.MIN_VALUE);
+		modifiedDate = ExternalizableUtil.readDate(objectInput, createDate);
+		artistId = ExternalizableUtil.readLong(objectInput);
+		name = ExternalizableUtil.readString(objectInput);
+		year = ExternalizableUtil.readInt(objectInput);
+		status = ExternalizableUtil.readInt(objectInput);
+		statusByUserId = ExternalizableUtil.readLong(objectInput);
+		statusByUserName = ExternalizableUtil.readString(objectInput, userName);
+		statusDate = ExternalizableUtil.readDate(objectInput, modifiedDate);
 	}
 
 	@Override
 	public void writeExternal(ObjectOutput objectOutput)
 		throws IOException {
-		if (uuid == null) {
-			objectOutput.writeUTF(StringPool.BLANK);
-		}
-		else {
-			objectOutput.writeUTF(uuid);
-		}
-
-		objectOutput.writeLong(albumId);
-		objectOutput.writeLong(companyId);
-		objectOutput.writeLong(groupId);
-		objectOutput.writeLong(userId);
-
-		if (userName == null) {
-			objectOutput.writeUTF(StringPool.BLANK);
-		}
-		else {
-			objectOutput.writeUTF(userName);
-		}
-
-		objectOutput.writeLong(createDate);
-		objectOutput.writeLong(modifiedDate);
-		objectOutput.writeLong(artistId);
-
-		if (name == null) {
-			objectOutput.writeUTF(StringPool.BLANK);
-		}
-		else {
-			objectOutput.writeUTF(name);
-		}
+		objectOutput.writeByte(_VERSION);
+
+		ExternalizableUtil.writeUuid(objectOutput, uuid);
+		ExternalizableUtil.writeLong(objectOutput, albumId);
+		ExternalizableUtil.writeLong(objectOutput, companyId);
+		ExternalizableUtil.writeLong(objectOutput, groupId);
+		ExternalizableUtil.writeLong(objectOutput, userId);
+		ExternalizableUtil.writeString(objectOutput, userName);
+		ExternalizableUtil.writeDate(objectOutput, createDate, Long.MIN_VALUE);
+		ExternalizableUtil.writeDate(objectOutput, modifiedDate, createDate);
+		ExternalizableUtil.writeLong(objectOutput, artistId);
+		ExternalizableUtil.writeString(objectOutput, name);
+		ExternalizableUtil.writeInt(objectOutput, year);
+		ExternalizableUtil.writeInt(objectOutput, status);
+		ExternalizableUtil.writeLong(objectOutput, statusByUserId);
+		ExternalizableUtil.writeString(
+			objectOutput, statusByUserName, userName);
+		ExternalizableUtil.writeDate(objectOutput, statusDate, modifiedDate);
+	}
 
-		objectOutput.writeInt(year);
-		objectOutput.writeInt(status);
-		objectOutput.writeLong(statusByUserId);
+	// Hand edited, see ExternalizableUtil before running Service Builder or
+	// changing the version
 
-		if (statusByUserName == null) {
-			objectOutput.writeUTF(StringPool.BLANK);
-		}
-		else {
-			objectOutput.writeUTF(statusByUserName);
-		}
-
-		objectOutput.writeLong(statusDate);
-	}
+	private static final int _VERSION = 1;
 
 	public String uuid;
 	public long albumId;
@@ -16,14 +16,10 @@ package org.liferay.jukebox.model.impl;
 
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.repository.model.FileEntry;
-import com.liferay.portal.kernel.util.StringPool;
-import com.liferay.portal.model.Repository;
-import com.liferay.portal.portletfilerepository.PortletFileRepositoryUtil;
 import com.liferay.portal.theme.ThemeDisplay;
-import com.liferay.portlet.documentlibrary.model.DLFolderConstants;
-import com.liferay.portlet.documentlibrary.util.DLUtil;
 
-import org.liferay.jukebox.util.Constants;
+import org.liferay.jukebox.model.CoverLocator;
+import org.liferay.jukebox.util.CoverImageUtil;
 
 /**
  * The extended model implementation for the Album service. Represents a row in the &quot;jukebox_Album&quot; database table, with each column mapped to a property of this class.
@@ -39,45 +35,33 @@ import org.liferay.jukebox.util.Constants;
 public class AlbumImpl extends AlbumBaseImpl {
 
 	public FileEntry getCustomImage() {
-		Repository repository =
-			PortletFileRepositoryUtil.fetchPortletRepository(
-				getGroupId(), Constants.JUKEBOX_PORTLET_REPOSITORY);
-
-		if (repository == null) {
-			return null;
-		}
-
-		try {
-			return PortletFileRepositoryUtil.getPortletFileEntry(
-				repository.getRepositoryId(),
-				DLFolderConstants.DEFAULT_PARENT_FOLDER_ID,
-				String.valueOf(getAlbumId()));
-		}
-		catch (Exception e) {
-			return null;
-		}
+		return CoverImageUtil.fetchCoverFileEntry(
+			getGroupId(), getAlbumId(), null);
 	}
 
 	public String getImageURL(ThemeDisplay themeDisplay)
 		throws PortalException {
 
-		FileEntry fileEntry = getCustomImage();
+		return getImageURL(themeDisplay, null);
+	}
 
-		if (fileEntry != null) {
-			return DLUtil.getPreviewURL(
-				fileEntry, fileEntry.getLatestFileVersion(), themeDisplay,
-				StringPool.BLANK);
-		}
-		else {
-			return themeDisplay.getPortalURL() +
-				"/jukebox-portlet/images/vinilo.png";
-		}
+	/**
+	 * Returns the URL of the cover of this album resized to the variant. If
+	 * the variant is <code>null</code> or was not generated, returns the URL
+	 * of the original cover.
+	 */
+	public String getImageURL(ThemeDisplay themeDisplay, String variant)
+		throws PortalException {
+
+		return CoverImageUtil.getAlbumCoverURL(
+			themeDisplay, getGroupId(), getAlbumId(), variant);
 	}
 
 	public boolean hasCustomImage() throws PortalException {
-		FileEntry fileEntry = getCustomImage();
+		CoverLocator coverLocator = CoverImageUtil.fetchCoverLocator(
+			getGroupId(), getAlbumId(), null);
 
-		if (fileEntry != null) {
+		if (!coverLocator.isEmpty()) {
 			return true;
 		}
 
@@ -19,6 +19,7 @@ import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.model.CacheModel;
 
 import org.liferay.jukebox.model.Artist;
+import org.liferay.jukebox.util.ExternalizableUtil;
 
 import java.io.Externalizable;
 import java.io.IOException;
@@ -147,72 +148,51 @@ public class ArtistCacheModel implements CacheModel<Artist>, Externalizable {
 
 	@Override
 	public void readExternal(ObjectInput objectInput) throws IOException {
-		uuid = objectInput.readUTF();
-		artistId = objectInput.readLong();
-		companyId = objectInput.readLong();
-		groupId = objectInput.readLong();
-		userId = objectInput.readLong();
-		userName = objectInput.readUTF();
-		createDate = objectInput.readLong();
-		modifiedDate = objectInput.readLong();
-		status = objectInput.readInt();
-		statusByUserId = objectInput.readLong();
-		statusByUserName = objectInput.readUTF();
-		statusDate = objectInput.readLong();
-		name = objectInput.readUTF();
-		bio = objectInput.readUTF();
+		ExternalizableUtil.checkVersion(
+			objectInput, ArtistCacheModel.class, _VERSION);
+
+		uuid = ExternalizableUtil.readUuid(objectInput);
+		artistId = ExternalizableUtil.readLong(objectInput);
+		companyId = ExternalizableUtil.readLong(objectInput);
+		groupId = ExternalizableUtil.readLong(objectInput);
+		userId = ExternalizableUtil.readLong(objectInput);
+		userName = ExternalizableUtil.readString(objectInput);
+		createDate = ExternalizableUtil.readDate(objectInput, Long.MIN_VALUE);
+		modifiedDate = ExternalizableUtil.readDate(objectInput, createDate);
+		status = ExternalizableUtil.readInt(objectInput);
+		statusByUserId = ExternalizableUtil.readLong(objectInput);
+		statusByUserName = ExternalizableUtil.readString(objectInput, userName);
+		statusDate = ExternalizableUtil.readDate(objectInput, modifiedDate);
+		name = ExternalizableUtil.readString(objectInput);
+		bio = ExternalizableUtil.readString(objectInput);
 	}
 
 	@Override
 	public void writeExternal(ObjectOutput objectOutput)
 		throws IOException {
-		if (uuid == null) {
-			objectOutput.writeUTF(StringPool.BLANK);
-		}
-		else {
-			objectOutput.writeUTF(uuid);
-		}
-
-		objectOutput.writeLong(artistId);
-		objectOutput.writeLong(companyId);
-		objectOutput.writeLong(groupId);
-		objectOutput.writeLong(userId);
-
-		if (userName == null) {
-			objectOutput.writeUTF(StringPool.BLANK);
-		}
-		else {
-			objectOutput.writeUTF(userName);
-		}
-
-		objectOutput.writeLong(createDate);
-		objectOutput.writeLong(modifiedDate);
-		objectOutput.writeInt(status);
-		objectOutput.writeLong(statusByUserId);
-
-		if (statusByUserName == null) {
-			objectOutput.writeUTF(StringPool.BLANK);
-		}
-		else {
-			objectOutput.writeUTF(statusByUserName);
-		}
+		objectOutput.writeByte(_VERSION);
+
+		ExternalizableUtil.writeUuid(objectOutput, uuid);
+		ExternalizableUtil.writeLong(objectOutput, artistId);
+		ExternalizableUtil.writeLong(objectOutput, companyId);
+		ExternalizableUtil.writeLong(objectOutput, groupId);
+		ExternalizableUtil.writeLong(objectOutput, userId);
+		ExternalizableUtil.writeString(objectOutput, userName);
+		ExternalizableUtil.writeDate(objectOutput, createDate, Long.MIN_VALUE);
+		ExternalizableUtil.writeDate(objectOutput, modifiedDate, createDate);
+		ExternalizableUtil.writeInt(objectOutput, status);
+		ExternalizableUtil.writeLong(objectOutput, statusByUserId);
+		ExternalizableUtil.writeString(
+			objectOutput, statusByUserName, userName);
+		ExternalizableUtil.writeDate(objectOutput, statusDate, modifiedDate);
+		ExternalizableUtil.writeString(objectOutput, name);
+		ExternalizableUtil.writeString(objectOutput, bio);
+	}
 
-		objectOutput.writeLong(statusDate);
+	// Hand edited, see ExternalizableUtil before running Service Builder or
+	// changing the version
 
-		if (name == null) {
-			objectOutput.writeUTF(StringPool.BLANK);
-		}
-		else {
-			objectOutput.writeUTF(name);
-		}
-
-		if (bio == null) {
-			objectOutput.writeUTF(StringPool.BLANK);
-		}
-		else {
-			objectOutput.writeUTF(bio);
-		}
-	}
+	private static final int _VERSION = 1;
 
 	public String uuid;
 	public long artistId;
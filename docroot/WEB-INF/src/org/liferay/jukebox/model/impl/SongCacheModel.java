@@ -19,6 +19,7 @@ import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.model.CacheModel;
 
 import org.liferay.jukebox.model.Song;
+import org.liferay.jukebox.util.ExternalizableUtil;
 
 import java.io.Externalizable;
 import java.io.IOException;
@@ -37,7 +38,7 @@ import java.util.Date;
 public class SongCacheModel implements CacheModel<Song>, Externalizable {
 	@Override
 	public String toString() {
-		StringBundler sb = new StringBundler(31);
+		StringBundler sb = new StringBundler(33);
 
 		sb.append("{uuid=");
 		sb.append(uuid);
@@ -61,6 +62,8 @@ public class SongCacheModel implements CacheModel<Song>, Externalizable {
 		sb.append(albumId);
 		sb.append(", name=");
 		sb.append(name);
+		sb.append(", renditionStatus=");
+		sb.append(renditionStatus);
 		sb.append(", status=");
 		sb.append(status);
 		sb.append(", statusByUserId=");
@@ -121,6 +124,7 @@ public class SongCacheModel implements CacheModel<Song>, Externalizable {
 			songImpl.setName(name);
 		}
 
+		songImpl.setRenditionStatus(renditionStatus);
 		songImpl.setStatus(status);
 		songImpl.setStatusByUserId(statusByUserId);
 
@@ -145,69 +149,55 @@ public class SongCacheModel implements CacheModel<Song>, Externalizable {
 
 	@Override
 	public void readExternal(ObjectInput objectInput) throws IOException {
-		uuid = objectInput.readUTF();
-		songId = objectInput.readLong();
-		companyId = objectInput.readLong();
-		groupId = objectInput.readLong();
-		userId = objectInput.readLong();
-		userName = objectInput.readUTF();
-		createDate = objectInput.readLong();
-		modifiedDate = objectInput.readLong();
-		artistId = objectInput.readLong();
-		albumId = objectInput.readLong();
-		name = objectInput.readUTF();
-		status = objectInput.readInt();
-		statusByUserId = objectInput.readLong();
-		statusByUserName = objectInput.readUTF();
-		statusDate = objectInput.readLong();
+		ExternalizableUtil.checkVersion(
+			objectInput, SongCacheModel.class, _VERSION);
+
+		uuid = ExternalizableUtil.readUuid(objectInput);
+		songId = ExternalizableUtil.readLong(objectInput);
+		companyId = ExternalizableUtil.readLong(objectInput);
+		groupId = ExternalizableUtil.readLong(objectInput);
+		userId = ExternalizableUtil.readLong(objectInput);
+		userName = ExternalizableUtil.readString(objectInput);
+		createDate = ExternalizableUtil.readDate(objectInput, Long.MIN_VALUE);
+		modifiedDate = ExternalizableUtil.readDate(objectInput, createDate);
+		artistId = ExternalizableUtil.readLong(objectInput);
+		albumId = ExternalizableUtil.readLong(objectInput);
+		name = ExternalizableUtil.readString(objectInput);
+		renditionStatus = ExternalizableUtil.readInt(objectInput);
+		status = ExternalizableUtil.readInt(objectInput);
+		statusByUserId = ExternalizableUtil.readLong(objectInput);
+		statusByUserName = ExternalizableUtil.readString(objectInput, userName);
+		statusDate = ExternalizableUtil.readDate(objectInput, modifiedDate);
 	}
 
 	@Override
 	public void writeExternal(ObjectOutput objectOutput)
 		throws IOException {
-		if (uuid == null) {
-			objectOutput.writeUTF(StringPool.BLANK);
-		}
-		else {
-			objectOutput.writeUTF(uuid);
-		}
-
-		objectOutput.writeLong(songId);
-		objectOutput.writeLong(companyId);
-		objectOutput.writeLong(groupId);
-		objectOutput.writeLong(userId);
-
-		if (userName == null) {
-			objectOutput.writeUTF(StringPool.BLANK);
-		}
-		else {
-			objectOutput.writeUTF(userName);
-		}
-
-		objectOutput.writeLong(createDate);
-		objectOutput.writeLong(modifiedDate);
-		objectOutput.writeLong(artistId);
-		objectOutput.writeLong(albumId);
-
-		if (name == null) {
-			objectOutput.writeUTF(StringPool.BLANK);
-		}
-		else {
-			objectOutput.writeUTF(name);
-		}
+		objectOutput.writeByte(_VERSION);
+
+		ExternalizableUtil.writeUuid(objectOutput, uuid);
+		ExternalizableUtil.writeLong(objectOutput, songId);
+		ExternalizableUtil.writeLong(objectOutput, companyId);
+		ExternalizableUtil.writeLong(objectOutput, groupId);
+		ExternalizableUtil.writeLong(objectOutput, userId);
+		ExternalizableUtil.writeString(objectOutput, userName);
+		ExternalizableUtil.writeDate(objectOutput, createDate, Long.MIN_VALUE);
+		ExternalizableUtil.writeDate(objectOutput, modifiedDate, createDate);
+		ExternalizableUtil.writeLong(objectOutput, artistId);
+		ExternalizableUtil.writeLong(objectOutput, albumId);
+		ExternalizableUtil.writeString(objectOutput, name);
+		ExternalizableUtil.writeInt(objectOutput, renditionStatus);
+		ExternalizableUtil.writeInt(objectOutput, status);
+		ExternalizableUtil.writeLong(objectOutput, statusByUserId);
+		ExternalizableUtil.writeString(
+			objectOutput, statusByUserName, userName);
+		ExternalizableUtil.writeDate(objectOutput, statusDate, modifiedDate);
+	}
 
-		objectOutput.writeInt(status);
-		objectOutput.writeLong(statusByUserId);
+	// Hand edited, see ExternalizableUtil before running Service Builder or
+	// changing the version
 
-		if (statusByUserName == null) {
-			objectOutput.writeUTF(StringPool.BLANK);
-		}
-		else {
-			objectOutput.writeUTF(statusByUserName);
-		}
-
-		objectOutput.writeLong(statusDate);
-	}
+	private static final int _VERSION = 1;
 
 	public String uuid;
 	public long songId;
@@ -220,6 +210,7 @@ public class SongCacheModel implements CacheModel<Song>, Externalizable {
 	public long artistId;
 	public long albumId;
 	public String name;
+	public int renditionStatus;
 	public int status;
 	public long statusByUserId;
 	public String statusByUserName;
@@ -15,20 +15,30 @@
 package org.liferay.jukebox.model.impl;
 
 import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.json.JSONFactoryUtil;
+import com.liferay.portal.kernel.json.JSONObject;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.repository.model.FileEntry;
-import com.liferay.portal.kernel.repository.model.Folder;
+import com.liferay.portal.kernel.repository.model.FileVersion;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.Validator;
-import com.liferay.portal.model.Repository;
 import com.liferay.portal.portletfilerepository.PortletFileRepositoryUtil;
 import com.liferay.portal.theme.ThemeDisplay;
-import com.liferay.portlet.documentlibrary.model.DLFolderConstants;
+import com.liferay.portlet.documentlibrary.NoSuchFileVersionException;
+import com.liferay.portlet.documentlibrary.service.DLAppLocalServiceUtil;
 import com.liferay.portlet.documentlibrary.util.AudioProcessorUtil;
 import com.liferay.portlet.documentlibrary.util.DLUtil;
 
 import java.util.List;
 
+import org.liferay.jukebox.model.SongMedia;
+import org.liferay.jukebox.model.SongMediaLocator;
 import org.liferay.jukebox.util.Constants;
+import org.liferay.jukebox.util.JukeboxRepositoryUtil;
+import org.liferay.jukebox.util.PortletPropsValues;
+import org.liferay.jukebox.util.SongMediaCacheUtil;
+import org.liferay.jukebox.util.SongRenditionUtil;
 
 /**
  * The extended model implementation for the Song service. Represents a row in the &quot;jukebox_Song&quot; database table, with each column mapped to a property of this class.
@@ -43,6 +53,20 @@ import org.liferay.jukebox.util.Constants;
  */
 public class SongImpl extends SongBaseImpl {
 
+	/**
+	 * Returns the latest version of the audio file of this song, or
+	 * <code>null</code> if this song has no audio file.
+	 */
+	public FileVersion getAudioFileVersion() throws PortalException {
+		FileEntry fileEntry = getFileEntry(Constants.SONGS_FOLDER_NAME);
+
+		if (fileEntry == null) {
+			return null;
+		}
+
+		return getFileVersion(fileEntry, Constants.SONGS_FOLDER_NAME);
+	}
+
 	public String getImageURL(ThemeDisplay themeDisplay) {
 		return themeDisplay.getPortalURL() +
 			"/jukebox-portlet/images/song.png";
@@ -51,67 +75,155 @@ public class SongImpl extends SongBaseImpl {
 	public String getLyricsURL(ThemeDisplay themeDisplay)
 		throws PortalException {
 
-		FileEntry fileEntry = getFileEntry(
-			themeDisplay, Constants.LYRICS_FOLDER_NAME);
+		FileEntry fileEntry = getFileEntry(Constants.LYRICS_FOLDER_NAME);
 
 		if (fileEntry == null) {
 			return StringPool.BLANK;
 		}
 
+		FileVersion fileVersion = getFileVersion(
+			fileEntry, Constants.LYRICS_FOLDER_NAME);
+
 		return DLUtil.getPreviewURL(
-			fileEntry, fileEntry.getLatestFileVersion(), themeDisplay,
-			StringPool.BLANK);
+			fileEntry, fileVersion, themeDisplay, StringPool.BLANK);
 	}
 
-	public String getSongURL(ThemeDisplay themeDisplay, String audioContainer)
+	/**
+	 * Returns the latest version of the rendition of this song with the
+	 * highest bit rate that is not greater than the given one, or
+	 * <code>null</code> if the renditions of this song are not complete.
+	 */
+	public FileVersion getRenditionFileVersion(
+			String audioContainer, int bitRate)
 		throws PortalException {
 
-		FileEntry fileEntry = getFileEntry(
-			themeDisplay, Constants.SONGS_FOLDER_NAME);
+		if (getRenditionStatus() != Constants.RENDITION_STATUS_COMPLETE) {
+			return null;
+		}
+
+		bitRate = SongRenditionUtil.getBitRate(bitRate);
+
+		FileEntry fileEntry = getRenditionFileEntry(audioContainer, bitRate);
 
 		if (fileEntry == null) {
-			return StringPool.BLANK;
+			return null;
 		}
 
-		if (!AudioProcessorUtil.hasAudio(fileEntry.getLatestFileVersion())) {
-			return StringPool.BLANK;
+		String fileName = SongRenditionUtil.getFileName(
+			audioContainer, bitRate);
+
+		return getFileVersion(
+			fileEntry, SongMediaCacheUtil.getRenditionFolderName(fileName));
+	}
+
+	/**
+	 * Returns the URLs of the renditions of this song in the audio container,
+	 * keyed by bit rate, or an empty object if its renditions are not
+	 * complete.
+	 */
+	public JSONObject getRenditionURLs(
+			ThemeDisplay themeDisplay, String audioContainer)
+		throws PortalException {
+
+		JSONObject jsonObject = JSONFactoryUtil.createJSONObject();
+
+		if (getRenditionStatus() != Constants.RENDITION_STATUS_COMPLETE) {
+			return jsonObject;
+		}
+
+		for (int bitRate : PortletPropsValues.RENDITION_BIT_RATES) {
+			FileEntry fileEntry = getRenditionFileEntry(
+				audioContainer, bitRate);
+
+			if (fileEntry != null) {
+				jsonObject.put(
+					String.valueOf(bitRate),
+					getStreamURL(themeDisplay, audioContainer, bitRate));
+			}
+		}
+
+		return jsonObject;
+	}
+
+	/**
+	 * Returns the URLs of the renditions of this song in the audio container,
+	 * keyed by bit rate, from the media that were resolved for a whole page
+	 * of songs, so that no rendition is looked up per song.
+	 */
+	public JSONObject getRenditionURLs(
+		ThemeDisplay themeDisplay, String audioContainer,
+		SongMedia songMedia) {
+
+		JSONObject jsonObject = JSONFactoryUtil.createJSONObject();
+
+		if (getRenditionStatus() != Constants.RENDITION_STATUS_COMPLETE) {
+			return jsonObject;
+		}
+
+		for (int bitRate : PortletPropsValues.RENDITION_BIT_RATES) {
+			String fileName = SongRenditionUtil.getFileName(
+				audioContainer, bitRate);
+
+			if (songMedia.hasRendition(fileName)) {
+				jsonObject.put(
+					String.valueOf(bitRate),
+					getStreamURL(themeDisplay, audioContainer, bitRate));
+			}
 		}
 
+		return jsonObject;
+	}
+
+	public String getSongURL(ThemeDisplay themeDisplay, String audioContainer)
+		throws PortalException {
+
+		return getSongURL(
+			themeDisplay, audioContainer,
+			PortletPropsValues.RENDITION_DEFAULT_BIT_RATE);
+	}
+
+	/**
+	 * Returns the URL from which this song is streamed. The rendition with the
+	 * highest bit rate that is not greater than the given one is streamed if
+	 * the renditions of this song are complete, and its audio preview
+	 * otherwise.
+	 */
+	public String getSongURL(
+			ThemeDisplay themeDisplay, String audioContainer, int bitRate)
+		throws PortalException {
+
 		if (Validator.isNull(audioContainer)) {
 			audioContainer = "mp3";
 		}
 
-		String queryString = "&audioPreview=1&type=" + audioContainer;
+		FileVersion fileVersion = getRenditionFileVersion(
+			audioContainer, bitRate);
 
-		return DLUtil.getPreviewURL(
-			fileEntry, fileEntry.getLatestFileVersion(), themeDisplay,
-			queryString);
-	}
+		if (fileVersion == null) {
+			fileVersion = getAudioFileVersion();
+
+			if ((fileVersion == null) ||
+				!AudioProcessorUtil.hasAudio(fileVersion)) {
+
+				return StringPool.BLANK;
+			}
+		}
 
-	protected FileEntry getFileEntry(
-		ThemeDisplay themeDisplay, String folderName) {
+		return getStreamURL(themeDisplay, audioContainer, bitRate);
+	}
 
-		Repository repository =
-			PortletFileRepositoryUtil.fetchPortletRepository(
-				getGroupId(), Constants.JUKEBOX_PORTLET_REPOSITORY);
+	protected FileEntry fetchFileEntry(String folderName) {
+		long folderId = JukeboxRepositoryUtil.fetchSongFolderId(
+			getGroupId(), getSongId(), folderName);
 
-		if (repository == null) {
+		if (folderId <= 0) {
 			return null;
 		}
 
 		try {
-			Folder folder = PortletFileRepositoryUtil.getPortletFolder(
-				0, repository.getRepositoryId(),
-				DLFolderConstants.DEFAULT_PARENT_FOLDER_ID,
-				String.valueOf(getSongId()), null);
-
-			Folder songFolder = PortletFileRepositoryUtil.getPortletFolder(
-				0, repository.getRepositoryId(), folder.getFolderId(),
-				folderName, null);
-
 			List<FileEntry> fileEntries =
 				PortletFileRepositoryUtil.getPortletFileEntries(
-					themeDisplay.getScopeGroupId(), songFolder.getFolderId());
+					getGroupId(), folderId);
 
 			if (fileEntries.isEmpty()) {
 				return null;
@@ -124,4 +236,132 @@ public class SongImpl extends SongBaseImpl {
 		}
 	}
 
+	protected FileEntry fetchRenditionFileEntry(String fileName) {
+		long folderId = JukeboxRepositoryUtil.fetchSongFolderId(
+			getGroupId(), getSongId(), Constants.RENDITIONS_FOLDER_NAME);
+
+		if (folderId <= 0) {
+			return null;
+		}
+
+		try {
+			return PortletFileRepositoryUtil.getPortletFileEntry(
+				getGroupId(), folderId, fileName);
+		}
+		catch (Exception e) {
+			return null;
+		}
+	}
+
+	protected FileEntry getFileEntry(String folderName) {
+
+		SongMediaLocator songMediaLocator = SongMediaCacheUtil.get(
+			getSongId(), folderName);
+
+		if (songMediaLocator != null) {
+			if (songMediaLocator.isEmpty()) {
+				return null;
+			}
+
+			try {
+				return PortletFileRepositoryUtil.getPortletFileEntry(
+					songMediaLocator.getFileEntryId());
+			}
+			catch (Exception e) {
+				SongMediaCacheUtil.remove(getSongId(), folderName);
+			}
+		}
+
+		FileEntry fileEntry = fetchFileEntry(folderName);
+
+		try {
+			SongMediaCacheUtil.put(getSongId(), folderName, fileEntry);
+		}
+		catch (Exception e) {
+			if (_log.isDebugEnabled()) {
+				_log.debug("Unable to cache media of song " + getSongId(), e);
+			}
+		}
+
+		return fileEntry;
+	}
+
+	protected FileVersion getFileVersion(
+			FileEntry fileEntry, String folderName)
+		throws PortalException {
+
+		SongMediaLocator songMediaLocator = SongMediaCacheUtil.get(
+			getSongId(), folderName);
+
+		if ((songMediaLocator != null) &&
+			(songMediaLocator.getFileEntryId() == fileEntry.getFileEntryId())) {
+
+			try {
+				return DLAppLocalServiceUtil.getFileVersion(
+					songMediaLocator.getFileVersionId());
+			}
+			catch (NoSuchFileVersionException nsfve) {
+
+				// The cached version was replaced, so cache the latest one
+
+				SongMediaCacheUtil.put(getSongId(), folderName, fileEntry);
+			}
+		}
+
+		return fileEntry.getLatestFileVersion();
+	}
+
+	protected FileEntry getRenditionFileEntry(
+		String audioContainer, int bitRate) {
+
+		String fileName = SongRenditionUtil.getFileName(
+			audioContainer, bitRate);
+
+		String folderName = SongMediaCacheUtil.getRenditionFolderName(
+			fileName);
+
+		SongMediaLocator songMediaLocator = SongMediaCacheUtil.get(
+			getSongId(), folderName);
+
+		if (songMediaLocator != null) {
+			if (songMediaLocator.isEmpty()) {
+				return null;
+			}
+
+			try {
+				return PortletFileRepositoryUtil.getPortletFileEntry(
+					songMediaLocator.getFileEntryId());
+			}
+			catch (Exception e) {
+				SongMediaCacheUtil.remove(getSongId(), folderName);
+			}
+		}
+
+		FileEntry fileEntry = fetchRenditionFileEntry(fileName);
+
+		try {
+			SongMediaCacheUtil.put(getSongId(), folderName, fileEntry);
+		}
+		catch (Exception e) {
+			if (_log.isDebugEnabled()) {
+				_log.debug("Unable to cache media of song " + getSongId(), e);
+			}
+		}
+
+		return fileEntry;
+	}
+
+	protected String getStreamURL(
+		ThemeDisplay themeDisplay, String audioContainer, int bitRate) {
+
+		String fileName = SongRenditionUtil.getFileName(
+			audioContainer, SongRenditionUtil.getBitRate(bitRate));
+
+		return themeDisplay.getPortalURL() + themeDisplay.getPathContext() +
+			Constants.SONG_STREAM_PATH + StringPool.SLASH + getSongId() +
+				StringPool.SLASH + fileName;
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(SongImpl.class);
+
 }
\ No newline at end of file
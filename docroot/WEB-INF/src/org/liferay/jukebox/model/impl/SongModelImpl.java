@@ -88,12 +88,13 @@ public class SongModelImpl extends BaseModelImpl<Song> implements SongModel {
 			{ "artistId", Types.BIGINT },
 			{ "albumId", Types.BIGINT },
 			{ "name", Types.VARCHAR },
+			{ "renditionStatus", Types.INTEGER },
 			{ "status", Types.INTEGER },
 			{ "statusByUserId", Types.BIGINT },
 			{ "statusByUserName", Types.VARCHAR },
 			{ "statusDate", Types.TIMESTAMP }
 		};
-	public static final String TABLE_SQL_CREATE = "create table jukebox_Song (uuid_ VARCHAR(75) null,songId LONG not null primary key,companyId LONG,groupId LONG,userId LONG,userName VARCHAR(75) null,createDate DATE null,modifiedDate DATE null,artistId LONG,albumId LONG,name VARCHAR(75) null,status INTEGER,statusByUserId LONG,statusByUserName VARCHAR(75) null,statusDate DATE null)";
+	public static final String TABLE_SQL_CREATE = "create table jukebox_Song (uuid_ VARCHAR(75) null,songId LONG not null primary key,companyId LONG,groupId LONG,userId LONG,userName VARCHAR(75) null,createDate DATE null,modifiedDate DATE null,artistId LONG,albumId LONG,name VARCHAR(75) null,renditionStatus INTEGER,status INTEGER,statusByUserId LONG,statusByUserName VARCHAR(75) null,statusDate DATE null)";
 	public static final String TABLE_SQL_DROP = "drop table jukebox_Song";
 	public static final String ORDER_BY_JPQL = " ORDER BY song.songId ASC";
 	public static final String ORDER_BY_SQL = " ORDER BY jukebox_Song.songId ASC";
@@ -143,6 +144,7 @@ public class SongModelImpl extends BaseModelImpl<Song> implements SongModel {
 		model.setArtistId(soapModel.getArtistId());
 		model.setAlbumId(soapModel.getAlbumId());
 		model.setName(soapModel.getName());
+		model.setRenditionStatus(soapModel.getRenditionStatus());
 		model.setStatus(soapModel.getStatus());
 		model.setStatusByUserId(soapModel.getStatusByUserId());
 		model.setStatusByUserName(soapModel.getStatusByUserName());
@@ -222,6 +224,7 @@ public class SongModelImpl extends BaseModelImpl<Song> implements SongModel {
 		attributes.put("artistId", getArtistId());
 		attributes.put("albumId", getAlbumId());
 		attributes.put("name", getName());
+		attributes.put("renditionStatus", getRenditionStatus());
 		attributes.put("status", getStatus());
 		attributes.put("statusByUserId", getStatusByUserId());
 		attributes.put("statusByUserName", getStatusByUserName());
@@ -301,6 +304,12 @@ public class SongModelImpl extends BaseModelImpl<Song> implements SongModel {
 			setName(name);
 		}
 
+		Integer renditionStatus = (Integer)attributes.get("renditionStatus");
+
+		if (renditionStatus != null) {
+			setRenditionStatus(renditionStatus);
+		}
+
 		Integer status = (Integer)attributes.get("status");
 
 		if (status != null) {
@@ -556,6 +565,17 @@ public class SongModelImpl extends BaseModelImpl<Song> implements SongModel {
 		return GetterUtil.getString(_originalName);
 	}
 
+	@JSON
+	@Override
+	public int getRenditionStatus() {
+		return _renditionStatus;
+	}
+
+	@Override
+	public void setRenditionStatus(int renditionStatus) {
+		_renditionStatus = renditionStatus;
+	}
+
 	@JSON
 	@Override
 	public int getStatus() {
@@ -893,6 +913,7 @@ public class SongModelImpl extends BaseModelImpl<Song> implements SongModel {
 		songImpl.setArtistId(getArtistId());
 		songImpl.setAlbumId(getAlbumId());
 		songImpl.setName(getName());
+		songImpl.setRenditionStatus(getRenditionStatus());
 		songImpl.setStatus(getStatus());
 		songImpl.setStatusByUserId(getStatusByUserId());
 		songImpl.setStatusByUserName(getStatusByUserName());
@@ -1048,6 +1069,8 @@ public class SongModelImpl extends BaseModelImpl<Song> implements SongModel {
 			songCacheModel.name = null;
 		}
 
+		songCacheModel.renditionStatus = getRenditionStatus();
+
 		songCacheModel.status = getStatus();
 
 		songCacheModel.statusByUserId = getStatusByUserId();
@@ -1074,7 +1097,7 @@ public class SongModelImpl extends BaseModelImpl<Song> implements SongModel {
 
 	@Override
 	public String toString() {
-		StringBundler sb = new StringBundler(31);
+		StringBundler sb = new StringBundler(33);
 
 		sb.append("{uuid=");
 		sb.append(getUuid());
@@ -1098,6 +1121,8 @@ public class SongModelImpl extends BaseModelImpl<Song> implements SongModel {
 		sb.append(getAlbumId());
 		sb.append(", name=");
 		sb.append(getName());
+		sb.append(", renditionStatus=");
+		sb.append(getRenditionStatus());
 		sb.append(", status=");
 		sb.append(getStatus());
 		sb.append(", statusByUserId=");
@@ -1113,7 +1138,7 @@ public class SongModelImpl extends BaseModelImpl<Song> implements SongModel {
 
 	@Override
 	public String toXmlString() {
-		StringBundler sb = new StringBundler(49);
+		StringBundler sb = new StringBundler(52);
 
 		sb.append("<model><model-name>");
 		sb.append("org.liferay.jukebox.model.Song");
@@ -1163,6 +1188,10 @@ public class SongModelImpl extends BaseModelImpl<Song> implements SongModel {
 			"<column><column-name>name</column-name><column-value><![CDATA[");
 		sb.append(getName());
 		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>renditionStatus</column-name><column-value><![CDATA[");
+		sb.append(getRenditionStatus());
+		sb.append("]]></column-value></column>");
 		sb.append(
 			"<column><column-name>status</column-name><column-value><![CDATA[");
 		sb.append(getStatus());
@@ -1210,6 +1239,7 @@ public class SongModelImpl extends BaseModelImpl<Song> implements SongModel {
 	private boolean _setOriginalAlbumId;
 	private String _name;
 	private String _originalName;
+	private int _renditionStatus;
 	private int _status;
 	private int _originalStatus;
 	private boolean _setOriginalStatus;
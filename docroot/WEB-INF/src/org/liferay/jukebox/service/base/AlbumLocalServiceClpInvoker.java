@@ -206,6 +206,30 @@ public class AlbumLocalServiceClpInvoker {
 				"long", "org.liferay.jukebox.model.Album", "long[][]",
 				"java.lang.String[][]", "long[][]"
 			};
+
+		_methodName129 = "getAlbumsAfter";
+
+		_methodParameterTypes129 = new String[] {
+				"long", "int", "java.lang.String", "long", "int"
+			};
+
+		_methodName130 = "getAlbums";
+
+		_methodParameterTypes130 = new String[] { "long[][]" };
+
+		_methodName131 = "getAlbumSummaries";
+
+		_methodParameterTypes131 = new String[] { "long[][]" };
+
+		_methodName132 = "getAlbumSummariesAfter";
+
+		_methodParameterTypes132 = new String[] {
+				"long", "int", "java.lang.String", "long", "int"
+			};
+
+		_methodName133 = "getAlbumSummaries";
+
+		_methodParameterTypes133 = new String[] { "long" };
 	}
 
 	public Object invokeMethod(String name, String[] parameterTypes,
@@ -443,6 +467,43 @@ public class AlbumLocalServiceClpInvoker {
 			return null;
 		}
 
+		if (_methodName129.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes129, parameterTypes)) {
+			return AlbumLocalServiceUtil.getAlbumsAfter(
+				((Long)arguments[0]).longValue(),
+				((Integer)arguments[1]).intValue(),
+				(java.lang.String)arguments[2],
+				((Long)arguments[3]).longValue(),
+				((Integer)arguments[4]).intValue());
+		}
+
+		if (_methodName130.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes130, parameterTypes)) {
+			return AlbumLocalServiceUtil.getAlbums((long[])arguments[0]);
+		}
+
+		if (_methodName131.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes131, parameterTypes)) {
+			return AlbumLocalServiceUtil.getAlbumSummaries(
+				(long[])arguments[0]);
+		}
+
+		if (_methodName132.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes132, parameterTypes)) {
+			return AlbumLocalServiceUtil.getAlbumSummariesAfter(
+				((Long)arguments[0]).longValue(),
+				((Integer)arguments[1]).intValue(),
+				(java.lang.String)arguments[2],
+				((Long)arguments[3]).longValue(),
+				((Integer)arguments[4]).intValue());
+		}
+
+		if (_methodName133.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes133, parameterTypes)) {
+			return AlbumLocalServiceUtil.getAlbumSummaries(
+				((Long)arguments[0]).longValue());
+		}
+
 		throw new UnsupportedOperationException();
 	}
 
@@ -522,4 +583,14 @@ public class AlbumLocalServiceClpInvoker {
 	private String[] _methodParameterTypes127;
 	private String _methodName128;
 	private String[] _methodParameterTypes128;
+	private String _methodName129;
+	private String[] _methodParameterTypes129;
+	private String _methodName130;
+	private String[] _methodParameterTypes130;
+	private String _methodName131;
+	private String[] _methodParameterTypes131;
+	private String _methodName132;
+	private String[] _methodParameterTypes132;
+	private String _methodName133;
+	private String[] _methodParameterTypes133;
 }
\ No newline at end of file
@@ -87,6 +87,26 @@ public class AlbumServiceClpInvoker {
 				"long", "long", "java.lang.String", "int", "java.io.InputStream",
 				"com.liferay.portal.service.ServiceContext"
 			};
+
+		_methodName104 = "getAlbumsAfter";
+
+		_methodParameterTypes104 = new String[] {
+				"long", "java.lang.String", "long", "int"
+			};
+
+		_methodName105 = "getAlbumSummariesAfter";
+
+		_methodParameterTypes105 = new String[] {
+				"long", "java.lang.String", "long", "int"
+			};
+
+		_methodName106 = "getAlbumSummariesByArtistId";
+
+		_methodParameterTypes106 = new String[] { "long", "long" };
+
+		_methodName107 = "getAlbumSummaries";
+
+		_methodParameterTypes107 = new String[] { "long", "java.lang.String" };
 	}
 
 	public Object invokeMethod(String name, String[] parameterTypes,
@@ -179,6 +199,38 @@ public class AlbumServiceClpInvoker {
 				(com.liferay.portal.service.ServiceContext)arguments[5]);
 		}
 
+		if (_methodName104.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes104, parameterTypes)) {
+			return AlbumServiceUtil.getAlbumsAfter(
+				((Long)arguments[0]).longValue(),
+				(java.lang.String)arguments[1],
+				((Long)arguments[2]).longValue(),
+				((Integer)arguments[3]).intValue());
+		}
+
+		if (_methodName105.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes105, parameterTypes)) {
+			return AlbumServiceUtil.getAlbumSummariesAfter(
+				((Long)arguments[0]).longValue(),
+				(java.lang.String)arguments[1],
+				((Long)arguments[2]).longValue(),
+				((Integer)arguments[3]).intValue());
+		}
+
+		if (_methodName106.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes106, parameterTypes)) {
+			return AlbumServiceUtil.getAlbumSummariesByArtistId(
+				((Long)arguments[0]).longValue(),
+				((Long)arguments[1]).longValue());
+		}
+
+		if (_methodName107.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes107, parameterTypes)) {
+			return AlbumServiceUtil.getAlbumSummaries(
+				((Long)arguments[0]).longValue(),
+				(java.lang.String)arguments[1]);
+		}
+
 		throw new UnsupportedOperationException();
 	}
 
@@ -210,4 +262,12 @@ public class AlbumServiceClpInvoker {
 	private String[] _methodParameterTypes102;
 	private String _methodName103;
 	private String[] _methodParameterTypes103;
+	private String _methodName104;
+	private String[] _methodParameterTypes104;
+	private String _methodName105;
+	private String[] _methodParameterTypes105;
+	private String _methodName106;
+	private String[] _methodParameterTypes106;
+	private String _methodName107;
+	private String[] _methodParameterTypes107;
 }
\ No newline at end of file
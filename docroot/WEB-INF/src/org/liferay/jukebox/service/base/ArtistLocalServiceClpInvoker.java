@@ -197,6 +197,30 @@ public class ArtistLocalServiceClpInvoker {
 				"long", "org.liferay.jukebox.model.Artist", "long[][]",
 				"java.lang.String[][]", "long[][]"
 			};
+
+		_methodName116 = "getArtistsAfter";
+
+		_methodParameterTypes116 = new String[] {
+				"long", "int", "java.lang.String", "long", "int"
+			};
+
+		_methodName117 = "getArtistSummaries";
+
+		_methodParameterTypes117 = new String[] { "long" };
+
+		_methodName118 = "getArtistSummaries";
+
+		_methodParameterTypes118 = new String[] { "long[][]" };
+
+		_methodName119 = "getArtistSummariesAfter";
+
+		_methodParameterTypes119 = new String[] {
+				"long", "int", "java.lang.String", "long", "int"
+			};
+
+		_methodName120 = "getArtists";
+
+		_methodParameterTypes120 = new String[] { "long[][]" };
 	}
 
 	public Object invokeMethod(String name, String[] parameterTypes,
@@ -413,6 +437,43 @@ public class ArtistLocalServiceClpInvoker {
 			return null;
 		}
 
+		if (_methodName116.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes116, parameterTypes)) {
+			return ArtistLocalServiceUtil.getArtistsAfter(
+				((Long)arguments[0]).longValue(),
+				((Integer)arguments[1]).intValue(),
+				(java.lang.String)arguments[2],
+				((Long)arguments[3]).longValue(),
+				((Integer)arguments[4]).intValue());
+		}
+
+		if (_methodName117.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes117, parameterTypes)) {
+			return ArtistLocalServiceUtil.getArtistSummaries(
+				((Long)arguments[0]).longValue());
+		}
+
+		if (_methodName118.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes118, parameterTypes)) {
+			return ArtistLocalServiceUtil.getArtistSummaries(
+				(long[])arguments[0]);
+		}
+
+		if (_methodName119.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes119, parameterTypes)) {
+			return ArtistLocalServiceUtil.getArtistSummariesAfter(
+				((Long)arguments[0]).longValue(),
+				((Integer)arguments[1]).intValue(),
+				(java.lang.String)arguments[2],
+				((Long)arguments[3]).longValue(),
+				((Integer)arguments[4]).intValue());
+		}
+
+		if (_methodName120.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes120, parameterTypes)) {
+			return ArtistLocalServiceUtil.getArtists((long[])arguments[0]);
+		}
+
 		throw new UnsupportedOperationException();
 	}
 
@@ -486,4 +547,14 @@ public class ArtistLocalServiceClpInvoker {
 	private String[] _methodParameterTypes114;
 	private String _methodName115;
 	private String[] _methodParameterTypes115;
+	private String _methodName116;
+	private String[] _methodParameterTypes116;
+	private String _methodName117;
+	private String[] _methodParameterTypes117;
+	private String _methodName118;
+	private String[] _methodParameterTypes118;
+	private String _methodName119;
+	private String[] _methodParameterTypes119;
+	private String _methodName120;
+	private String[] _methodParameterTypes120;
 }
\ No newline at end of file
@@ -36,8 +36,11 @@ import com.liferay.portlet.social.service.persistence.SocialActivityPersistence;
 
 import org.liferay.jukebox.model.Artist;
 import org.liferay.jukebox.service.ArtistService;
+import org.liferay.jukebox.service.persistence.AlbumFinder;
 import org.liferay.jukebox.service.persistence.AlbumPersistence;
+import org.liferay.jukebox.service.persistence.ArtistFinder;
 import org.liferay.jukebox.service.persistence.ArtistPersistence;
+import org.liferay.jukebox.service.persistence.SongFinder;
 import org.liferay.jukebox.service.persistence.SongPersistence;
 
 import javax.sql.DataSource;
@@ -118,6 +121,24 @@ public abstract class ArtistServiceBaseImpl extends BaseServiceImpl
 		this.albumPersistence = albumPersistence;
 	}
 
+	/**
+	 * Returns the album finder.
+	 *
+	 * @return the album finder
+	 */
+	public AlbumFinder getAlbumFinder() {
+		return albumFinder;
+	}
+
+	/**
+	 * Sets the album finder.
+	 *
+	 * @param albumFinder the album finder
+	 */
+	public void setAlbumFinder(AlbumFinder albumFinder) {
+		this.albumFinder = albumFinder;
+	}
+
 	/**
 	 * Returns the artist local service.
 	 *
@@ -174,6 +195,24 @@ public abstract class ArtistServiceBaseImpl extends BaseServiceImpl
 		this.artistPersistence = artistPersistence;
 	}
 
+	/**
+	 * Returns the artist finder.
+	 *
+	 * @return the artist finder
+	 */
+	public ArtistFinder getArtistFinder() {
+		return artistFinder;
+	}
+
+	/**
+	 * Sets the artist finder.
+	 *
+	 * @param artistFinder the artist finder
+	 */
+	public void setArtistFinder(ArtistFinder artistFinder) {
+		this.artistFinder = artistFinder;
+	}
+
 	/**
 	 * Returns the song local service.
 	 *
@@ -230,6 +269,24 @@ public abstract class ArtistServiceBaseImpl extends BaseServiceImpl
 		this.songPersistence = songPersistence;
 	}
 
+	/**
+	 * Returns the song finder.
+	 *
+	 * @return the song finder
+	 */
+	public SongFinder getSongFinder() {
+		return songFinder;
+	}
+
+	/**
+	 * Sets the song finder.
+	 *
+	 * @param songFinder the song finder
+	 */
+	public void setSongFinder(SongFinder songFinder) {
+		this.songFinder = songFinder;
+	}
+
 	/**
 	 * Returns the counter local service.
 	 *
@@ -847,18 +904,24 @@ public abstract class ArtistServiceBaseImpl extends BaseServiceImpl
 	protected org.liferay.jukebox.service.AlbumService albumService;
 	@BeanReference(type = AlbumPersistence.class)
 	protected AlbumPersistence albumPersistence;
+	@BeanReference(type = AlbumFinder.class)
+	protected AlbumFinder albumFinder;
 	@BeanReference(type = org.liferay.jukebox.service.ArtistLocalService.class)
 	protected org.liferay.jukebox.service.ArtistLocalService artistLocalService;
 	@BeanReference(type = org.liferay.jukebox.service.ArtistService.class)
 	protected org.liferay.jukebox.service.ArtistService artistService;
 	@BeanReference(type = ArtistPersistence.class)
 	protected ArtistPersistence artistPersistence;
+	@BeanReference(type = ArtistFinder.class)
+	protected ArtistFinder artistFinder;
 	@BeanReference(type = org.liferay.jukebox.service.SongLocalService.class)
 	protected org.liferay.jukebox.service.SongLocalService songLocalService;
 	@BeanReference(type = org.liferay.jukebox.service.SongService.class)
 	protected org.liferay.jukebox.service.SongService songService;
 	@BeanReference(type = SongPersistence.class)
 	protected SongPersistence songPersistence;
+	@BeanReference(type = SongFinder.class)
+	protected SongFinder songFinder;
 	@BeanReference(type = com.liferay.counter.service.CounterLocalService.class)
 	protected com.liferay.counter.service.CounterLocalService counterLocalService;
 	@BeanReference(type = com.liferay.portal.service.ClassNameLocalService.class)
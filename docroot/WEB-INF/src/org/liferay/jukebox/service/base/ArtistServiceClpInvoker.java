@@ -72,6 +72,22 @@ public class ArtistServiceClpInvoker {
 				"java.io.InputStream",
 				"com.liferay.portal.service.ServiceContext"
 			};
+
+		_methodName90 = "getArtistsAfter";
+
+		_methodParameterTypes90 = new String[] {
+				"long", "java.lang.String", "long", "int"
+			};
+
+		_methodName91 = "getArtistSummaries";
+
+		_methodParameterTypes91 = new String[] { "long", "java.lang.String" };
+
+		_methodName92 = "getArtistSummariesAfter";
+
+		_methodParameterTypes92 = new String[] {
+				"long", "java.lang.String", "long", "int"
+			};
 	}
 
 	public Object invokeMethod(String name, String[] parameterTypes,
@@ -139,6 +155,31 @@ public class ArtistServiceClpInvoker {
 				(com.liferay.portal.service.ServiceContext)arguments[4]);
 		}
 
+		if (_methodName90.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes90, parameterTypes)) {
+			return ArtistServiceUtil.getArtistsAfter(
+				((Long)arguments[0]).longValue(),
+				(java.lang.String)arguments[1],
+				((Long)arguments[2]).longValue(),
+				((Integer)arguments[3]).intValue());
+		}
+
+		if (_methodName91.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes91, parameterTypes)) {
+			return ArtistServiceUtil.getArtistSummaries(
+				((Long)arguments[0]).longValue(),
+				(java.lang.String)arguments[1]);
+		}
+
+		if (_methodName92.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes92, parameterTypes)) {
+			return ArtistServiceUtil.getArtistSummariesAfter(
+				((Long)arguments[0]).longValue(),
+				(java.lang.String)arguments[1],
+				((Long)arguments[2]).longValue(),
+				((Integer)arguments[3]).intValue());
+		}
+
 		throw new UnsupportedOperationException();
 	}
 
@@ -162,4 +203,10 @@ public class ArtistServiceClpInvoker {
 	private String[] _methodParameterTypes88;
 	private String _methodName89;
 	private String[] _methodParameterTypes89;
+	private String _methodName90;
+	private String[] _methodParameterTypes90;
+	private String _methodName91;
+	private String[] _methodParameterTypes91;
+	private String _methodName92;
+	private String[] _methodParameterTypes92;
 }
\ No newline at end of file
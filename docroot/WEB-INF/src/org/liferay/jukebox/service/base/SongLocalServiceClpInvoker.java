@@ -231,6 +231,48 @@ public class SongLocalServiceClpInvoker {
 				"java.io.InputStream", "java.lang.String", "java.io.InputStream",
 				"com.liferay.portal.service.ServiceContext"
 			};
+
+		_methodName134 = "getSongMedia";
+
+		_methodParameterTypes134 = new String[] { "long", "long[][]" };
+
+		_methodName135 = "getSongsAfter";
+
+		_methodParameterTypes135 = new String[] {
+				"long", "int", "java.lang.String", "long", "int"
+			};
+
+		_methodName136 = "deleteSongsByAlbumId";
+
+		_methodParameterTypes136 = new String[] { "long" };
+
+		_methodName137 = "cleanUpDeletedSongs";
+
+		_methodParameterTypes137 = new String[] { "int" };
+
+		_methodName138 = "importSongs";
+
+		_methodParameterTypes138 = new String[] {
+				"long", "java.io.File",
+				"com.liferay.portal.service.ServiceContext"
+			};
+
+		_methodName139 = "importSongs";
+
+		_methodParameterTypes139 = new String[] {
+				"long", "java.io.File", "java.lang.String",
+				"com.liferay.portal.service.ServiceContext"
+			};
+
+		_methodName140 = "updateRenditions";
+
+		_methodParameterTypes140 = new String[] {
+				"long", "long", "java.util.Map"
+			};
+
+		_methodName141 = "updateRenditionStatus";
+
+		_methodParameterTypes141 = new String[] { "long", "int" };
 	}
 
 	public Object invokeMethod(String name, String[] parameterTypes,
@@ -502,6 +544,65 @@ public class SongLocalServiceClpInvoker {
 				(com.liferay.portal.service.ServiceContext)arguments[8]);
 		}
 
+		if (_methodName134.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes134, parameterTypes)) {
+			return SongLocalServiceUtil.getSongMedia(
+				((Long)arguments[0]).longValue(), (long[])arguments[1]);
+		}
+
+		if (_methodName135.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes135, parameterTypes)) {
+			return SongLocalServiceUtil.getSongsAfter(
+				((Long)arguments[0]).longValue(),
+				((Integer)arguments[1]).intValue(),
+				(java.lang.String)arguments[2],
+				((Long)arguments[3]).longValue(),
+				((Integer)arguments[4]).intValue());
+		}
+
+		if (_methodName136.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes136, parameterTypes)) {
+			SongLocalServiceUtil.deleteSongsByAlbumId(
+				((Long)arguments[0]).longValue());
+
+			return null;
+		}
+
+		if (_methodName137.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes137, parameterTypes)) {
+			return SongLocalServiceUtil.cleanUpDeletedSongs(
+				((Integer)arguments[0]).intValue());
+		}
+
+		if (_methodName138.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes138, parameterTypes)) {
+			return SongLocalServiceUtil.importSongs(
+				((Long)arguments[0]).longValue(), (java.io.File)arguments[1],
+				(com.liferay.portal.service.ServiceContext)arguments[2]);
+		}
+
+		if (_methodName139.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes139, parameterTypes)) {
+			return SongLocalServiceUtil.importSongs(
+				((Long)arguments[0]).longValue(),
+				(java.io.File)arguments[1], (java.lang.String)arguments[2],
+				(com.liferay.portal.service.ServiceContext)arguments[3]);
+		}
+
+		if (_methodName140.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes140, parameterTypes)) {
+			return SongLocalServiceUtil.updateRenditions(
+				((Long)arguments[0]).longValue(),
+				((Long)arguments[1]).longValue(), (java.util.Map)arguments[2]);
+		}
+
+		if (_methodName141.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes141, parameterTypes)) {
+			return SongLocalServiceUtil.updateRenditionStatus(
+				((Long)arguments[0]).longValue(),
+				((Integer)arguments[1]).intValue());
+		}
+
 		throw new UnsupportedOperationException();
 	}
 
@@ -591,4 +692,20 @@ public class SongLocalServiceClpInvoker {
 	private String[] _methodParameterTypes132;
 	private String _methodName133;
 	private String[] _methodParameterTypes133;
+	private String _methodName134;
+	private String[] _methodParameterTypes134;
+	private String _methodName135;
+	private String[] _methodParameterTypes135;
+	private String _methodName136;
+	private String[] _methodParameterTypes136;
+	private String _methodName137;
+	private String[] _methodParameterTypes137;
+	private String _methodName138;
+	private String[] _methodParameterTypes138;
+	private String _methodName139;
+	private String[] _methodParameterTypes139;
+	private String _methodName140;
+	private String[] _methodParameterTypes140;
+	private String _methodName141;
+	private String[] _methodParameterTypes141;
 }
\ No newline at end of file
@@ -14,37 +14,42 @@
 
 package org.liferay.jukebox.service.impl;
 
+import com.liferay.portal.kernel.dao.orm.Session;
 import com.liferay.portal.kernel.exception.PortalException;
-import com.liferay.portal.kernel.log.Log;
-import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.search.Indexable;
 import com.liferay.portal.kernel.search.IndexableType;
-import com.liferay.portal.kernel.search.Indexer;
-import com.liferay.portal.kernel.search.IndexerRegistryUtil;
 import com.liferay.portal.kernel.util.ContentTypes;
-import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.kernel.workflow.WorkflowConstants;
-import com.liferay.portal.model.Repository;
 import com.liferay.portal.model.User;
-import com.liferay.portal.portletfilerepository.PortletFileRepositoryUtil;
 import com.liferay.portal.service.ServiceContext;
 import com.liferay.portlet.asset.model.AssetEntry;
 import com.liferay.portlet.asset.model.AssetLinkConstants;
-import com.liferay.portlet.documentlibrary.model.DLFolderConstants;
 import com.liferay.portlet.trash.model.TrashEntry;
 import com.liferay.portlet.trash.model.TrashVersion;
 
 import java.io.InputStream;
+import java.io.Serializable;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.liferay.jukebox.AlbumNameException;
 import org.liferay.jukebox.model.Album;
+import org.liferay.jukebox.model.AlbumSummary;
 import org.liferay.jukebox.model.Song;
 import org.liferay.jukebox.service.base.AlbumLocalServiceBaseImpl;
-import org.liferay.jukebox.util.Constants;
+import org.liferay.jukebox.util.CoverImageUtil;
+import org.liferay.jukebox.util.EntryCountUtil;
+import org.liferay.jukebox.util.IndexingQueueUtil;
+import org.liferay.jukebox.util.NameIndexUtil;
+import org.liferay.jukebox.util.SongReindexUtil;
+import org.liferay.jukebox.util.SummaryCacheUtil;
 
 /**
  * The implementation of the album local service.
@@ -96,12 +101,16 @@ public class AlbumLocalServiceImpl extends AlbumLocalServiceBaseImpl {
 
 		albumPersistence.update(album);
 
+		EntryCountUtil.increment(Album.class.getName(), "groupId", groupId, 1);
+
+		updateNameIndex(album);
+
+		SummaryCacheUtil.remove(Album.class.getName(), album.getGroupId());
+
 		if (inputStream != null) {
-			PortletFileRepositoryUtil.addPortletFileEntry(
+			CoverImageUtil.addCoverImages(
 				groupId, userId, Album.class.getName(), album.getAlbumId(),
-				Constants.JUKEBOX_PORTLET_REPOSITORY,
-				DLFolderConstants.DEFAULT_PARENT_FOLDER_ID, inputStream,
-				String.valueOf(album.getAlbumId()), StringPool.BLANK, true);
+				inputStream);
 		}
 
 		// Resources
@@ -162,19 +171,16 @@ public class AlbumLocalServiceImpl extends AlbumLocalServiceBaseImpl {
 	public Album deleteAlbum(long albumId) throws PortalException {
 		Album album = albumPersistence.findByPrimaryKey(albumId);
 
-		List<Song> songs = songLocalService.getSongsByAlbumId(albumId);
+		songLocalService.deleteSongsByAlbumId(albumId);
 
-		for (Song song : songs) {
-			songLocalService.deleteSong(song.getSongId());
-		}
+		CoverImageUtil.deleteCoverImages(album.getGroupId(), albumId);
 
-		try {
-			PortletFileRepositoryUtil.deletePortletFileEntry(
-				album.getGroupId(), DLFolderConstants.DEFAULT_PARENT_FOLDER_ID,
-				String.valueOf(albumId));
-		}
-		catch (Exception e) {
-		}
+		NameIndexUtil.remove(Album.class.getName(), album.getGroupId());
+
+		SummaryCacheUtil.remove(Album.class.getName(), album.getGroupId());
+
+		EntryCountUtil.increment(
+			Album.class.getName(), "groupId", album.getGroupId(), -1);
 
 		return albumPersistence.remove(albumId);
 	}
@@ -195,12 +201,89 @@ public class AlbumLocalServiceImpl extends AlbumLocalServiceBaseImpl {
 		return albumPersistence.findByGroupId(groupId, start, end);
 	}
 
+	/**
+	 * Returns the albums, in the same order as the album IDs. Albums that do
+	 * not exist are skipped.
+	 */
+	public List<Album> getAlbums(long[] albumIds) {
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		for (long albumId : albumIds) {
+			primaryKeys.add(albumId);
+		}
+
+		Map<Serializable, Album> albumsMap =
+			albumPersistence.fetchByPrimaryKeys(primaryKeys);
+
+		List<Album> albums = new ArrayList<Album>(albumIds.length);
+
+		for (long albumId : albumIds) {
+			Album album = albumsMap.get(albumId);
+
+			if (album != null) {
+				albums.add(album);
+			}
+		}
+
+		return albums;
+	}
+
+	public List<Album> getAlbumsAfter(
+		long groupId, int status, String name, long albumId, int size) {
+
+		return albumFinder.findByG_S_After(
+			groupId, status, name, albumId, size);
+	}
+
 	public List<Album> getAlbumsByArtistId(long artistId) {
 		return albumPersistence.findByArtistId(artistId);
 	}
 
 	public int getAlbumsCount(long groupId) {
-		return albumPersistence.countByGroupId(groupId);
+		Integer count = EntryCountUtil.get(
+			Album.class.getName(), "groupId", groupId);
+
+		if (count == null) {
+			count = albumPersistence.countByGroupId(groupId);
+
+			EntryCountUtil.put(
+				Album.class.getName(), "groupId", groupId, count);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Returns the summaries of all the albums of the group. They are cached
+	 * until an album of the group is added, updated or deleted, or one of its
+	 * artists is renamed.
+	 */
+	public List<AlbumSummary> getAlbumSummaries(long groupId) {
+		List<AlbumSummary> albumSummaries = SummaryCacheUtil.get(
+			Album.class.getName(), groupId);
+
+		if (albumSummaries == null) {
+			albumSummaries = SummaryCacheUtil.put(
+				Album.class.getName(), groupId,
+				albumFinder.findSummariesByGroupId(groupId));
+		}
+
+		return albumSummaries;
+	}
+
+	/**
+	 * Returns the summaries of the albums, with the names of their artists,
+	 * in the same order as the album IDs.
+	 */
+	public List<AlbumSummary> getAlbumSummaries(long[] albumIds) {
+		return albumFinder.findSummariesByAlbumIds(albumIds);
+	}
+
+	public List<AlbumSummary> getAlbumSummariesAfter(
+		long groupId, int status, String name, long albumId, int size) {
+
+		return albumFinder.findSummariesByG_S_After(
+			groupId, status, name, albumId, size);
 	}
 
 	@Indexable(type = IndexableType.REINDEX)
@@ -227,6 +310,10 @@ public class AlbumLocalServiceImpl extends AlbumLocalServiceBaseImpl {
 
 		albumPersistence.update(album);
 
+		updateNameIndex(album);
+
+		SummaryCacheUtil.remove(Album.class.getName(), album.getGroupId());
+
 		// Asset
 
 		assetEntryLocalService.updateVisible(
@@ -243,7 +330,7 @@ public class AlbumLocalServiceImpl extends AlbumLocalServiceBaseImpl {
 		List<Song> songs = songLocalService.getSongsByAlbumId(
 			album.getAlbumId());
 
-		moveDependentsToTrash(songs, trashEntry.getEntryId());
+		moveDependentsToTrash(album, songs, trashEntry.getEntryId());
 
 		return album;
 	}
@@ -273,6 +360,10 @@ public class AlbumLocalServiceImpl extends AlbumLocalServiceBaseImpl {
 
 		albumPersistence.update(album);
 
+		updateNameIndex(album);
+
+		SummaryCacheUtil.remove(Album.class.getName(), album.getGroupId());
+
 		assetEntryLocalService.updateVisible(
 			Album.class.getName(), album.getAlbumId(), true);
 
@@ -282,7 +373,7 @@ public class AlbumLocalServiceImpl extends AlbumLocalServiceBaseImpl {
 			album.getGroupId(), album.getAlbumId(),
 			WorkflowConstants.STATUS_IN_TRASH);
 
-		restoreDependentsFromTrash(songs, trashEntry.getEntryId());
+		restoreDependentsFromTrash(album, songs, trashEntry.getEntryId());
 
 		// Trash
 
@@ -305,6 +396,9 @@ public class AlbumLocalServiceImpl extends AlbumLocalServiceBaseImpl {
 
 		Album album = albumPersistence.findByPrimaryKey(albumId);
 
+		long oldArtistId = album.getArtistId();
+		String oldName = album.getName();
+
 		album.setModifiedDate(serviceContext.getModifiedDate(null));
 		album.setArtistId(artistId);
 		album.setName(name);
@@ -313,31 +407,16 @@ public class AlbumLocalServiceImpl extends AlbumLocalServiceBaseImpl {
 
 		albumPersistence.update(album);
 
+		updateNameIndex(album);
+
+		SummaryCacheUtil.remove(Album.class.getName(), album.getGroupId());
+
 		if (inputStream != null) {
-			Repository repository =
-				PortletFileRepositoryUtil.fetchPortletRepository(
-					serviceContext.getScopeGroupId(),
-					Constants.JUKEBOX_PORTLET_REPOSITORY);
-
-			if (repository != null) {
-				try {
-					PortletFileRepositoryUtil.deletePortletFileEntry(
-						repository.getRepositoryId(),
-						DLFolderConstants.DEFAULT_PARENT_FOLDER_ID,
-						String.valueOf(album.getAlbumId()));
-				}
-				catch (Exception e) {
-					if (_log.isDebugEnabled()) {
-						_log.debug("Cannot delete album cover");
-					}
-				}
-			}
+			CoverImageUtil.deleteCoverImages(album.getGroupId(), albumId);
 
-			PortletFileRepositoryUtil.addPortletFileEntry(
-				serviceContext.getScopeGroupId(), userId, Album.class.getName(),
-				album.getAlbumId(), Constants.JUKEBOX_PORTLET_REPOSITORY,
-				DLFolderConstants.DEFAULT_PARENT_FOLDER_ID, inputStream,
-				String.valueOf(album.getAlbumId()), StringPool.BLANK, true);
+			CoverImageUtil.addCoverImages(
+				album.getGroupId(), userId, Album.class.getName(), albumId,
+				inputStream);
 		}
 
 		// Asset
@@ -347,6 +426,12 @@ public class AlbumLocalServiceImpl extends AlbumLocalServiceBaseImpl {
 			serviceContext.getAssetTagNames(),
 			serviceContext.getAssetLinkEntryIds());
 
+		// Songs
+
+		if ((artistId != oldArtistId) || !name.equals(oldName)) {
+			SongReindexUtil.reindexAlbumSongs(album.getCompanyId(), albumId);
+		}
+
 		return album;
 	}
 
@@ -367,25 +452,45 @@ public class AlbumLocalServiceImpl extends AlbumLocalServiceBaseImpl {
 			AssetLinkConstants.TYPE_RELATED);
 	}
 
-	protected void moveDependentsToTrash(List<Song> songs, long trashEntryId)
-		throws PortalException {
+	/**
+	 * Evicts the songs from the session and the caches after their rows were
+	 * updated with a statement, so that the songs are loaded again with the
+	 * new status if they are fetched later in the same transaction. Pending
+	 * changes are flushed before the statement by the caller.
+	 */
+	protected void evictSongs(List<Song> songs) {
+		Session session = songPersistence.getCurrentSession();
 
 		for (Song song : songs) {
+			session.evict(song);
+		}
 
-			// Entry
+		songPersistence.clearCache(songs);
+	}
 
-			if (song.isInTrash()) {
-				continue;
-			}
+	protected void moveDependentsToTrash(
+			Album album, List<Song> songs, long trashEntryId)
+		throws PortalException {
 
-			int oldStatus = song.getStatus();
+		// Entries
 
-			song.setStatus(WorkflowConstants.STATUS_IN_TRASH);
+		songPersistence.flush();
 
-			songPersistence.update(song);
+		songFinder.moveToTrashByAlbumId(album.getAlbumId());
+
+		evictSongs(songs);
+
+		NameIndexUtil.remove(Song.class.getName(), album.getGroupId());
+
+		for (Song song : songs) {
+			if (song.isInTrash()) {
+				continue;
+			}
 
 			// Trash
 
+			int oldStatus = song.getStatus();
+
 			int status = oldStatus;
 
 			if (oldStatus == WorkflowConstants.STATUS_PENDING) {
@@ -405,40 +510,66 @@ public class AlbumLocalServiceImpl extends AlbumLocalServiceBaseImpl {
 
 			// Indexer
 
-			Indexer indexer = IndexerRegistryUtil.nullSafeGetIndexer(
-				Song.class);
-
-			indexer.reindex(song);
+			IndexingQueueUtil.reindex(Song.class.getName(), song.getSongId());
 		}
 	}
 
 	protected void restoreDependentsFromTrash(
-			List<Song> songs, long trashEntryId)
+			Album album, List<Song> songs, long trashEntryId)
 		throws PortalException {
 
-		for (Song song : songs) {
+		// Entries
 
-			// Song
+		songPersistence.flush();
 
-			TrashEntry trashEntry = trashEntryLocalService.fetchEntry(
-				Song.class.getName(), song.getSongId());
+		songFinder.restoreFromTrashByAlbumId(album.getAlbumId());
 
-			if (trashEntry != null) {
+		evictSongs(songs);
+
+		NameIndexUtil.remove(Song.class.getName(), album.getGroupId());
+
+		Set<Long> trashedSongIds = new HashSet<Long>();
+
+		List<Song> trashedSongs = songPersistence.findByG_A_S(
+			album.getGroupId(), album.getAlbumId(),
+			WorkflowConstants.STATUS_IN_TRASH);
+
+		for (Song trashedSong : trashedSongs) {
+			trashedSongIds.add(trashedSong.getSongId());
+		}
+
+		Map<Long, TrashVersion> trashVersions =
+			new HashMap<Long, TrashVersion>();
+
+		for (TrashVersion trashVersion :
+				trashVersionLocalService.getVersions(
+					trashEntryId, Song.class.getName())) {
+
+			trashVersions.put(trashVersion.getClassPK(), trashVersion);
+		}
+
+		for (Song song : songs) {
+
+			// Songs moved to the trash on their own stay in the trash
+
+			if (trashedSongIds.contains(song.getSongId())) {
 				continue;
 			}
 
-			TrashVersion trashVersion = trashVersionLocalService.fetchVersion(
-				trashEntryId, Song.class.getName(), song.getSongId());
+			int status = WorkflowConstants.STATUS_APPROVED;
 
-			int oldStatus = WorkflowConstants.STATUS_APPROVED;
+			TrashVersion trashVersion = trashVersions.get(song.getSongId());
 
 			if (trashVersion != null) {
-				oldStatus = trashVersion.getStatus();
-			}
+				status = trashVersion.getStatus();
 
-			song.setStatus(oldStatus);
+				Song restoredSong = songPersistence.findByPrimaryKey(
+					song.getSongId());
 
-			songPersistence.update(song);
+				restoredSong.setStatus(status);
+
+				songPersistence.update(restoredSong);
+			}
 
 			// Trash
 
@@ -448,27 +579,25 @@ public class AlbumLocalServiceImpl extends AlbumLocalServiceBaseImpl {
 
 			// Asset
 
-			if (oldStatus == WorkflowConstants.STATUS_APPROVED) {
+			if (status == WorkflowConstants.STATUS_APPROVED) {
 				assetEntryLocalService.updateVisible(
 					Song.class.getName(), song.getSongId(), true);
 			}
 
 			// Indexer
 
-			Indexer indexer = IndexerRegistryUtil.nullSafeGetIndexer(
-				Song.class);
-
-			indexer.reindex(song);
+			IndexingQueueUtil.reindex(Song.class.getName(), song.getSongId());
 		}
 	}
 
+	protected void updateNameIndex(Album album) {
+		NameIndexUtil.remove(Album.class.getName(), album.getGroupId());
+	}
+
 	protected void validate(String name) throws PortalException {
 		if (Validator.isNull(name)) {
 			throw new AlbumNameException();
 		}
 	}
 
-	private static Log _log = LogFactoryUtil.getLog(
-		AlbumLocalServiceImpl.class);
-
 }
\ No newline at end of file
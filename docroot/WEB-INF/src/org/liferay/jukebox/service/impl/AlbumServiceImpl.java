@@ -17,16 +17,27 @@ package org.liferay.jukebox.service.impl;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.workflow.WorkflowConstants;
 import com.liferay.portal.security.permission.ActionKeys;
+import com.liferay.portal.security.permission.PermissionChecker;
+import com.liferay.portal.security.permission.PermissionThreadLocal;
 import com.liferay.portal.service.ServiceContext;
 
 import java.io.InputStream;
+import java.io.Serializable;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.liferay.jukebox.model.Album;
+import org.liferay.jukebox.model.AlbumSummary;
 import org.liferay.jukebox.service.base.AlbumServiceBaseImpl;
 import org.liferay.jukebox.service.permission.AlbumPermission;
 import org.liferay.jukebox.service.permission.JukeBoxPermission;
+import org.liferay.jukebox.util.Constants;
+import org.liferay.jukebox.util.NameIndex;
+import org.liferay.jukebox.util.NameIndexUtil;
 
 /**
  * The implementation of the album remote service.
@@ -79,8 +90,25 @@ public class AlbumServiceImpl extends AlbumServiceBaseImpl {
 	}
 
 	public List<Album> getAlbums(long groupId, String keywords) {
-		return albumPersistence.filterFindByG_LikeN_S(
-			groupId, keywords, WorkflowConstants.STATUS_APPROVED);
+		String nameKeywords = NameIndexUtil.getNameKeywords(keywords);
+
+		if (nameKeywords == null) {
+			return albumPersistence.filterFindByG_LikeN_S(
+				groupId, keywords, WorkflowConstants.STATUS_APPROVED);
+		}
+
+		NameIndex nameIndex = getNameIndex(groupId);
+
+		return filterAlbums(nameIndex.search(nameKeywords));
+	}
+
+	public List<Album> getAlbumsAfter(
+		long groupId, String name, long albumId, int size) {
+
+		size = Math.max(1, Math.min(size, Constants.PAGE_SIZE_MAX));
+
+		return albumFinder.filterFindByG_S_After(
+			groupId, WorkflowConstants.STATUS_APPROVED, name, albumId, size);
 	}
 
 	public List<Album> getAlbumsByArtistId(long groupId, long artistId) {
@@ -103,6 +131,35 @@ public class AlbumServiceImpl extends AlbumServiceBaseImpl {
 			groupId, artistId, WorkflowConstants.STATUS_APPROVED);
 	}
 
+	public List<AlbumSummary> getAlbumSummaries(long groupId, String keywords) {
+		String nameKeywords = NameIndexUtil.getNameKeywords(keywords);
+
+		if (nameKeywords == null) {
+			return albumFinder.filterFindSummariesByG_LikeN_S(
+				groupId, keywords, WorkflowConstants.STATUS_APPROVED);
+		}
+
+		NameIndex nameIndex = getNameIndex(groupId);
+
+		return filterAlbumSummaries(nameIndex.search(nameKeywords));
+	}
+
+	public List<AlbumSummary> getAlbumSummariesAfter(
+		long groupId, String name, long albumId, int size) {
+
+		size = Math.max(1, Math.min(size, Constants.PAGE_SIZE_MAX));
+
+		return albumFinder.filterFindSummariesByG_S_After(
+			groupId, WorkflowConstants.STATUS_APPROVED, name, albumId, size);
+	}
+
+	public List<AlbumSummary> getAlbumSummariesByArtistId(
+		long groupId, long artistId) {
+
+		return albumFinder.filterFindSummariesByG_A_S(
+			groupId, artistId, WorkflowConstants.STATUS_APPROVED);
+	}
+
 	@Override
 	public Album moveAlbumToTrash(long albumId) throws PortalException {
 		Album album = albumPersistence.findByPrimaryKey(albumId);
@@ -133,4 +190,85 @@ public class AlbumServiceImpl extends AlbumServiceBaseImpl {
 			serviceContext);
 	}
 
+	protected List<Album> filterAlbums(long[] albumIds) {
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		for (long albumId : albumIds) {
+			primaryKeys.add(albumId);
+		}
+
+		Map<Serializable, Album> albumsMap =
+			albumPersistence.fetchByPrimaryKeys(primaryKeys);
+
+		PermissionChecker permissionChecker =
+			PermissionThreadLocal.getPermissionChecker();
+
+		List<Album> albums = new ArrayList<Album>(albumIds.length);
+
+		for (long albumId : albumIds) {
+			Album album = albumsMap.get(albumId);
+
+			if ((album != null) && album.isApproved() &&
+				permissionChecker.hasPermission(
+					album.getGroupId(), Album.class.getName(), albumId,
+					ActionKeys.VIEW)) {
+
+				albums.add(album);
+			}
+		}
+
+		return albums;
+	}
+
+	protected List<AlbumSummary> filterAlbumSummaries(long[] albumIds) {
+		List<AlbumSummary> albumSummaries =
+			albumLocalService.getAlbumSummaries(albumIds);
+
+		PermissionChecker permissionChecker =
+			PermissionThreadLocal.getPermissionChecker();
+
+		List<AlbumSummary> visibleAlbumSummaries =
+			new ArrayList<AlbumSummary>(albumSummaries.size());
+
+		for (AlbumSummary albumSummary : albumSummaries) {
+			if ((albumSummary.getStatus() ==
+					WorkflowConstants.STATUS_APPROVED) &&
+				permissionChecker.hasPermission(
+					albumSummary.getGroupId(), Album.class.getName(),
+					albumSummary.getAlbumId(), ActionKeys.VIEW)) {
+
+				visibleAlbumSummaries.add(albumSummary);
+			}
+		}
+
+		return visibleAlbumSummaries;
+	}
+
+	protected NameIndex getNameIndex(long groupId) {
+		NameIndex nameIndex = NameIndexUtil.get(Album.class.getName(), groupId);
+
+		if (nameIndex != null) {
+			return nameIndex;
+		}
+
+		String version = NameIndexUtil.getVersion(
+			Album.class.getName(), groupId);
+
+		nameIndex = new NameIndex();
+
+		List<AlbumSummary> albumSummaries =
+			albumLocalService.getAlbumSummaries(groupId);
+
+		for (AlbumSummary albumSummary : albumSummaries) {
+			if (albumSummary.getStatus() == WorkflowConstants.STATUS_APPROVED) {
+				nameIndex.add(
+					albumSummary.getAlbumId(), albumSummary.getName());
+			}
+		}
+
+		NameIndexUtil.put(Album.class.getName(), groupId, version, nameIndex);
+
+		return nameIndex;
+	}
+
 }
\ No newline at end of file
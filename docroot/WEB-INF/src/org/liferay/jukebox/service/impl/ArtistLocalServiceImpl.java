@@ -15,32 +15,36 @@
 package org.liferay.jukebox.service.impl;
 
 import com.liferay.portal.kernel.exception.PortalException;
-import com.liferay.portal.kernel.log.Log;
-import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.search.Indexable;
 import com.liferay.portal.kernel.search.IndexableType;
 import com.liferay.portal.kernel.util.ContentTypes;
-import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.kernel.workflow.WorkflowConstants;
-import com.liferay.portal.model.Repository;
 import com.liferay.portal.model.User;
-import com.liferay.portal.portletfilerepository.PortletFileRepositoryUtil;
 import com.liferay.portal.service.ServiceContext;
 import com.liferay.portlet.asset.model.AssetEntry;
 import com.liferay.portlet.asset.model.AssetLinkConstants;
-import com.liferay.portlet.documentlibrary.model.DLFolderConstants;
 
 import java.io.InputStream;
+import java.io.Serializable;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.liferay.jukebox.ArtistNameException;
 import org.liferay.jukebox.model.Album;
 import org.liferay.jukebox.model.Artist;
+import org.liferay.jukebox.model.ArtistSummary;
 import org.liferay.jukebox.service.base.ArtistLocalServiceBaseImpl;
-import org.liferay.jukebox.util.Constants;
+import org.liferay.jukebox.util.CoverImageUtil;
+import org.liferay.jukebox.util.EntryCountUtil;
+import org.liferay.jukebox.util.NameIndexUtil;
+import org.liferay.jukebox.util.SongReindexUtil;
+import org.liferay.jukebox.util.SummaryCacheUtil;
 
 /**
  * The implementation of the artist local service.
@@ -91,12 +95,16 @@ public class ArtistLocalServiceImpl extends ArtistLocalServiceBaseImpl {
 
 		artistPersistence.update(artist);
 
+		EntryCountUtil.increment(Artist.class.getName(), "groupId", groupId, 1);
+
+		updateNameIndex(artist);
+
+		SummaryCacheUtil.remove(Artist.class.getName(), groupId);
+
 		if (inputStream != null) {
-			PortletFileRepositoryUtil.addPortletFileEntry(
+			CoverImageUtil.addCoverImages(
 				groupId, userId, Artist.class.getName(), artist.getArtistId(),
-				Constants.JUKEBOX_PORTLET_REPOSITORY,
-				DLFolderConstants.DEFAULT_PARENT_FOLDER_ID, inputStream,
-				String.valueOf(artist.getArtistId()), StringPool.BLANK, true);
+				inputStream);
 		}
 
 		// Resources
@@ -163,13 +171,14 @@ public class ArtistLocalServiceImpl extends ArtistLocalServiceBaseImpl {
 			albumLocalService.deleteAlbum(album.getAlbumId());
 		}
 
-		try {
-			PortletFileRepositoryUtil.deletePortletFileEntry(
-				artist.getGroupId(), DLFolderConstants.DEFAULT_PARENT_FOLDER_ID,
-				String.valueOf(artistId));
-		}
-		catch (Exception e) {
-		}
+		CoverImageUtil.deleteCoverImages(artist.getGroupId(), artistId);
+
+		NameIndexUtil.remove(Artist.class.getName(), artist.getGroupId());
+
+		EntryCountUtil.increment(
+			Artist.class.getName(), "groupId", artist.getGroupId(), -1);
+
+		SummaryCacheUtil.remove(Artist.class.getName(), artist.getGroupId());
 
 		return artistPersistence.remove(artistId);
 	}
@@ -190,8 +199,84 @@ public class ArtistLocalServiceImpl extends ArtistLocalServiceBaseImpl {
 		return artistPersistence.findByGroupId(groupId, start, end);
 	}
 
+	/**
+	 * Returns the artists, in the same order as the artist IDs. Artists that
+	 * do not exist are skipped.
+	 */
+	public List<Artist> getArtists(long[] artistIds) {
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		for (long artistId : artistIds) {
+			primaryKeys.add(artistId);
+		}
+
+		Map<Serializable, Artist> artistsMap =
+			artistPersistence.fetchByPrimaryKeys(primaryKeys);
+
+		List<Artist> artists = new ArrayList<Artist>(artistIds.length);
+
+		for (long artistId : artistIds) {
+			Artist artist = artistsMap.get(artistId);
+
+			if (artist != null) {
+				artists.add(artist);
+			}
+		}
+
+		return artists;
+	}
+
+	public List<Artist> getArtistsAfter(
+		long groupId, int status, String name, long artistId, int size) {
+
+		return artistFinder.findByG_S_After(
+			groupId, status, name, artistId, size);
+	}
+
 	public int getArtistsCount(long groupId) {
-		return artistPersistence.countByGroupId(groupId);
+		Integer count = EntryCountUtil.get(
+			Artist.class.getName(), "groupId", groupId);
+
+		if (count == null) {
+			count = artistPersistence.countByGroupId(groupId);
+
+			EntryCountUtil.put(
+				Artist.class.getName(), "groupId", groupId, count);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Returns the summaries of all the artists of the group. They are cached
+	 * until an artist of the group is added, updated or deleted.
+	 */
+	public List<ArtistSummary> getArtistSummaries(long groupId) {
+		List<ArtistSummary> artistSummaries = SummaryCacheUtil.get(
+			Artist.class.getName(), groupId);
+
+		if (artistSummaries == null) {
+			artistSummaries = SummaryCacheUtil.put(
+				Artist.class.getName(), groupId,
+				artistFinder.findSummariesByGroupId(groupId));
+		}
+
+		return artistSummaries;
+	}
+
+	/**
+	 * Returns the summaries of the artists, in the same order as the artist
+	 * IDs.
+	 */
+	public List<ArtistSummary> getArtistSummaries(long[] artistIds) {
+		return artistFinder.findSummariesByArtistIds(artistIds);
+	}
+
+	public List<ArtistSummary> getArtistSummariesAfter(
+		long groupId, int status, String name, long artistId, int size) {
+
+		return artistFinder.findSummariesByG_S_After(
+			groupId, status, name, artistId, size);
 	}
 
 	@Indexable(type = IndexableType.REINDEX)
@@ -208,6 +293,8 @@ public class ArtistLocalServiceImpl extends ArtistLocalServiceBaseImpl {
 
 		Artist artist = artistPersistence.findByPrimaryKey(artistId);
 
+		String oldName = artist.getName();
+
 		artist.setModifiedDate(serviceContext.getModifiedDate(null));
 		artist.setName(name);
 		artist.setBio(bio);
@@ -215,32 +302,20 @@ public class ArtistLocalServiceImpl extends ArtistLocalServiceBaseImpl {
 
 		artistPersistence.update(artist);
 
+		updateNameIndex(artist);
+
+		SummaryCacheUtil.remove(Artist.class.getName(), artist.getGroupId());
+
+		if (!name.equals(oldName)) {
+			SummaryCacheUtil.remove(Album.class.getName(), artist.getGroupId());
+		}
+
 		if (inputStream != null) {
-			Repository repository =
-				PortletFileRepositoryUtil.fetchPortletRepository(
-					serviceContext.getScopeGroupId(),
-					Constants.JUKEBOX_PORTLET_REPOSITORY);
-
-			if (repository != null) {
-				try {
-					PortletFileRepositoryUtil.deletePortletFileEntry(
-						repository.getRepositoryId(),
-						DLFolderConstants.DEFAULT_PARENT_FOLDER_ID,
-						String.valueOf(artist.getArtistId()));
-				}
-				catch (Exception e) {
-					if (_log.isDebugEnabled()) {
-						_log.debug("Cannot delete artist image");
-					}
-				}
-			}
+			CoverImageUtil.deleteCoverImages(artist.getGroupId(), artistId);
 
-			PortletFileRepositoryUtil.addPortletFileEntry(
-				serviceContext.getScopeGroupId(), userId,
-				Artist.class.getName(), artist.getArtistId(),
-				Constants.JUKEBOX_PORTLET_REPOSITORY,
-				DLFolderConstants.DEFAULT_PARENT_FOLDER_ID, inputStream,
-				String.valueOf(artist.getArtistId()), StringPool.BLANK, true);
+			CoverImageUtil.addCoverImages(
+				artist.getGroupId(), userId, Artist.class.getName(), artistId,
+				inputStream);
 		}
 
 		// Asset
@@ -250,6 +325,12 @@ public class ArtistLocalServiceImpl extends ArtistLocalServiceBaseImpl {
 			serviceContext.getAssetTagNames(),
 			serviceContext.getAssetLinkEntryIds());
 
+		// Songs
+
+		if (!name.equals(oldName)) {
+			SongReindexUtil.reindexArtistSongs(artist.getCompanyId(), artistId);
+		}
+
 		return artist;
 	}
 
@@ -270,13 +351,14 @@ public class ArtistLocalServiceImpl extends ArtistLocalServiceBaseImpl {
 			AssetLinkConstants.TYPE_RELATED);
 	}
 
+	protected void updateNameIndex(Artist artist) {
+		NameIndexUtil.remove(Artist.class.getName(), artist.getGroupId());
+	}
+
 	protected void validate(String name) throws PortalException {
 		if (Validator.isNull(name)) {
 			throw new ArtistNameException();
 		}
 	}
 
-	private static Log _log = LogFactoryUtil.getLog(
-		ArtistLocalServiceImpl.class);
-
 }
\ No newline at end of file
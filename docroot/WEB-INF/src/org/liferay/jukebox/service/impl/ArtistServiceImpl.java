@@ -17,16 +17,27 @@ package org.liferay.jukebox.service.impl;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.workflow.WorkflowConstants;
 import com.liferay.portal.security.permission.ActionKeys;
+import com.liferay.portal.security.permission.PermissionChecker;
+import com.liferay.portal.security.permission.PermissionThreadLocal;
 import com.liferay.portal.service.ServiceContext;
 
 import java.io.InputStream;
+import java.io.Serializable;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.liferay.jukebox.model.Artist;
+import org.liferay.jukebox.model.ArtistSummary;
 import org.liferay.jukebox.service.base.ArtistServiceBaseImpl;
 import org.liferay.jukebox.service.permission.ArtistPermission;
 import org.liferay.jukebox.service.permission.JukeBoxPermission;
+import org.liferay.jukebox.util.Constants;
+import org.liferay.jukebox.util.NameIndex;
+import org.liferay.jukebox.util.NameIndexUtil;
 
 /**
  * The implementation of the artist remote service.
@@ -79,8 +90,25 @@ public class ArtistServiceImpl extends ArtistServiceBaseImpl {
 	}
 
 	public List<Artist> getArtists(long groupId, String keywords) {
-		return artistPersistence.filterFindByG_LikeN_S(
-			groupId, keywords, WorkflowConstants.STATUS_APPROVED);
+		String nameKeywords = NameIndexUtil.getNameKeywords(keywords);
+
+		if (nameKeywords == null) {
+			return artistPersistence.filterFindByG_LikeN_S(
+				groupId, keywords, WorkflowConstants.STATUS_APPROVED);
+		}
+
+		NameIndex nameIndex = getNameIndex(groupId);
+
+		return filterArtists(nameIndex.search(nameKeywords));
+	}
+
+	public List<Artist> getArtistsAfter(
+		long groupId, String name, long artistId, int size) {
+
+		size = Math.max(1, Math.min(size, Constants.PAGE_SIZE_MAX));
+
+		return artistFinder.filterFindByG_S_After(
+			groupId, WorkflowConstants.STATUS_APPROVED, name, artistId, size);
 	}
 
 	public int getArtistsCount(long groupId) {
@@ -93,6 +121,30 @@ public class ArtistServiceImpl extends ArtistServiceBaseImpl {
 			groupId, keywords, WorkflowConstants.STATUS_APPROVED);
 	}
 
+	public List<ArtistSummary> getArtistSummaries(
+		long groupId, String keywords) {
+
+		String nameKeywords = NameIndexUtil.getNameKeywords(keywords);
+
+		if (nameKeywords == null) {
+			return artistFinder.filterFindSummariesByG_LikeN_S(
+				groupId, keywords, WorkflowConstants.STATUS_APPROVED);
+		}
+
+		NameIndex nameIndex = getNameIndex(groupId);
+
+		return filterArtistSummaries(nameIndex.search(nameKeywords));
+	}
+
+	public List<ArtistSummary> getArtistSummariesAfter(
+		long groupId, String name, long artistId, int size) {
+
+		size = Math.max(1, Math.min(size, Constants.PAGE_SIZE_MAX));
+
+		return artistFinder.filterFindSummariesByG_S_After(
+			groupId, WorkflowConstants.STATUS_APPROVED, name, artistId, size);
+	}
+
 	public Artist updateArtist(
 			long artistId, String name, String bio, InputStream inputStream,
 			ServiceContext serviceContext)
@@ -105,4 +157,89 @@ public class ArtistServiceImpl extends ArtistServiceBaseImpl {
 			getUserId(), artistId, name, bio, inputStream, serviceContext);
 	}
 
+	protected List<Artist> filterArtists(long[] artistIds) {
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		for (long artistId : artistIds) {
+			primaryKeys.add(artistId);
+		}
+
+		Map<Serializable, Artist> artistsMap =
+			artistPersistence.fetchByPrimaryKeys(primaryKeys);
+
+		PermissionChecker permissionChecker =
+			PermissionThreadLocal.getPermissionChecker();
+
+		List<Artist> artists = new ArrayList<Artist>(artistIds.length);
+
+		for (long artistId : artistIds) {
+			Artist artist = artistsMap.get(artistId);
+
+			if ((artist != null) && artist.isApproved() &&
+				permissionChecker.hasPermission(
+					artist.getGroupId(), Artist.class.getName(), artistId,
+					ActionKeys.VIEW)) {
+
+				artists.add(artist);
+			}
+		}
+
+		return artists;
+	}
+
+	protected List<ArtistSummary> filterArtistSummaries(long[] artistIds) {
+		List<ArtistSummary> artistSummaries =
+			artistLocalService.getArtistSummaries(artistIds);
+
+		PermissionChecker permissionChecker =
+			PermissionThreadLocal.getPermissionChecker();
+
+		List<ArtistSummary> visibleArtistSummaries =
+			new ArrayList<ArtistSummary>(artistSummaries.size());
+
+		for (ArtistSummary artistSummary : artistSummaries) {
+			if ((artistSummary.getStatus() ==
+					WorkflowConstants.STATUS_APPROVED) &&
+				permissionChecker.hasPermission(
+					artistSummary.getGroupId(), Artist.class.getName(),
+					artistSummary.getArtistId(), ActionKeys.VIEW)) {
+
+				visibleArtistSummaries.add(artistSummary);
+			}
+		}
+
+		return visibleArtistSummaries;
+	}
+
+	protected NameIndex getNameIndex(long groupId) {
+		NameIndex nameIndex = NameIndexUtil.get(
+			Artist.class.getName(), groupId);
+
+		if (nameIndex != null) {
+			return nameIndex;
+		}
+
+		String version = NameIndexUtil.getVersion(
+			Artist.class.getName(), groupId);
+
+		nameIndex = new NameIndex();
+
+		List<ArtistSummary> artistSummaries =
+			artistLocalService.getArtistSummaries(groupId);
+
+		for (ArtistSummary artistSummary : artistSummaries) {
+			if (artistSummary.getStatus() ==
+					WorkflowConstants.STATUS_APPROVED) {
+
+				nameIndex.add(
+					artistSummary.getArtistId(), artistSummary.getName());
+			}
+		}
+
+		NameIndexUtil.put(
+			Artist.class.getName(), groupId, version, nameIndex);
+
+		return nameIndex;
+	}
+
 }
\ No newline at end of file
@@ -14,43 +14,83 @@
 
 package org.liferay.jukebox.service.impl;
 
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionList;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.json.JSONArray;
+import com.liferay.portal.kernel.json.JSONFactoryUtil;
+import com.liferay.portal.kernel.json.JSONObject;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.repository.model.FileEntry;
-import com.liferay.portal.kernel.repository.model.Folder;
-import com.liferay.portal.kernel.search.Indexable;
-import com.liferay.portal.kernel.search.IndexableType;
-import com.liferay.portal.kernel.search.Indexer;
-import com.liferay.portal.kernel.search.IndexerRegistryUtil;
+import com.liferay.portal.kernel.transaction.Propagation;
 import com.liferay.portal.kernel.transaction.TransactionCommitCallbackRegistryUtil;
+import com.liferay.portal.kernel.transaction.Transactional;
+import com.liferay.portal.kernel.util.PortalClassLoaderUtil;
 import com.liferay.portal.kernel.util.ContentTypes;
+import com.liferay.portal.kernel.util.MimeTypesUtil;
+import com.liferay.portal.kernel.util.StreamUtil;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.UnicodeProperties;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.kernel.workflow.WorkflowConstants;
-import com.liferay.portal.model.Repository;
+import com.liferay.portal.kernel.zip.ZipReader;
+import com.liferay.portal.kernel.zip.ZipReaderFactoryUtil;
+import com.liferay.portal.model.ResourceConstants;
 import com.liferay.portal.model.User;
 import com.liferay.portal.portletfilerepository.PortletFileRepositoryUtil;
 import com.liferay.portal.service.ServiceContext;
 import com.liferay.portlet.asset.model.AssetEntry;
 import com.liferay.portlet.asset.model.AssetLinkConstants;
+import com.liferay.portlet.documentlibrary.NoSuchFileEntryException;
+import com.liferay.portlet.documentlibrary.NoSuchFileException;
+import com.liferay.portlet.documentlibrary.model.DLFileEntry;
+import com.liferay.portlet.documentlibrary.model.DLFileVersion;
+import com.liferay.portlet.documentlibrary.model.DLFolder;
 import com.liferay.portlet.documentlibrary.model.DLFolderConstants;
+import com.liferay.portlet.documentlibrary.service.DLFileEntryLocalServiceUtil;
+import com.liferay.portlet.documentlibrary.service.DLFileVersionLocalServiceUtil;
+import com.liferay.portlet.documentlibrary.service.DLFolderLocalServiceUtil;
+import com.liferay.portlet.documentlibrary.store.DLStoreUtil;
 import com.liferay.portlet.documentlibrary.util.DLProcessorRegistryUtil;
 import com.liferay.portlet.trash.model.TrashEntry;
 import com.liferay.portlet.trash.model.TrashVersion;
 import com.liferay.portlet.trash.util.TrashUtil;
 
+import java.io.File;
 import java.io.InputStream;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 
 import org.liferay.jukebox.DuplicatedSongException;
 import org.liferay.jukebox.SongNameException;
 import org.liferay.jukebox.model.Album;
 import org.liferay.jukebox.model.Song;
+import org.liferay.jukebox.model.SongImportResult;
+import org.liferay.jukebox.model.SongMedia;
+import org.liferay.jukebox.model.SongMediaLocator;
 import org.liferay.jukebox.service.base.SongLocalServiceBaseImpl;
 import org.liferay.jukebox.util.Constants;
+import org.liferay.jukebox.util.DLProcessorQueueUtil;
+import org.liferay.jukebox.util.EntryCountUtil;
+import org.liferay.jukebox.util.IndexingQueueUtil;
+import org.liferay.jukebox.util.JukeboxRepositoryUtil;
+import org.liferay.jukebox.util.NameIndexUtil;
+import org.liferay.jukebox.util.PortletPropsValues;
+import org.liferay.jukebox.util.SongCleanupUtil;
+import org.liferay.jukebox.util.SongMediaCacheUtil;
+import org.liferay.jukebox.util.SongRenditionUtil;
 
 /**
  * The implementation of the song local service.
@@ -92,144 +132,228 @@ public class SongLocalServiceImpl extends SongLocalServiceBaseImpl {
 			guestPermissions);
 	}
 
-	@Indexable(type = IndexableType.REINDEX)
 	public Song addSong(
 			long userId, long albumId, String name, String songFileName,
 			InputStream songInputStream, String lyricsFileName,
 			InputStream lyricsInputStream, ServiceContext serviceContext)
 		throws PortalException {
 
-		long groupId = serviceContext.getScopeGroupId();
-
 		User user = userPersistence.findByPrimaryKey(userId);
+		Album album = albumPersistence.findByPrimaryKey(albumId);
 
-		Date now = new Date();
+		return addSong(
+			user, album, name, songFileName, songInputStream, lyricsFileName,
+			lyricsInputStream, 0, DLProcessorQueueUtil.PRIORITY_HIGH, null,
+			serviceContext);
+	}
 
-		long songId = counterLocalService.increment();
+	/**
+	 * Removes the folders, asset entries, discussions, resources and search
+	 * documents of up to <code>size</code> songs that were deleted with their
+	 * album, and returns the number of songs found. A song is found until its
+	 * asset entry is deleted, which is done last, so a cleanup that fails is
+	 * resumed by the next call.
+	 */
+	public int cleanUpDeletedSongs(int size) throws PortalException {
+		List<Long> songIds = songFinder.findDeletedSongIds(size);
+
+		for (long songId : songIds) {
+			AssetEntry assetEntry = assetEntryLocalService.fetchEntry(
+				Song.class.getName(), songId);
+
+			if (assetEntry == null) {
+				continue;
+			}
+
+			long repositoryId = JukeboxRepositoryUtil.fetchPortletRepositoryId(
+				assetEntry.getGroupId());
+
+			deleteSongDependents(
+				assetEntry.getCompanyId(), songId, repositoryId);
+		}
+
+		return songIds.size();
+	}
+
+	public Song deleteSong(long songId) throws PortalException {
+		Song song = songPersistence.findByPrimaryKey(songId);
+
+		long repositoryId = JukeboxRepositoryUtil.fetchPortletRepositoryId(
+			song.getGroupId());
+
+		return deleteSong(song, repositoryId);
+	}
+
+	/**
+	 * Deletes the songs of the album with a single statement, in the current
+	 * transaction, so that the songs are only deleted if the album they are
+	 * deleted with is. Their search documents are deleted once the
+	 * transaction commits. Their folders, asset entries, discussions and
+	 * resources are removed afterwards by {@link #cleanUpDeletedSongs(int)},
+	 * in transactions of {@link PortletPropsValues#CASCADE_BATCH_SIZE} songs.
+	 */
+	public void deleteSongsByAlbumId(long albumId) throws PortalException {
 		Album album = albumPersistence.findByPrimaryKey(albumId);
 
-		validate(songId, groupId, album.getArtistId(), albumId, name);
+		DynamicQuery dynamicQuery = dynamicQuery();
 
-		Song song = songPersistence.create(songId);
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("albumId", albumId));
 
-		song.setUuid(serviceContext.getUuid());
-		song.setGroupId(groupId);
-		song.setCompanyId(user.getCompanyId());
-		song.setUserId(user.getUserId());
-		song.setUserName(user.getFullName());
-		song.setCreateDate(serviceContext.getCreateDate(now));
-		song.setModifiedDate(serviceContext.getModifiedDate(now));
+		dynamicQuery.setProjection(ProjectionFactoryUtil.property("songId"));
 
-		song.setArtistId(album.getArtistId());
-		song.setAlbumId(albumId);
-		song.setName(name);
-		song.setExpandoBridgeAttributes(serviceContext);
+		List<Long> songIds = dynamicQuery(dynamicQuery);
 
-		songPersistence.update(song);
+		if (songIds.isEmpty()) {
+			return;
+		}
 
-		if ((songInputStream != null) || (lyricsInputStream != null)) {
-			Repository repository =
-				PortletFileRepositoryUtil.addPortletRepository(
-					groupId, Constants.JUKEBOX_PORTLET_REPOSITORY,
-					serviceContext);
+		songPersistence.flush();
 
-			Folder folder = PortletFileRepositoryUtil.addPortletFolder(
-				userId, repository.getRepositoryId(),
-				DLFolderConstants.DEFAULT_PARENT_FOLDER_ID,
-				String.valueOf(song.getSongId()), serviceContext);
+		int count = songFinder.deleteByAlbumId(albumId);
 
-			if (songInputStream != null) {
-				Folder songFolder = PortletFileRepositoryUtil.addPortletFolder(
-					userId, repository.getRepositoryId(), folder.getFolderId(),
-					Constants.SONGS_FOLDER_NAME, serviceContext);
+		clearSongCaches();
 
-				FileEntry fileEntry =
-					PortletFileRepositoryUtil.addPortletFileEntry(
-						groupId, userId, Song.class.getName(), song.getSongId(),
-						Constants.JUKEBOX_PORTLET_REPOSITORY,
-						songFolder.getFolderId(), songInputStream, songFileName,
-						StringPool.BLANK, true);
+		NameIndexUtil.remove(Song.class.getName(), album.getGroupId());
+
+		EntryCountUtil.increment(
+			Song.class.getName(), "groupId", album.getGroupId(), -count);
+		EntryCountUtil.increment(
+			Song.class.getName(), "albumId", albumId, -count);
+
+		for (long songId : songIds) {
+			SongMediaCacheUtil.remove(songId);
+
+			IndexingQueueUtil.delete(
+				Song.class.getName(), album.getCompanyId(), songId);
+		}
 
-				DLProcessorRegistryUtil.trigger(fileEntry, null, true);
+		SongCleanupUtil.cleanUpAfterCommit();
+	}
+
+	public Song getSong(
+		long groupId, long artistId, long albumId, String name) {
+
+		return songPersistence.fetchByG_A_A_N(groupId, artistId, albumId, name);
+	}
+
+	public Map<Long, SongMedia> getSongMedia(long groupId, long[] songIds)
+		throws PortalException {
+
+		Map<Long, SongMedia> songMediaMap = new HashMap<Long, SongMedia>();
+
+		List<Long> uncachedSongIds = new ArrayList<Long>();
+
+		List<String> renditionFileNames = getRenditionFileNames();
+
+		for (long songId : songIds) {
+			SongMediaLocator songLocator = SongMediaCacheUtil.get(
+				songId, Constants.SONGS_FOLDER_NAME);
+			SongMediaLocator lyricsLocator = SongMediaCacheUtil.get(
+				songId, Constants.LYRICS_FOLDER_NAME);
+
+			if ((songLocator == null) || (lyricsLocator == null)) {
+				uncachedSongIds.add(songId);
+
+				continue;
 			}
 
-			if (lyricsInputStream != null) {
-				Folder lyricsFolder =
-					PortletFileRepositoryUtil.addPortletFolder(
-						userId, repository.getRepositoryId(),
-						folder.getFolderId(), Constants.LYRICS_FOLDER_NAME,
-						serviceContext);
+			Map<String, SongMediaLocator> renditionLocators =
+				new HashMap<String, SongMediaLocator>();
 
-				FileEntry fileEntry =
-					PortletFileRepositoryUtil.addPortletFileEntry(
-						groupId, userId, Song.class.getName(), song.getSongId(),
-						Constants.JUKEBOX_PORTLET_REPOSITORY,
-						lyricsFolder.getFolderId(), lyricsInputStream,
-						lyricsFileName, StringPool.BLANK, true);
+			for (String renditionFileName : renditionFileNames) {
+				SongMediaLocator renditionLocator = SongMediaCacheUtil.get(
+					songId,
+					SongMediaCacheUtil.getRenditionFolderName(
+						renditionFileName));
+
+				if (renditionLocator == null) {
+					break;
+				}
 
-				DLProcessorRegistryUtil.trigger(fileEntry, null, true);
+				renditionLocators.put(renditionFileName, renditionLocator);
 			}
-		}
 
-		// Resources
+			if (renditionLocators.size() < renditionFileNames.size()) {
+				uncachedSongIds.add(songId);
 
-		if (serviceContext.isAddGroupPermissions() ||
-			serviceContext.isAddGuestPermissions()) {
+				continue;
+			}
 
-			addEntryResources(
-				song, serviceContext.isAddGroupPermissions(),
-				serviceContext.isAddGuestPermissions());
+			songMediaMap.put(
+				songId,
+				new SongMedia(
+					songId, songLocator, lyricsLocator, renditionLocators));
 		}
-		else {
-			addEntryResources(
-				song, serviceContext.getGroupPermissions(),
-				serviceContext.getGuestPermissions());
+
+		if (uncachedSongIds.isEmpty()) {
+			return songMediaMap;
 		}
 
-		// Message boards
+		Map<Long, SongMediaLocator> songLocators =
+			new HashMap<Long, SongMediaLocator>();
+		Map<Long, SongMediaLocator> lyricsLocators =
+			new HashMap<Long, SongMediaLocator>();
+		Map<Long, Map<String, SongMediaLocator>> renditionLocatorsMap =
+			new HashMap<Long, Map<String, SongMediaLocator>>();
 
-		mbMessageLocalService.addDiscussionMessage(
-			userId, album.getUserName(), groupId, Song.class.getName(), songId,
-			WorkflowConstants.ACTION_PUBLISH);
+		long repositoryId = JukeboxRepositoryUtil.fetchPortletRepositoryId(
+			groupId);
 
-		// Asset
+		if (repositoryId > 0) {
+			fetchSongMediaLocators(
+				repositoryId, uncachedSongIds, songLocators, lyricsLocators,
+				renditionLocatorsMap);
+		}
 
-		updateAsset(
-			userId, song, serviceContext.getAssetCategoryIds(),
-			serviceContext.getAssetTagNames(),
-			serviceContext.getAssetLinkEntryIds());
+		for (long songId : uncachedSongIds) {
+			SongMediaLocator songLocator = songLocators.get(songId);
 
-		return song;
-	}
+			if (songLocator == null) {
+				songLocator = SongMediaLocator.EMPTY;
+			}
 
-	@Indexable(type = IndexableType.DELETE)
-	public Song deleteSong(long songId) throws PortalException {
-		Song song = songPersistence.findByPrimaryKey(songId);
+			SongMediaLocator lyricsLocator = lyricsLocators.get(songId);
 
-		Repository repository =
-			PortletFileRepositoryUtil.fetchPortletRepository(
-				song.getGroupId(), Constants.JUKEBOX_PORTLET_REPOSITORY);
+			if (lyricsLocator == null) {
+				lyricsLocator = SongMediaLocator.EMPTY;
+			}
 
-		if (repository != null) {
-			try {
-				Folder folder = PortletFileRepositoryUtil.getPortletFolder(
-					0, repository.getRepositoryId(),
-					DLFolderConstants.DEFAULT_PARENT_FOLDER_ID,
-					String.valueOf(songId), null);
+			Map<String, SongMediaLocator> renditionLocators =
+				renditionLocatorsMap.get(songId);
 
-				PortletFileRepositoryUtil.deleteFolder(folder.getFolderId());
+			if (renditionLocators == null) {
+				renditionLocators = new HashMap<String, SongMediaLocator>();
 			}
-			catch (Exception e) {
+
+			for (String renditionFileName : renditionFileNames) {
+				SongMediaLocator renditionLocator = renditionLocators.get(
+					renditionFileName);
+
+				if (renditionLocator == null) {
+					renditionLocator = SongMediaLocator.EMPTY;
+
+					renditionLocators.put(renditionFileName, renditionLocator);
+				}
+
+				SongMediaCacheUtil.put(
+					songId,
+					SongMediaCacheUtil.getRenditionFolderName(
+						renditionFileName),
+					renditionLocator);
 			}
-		}
 
-		return songPersistence.remove(songId);
-	}
+			SongMediaCacheUtil.put(
+				songId, Constants.SONGS_FOLDER_NAME, songLocator);
+			SongMediaCacheUtil.put(
+				songId, Constants.LYRICS_FOLDER_NAME, lyricsLocator);
 
-	public Song getSong(
-		long groupId, long artistId, long albumId, String name) {
+			songMediaMap.put(
+				songId,
+				new SongMedia(
+					songId, songLocator, lyricsLocator, renditionLocators));
+		}
 
-		return songPersistence.fetchByG_A_A_N(groupId, artistId, albumId, name);
+		return songMediaMap;
 	}
 
 	public List<Song> getSongs(long groupId) {
@@ -240,6 +364,13 @@ public class SongLocalServiceImpl extends SongLocalServiceBaseImpl {
 		return songPersistence.findByGroupId(groupId, start, end);
 	}
 
+	public List<Song> getSongsAfter(
+		long groupId, int status, String name, long songId, int size) {
+
+		return songFinder.findByG_S_After(
+			groupId, status, name, songId, size);
+	}
+
 	public List<Song> getSongsByAlbumId(long albumId) {
 		return songPersistence.findByAlbumId(albumId);
 	}
@@ -255,22 +386,219 @@ public class SongLocalServiceImpl extends SongLocalServiceBaseImpl {
 	}
 
 	public int getSongsByAlbumIdCount(long albumId) {
-		return songPersistence.countByAlbumId(albumId);
+		Integer count = EntryCountUtil.get(
+			Song.class.getName(), "albumId", albumId);
+
+		if (count == null) {
+			count = songPersistence.countByAlbumId(albumId);
+
+			EntryCountUtil.put(Song.class.getName(), "albumId", albumId, count);
+		}
+
+		return count;
 	}
 
 	public int getSongsCount(long groupId) {
-		return songPersistence.countByGroupId(groupId);
+		Integer count = EntryCountUtil.get(
+			Song.class.getName(), "groupId", groupId);
+
+		if (count == null) {
+			count = songPersistence.countByGroupId(groupId);
+
+			EntryCountUtil.put(Song.class.getName(), "groupId", groupId, count);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Imports the songs described by the <code>manifest.json</code> entry of
+	 * the ZIP file, adding {@link PortletPropsValues#IMPORT_BATCH_SIZE} songs
+	 * per transaction.
+	 *
+	 * <p>
+	 * The manifest is a JSON array with one object per song holding its
+	 * <code>albumId</code>, its <code>name</code> and, optionally, the names
+	 * of the ZIP entries with its audio, <code>songFileName</code>, and its
+	 * lyrics, <code>lyricsFileName</code>.
+	 * </p>
+	 *
+	 * <p>
+	 * Songs whose album already has a song with the same name are skipped, so
+	 * an import that partly failed can be retried with the same file. When a
+	 * batch fails, its songs are imported again one per transaction, so that
+	 * only the entries that fail are left out. They are returned with the
+	 * number of songs imported and skipped.
+	 * </p>
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public SongImportResult importSongs(
+			long userId, File file, ServiceContext serviceContext)
+		throws PortalException {
+
+		JSONArray manifestJSONArray = getImportManifestJSONArray(file);
+
+		SongImportResult songImportResult = new SongImportResult();
+
+		for (int start = 0; start < manifestJSONArray.length();
+				start += PortletPropsValues.IMPORT_BATCH_SIZE) {
+
+			int end = Math.min(
+				start + PortletPropsValues.IMPORT_BATCH_SIZE,
+				manifestJSONArray.length());
+
+			JSONArray batchJSONArray = JSONFactoryUtil.createJSONArray();
+
+			for (int i = start; i < end; i++) {
+				batchJSONArray.put(manifestJSONArray.getJSONObject(i));
+			}
+
+			try {
+				int importedCount = songLocalService.importSongs(
+					userId, file, batchJSONArray.toString(), serviceContext);
+
+				songImportResult.addImportedCount(importedCount);
+				songImportResult.addSkippedCount(end - start - importedCount);
+			}
+			catch (Exception e) {
+				if (_log.isWarnEnabled()) {
+					_log.warn(
+						"Unable to import songs " + start + " to " +
+							(end - 1) + " of the manifest in one transaction",
+						e);
+				}
+
+				for (int i = start; i < end; i++) {
+					importSong(
+						userId, file, manifestJSONArray, i, serviceContext,
+						songImportResult);
+				}
+			}
+		}
+
+		return songImportResult;
+	}
+
+	/**
+	 * Imports, in a transaction of their own, the songs of a batch of the
+	 * manifest of the ZIP file, given as a JSON array, and returns the number
+	 * of songs imported. The user, the albums and the Jukebox repository are
+	 * looked up once for the whole batch, and the documents of the uploaded
+	 * files are generated once the transaction commits.
+	 *
+	 * <p>
+	 * The store is not rolled back with the transaction, so the files that a
+	 * failed batch already stored are deleted before the failure is thrown.
+	 * </p>
+	 */
+	@Transactional(
+		propagation = Propagation.REQUIRES_NEW,
+		rollbackFor = {PortalException.class, SystemException.class}
+	)
+	public int importSongs(
+			long userId, File file, String manifest,
+			ServiceContext serviceContext)
+		throws PortalException {
+
+		JSONArray manifestJSONArray = JSONFactoryUtil.createJSONArray(
+			manifest);
+
+		User user = userPersistence.findByPrimaryKey(userId);
+
+		long groupId = serviceContext.getScopeGroupId();
+
+		long repositoryId = JukeboxRepositoryUtil.addPortletRepository(
+			groupId, serviceContext);
+
+		Map<Long, Album> albums = new HashMap<Long, Album>();
+		List<FileEntry> fileEntries = new ArrayList<FileEntry>();
+
+		int count = 0;
+
+		ZipReader zipReader = ZipReaderFactoryUtil.getZipReader(file);
+
+		try {
+			for (int i = 0; i < manifestJSONArray.length(); i++) {
+				JSONObject jsonObject = manifestJSONArray.getJSONObject(i);
+
+				long albumId = jsonObject.getLong("albumId");
+
+				Album album = albums.get(albumId);
+
+				if (album == null) {
+					album = albumPersistence.findByPrimaryKey(albumId);
+
+					albums.put(albumId, album);
+				}
+
+				String name = jsonObject.getString("name");
+
+				Song song = songPersistence.fetchByG_A_A_N(
+					groupId, album.getArtistId(), albumId, name);
+
+				if (song != null) {
+					continue;
+				}
+
+				String songFileName = jsonObject.getString("songFileName");
+				InputStream songInputStream = null;
+
+				String lyricsFileName = jsonObject.getString("lyricsFileName");
+				InputStream lyricsInputStream = null;
+
+				try {
+					if (Validator.isNotNull(songFileName)) {
+						songInputStream = getImportInputStream(
+							zipReader, songFileName);
+					}
+
+					if (Validator.isNotNull(lyricsFileName)) {
+						lyricsInputStream = getImportInputStream(
+							zipReader, lyricsFileName);
+					}
+
+					addSong(
+						user, album, name, songFileName, songInputStream,
+						lyricsFileName, lyricsInputStream, repositoryId,
+						DLProcessorQueueUtil.PRIORITY_LOW, fileEntries,
+						serviceContext);
+				}
+				finally {
+					StreamUtil.cleanUp(songInputStream, lyricsInputStream);
+				}
+
+				count++;
+			}
+		}
+		catch (PortalException pe) {
+			deleteImportedFiles(fileEntries);
+
+			throw pe;
+		}
+		catch (RuntimeException re) {
+			deleteImportedFiles(fileEntries);
+
+			throw re;
+		}
+		finally {
+			zipReader.close();
+		}
+
+		return count;
 	}
 
-	@Indexable(type = IndexableType.REINDEX)
 	@Override
 	public Song moveSong(long songId, long albumId) throws PortalException {
 		Song song = getSong(songId);
 
+		updateAlbumCounts(song.getAlbumId(), albumId);
+
 		song.setAlbumId(albumId);
 
 		songPersistence.update(song);
 
+		reindex(song);
+
 		return song;
 	}
 
@@ -314,6 +642,8 @@ public class SongLocalServiceImpl extends SongLocalServiceBaseImpl {
 
 			songPersistence.update(song);
 
+			updateNameIndex(song);
+
 			// Asset
 
 			assetEntryLocalService.updateVisible(
@@ -321,10 +651,7 @@ public class SongLocalServiceImpl extends SongLocalServiceBaseImpl {
 
 			// Indexer
 
-			Indexer indexer = IndexerRegistryUtil.nullSafeGetIndexer(
-				Song.class);
-
-			indexer.reindex(song);
+			reindex(song);
 
 			// Trash
 
@@ -336,7 +663,6 @@ public class SongLocalServiceImpl extends SongLocalServiceBaseImpl {
 		return songLocalService.moveSong(songId, albumId);
 	}
 
-	@Indexable(type = IndexableType.REINDEX)
 	public Song moveSongToTrash(long userId, Song song) throws PortalException {
 		ServiceContext serviceContext = new ServiceContext();
 
@@ -372,10 +698,19 @@ public class SongLocalServiceImpl extends SongLocalServiceBaseImpl {
 
 		songPersistence.update(song);
 
+		updateNameIndex(song);
+
+		// Media
+
+		SongMediaCacheUtil.remove(song.getSongId());
+
+		// Indexer
+
+		reindex(song);
+
 		return song;
 	}
 
-	@Indexable(type = IndexableType.REINDEX)
 	@Override
 	public Song restoreSongFromTrash(long userId, long songId)
 		throws PortalException {
@@ -401,11 +736,17 @@ public class SongLocalServiceImpl extends SongLocalServiceBaseImpl {
 
 		songPersistence.update(song);
 
+		updateNameIndex(song);
+
 		assetEntryLocalService.updateVisible(
 			Song.class.getName(), song.getSongId(), true);
 
 		trashEntryLocalService.deleteEntry(Song.class.getName(), songId);
 
+		// Indexer
+
+		reindex(song);
+
 		return song;
 	}
 
@@ -426,7 +767,66 @@ public class SongLocalServiceImpl extends SongLocalServiceBaseImpl {
 			AssetLinkConstants.TYPE_RELATED);
 	}
 
-	@Indexable(type = IndexableType.REINDEX)
+	public Song updateRenditionStatus(long songId, int renditionStatus)
+		throws PortalException {
+
+		Song song = songPersistence.findByPrimaryKey(songId);
+
+		song.setRenditionStatus(renditionStatus);
+
+		return songPersistence.update(song);
+	}
+
+	public Song updateRenditions(
+			long songId, long fileEntryId, Map<String, File> renditionFiles)
+		throws PortalException {
+
+		Song song = songPersistence.findByPrimaryKey(songId);
+
+		try {
+			PortletFileRepositoryUtil.getPortletFileEntry(fileEntryId);
+		}
+		catch (NoSuchFileEntryException nsfee) {
+
+			// The song file was replaced while its renditions were transcoded
+
+			return song;
+		}
+
+		ServiceContext serviceContext = new ServiceContext();
+
+		serviceContext.setAddGroupPermissions(true);
+		serviceContext.setAddGuestPermissions(true);
+
+		long repositoryId = JukeboxRepositoryUtil.addPortletRepository(
+			song.getGroupId(), serviceContext);
+
+		long folderId = JukeboxRepositoryUtil.addPortletFolder(
+			song.getUserId(), repositoryId,
+			DLFolderConstants.DEFAULT_PARENT_FOLDER_ID, String.valueOf(songId),
+			serviceContext);
+
+		deleteRenditions(songId, repositoryId, folderId);
+
+		long renditionsFolderId = JukeboxRepositoryUtil.addPortletFolder(
+			song.getUserId(), repositoryId, folderId,
+			Constants.RENDITIONS_FOLDER_NAME, serviceContext);
+
+		for (Map.Entry<String, File> entry : renditionFiles.entrySet()) {
+			String fileName = entry.getKey();
+
+			PortletFileRepositoryUtil.addPortletFileEntry(
+				song.getGroupId(), song.getUserId(), Song.class.getName(),
+				songId, Constants.JUKEBOX_PORTLET_REPOSITORY,
+				renditionsFolderId, entry.getValue(), fileName,
+				MimeTypesUtil.getContentType(fileName), false);
+		}
+
+		song.setRenditionStatus(Constants.RENDITION_STATUS_COMPLETE);
+
+		return songPersistence.update(song);
+	}
+
 	public Song updateSong(
 			long userId, long songId, long albumId, String name,
 			String songFileName, InputStream songInputStream,
@@ -445,34 +845,45 @@ public class SongLocalServiceImpl extends SongLocalServiceBaseImpl {
 
 		song.setModifiedDate(serviceContext.getModifiedDate(null));
 
+		updateAlbumCounts(song.getAlbumId(), albumId);
+
 		song.setArtistId(album.getArtistId());
 		song.setAlbumId(albumId);
 
 		song.setName(name);
+
+		if (songInputStream != null) {
+			if (SongRenditionUtil.isEnabled()) {
+				song.setRenditionStatus(Constants.RENDITION_STATUS_PENDING);
+			}
+			else {
+				song.setRenditionStatus(Constants.RENDITION_STATUS_NONE);
+			}
+		}
+
 		song.setExpandoBridgeAttributes(serviceContext);
 
 		songPersistence.update(song);
 
+		updateNameIndex(song);
+
 		if ((songInputStream != null) || (lyricsInputStream != null)) {
-			Repository repository =
-				PortletFileRepositoryUtil.addPortletRepository(
-					serviceContext.getScopeGroupId(),
-					Constants.JUKEBOX_PORTLET_REPOSITORY, serviceContext);
+			long repositoryId = JukeboxRepositoryUtil.addPortletRepository(
+				serviceContext.getScopeGroupId(), serviceContext);
 
-			Folder folder = PortletFileRepositoryUtil.addPortletFolder(
-				userId, repository.getRepositoryId(),
+			long folderId = JukeboxRepositoryUtil.addPortletFolder(
+				userId, repositoryId,
 				DLFolderConstants.DEFAULT_PARENT_FOLDER_ID,
 				String.valueOf(song.getSongId()), serviceContext);
 
 			if (songInputStream != null) {
-				Folder songFolder = PortletFileRepositoryUtil.addPortletFolder(
-					userId, repository.getRepositoryId(), folder.getFolderId(),
-					Constants.SONGS_FOLDER_NAME, serviceContext);
+				long songFolderId = JukeboxRepositoryUtil.addPortletFolder(
+					userId, repositoryId, folderId, Constants.SONGS_FOLDER_NAME,
+					serviceContext);
 
 				List<FileEntry> fileEntries =
 					PortletFileRepositoryUtil.getPortletFileEntries(
-						serviceContext.getScopeGroupId(),
-						songFolder.getFolderId());
+						serviceContext.getScopeGroupId(), songFolderId);
 
 				for (FileEntry fileEntry : fileEntries) {
 					PortletFileRepositoryUtil.deletePortletFileEntry(
@@ -481,28 +892,32 @@ public class SongLocalServiceImpl extends SongLocalServiceBaseImpl {
 					DLProcessorRegistryUtil.cleanUp(fileEntry);
 				}
 
+				deleteRenditions(songId, repositoryId, folderId);
+
 				FileEntry fileEntry =
 					PortletFileRepositoryUtil.addPortletFileEntry(
 						serviceContext.getScopeGroupId(), userId,
 						Song.class.getName(), song.getSongId(),
 						Constants.JUKEBOX_PORTLET_REPOSITORY,
-						songFolder.getFolderId(), songInputStream, songFileName,
+						songFolderId, songInputStream, songFileName,
 						StringPool.BLANK, true);
 
 				triggerDLProcessors(fileEntry);
+
+				generateRenditions(
+					song, fileEntry, DLProcessorQueueUtil.PRIORITY_HIGH);
+
+				cacheSongMedia(songId, Constants.SONGS_FOLDER_NAME, fileEntry);
 			}
 
 			if (lyricsInputStream != null) {
-				Folder lyricsFolder =
-					PortletFileRepositoryUtil.addPortletFolder(
-						userId, repository.getRepositoryId(),
-						folder.getFolderId(), Constants.LYRICS_FOLDER_NAME,
-						serviceContext);
+				long lyricsFolderId = JukeboxRepositoryUtil.addPortletFolder(
+					userId, repositoryId, folderId,
+					Constants.LYRICS_FOLDER_NAME, serviceContext);
 
 				List<FileEntry> fileEntries =
 					PortletFileRepositoryUtil.getPortletFileEntries(
-						serviceContext.getScopeGroupId(),
-						lyricsFolder.getFolderId());
+						serviceContext.getScopeGroupId(), lyricsFolderId);
 
 				for (FileEntry fileEntry : fileEntries) {
 					PortletFileRepositoryUtil.deletePortletFileEntry(
@@ -516,10 +931,12 @@ public class SongLocalServiceImpl extends SongLocalServiceBaseImpl {
 						serviceContext.getScopeGroupId(), userId,
 						Song.class.getName(), song.getSongId(),
 						Constants.JUKEBOX_PORTLET_REPOSITORY,
-						lyricsFolder.getFolderId(), lyricsInputStream,
+						lyricsFolderId, lyricsInputStream,
 						lyricsFileName, StringPool.BLANK, true);
 
 				triggerDLProcessors(fileEntry);
+
+				cacheSongMedia(songId, Constants.LYRICS_FOLDER_NAME, fileEntry);
 			}
 		}
 
@@ -530,24 +947,566 @@ public class SongLocalServiceImpl extends SongLocalServiceBaseImpl {
 			serviceContext.getAssetTagNames(),
 			serviceContext.getAssetLinkEntryIds());
 
+		// Indexer
+
+		reindex(song);
+
 		return song;
 	}
 
-	protected void triggerDLProcessors(final FileEntry fileEntry) {
-		TransactionCommitCallbackRegistryUtil.registerCallback(
-			new Callable<Void>() {
+	protected Song addSong(
+			User user, Album album, String name, String songFileName,
+			InputStream songInputStream, String lyricsFileName,
+			InputStream lyricsInputStream, long repositoryId, int priority,
+			List<FileEntry> fileEntries, ServiceContext serviceContext)
+		throws PortalException {
 
-				@Override
-				public Void call() throws Exception {
-					DLProcessorRegistryUtil.trigger(fileEntry, null, true);
+		long userId = user.getUserId();
+		long groupId = serviceContext.getScopeGroupId();
+		long albumId = album.getAlbumId();
 
-					return null;
-				}
+		Date now = new Date();
 
-			});
-	}
+		long songId = counterLocalService.increment();
 
-	protected void validate(
+		validate(songId, groupId, album.getArtistId(), albumId, name);
+
+		Song song = songPersistence.create(songId);
+
+		song.setUuid(serviceContext.getUuid());
+		song.setGroupId(groupId);
+		song.setCompanyId(user.getCompanyId());
+		song.setUserId(user.getUserId());
+		song.setUserName(user.getFullName());
+		song.setCreateDate(serviceContext.getCreateDate(now));
+		song.setModifiedDate(serviceContext.getModifiedDate(now));
+
+		song.setArtistId(album.getArtistId());
+		song.setAlbumId(albumId);
+		song.setName(name);
+
+		if ((songInputStream != null) && SongRenditionUtil.isEnabled()) {
+			song.setRenditionStatus(Constants.RENDITION_STATUS_PENDING);
+		}
+
+		song.setExpandoBridgeAttributes(serviceContext);
+
+		songPersistence.update(song);
+
+		updateCounts(song, 1);
+
+		updateNameIndex(song);
+
+		if ((songInputStream != null) || (lyricsInputStream != null)) {
+			if (repositoryId <= 0) {
+				repositoryId = JukeboxRepositoryUtil.addPortletRepository(
+					groupId, serviceContext);
+			}
+
+			long folderId = JukeboxRepositoryUtil.addPortletFolder(
+				userId, repositoryId,
+				DLFolderConstants.DEFAULT_PARENT_FOLDER_ID,
+				String.valueOf(song.getSongId()), serviceContext);
+
+			if (songInputStream != null) {
+				long songFolderId = JukeboxRepositoryUtil.addPortletFolder(
+					userId, repositoryId, folderId, Constants.SONGS_FOLDER_NAME,
+					serviceContext);
+
+				FileEntry fileEntry =
+					PortletFileRepositoryUtil.addPortletFileEntry(
+						groupId, userId, Song.class.getName(), song.getSongId(),
+						Constants.JUKEBOX_PORTLET_REPOSITORY,
+						songFolderId, songInputStream, songFileName,
+						StringPool.BLANK, true);
+
+				if (fileEntries != null) {
+					fileEntries.add(fileEntry);
+				}
+
+				triggerDLProcessors(fileEntry);
+
+				generateRenditions(song, fileEntry, priority);
+
+				cacheSongMedia(songId, Constants.SONGS_FOLDER_NAME, fileEntry);
+			}
+
+			if (lyricsInputStream != null) {
+				long lyricsFolderId = JukeboxRepositoryUtil.addPortletFolder(
+					userId, repositoryId, folderId,
+					Constants.LYRICS_FOLDER_NAME, serviceContext);
+
+				FileEntry fileEntry =
+					PortletFileRepositoryUtil.addPortletFileEntry(
+						groupId, userId, Song.class.getName(), song.getSongId(),
+						Constants.JUKEBOX_PORTLET_REPOSITORY,
+						lyricsFolderId, lyricsInputStream,
+						lyricsFileName, StringPool.BLANK, true);
+
+				if (fileEntries != null) {
+					fileEntries.add(fileEntry);
+				}
+
+				triggerDLProcessors(fileEntry);
+
+				cacheSongMedia(songId, Constants.LYRICS_FOLDER_NAME, fileEntry);
+			}
+		}
+
+		if (songInputStream == null) {
+			cacheSongMedia(songId, Constants.SONGS_FOLDER_NAME, null);
+		}
+
+		if (lyricsInputStream == null) {
+			cacheSongMedia(songId, Constants.LYRICS_FOLDER_NAME, null);
+		}
+
+		// Resources
+
+		if (serviceContext.isAddGroupPermissions() ||
+			serviceContext.isAddGuestPermissions()) {
+
+			addEntryResources(
+				song, serviceContext.isAddGroupPermissions(),
+				serviceContext.isAddGuestPermissions());
+		}
+		else {
+			addEntryResources(
+				song, serviceContext.getGroupPermissions(),
+				serviceContext.getGuestPermissions());
+		}
+
+		// Message boards
+
+		mbMessageLocalService.addDiscussionMessage(
+			userId, album.getUserName(), groupId, Song.class.getName(), songId,
+			WorkflowConstants.ACTION_PUBLISH);
+
+		// Asset
+
+		updateAsset(
+			userId, song, serviceContext.getAssetCategoryIds(),
+			serviceContext.getAssetTagNames(),
+			serviceContext.getAssetLinkEntryIds());
+
+		// Indexer
+
+		reindex(song);
+
+		return song;
+	}
+
+	protected void cacheSongMedia(
+		final long songId, final String folderName, final FileEntry fileEntry) {
+
+		SongMediaCacheUtil.remove(songId, folderName);
+
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					SongMediaCacheUtil.put(songId, folderName, fileEntry);
+
+					return null;
+				}
+
+			});
+	}
+
+	protected void deleteImportedFiles(List<FileEntry> fileEntries) {
+		for (FileEntry fileEntry : fileEntries) {
+			DLFileEntry dlFileEntry = (DLFileEntry)fileEntry.getModel();
+
+			try {
+				DLStoreUtil.deleteFile(
+					dlFileEntry.getCompanyId(),
+					dlFileEntry.getDataRepositoryId(), dlFileEntry.getName());
+			}
+			catch (Exception e) {
+				_log.error(
+					"Unable to delete the stored file of file entry " +
+						dlFileEntry.getFileEntryId(),
+					e);
+			}
+		}
+	}
+
+	protected void deleteRenditions(
+		final long songId, long repositoryId, long folderId) {
+
+		long renditionsFolderId = JukeboxRepositoryUtil.fetchPortletFolderId(
+			repositoryId, folderId, Constants.RENDITIONS_FOLDER_NAME);
+
+		if (renditionsFolderId > 0) {
+			try {
+				PortletFileRepositoryUtil.deleteFolder(renditionsFolderId);
+			}
+			catch (PortalException pe) {
+			}
+
+			JukeboxRepositoryUtil.removePortletFolder(
+				repositoryId, folderId, Constants.RENDITIONS_FOLDER_NAME);
+		}
+
+		SongMediaCacheUtil.removeRenditions(songId);
+
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					SongMediaCacheUtil.removeRenditions(songId);
+
+					return null;
+				}
+
+			});
+	}
+
+	/**
+	 * Clears the entity and finder caches of all the songs, now and again
+	 * once the transaction commits, after songs were deleted with a
+	 * statement.
+	 */
+	protected void clearSongCaches() {
+		songPersistence.clearCache();
+
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					songPersistence.clearCache();
+
+					return null;
+				}
+
+			});
+	}
+
+	protected Song deleteSong(Song song, long repositoryId)
+		throws PortalException {
+
+		NameIndexUtil.remove(Song.class.getName(), song.getGroupId());
+
+		deleteSongDependents(
+			song.getCompanyId(), song.getSongId(), repositoryId);
+
+		updateCounts(song, -1);
+
+		return songPersistence.remove(song);
+	}
+
+	/**
+	 * Removes the folder, asset entry, discussion, resources and search
+	 * document of the song. The asset entry is deleted last, since {@link
+	 * #cleanUpDeletedSongs(int)} finds the songs to clean up by it.
+	 */
+	protected void deleteSongDependents(
+			long companyId, long songId, long repositoryId)
+		throws PortalException {
+
+		SongMediaCacheUtil.remove(songId);
+
+		if (repositoryId > 0) {
+			long folderId = JukeboxRepositoryUtil.fetchPortletFolderId(
+				repositoryId, DLFolderConstants.DEFAULT_PARENT_FOLDER_ID,
+				String.valueOf(songId));
+
+			if (folderId > 0) {
+				try {
+					PortletFileRepositoryUtil.deleteFolder(folderId);
+				}
+				catch (Exception e) {
+				}
+			}
+
+			JukeboxRepositoryUtil.removeSongFolders(repositoryId, songId);
+		}
+
+		// Message boards
+
+		mbMessageLocalService.deleteDiscussionMessages(
+			Song.class.getName(), songId);
+
+		// Resources
+
+		resourceLocalService.deleteResource(
+			companyId, Song.class.getName(), ResourceConstants.SCOPE_INDIVIDUAL,
+			songId);
+
+		// Indexer
+
+		IndexingQueueUtil.delete(Song.class.getName(), companyId, songId);
+
+		// Asset
+
+		assetEntryLocalService.deleteEntry(Song.class.getName(), songId);
+	}
+
+	protected void fetchSongMediaLocators(
+		long repositoryId, List<Long> songIds,
+		Map<Long, SongMediaLocator> songLocators,
+		Map<Long, SongMediaLocator> lyricsLocators,
+		Map<Long, Map<String, SongMediaLocator>> renditionLocatorsMap) {
+
+		// File entries
+
+		long classNameId = classNameLocalService.getClassNameId(Song.class);
+
+		List<DLFileEntry> dlFileEntries = new ArrayList<DLFileEntry>();
+
+		for (List<Long> chunkSongIds : getInClauseChunks(songIds)) {
+			DynamicQuery fileEntryDynamicQuery =
+				DynamicQueryFactoryUtil.forClass(
+					DLFileEntry.class, PortalClassLoaderUtil.getClassLoader());
+
+			fileEntryDynamicQuery.add(
+				RestrictionsFactoryUtil.eq("repositoryId", repositoryId));
+			fileEntryDynamicQuery.add(
+				RestrictionsFactoryUtil.eq("classNameId", classNameId));
+			fileEntryDynamicQuery.add(
+				RestrictionsFactoryUtil.in("classPK", chunkSongIds));
+
+			List<DLFileEntry> chunkDLFileEntries =
+				DLFileEntryLocalServiceUtil.dynamicQuery(fileEntryDynamicQuery);
+
+			dlFileEntries.addAll(chunkDLFileEntries);
+		}
+
+		if (dlFileEntries.isEmpty()) {
+			return;
+		}
+
+		List<Long> fileEntryIds = new ArrayList<Long>();
+		Set<Long> folderIds = new HashSet<Long>();
+
+		for (DLFileEntry dlFileEntry : dlFileEntries) {
+			fileEntryIds.add(dlFileEntry.getFileEntryId());
+			folderIds.add(dlFileEntry.getFolderId());
+		}
+
+		// Folders
+
+		Map<Long, String> folderNames = new HashMap<Long, String>();
+
+		for (List<Long> chunkFolderIds :
+				getInClauseChunks(new ArrayList<Long>(folderIds))) {
+
+			DynamicQuery folderDynamicQuery = DynamicQueryFactoryUtil.forClass(
+				DLFolder.class, PortalClassLoaderUtil.getClassLoader());
+
+			folderDynamicQuery.add(
+				RestrictionsFactoryUtil.in("folderId", chunkFolderIds));
+
+			List<DLFolder> dlFolders = DLFolderLocalServiceUtil.dynamicQuery(
+				folderDynamicQuery);
+
+			for (DLFolder dlFolder : dlFolders) {
+				folderNames.put(dlFolder.getFolderId(), dlFolder.getName());
+			}
+		}
+
+		// File versions, only the latest version ID of each file entry
+
+		Map<Long, Long> latestFileVersionIds = new HashMap<Long, Long>();
+
+		for (List<Long> chunkFileEntryIds : getInClauseChunks(fileEntryIds)) {
+			DynamicQuery fileVersionDynamicQuery =
+				DynamicQueryFactoryUtil.forClass(
+					DLFileVersion.class,
+					PortalClassLoaderUtil.getClassLoader());
+
+			fileVersionDynamicQuery.add(
+				RestrictionsFactoryUtil.in("fileEntryId", chunkFileEntryIds));
+
+			ProjectionList projectionList =
+				ProjectionFactoryUtil.projectionList();
+
+			projectionList.add(
+				ProjectionFactoryUtil.groupProperty("fileEntryId"));
+			projectionList.add(ProjectionFactoryUtil.max("fileVersionId"));
+
+			fileVersionDynamicQuery.setProjection(projectionList);
+
+			List<Object[]> rows = DLFileVersionLocalServiceUtil.dynamicQuery(
+				fileVersionDynamicQuery);
+
+			for (Object[] row : rows) {
+				latestFileVersionIds.put((Long)row[0], (Long)row[1]);
+			}
+		}
+
+		for (DLFileEntry dlFileEntry : dlFileEntries) {
+			Long latestFileVersionId = latestFileVersionIds.get(
+				dlFileEntry.getFileEntryId());
+
+			if (latestFileVersionId == null) {
+				continue;
+			}
+
+			SongMediaLocator songMediaLocator = new SongMediaLocator(
+				dlFileEntry.getFileEntryId(), latestFileVersionId);
+
+			String folderName = folderNames.get(dlFileEntry.getFolderId());
+
+			if (Constants.SONGS_FOLDER_NAME.equals(folderName)) {
+				songLocators.put(dlFileEntry.getClassPK(), songMediaLocator);
+			}
+			else if (Constants.LYRICS_FOLDER_NAME.equals(folderName)) {
+				lyricsLocators.put(dlFileEntry.getClassPK(), songMediaLocator);
+			}
+			else if (Constants.RENDITIONS_FOLDER_NAME.equals(folderName)) {
+				Map<String, SongMediaLocator> renditionLocators =
+					renditionLocatorsMap.get(dlFileEntry.getClassPK());
+
+				if (renditionLocators == null) {
+					renditionLocators =
+						new HashMap<String, SongMediaLocator>();
+
+					renditionLocatorsMap.put(
+						dlFileEntry.getClassPK(), renditionLocators);
+				}
+
+				renditionLocators.put(
+					dlFileEntry.getTitle(), songMediaLocator);
+			}
+		}
+	}
+
+	protected void generateRenditions(
+		Song song, FileEntry fileEntry, int priority) {
+
+		if (song.getRenditionStatus() != Constants.RENDITION_STATUS_PENDING) {
+			return;
+		}
+
+		SongRenditionUtil.generateRenditions(
+			song.getSongId(), fileEntry, priority);
+	}
+
+	protected InputStream getImportInputStream(
+			ZipReader zipReader, String fileName)
+		throws PortalException {
+
+		InputStream inputStream = zipReader.getEntryAsInputStream(fileName);
+
+		if (inputStream == null) {
+			throw new NoSuchFileException(fileName);
+		}
+
+		return inputStream;
+	}
+
+	protected JSONArray getImportManifestJSONArray(File file)
+		throws PortalException {
+
+		ZipReader zipReader = ZipReaderFactoryUtil.getZipReader(file);
+
+		try {
+			String manifest = zipReader.getEntryAsString(
+				_IMPORT_MANIFEST_FILE_NAME);
+
+			if (manifest == null) {
+				throw new NoSuchFileException(_IMPORT_MANIFEST_FILE_NAME);
+			}
+
+			return JSONFactoryUtil.createJSONArray(manifest);
+		}
+		finally {
+			zipReader.close();
+		}
+	}
+
+	/**
+	 * Splits the IDs into lists of at most {@link
+	 * Constants#IN_CLAUSE_SIZE_MAX} IDs, one for each IN clause.
+	 */
+	protected List<List<Long>> getInClauseChunks(List<Long> ids) {
+		List<List<Long>> chunks = new ArrayList<List<Long>>();
+
+		for (int start = 0; start < ids.size();
+				start += Constants.IN_CLAUSE_SIZE_MAX) {
+
+			int end = Math.min(
+				start + Constants.IN_CLAUSE_SIZE_MAX, ids.size());
+
+			chunks.add(ids.subList(start, end));
+		}
+
+		return chunks;
+	}
+
+	protected List<String> getRenditionFileNames() {
+		List<String> renditionFileNames = new ArrayList<String>();
+
+		for (String audioContainer : PortletPropsValues.RENDITION_CONTAINERS) {
+			for (int bitRate : PortletPropsValues.RENDITION_BIT_RATES) {
+				renditionFileNames.add(
+					SongRenditionUtil.getFileName(audioContainer, bitRate));
+			}
+		}
+
+		return renditionFileNames;
+	}
+
+	protected void importSong(
+		long userId, File file, JSONArray manifestJSONArray, int index,
+		ServiceContext serviceContext, SongImportResult songImportResult) {
+
+		JSONArray entryJSONArray = JSONFactoryUtil.createJSONArray();
+
+		entryJSONArray.put(manifestJSONArray.getJSONObject(index));
+
+		try {
+			int importedCount = songLocalService.importSongs(
+				userId, file, entryJSONArray.toString(), serviceContext);
+
+			songImportResult.addImportedCount(importedCount);
+			songImportResult.addSkippedCount(1 - importedCount);
+		}
+		catch (Exception e) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Unable to import song " + index + " of the manifest", e);
+			}
+
+			songImportResult.addFailure(index, e.toString());
+		}
+	}
+
+	protected void reindex(Song song) {
+		IndexingQueueUtil.reindex(Song.class.getName(), song.getSongId());
+	}
+
+	protected void triggerDLProcessors(FileEntry fileEntry) {
+		DLProcessorQueueUtil.trigger(fileEntry);
+	}
+
+	protected void updateAlbumCounts(long oldAlbumId, long newAlbumId) {
+		if (oldAlbumId == newAlbumId) {
+			return;
+		}
+
+		EntryCountUtil.increment(
+			Song.class.getName(), "albumId", oldAlbumId, -1);
+		EntryCountUtil.increment(
+			Song.class.getName(), "albumId", newAlbumId, 1);
+	}
+
+	protected void updateCounts(Song song, int delta) {
+		EntryCountUtil.increment(
+			Song.class.getName(), "groupId", song.getGroupId(), delta);
+		EntryCountUtil.increment(
+			Song.class.getName(), "albumId", song.getAlbumId(), delta);
+	}
+
+	protected void updateNameIndex(Song song) {
+		NameIndexUtil.remove(Song.class.getName(), song.getGroupId());
+	}
+
+	protected void validate(
 			long songId, long groupId, long artistId, long albumId, String name)
 		throws PortalException {
 
@@ -563,4 +1522,8 @@ public class SongLocalServiceImpl extends SongLocalServiceBaseImpl {
 		}
 	}
 
+	private static final String _IMPORT_MANIFEST_FILE_NAME = "manifest.json";
+
+	private static Log _log = LogFactoryUtil.getLog(SongLocalServiceImpl.class);
+
 }
\ No newline at end of file
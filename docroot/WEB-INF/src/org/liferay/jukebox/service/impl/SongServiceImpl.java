@@ -15,18 +15,32 @@
 package org.liferay.jukebox.service.impl;
 
 import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.transaction.Propagation;
+import com.liferay.portal.kernel.transaction.Transactional;
 import com.liferay.portal.kernel.workflow.WorkflowConstants;
 import com.liferay.portal.security.permission.ActionKeys;
+import com.liferay.portal.security.permission.PermissionChecker;
+import com.liferay.portal.security.permission.PermissionThreadLocal;
 import com.liferay.portal.service.ServiceContext;
 
+import java.io.File;
 import java.io.InputStream;
+import java.io.Serializable;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.liferay.jukebox.model.Song;
+import org.liferay.jukebox.model.SongImportResult;
 import org.liferay.jukebox.service.base.SongServiceBaseImpl;
 import org.liferay.jukebox.service.permission.JukeBoxPermission;
 import org.liferay.jukebox.service.permission.SongPermission;
+import org.liferay.jukebox.util.Constants;
+import org.liferay.jukebox.util.NameIndex;
+import org.liferay.jukebox.util.NameIndexUtil;
 
 /**
  * The implementation of the song remote service.
@@ -80,8 +94,25 @@ public class SongServiceImpl extends SongServiceBaseImpl {
 	}
 
 	public List<Song> getSongs(long groupId, String keywords) {
-		return songPersistence.filterFindByG_LikeN_S(
-			groupId, keywords, WorkflowConstants.STATUS_APPROVED);
+		String nameKeywords = NameIndexUtil.getNameKeywords(keywords);
+
+		if (nameKeywords == null) {
+			return songPersistence.filterFindByG_LikeN_S(
+				groupId, keywords, WorkflowConstants.STATUS_APPROVED);
+		}
+
+		NameIndex nameIndex = getNameIndex(groupId);
+
+		return filterSongs(nameIndex.search(nameKeywords));
+	}
+
+	public List<Song> getSongsAfter(
+		long groupId, String name, long songId, int size) {
+
+		size = Math.max(1, Math.min(size, Constants.PAGE_SIZE_MAX));
+
+		return songFinder.filterFindByG_S_After(
+			groupId, WorkflowConstants.STATUS_APPROVED, name, songId, size);
 	}
 
 	public List<Song> getSongsByAlbumId(long groupId, long albumId) {
@@ -115,13 +146,27 @@ public class SongServiceImpl extends SongServiceBaseImpl {
 	}
 
 	public int getSongsCountByAlbumId(long groupId, long albumId, int status) {
-		if (status == WorkflowConstants.STATUS_APPROVED) {
+		if ((status == WorkflowConstants.STATUS_ANY) ||
+			(status == WorkflowConstants.STATUS_APPROVED)) {
+
 			return songPersistence.filterCountByG_A(groupId, albumId);
 		}
 
 		return songPersistence.filterCountByG_A_S(groupId, albumId, status);
 	}
 
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public SongImportResult importSongs(
+			File file, ServiceContext serviceContext)
+		throws PortalException {
+
+		JukeBoxPermission.check(
+			getPermissionChecker(), serviceContext.getScopeGroupId(),
+			"ADD_SONG");
+
+		return songLocalService.importSongs(getUserId(), file, serviceContext);
+	}
+
 	@Override
 	public Song moveSongToTrash(long songId) throws PortalException {
 		Song song = songPersistence.findByPrimaryKey(songId);
@@ -151,4 +196,58 @@ public class SongServiceImpl extends SongServiceBaseImpl {
 			lyricsFileName, lyricsInputStream, serviceContext);
 	}
 
+	protected List<Song> filterSongs(long[] songIds) {
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		for (long songId : songIds) {
+			primaryKeys.add(songId);
+		}
+
+		Map<Serializable, Song> songsMap =
+			songPersistence.fetchByPrimaryKeys(primaryKeys);
+
+		PermissionChecker permissionChecker =
+			PermissionThreadLocal.getPermissionChecker();
+
+		List<Song> songs = new ArrayList<Song>(songIds.length);
+
+		for (long songId : songIds) {
+			Song song = songsMap.get(songId);
+
+			if ((song != null) && song.isApproved() &&
+				permissionChecker.hasPermission(
+					song.getGroupId(), Song.class.getName(), songId,
+					ActionKeys.VIEW)) {
+
+				songs.add(song);
+			}
+		}
+
+		return songs;
+	}
+
+	protected NameIndex getNameIndex(long groupId) {
+		NameIndex nameIndex = NameIndexUtil.get(Song.class.getName(), groupId);
+
+		if (nameIndex != null) {
+			return nameIndex;
+		}
+
+		String version = NameIndexUtil.getVersion(
+			Song.class.getName(), groupId);
+
+		nameIndex = new NameIndex();
+
+		Map<Long, String> names = songFinder.findNamesByG_S(
+			groupId, WorkflowConstants.STATUS_APPROVED);
+
+		for (Map.Entry<Long, String> entry : names.entrySet()) {
+			nameIndex.add(entry.getKey(), entry.getValue());
+		}
+
+		NameIndexUtil.put(Song.class.getName(), groupId, version, nameIndex);
+
+		return nameIndex;
+	}
+
 }
\ No newline at end of file
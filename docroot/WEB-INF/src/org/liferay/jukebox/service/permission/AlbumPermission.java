@@ -17,11 +17,17 @@ package org.liferay.jukebox.service.permission;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.staging.permission.StagingPermissionUtil;
 import com.liferay.portal.security.auth.PrincipalException;
+import com.liferay.portal.security.permission.ActionKeys;
 import com.liferay.portal.security.permission.PermissionChecker;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.liferay.jukebox.model.Album;
+import org.liferay.jukebox.model.AlbumSummary;
 import org.liferay.jukebox.portlet.AlbumsPortlet;
 import org.liferay.jukebox.service.AlbumLocalServiceUtil;
+import org.liferay.jukebox.util.PermissionResultCacheUtil;
 
 /**
  * @author Julio Camarero
@@ -43,35 +49,103 @@ public class AlbumPermission {
 			PermissionChecker permissionChecker, long albumId, String actionId)
 		throws PortalException {
 
-		Album album = AlbumLocalServiceUtil.getAlbum(albumId);
-
-		check(permissionChecker, album, actionId);
+		if (!contains(permissionChecker, albumId, actionId)) {
+			throw new PrincipalException();
+		}
 	}
 
 	public static boolean contains(
 			PermissionChecker permissionChecker, Album album, String actionId)
 		throws PortalException {
 
-		Boolean hasPermission = StagingPermissionUtil.hasPermission(
-			permissionChecker, album.getGroupId(), Album.class.getName(),
-			album.getAlbumId(), AlbumsPortlet.PORTLET_ID, actionId);
+		Boolean hasPermission = PermissionResultCacheUtil.get(
+			permissionChecker, Album.class.getName(), album.getAlbumId(),
+			actionId);
 
-		if (hasPermission != null) {
-			return hasPermission.booleanValue();
+		if (hasPermission == null) {
+			hasPermission = _hasPermission(
+				permissionChecker, album.getGroupId(), album.getAlbumId(),
+				actionId);
+
+			PermissionResultCacheUtil.put(
+				permissionChecker, Album.class.getName(), album.getAlbumId(),
+				actionId, hasPermission);
 		}
 
-		return permissionChecker.hasPermission(
-			album.getGroupId(), Album.class.getName(), album.getAlbumId(),
-			actionId);
+		return hasPermission.booleanValue();
+	}
+
+	public static boolean contains(
+			PermissionChecker permissionChecker, AlbumSummary albumSummary,
+			String actionId)
+		throws PortalException {
+
+		Boolean hasPermission = PermissionResultCacheUtil.get(
+			permissionChecker, Album.class.getName(),
+			albumSummary.getAlbumId(), actionId);
+
+		if (hasPermission == null) {
+			hasPermission = _hasPermission(
+				permissionChecker, albumSummary.getGroupId(),
+				albumSummary.getAlbumId(), actionId);
+
+			PermissionResultCacheUtil.put(
+				permissionChecker, Album.class.getName(),
+				albumSummary.getAlbumId(), actionId, hasPermission);
+		}
+
+		return hasPermission.booleanValue();
 	}
 
 	public static boolean contains(
 			PermissionChecker permissionChecker, long albumId, String actionId)
 		throws PortalException {
 
+		Boolean hasPermission = PermissionResultCacheUtil.get(
+			permissionChecker, Album.class.getName(), albumId, actionId);
+
+		if (hasPermission != null) {
+			return hasPermission.booleanValue();
+		}
+
 		Album album = AlbumLocalServiceUtil.getAlbum(albumId);
 
 		return contains(permissionChecker, album, actionId);
 	}
 
+	/**
+	 * Returns the albums that the user can view, in the same order.
+	 */
+	public static List<Album> filterVisible(
+			PermissionChecker permissionChecker, List<Album> albums)
+		throws PortalException {
+
+		List<Album> visibleAlbums = new ArrayList<Album>(albums.size());
+
+		for (Album album : albums) {
+			if (contains(permissionChecker, album, ActionKeys.VIEW)) {
+				visibleAlbums.add(album);
+			}
+		}
+
+		return visibleAlbums;
+	}
+
+	private static Boolean _hasPermission(
+			PermissionChecker permissionChecker, long groupId, long albumId,
+			String actionId)
+		throws PortalException {
+
+		Boolean hasPermission = StagingPermissionUtil.hasPermission(
+			permissionChecker, groupId, Album.class.getName(), albumId,
+			AlbumsPortlet.PORTLET_ID, actionId);
+
+		if (hasPermission != null) {
+			return hasPermission;
+		}
+
+		return permissionChecker.hasPermission(
+			groupId, Album.class.getName(), albumId, actionId);
+	}
+
 }
\ No newline at end of file
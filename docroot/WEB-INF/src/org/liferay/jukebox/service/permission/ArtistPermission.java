@@ -17,17 +17,32 @@ package org.liferay.jukebox.service.permission;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.staging.permission.StagingPermissionUtil;
 import com.liferay.portal.security.auth.PrincipalException;
+import com.liferay.portal.security.permission.ActionKeys;
 import com.liferay.portal.security.permission.PermissionChecker;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.liferay.jukebox.model.Artist;
+import org.liferay.jukebox.model.ArtistSummary;
 import org.liferay.jukebox.portlet.AlbumsPortlet;
 import org.liferay.jukebox.service.ArtistLocalServiceUtil;
+import org.liferay.jukebox.util.PermissionResultCacheUtil;
 
 /**
  * @author Julio Camarero
  */
 public class ArtistPermission {
 
+	public static void check(
+			PermissionChecker permissionChecker, Artist artist, String actionId)
+		throws PortalException {
+
+		if (!contains(permissionChecker, artist, actionId)) {
+			throw new PrincipalException();
+		}
+	}
+
 	public static void check(
 			PermissionChecker permissionChecker, long artistId, String actionId)
 		throws PortalException {
@@ -37,23 +52,98 @@ public class ArtistPermission {
 		}
 	}
 
+	public static boolean contains(
+			PermissionChecker permissionChecker, Artist artist, String actionId)
+		throws PortalException {
+
+		Boolean hasPermission = PermissionResultCacheUtil.get(
+			permissionChecker, Artist.class.getName(), artist.getArtistId(),
+			actionId);
+
+		if (hasPermission == null) {
+			hasPermission = _hasPermission(
+				permissionChecker, artist.getGroupId(), artist.getArtistId(),
+				actionId);
+
+			PermissionResultCacheUtil.put(
+				permissionChecker, Artist.class.getName(), artist.getArtistId(),
+				actionId, hasPermission);
+		}
+
+		return hasPermission.booleanValue();
+	}
+
+	public static boolean contains(
+			PermissionChecker permissionChecker, ArtistSummary artistSummary,
+			String actionId)
+		throws PortalException {
+
+		Boolean hasPermission = PermissionResultCacheUtil.get(
+			permissionChecker, Artist.class.getName(),
+			artistSummary.getArtistId(), actionId);
+
+		if (hasPermission == null) {
+			hasPermission = _hasPermission(
+				permissionChecker, artistSummary.getGroupId(),
+				artistSummary.getArtistId(), actionId);
+
+			PermissionResultCacheUtil.put(
+				permissionChecker, Artist.class.getName(),
+				artistSummary.getArtistId(), actionId, hasPermission);
+		}
+
+		return hasPermission.booleanValue();
+	}
+
 	public static boolean contains(
 			PermissionChecker permissionChecker, long artistId, String actionId)
 		throws PortalException {
 
+		Boolean hasPermission = PermissionResultCacheUtil.get(
+			permissionChecker, Artist.class.getName(), artistId, actionId);
+
+		if (hasPermission != null) {
+			return hasPermission.booleanValue();
+		}
+
 		Artist artist = ArtistLocalServiceUtil.getArtist(artistId);
 
+		return contains(permissionChecker, artist, actionId);
+	}
+
+	/**
+	 * Returns the artists that the user can view, in the same order.
+	 */
+	public static List<Artist> filterVisible(
+			PermissionChecker permissionChecker, List<Artist> artists)
+		throws PortalException {
+
+		List<Artist> visibleArtists = new ArrayList<Artist>(artists.size());
+
+		for (Artist artist : artists) {
+			if (contains(permissionChecker, artist, ActionKeys.VIEW)) {
+				visibleArtists.add(artist);
+			}
+		}
+
+		return visibleArtists;
+	}
+
+	private static Boolean _hasPermission(
+			PermissionChecker permissionChecker, long groupId, long artistId,
+			String actionId)
+		throws PortalException {
+
 		Boolean hasPermission = StagingPermissionUtil.hasPermission(
-			permissionChecker, artist.getGroupId(), Artist.class.getName(),
-			artist.getArtistId(), AlbumsPortlet.PORTLET_ID, actionId);
+			permissionChecker, groupId, Artist.class.getName(), artistId,
+			AlbumsPortlet.PORTLET_ID, actionId);
 
 		if (hasPermission != null) {
-			return hasPermission.booleanValue();
+			return hasPermission;
 		}
 
 		return permissionChecker.hasPermission(
-			artist.getGroupId(), Artist.class.getName(), artist.getArtistId(),
-			actionId);
+			groupId, Artist.class.getName(), artistId, actionId);
 	}
 
 }
\ No newline at end of file
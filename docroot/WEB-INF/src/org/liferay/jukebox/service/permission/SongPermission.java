@@ -17,11 +17,16 @@ package org.liferay.jukebox.service.permission;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.staging.permission.StagingPermissionUtil;
 import com.liferay.portal.security.auth.PrincipalException;
+import com.liferay.portal.security.permission.ActionKeys;
 import com.liferay.portal.security.permission.PermissionChecker;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.liferay.jukebox.model.Song;
 import org.liferay.jukebox.portlet.AlbumsPortlet;
 import org.liferay.jukebox.service.SongLocalServiceUtil;
+import org.liferay.jukebox.util.PermissionResultCacheUtil;
 
 /**
  * @author Julio Camarero
@@ -30,6 +35,15 @@ import org.liferay.jukebox.service.SongLocalServiceUtil;
  */
 public class SongPermission {
 
+	public static void check(
+			PermissionChecker permissionChecker, Song song, String actionId)
+		throws PortalException {
+
+		if (!contains(permissionChecker, song, actionId)) {
+			throw new PrincipalException();
+		}
+	}
+
 	public static void check(
 			PermissionChecker permissionChecker, long songId, String actionId)
 		throws PortalException {
@@ -39,38 +53,71 @@ public class SongPermission {
 		}
 	}
 
-	public static void check(
+	public static boolean contains(
 			PermissionChecker permissionChecker, Song song, String actionId)
 		throws PortalException {
 
-		if (!contains(permissionChecker, song, actionId)) {
-			throw new PrincipalException();
+		Boolean hasPermission = PermissionResultCacheUtil.get(
+			permissionChecker, Song.class.getName(), song.getSongId(),
+			actionId);
+
+		if (hasPermission == null) {
+			hasPermission = _hasPermission(permissionChecker, song, actionId);
+
+			PermissionResultCacheUtil.put(
+				permissionChecker, Song.class.getName(), song.getSongId(),
+				actionId, hasPermission);
 		}
+
+		return hasPermission.booleanValue();
 	}
 
 	public static boolean contains(
 			PermissionChecker permissionChecker, long songId, String actionId)
 		throws PortalException {
 
-		Song song = SongLocalServiceUtil.getSong(songId);
-
-		Boolean hasPermission = StagingPermissionUtil.hasPermission(
-			permissionChecker, song.getGroupId(), Song.class.getName(),
-			song.getSongId(), AlbumsPortlet.PORTLET_ID, actionId);
+		Boolean hasPermission = PermissionResultCacheUtil.get(
+			permissionChecker, Song.class.getName(), songId, actionId);
 
 		if (hasPermission != null) {
 			return hasPermission.booleanValue();
 		}
 
-		return permissionChecker.hasPermission(
-			song.getGroupId(), Song.class.getName(), song.getSongId(),
-			actionId);
+		Song song = SongLocalServiceUtil.getSong(songId);
+
+		return contains(permissionChecker, song, actionId);
 	}
 
-	public static boolean contains(
+	/**
+	 * Returns the songs that the user can view, in the same order.
+	 */
+	public static List<Song> filterVisible(
+			PermissionChecker permissionChecker, List<Song> songs)
+		throws PortalException {
+
+		List<Song> visibleSongs = new ArrayList<Song>(songs.size());
+
+		for (Song song : songs) {
+			if (contains(permissionChecker, song, ActionKeys.VIEW)) {
+				visibleSongs.add(song);
+			}
+		}
+
+		return visibleSongs;
+	}
+
+	private static Boolean _hasPermission(
 			PermissionChecker permissionChecker, Song song, String actionId)
 		throws PortalException {
 
+		Boolean hasPermission = StagingPermissionUtil.hasPermission(
+			permissionChecker, song.getGroupId(), Song.class.getName(),
+			song.getSongId(), AlbumsPortlet.PORTLET_ID, actionId);
+
+		if (hasPermission != null) {
+			return hasPermission;
+		}
+
 		return permissionChecker.hasPermission(
 			song.getGroupId(), Song.class.getName(), song.getSongId(),
 			actionId);
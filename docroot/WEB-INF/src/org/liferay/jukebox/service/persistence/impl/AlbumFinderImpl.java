@@ -0,0 +1,400 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.service.persistence.impl;
+
+import com.liferay.portal.kernel.dao.orm.QueryPos;
+import com.liferay.portal.kernel.dao.orm.QueryUtil;
+import com.liferay.portal.kernel.dao.orm.SQLQuery;
+import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.dao.orm.Type;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.security.permission.InlineSQLHelperUtil;
+import com.liferay.portal.service.persistence.impl.BasePersistenceImpl;
+import com.liferay.util.dao.orm.CustomSQLUtil;
+
+import org.liferay.jukebox.model.Album;
+import org.liferay.jukebox.model.AlbumSummary;
+import org.liferay.jukebox.model.impl.AlbumImpl;
+import org.liferay.jukebox.service.persistence.AlbumFinder;
+import org.liferay.jukebox.util.Constants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Julio Camarero
+ */
+public class AlbumFinderImpl
+	extends BasePersistenceImpl<Album> implements AlbumFinder {
+
+	public static final String FIND_BY_G_S_AFTER =
+		AlbumFinder.class.getName() + ".findByG_S_After";
+
+	public static final String FIND_SUMMARIES_BY_ALBUM_IDS =
+		AlbumFinder.class.getName() + ".findSummariesByAlbumIds";
+
+	public static final String FIND_SUMMARIES_BY_GROUP_ID =
+		AlbumFinder.class.getName() + ".findSummariesByGroupId";
+
+	public static final String FIND_SUMMARIES_BY_G_A_S =
+		AlbumFinder.class.getName() + ".findSummariesByG_A_S";
+
+	public static final String FIND_SUMMARIES_BY_G_LIKEN_S =
+		AlbumFinder.class.getName() + ".findSummariesByG_LikeN_S";
+
+	public static final String FIND_SUMMARIES_BY_G_S_AFTER =
+		AlbumFinder.class.getName() + ".findSummariesByG_S_After";
+
+	@Override
+	public List<Album> filterFindByG_S_After(
+		long groupId, int status, String name, long albumId, int size) {
+
+		return doFindByG_S_After(groupId, status, name, albumId, size, true);
+	}
+
+	@Override
+	public List<AlbumSummary> filterFindSummariesByG_A_S(
+		long groupId, long artistId, int status) {
+
+		return doFindSummariesByG_A_S(groupId, artistId, status, true);
+	}
+
+	@Override
+	public List<AlbumSummary> filterFindSummariesByG_LikeN_S(
+		long groupId, String name, int status) {
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(FIND_SUMMARIES_BY_G_LIKEN_S);
+
+			sql = InlineSQLHelperUtil.replacePermissionCheck(
+				sql, Album.class.getName(), "jukebox_Album.albumId", groupId);
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			addSummaryScalars(q);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(groupId);
+			qPos.add(StringUtil.toLowerCase(name));
+			qPos.add(status);
+
+			return toAlbumSummaries((List<Object[]>)q.list());
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	public List<AlbumSummary> filterFindSummariesByG_S_After(
+		long groupId, int status, String name, long albumId, int size) {
+
+		return doFindSummariesByG_S_After(
+			groupId, status, name, albumId, size, true);
+	}
+
+	@Override
+	public List<Album> findByG_S_After(
+		long groupId, int status, String name, long albumId, int size) {
+
+		return doFindByG_S_After(groupId, status, name, albumId, size, false);
+	}
+
+	/**
+	 * Returns the summaries of the albums, in the same order as the album IDs.
+	 * Albums that do not exist are skipped. The album IDs are queried in
+	 * chunks of {@link Constants#IN_CLAUSE_SIZE_MAX}.
+	 */
+	@Override
+	public List<AlbumSummary> findSummariesByAlbumIds(long[] albumIds) {
+		if (albumIds.length == 0) {
+			return Collections.emptyList();
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			Map<Long, AlbumSummary> albumSummariesMap =
+				new HashMap<Long, AlbumSummary>();
+
+			for (int start = 0; start < albumIds.length;
+					start += Constants.IN_CLAUSE_SIZE_MAX) {
+
+				int end = Math.min(
+					start + Constants.IN_CLAUSE_SIZE_MAX, albumIds.length);
+
+				String sql = CustomSQLUtil.get(FIND_SUMMARIES_BY_ALBUM_IDS);
+
+				sql = StringUtil.replace(
+					sql, "[$ALBUM_IDS$]",
+					StringUtil.merge(ArrayUtil.subset(albumIds, start, end)));
+
+				SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+				addSummaryScalars(q);
+
+				List<AlbumSummary> unorderedAlbumSummaries = toAlbumSummaries(
+					(List<Object[]>)q.list());
+
+				for (AlbumSummary albumSummary : unorderedAlbumSummaries) {
+					albumSummariesMap.put(
+						albumSummary.getAlbumId(), albumSummary);
+				}
+			}
+
+			List<AlbumSummary> albumSummaries = new ArrayList<AlbumSummary>(
+				albumIds.length);
+
+			for (long albumId : albumIds) {
+				AlbumSummary albumSummary = albumSummariesMap.get(albumId);
+
+				if (albumSummary != null) {
+					albumSummaries.add(albumSummary);
+				}
+			}
+
+			return albumSummaries;
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	public List<AlbumSummary> findSummariesByGroupId(long groupId) {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(FIND_SUMMARIES_BY_GROUP_ID);
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			addSummaryScalars(q);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(groupId);
+
+			return toAlbumSummaries((List<Object[]>)q.list());
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	public List<AlbumSummary> findSummariesByG_A_S(
+		long groupId, long artistId, int status) {
+
+		return doFindSummariesByG_A_S(groupId, artistId, status, false);
+	}
+
+	@Override
+	public List<AlbumSummary> findSummariesByG_S_After(
+		long groupId, int status, String name, long albumId, int size) {
+
+		return doFindSummariesByG_S_After(
+			groupId, status, name, albumId, size, false);
+	}
+
+	protected void addSummaryScalars(SQLQuery q) {
+		q.addScalar("albumId", Type.LONG);
+		q.addScalar("groupId", Type.LONG);
+		q.addScalar("artistId", Type.LONG);
+		q.addScalar("name", Type.STRING);
+		q.addScalar("year", Type.INTEGER);
+		q.addScalar("status", Type.INTEGER);
+		q.addScalar("artistName", Type.STRING);
+	}
+
+	protected List<Album> doFindByG_S_After(
+		long groupId, int status, String name, long albumId, int size,
+		boolean inlineSQLHelper) {
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(FIND_BY_G_S_AFTER);
+
+			if (albumId > 0) {
+				sql = StringUtil.replace(sql, "[$AFTER$]", _AFTER_SQL);
+			}
+			else {
+				sql = StringUtil.replace(sql, "[$AFTER$]", StringPool.BLANK);
+			}
+
+			if (inlineSQLHelper) {
+				sql = InlineSQLHelperUtil.replacePermissionCheck(
+					sql, Album.class.getName(), "jukebox_Album.albumId",
+					groupId);
+			}
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			q.addEntity("jukebox_Album", AlbumImpl.class);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(groupId);
+			qPos.add(status);
+
+			if (albumId > 0) {
+				qPos.add(name);
+				qPos.add(name);
+				qPos.add(albumId);
+			}
+
+			return (List<Album>)QueryUtil.list(q, getDialect(), 0, size);
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected List<AlbumSummary> doFindSummariesByG_A_S(
+		long groupId, long artistId, int status, boolean inlineSQLHelper) {
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(FIND_SUMMARIES_BY_G_A_S);
+
+			if (inlineSQLHelper) {
+				sql = InlineSQLHelperUtil.replacePermissionCheck(
+					sql, Album.class.getName(), "jukebox_Album.albumId",
+					groupId);
+			}
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			addSummaryScalars(q);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(groupId);
+			qPos.add(artistId);
+			qPos.add(status);
+
+			return toAlbumSummaries((List<Object[]>)q.list());
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected List<AlbumSummary> doFindSummariesByG_S_After(
+		long groupId, int status, String name, long albumId, int size,
+		boolean inlineSQLHelper) {
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(FIND_SUMMARIES_BY_G_S_AFTER);
+
+			if (albumId > 0) {
+				sql = StringUtil.replace(sql, "[$AFTER$]", _AFTER_SQL);
+			}
+			else {
+				sql = StringUtil.replace(sql, "[$AFTER$]", StringPool.BLANK);
+			}
+
+			if (inlineSQLHelper) {
+				sql = InlineSQLHelperUtil.replacePermissionCheck(
+					sql, Album.class.getName(), "jukebox_Album.albumId",
+					groupId);
+			}
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			addSummaryScalars(q);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(groupId);
+			qPos.add(status);
+
+			if (albumId > 0) {
+				qPos.add(name);
+				qPos.add(name);
+				qPos.add(albumId);
+			}
+
+			return toAlbumSummaries(
+				(List<Object[]>)QueryUtil.list(q, getDialect(), 0, size));
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected List<AlbumSummary> toAlbumSummaries(List<Object[]> rows) {
+		List<AlbumSummary> albumSummaries = new ArrayList<AlbumSummary>(
+			rows.size());
+
+		for (Object[] array : rows) {
+			albumSummaries.add(
+				new AlbumSummary(
+					(Long)array[0], (Long)array[1], (Long)array[2],
+					(String)array[3], (Integer)array[4], (Integer)array[5],
+					(String)array[6]));
+		}
+
+		return albumSummaries;
+	}
+
+	private static final String _AFTER_SQL =
+		"AND ((jukebox_Album.name > ?) OR ((jukebox_Album.name = ?) AND " +
+			"(jukebox_Album.albumId > ?)))";
+
+}
\ No newline at end of file
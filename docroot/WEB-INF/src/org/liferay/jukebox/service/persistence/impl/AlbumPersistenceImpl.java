@@ -47,6 +47,7 @@ import org.liferay.jukebox.model.Album;
 import org.liferay.jukebox.model.impl.AlbumImpl;
 import org.liferay.jukebox.model.impl.AlbumModelImpl;
 import org.liferay.jukebox.service.persistence.AlbumPersistence;
+import org.liferay.jukebox.util.FinderCachePartitionUtil;
 
 import java.io.Serializable;
 
@@ -170,6 +171,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 			finderArgs = new Object[] { uuid, start, end, orderByComparator };
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		List<Album> list = (List<Album>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -548,6 +552,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 
 		Object[] finderArgs = new Object[] { uuid };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -799,6 +806,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 
 		Object[] finderArgs = new Object[] { uuid, groupId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -950,6 +960,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 				};
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		List<Album> list = (List<Album>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -1353,6 +1366,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 
 		Object[] finderArgs = new Object[] { uuid, companyId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -1494,6 +1510,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 			finderArgs = new Object[] { groupId, start, end, orderByComparator };
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		List<Album> list = (List<Album>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -2151,6 +2170,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 
 		Object[] finderArgs = new Object[] { groupId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -2319,6 +2341,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 			finderArgs = new Object[] { userId, start, end, orderByComparator };
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		List<Album> list = (List<Album>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -2670,6 +2695,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 
 		Object[] finderArgs = new Object[] { userId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -2792,6 +2820,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 			finderArgs = new Object[] { companyId, start, end, orderByComparator };
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		List<Album> list = (List<Album>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -3143,6 +3174,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 
 		Object[] finderArgs = new Object[] { companyId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -3264,6 +3298,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 			finderArgs = new Object[] { artistId, start, end, orderByComparator };
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"artistId", artistId, finderArgs);
+
 		List<Album> list = (List<Album>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -3615,6 +3652,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 
 		Object[] finderArgs = new Object[] { artistId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"artistId", artistId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -3743,6 +3783,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 				};
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		List<Album> list = (List<Album>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -4439,6 +4482,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 
 		Object[] finderArgs = new Object[] { groupId, userId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -4625,6 +4671,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 				};
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		List<Album> list = (List<Album>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -5321,6 +5370,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 
 		Object[] finderArgs = new Object[] { groupId, status };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -5519,6 +5571,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 				};
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"artistId", artistId, finderArgs);
+
 		List<Album> list = (List<Album>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -6253,6 +6308,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 
 		Object[] finderArgs = new Object[] { groupId, artistId, status };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"artistId", artistId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -6445,6 +6503,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 				start, end, orderByComparator
 			};
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		List<Album> list = (List<Album>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -7238,6 +7299,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 
 		Object[] finderArgs = new Object[] { groupId, name, status };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -7448,21 +7512,17 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 		EntityCacheUtil.removeResult(AlbumModelImpl.ENTITY_CACHE_ENABLED,
 			AlbumImpl.class, album.getPrimaryKey());
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
-
+		clearListFindersCache(album);
 		clearUniqueFindersCache(album);
 	}
 
 	@Override
 	public void clearCache(List<Album> albums) {
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
-
 		for (Album album : albums) {
 			EntityCacheUtil.removeResult(AlbumModelImpl.ENTITY_CACHE_ENABLED,
 				AlbumImpl.class, album.getPrimaryKey());
 
+			clearListFindersCache(album);
 			clearUniqueFindersCache(album);
 		}
 	}
@@ -7490,6 +7550,27 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 		}
 	}
 
+	protected void clearListFindersCache(Album album) {
+		AlbumModelImpl albumModelImpl = (AlbumModelImpl)album;
+
+		FinderCachePartitionUtil.clearCache(FINDER_CLASS_NAME_ENTITY);
+
+		FinderCachePartitionUtil.clearCache(FINDER_CLASS_NAME_ENTITY, "groupId",
+			album.getGroupId());
+		FinderCachePartitionUtil.clearCache(FINDER_CLASS_NAME_ENTITY, "artistId",
+			album.getArtistId());
+
+		if (albumModelImpl.getOriginalGroupId() != album.getGroupId()) {
+			FinderCachePartitionUtil.clearCache(FINDER_CLASS_NAME_ENTITY,
+				"groupId", albumModelImpl.getOriginalGroupId());
+		}
+
+		if (albumModelImpl.getOriginalArtistId() != album.getArtistId()) {
+			FinderCachePartitionUtil.clearCache(FINDER_CLASS_NAME_ENTITY,
+				"artistId", albumModelImpl.getOriginalArtistId());
+		}
+	}
+
 	protected void clearUniqueFindersCache(Album album) {
 		AlbumModelImpl albumModelImpl = (AlbumModelImpl)album;
 
@@ -7616,10 +7697,6 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 	public Album updateImpl(org.liferay.jukebox.model.Album album) {
 		album = toUnwrappedModel(album);
 
-		boolean isNew = album.isNew();
-
-		AlbumModelImpl albumModelImpl = (AlbumModelImpl)album;
-
 		if (Validator.isNull(album.getUuid())) {
 			String uuid = PortalUUIDUtil.generate();
 
@@ -7647,176 +7724,7 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 			closeSession(session);
 		}
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-
-		if (isNew || !AlbumModelImpl.COLUMN_BITMASK_ENABLED) {
-			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
-		}
-
-		else {
-			if ((albumModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_UUID.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] { albumModelImpl.getOriginalUuid() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_UUID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_UUID,
-					args);
-
-				args = new Object[] { albumModelImpl.getUuid() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_UUID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_UUID,
-					args);
-			}
-
-			if ((albumModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_UUID_C.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						albumModelImpl.getOriginalUuid(),
-						albumModelImpl.getOriginalCompanyId()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_UUID_C, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_UUID_C,
-					args);
-
-				args = new Object[] {
-						albumModelImpl.getUuid(), albumModelImpl.getCompanyId()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_UUID_C, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_UUID_C,
-					args);
-			}
-
-			if ((albumModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_GROUPID.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] { albumModelImpl.getOriginalGroupId() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_GROUPID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_GROUPID,
-					args);
-
-				args = new Object[] { albumModelImpl.getGroupId() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_GROUPID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_GROUPID,
-					args);
-			}
-
-			if ((albumModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] { albumModelImpl.getOriginalUserId() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_USERID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID,
-					args);
-
-				args = new Object[] { albumModelImpl.getUserId() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_USERID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID,
-					args);
-			}
-
-			if ((albumModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						albumModelImpl.getOriginalCompanyId()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_COMPANYID,
-					args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID,
-					args);
-
-				args = new Object[] { albumModelImpl.getCompanyId() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_COMPANYID,
-					args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID,
-					args);
-			}
-
-			if ((albumModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_ARTISTID.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						albumModelImpl.getOriginalArtistId()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_ARTISTID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_ARTISTID,
-					args);
-
-				args = new Object[] { albumModelImpl.getArtistId() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_ARTISTID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_ARTISTID,
-					args);
-			}
-
-			if ((albumModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_U.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						albumModelImpl.getOriginalGroupId(),
-						albumModelImpl.getOriginalUserId()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_G_U, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_U,
-					args);
-
-				args = new Object[] {
-						albumModelImpl.getGroupId(), albumModelImpl.getUserId()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_G_U, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_U,
-					args);
-			}
-
-			if ((albumModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_S.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						albumModelImpl.getOriginalGroupId(),
-						albumModelImpl.getOriginalStatus()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_G_S, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_S,
-					args);
-
-				args = new Object[] {
-						albumModelImpl.getGroupId(), albumModelImpl.getStatus()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_G_S, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_S,
-					args);
-			}
-
-			if ((albumModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_A_S.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						albumModelImpl.getOriginalGroupId(),
-						albumModelImpl.getOriginalArtistId(),
-						albumModelImpl.getOriginalStatus()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_G_A_S, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_A_S,
-					args);
-
-				args = new Object[] {
-						albumModelImpl.getGroupId(),
-						albumModelImpl.getArtistId(), albumModelImpl.getStatus()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_G_A_S, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_A_S,
-					args);
-			}
-		}
+		clearListFindersCache(album);
 
 		EntityCacheUtil.putResult(AlbumModelImpl.ENTITY_CACHE_ENABLED,
 			AlbumImpl.class, album.getPrimaryKey(), album, false);
@@ -8098,6 +8006,9 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 			finderArgs = new Object[] { start, end, orderByComparator };
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		List<Album> list = (List<Album>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -8179,8 +8090,11 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 	 */
 	@Override
 	public int countAll() {
+		Object[] finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				FINDER_ARGS_EMPTY);
+
 		Long count = (Long)FinderCacheUtil.getResult(FINDER_PATH_COUNT_ALL,
-				FINDER_ARGS_EMPTY, this);
+				finderArgs, this);
 
 		if (count == null) {
 			Session session = null;
@@ -8192,12 +8106,11 @@ public class AlbumPersistenceImpl extends BasePersistenceImpl<Album>
 
 				count = (Long)q.uniqueResult();
 
-				FinderCacheUtil.putResult(FINDER_PATH_COUNT_ALL,
-					FINDER_ARGS_EMPTY, count);
+				FinderCacheUtil.putResult(FINDER_PATH_COUNT_ALL, finderArgs,
+					count);
 			}
 			catch (Exception e) {
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_ALL,
-					FINDER_ARGS_EMPTY);
+				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_ALL, finderArgs);
 
 				throw processException(e);
 			}
@@ -0,0 +1,344 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.service.persistence.impl;
+
+import com.liferay.portal.kernel.dao.orm.QueryPos;
+import com.liferay.portal.kernel.dao.orm.QueryUtil;
+import com.liferay.portal.kernel.dao.orm.SQLQuery;
+import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.dao.orm.Type;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.security.permission.InlineSQLHelperUtil;
+import com.liferay.portal.service.persistence.impl.BasePersistenceImpl;
+import com.liferay.util.dao.orm.CustomSQLUtil;
+
+import org.liferay.jukebox.model.Artist;
+import org.liferay.jukebox.model.ArtistSummary;
+import org.liferay.jukebox.model.impl.ArtistImpl;
+import org.liferay.jukebox.service.persistence.ArtistFinder;
+import org.liferay.jukebox.util.Constants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Julio Camarero
+ */
+public class ArtistFinderImpl
+	extends BasePersistenceImpl<Artist> implements ArtistFinder {
+
+	public static final String FIND_BY_G_S_AFTER =
+		ArtistFinder.class.getName() + ".findByG_S_After";
+
+	public static final String FIND_SUMMARIES_BY_ARTIST_IDS =
+		ArtistFinder.class.getName() + ".findSummariesByArtistIds";
+
+	public static final String FIND_SUMMARIES_BY_GROUP_ID =
+		ArtistFinder.class.getName() + ".findSummariesByGroupId";
+
+	public static final String FIND_SUMMARIES_BY_G_LIKEN_S =
+		ArtistFinder.class.getName() + ".findSummariesByG_LikeN_S";
+
+	public static final String FIND_SUMMARIES_BY_G_S_AFTER =
+		ArtistFinder.class.getName() + ".findSummariesByG_S_After";
+
+	@Override
+	public List<Artist> filterFindByG_S_After(
+		long groupId, int status, String name, long artistId, int size) {
+
+		return doFindByG_S_After(groupId, status, name, artistId, size, true);
+	}
+
+	@Override
+	public List<ArtistSummary> filterFindSummariesByG_LikeN_S(
+		long groupId, String name, int status) {
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(FIND_SUMMARIES_BY_G_LIKEN_S);
+
+			sql = InlineSQLHelperUtil.replacePermissionCheck(
+				sql, Artist.class.getName(), "jukebox_Artist.artistId",
+				groupId);
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			addSummaryScalars(q);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(groupId);
+			qPos.add(StringUtil.toLowerCase(name));
+			qPos.add(status);
+
+			return toArtistSummaries((List<Object[]>)q.list());
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	public List<ArtistSummary> filterFindSummariesByG_S_After(
+		long groupId, int status, String name, long artistId, int size) {
+
+		return doFindSummariesByG_S_After(
+			groupId, status, name, artistId, size, true);
+	}
+
+	@Override
+	public List<Artist> findByG_S_After(
+		long groupId, int status, String name, long artistId, int size) {
+
+		return doFindByG_S_After(groupId, status, name, artistId, size, false);
+	}
+
+	/**
+	 * Returns the summaries of the artists, in the same order as the artist
+	 * IDs. Artists that do not exist are skipped. The artist IDs are queried
+	 * in chunks of {@link Constants#IN_CLAUSE_SIZE_MAX}.
+	 */
+	@Override
+	public List<ArtistSummary> findSummariesByArtistIds(long[] artistIds) {
+		if (artistIds.length == 0) {
+			return Collections.emptyList();
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			Map<Long, ArtistSummary> artistSummariesMap =
+				new HashMap<Long, ArtistSummary>();
+
+			for (int start = 0; start < artistIds.length;
+					start += Constants.IN_CLAUSE_SIZE_MAX) {
+
+				int end = Math.min(
+					start + Constants.IN_CLAUSE_SIZE_MAX, artistIds.length);
+
+				String sql = CustomSQLUtil.get(FIND_SUMMARIES_BY_ARTIST_IDS);
+
+				sql = StringUtil.replace(
+					sql, "[$ARTIST_IDS$]",
+					StringUtil.merge(ArrayUtil.subset(artistIds, start, end)));
+
+				SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+				addSummaryScalars(q);
+
+				List<ArtistSummary> unorderedArtistSummaries =
+					toArtistSummaries((List<Object[]>)q.list());
+
+				for (ArtistSummary artistSummary : unorderedArtistSummaries) {
+					artistSummariesMap.put(
+						artistSummary.getArtistId(), artistSummary);
+				}
+			}
+
+			List<ArtistSummary> artistSummaries =
+				new ArrayList<ArtistSummary>(artistIds.length);
+
+			for (long artistId : artistIds) {
+				ArtistSummary artistSummary = artistSummariesMap.get(artistId);
+
+				if (artistSummary != null) {
+					artistSummaries.add(artistSummary);
+				}
+			}
+
+			return artistSummaries;
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	public List<ArtistSummary> findSummariesByGroupId(long groupId) {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(FIND_SUMMARIES_BY_GROUP_ID);
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			addSummaryScalars(q);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(groupId);
+
+			return toArtistSummaries((List<Object[]>)q.list());
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	public List<ArtistSummary> findSummariesByG_S_After(
+		long groupId, int status, String name, long artistId, int size) {
+
+		return doFindSummariesByG_S_After(
+			groupId, status, name, artistId, size, false);
+	}
+
+	protected void addSummaryScalars(SQLQuery q) {
+		q.addScalar("artistId", Type.LONG);
+		q.addScalar("groupId", Type.LONG);
+		q.addScalar("name", Type.STRING);
+		q.addScalar("status", Type.INTEGER);
+	}
+
+	protected List<Artist> doFindByG_S_After(
+		long groupId, int status, String name, long artistId, int size,
+		boolean inlineSQLHelper) {
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(FIND_BY_G_S_AFTER);
+
+			if (artistId > 0) {
+				sql = StringUtil.replace(sql, "[$AFTER$]", _AFTER_SQL);
+			}
+			else {
+				sql = StringUtil.replace(sql, "[$AFTER$]", StringPool.BLANK);
+			}
+
+			if (inlineSQLHelper) {
+				sql = InlineSQLHelperUtil.replacePermissionCheck(
+					sql, Artist.class.getName(), "jukebox_Artist.artistId",
+					groupId);
+			}
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			q.addEntity("jukebox_Artist", ArtistImpl.class);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(groupId);
+			qPos.add(status);
+
+			if (artistId > 0) {
+				qPos.add(name);
+				qPos.add(name);
+				qPos.add(artistId);
+			}
+
+			return (List<Artist>)QueryUtil.list(q, getDialect(), 0, size);
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected List<ArtistSummary> doFindSummariesByG_S_After(
+		long groupId, int status, String name, long artistId, int size,
+		boolean inlineSQLHelper) {
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(FIND_SUMMARIES_BY_G_S_AFTER);
+
+			if (artistId > 0) {
+				sql = StringUtil.replace(sql, "[$AFTER$]", _AFTER_SQL);
+			}
+			else {
+				sql = StringUtil.replace(sql, "[$AFTER$]", StringPool.BLANK);
+			}
+
+			if (inlineSQLHelper) {
+				sql = InlineSQLHelperUtil.replacePermissionCheck(
+					sql, Artist.class.getName(), "jukebox_Artist.artistId",
+					groupId);
+			}
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			addSummaryScalars(q);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(groupId);
+			qPos.add(status);
+
+			if (artistId > 0) {
+				qPos.add(name);
+				qPos.add(name);
+				qPos.add(artistId);
+			}
+
+			return toArtistSummaries(
+				(List<Object[]>)QueryUtil.list(q, getDialect(), 0, size));
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected List<ArtistSummary> toArtistSummaries(List<Object[]> rows) {
+		List<ArtistSummary> artistSummaries = new ArrayList<ArtistSummary>(
+			rows.size());
+
+		for (Object[] array : rows) {
+			artistSummaries.add(
+				new ArtistSummary(
+					(Long)array[0], (Long)array[1], (String)array[2],
+					(Integer)array[3]));
+		}
+
+		return artistSummaries;
+	}
+
+	private static final String _AFTER_SQL =
+		"AND ((jukebox_Artist.name > ?) OR ((jukebox_Artist.name = ?) AND " +
+			"(jukebox_Artist.artistId > ?)))";
+
+}
\ No newline at end of file
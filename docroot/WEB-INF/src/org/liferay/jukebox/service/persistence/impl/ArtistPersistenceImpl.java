@@ -47,6 +47,7 @@ import org.liferay.jukebox.model.Artist;
 import org.liferay.jukebox.model.impl.ArtistImpl;
 import org.liferay.jukebox.model.impl.ArtistModelImpl;
 import org.liferay.jukebox.service.persistence.ArtistPersistence;
+import org.liferay.jukebox.util.FinderCachePartitionUtil;
 
 import java.io.Serializable;
 
@@ -170,6 +171,9 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 			finderArgs = new Object[] { uuid, start, end, orderByComparator };
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		List<Artist> list = (List<Artist>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -548,6 +552,9 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 
 		Object[] finderArgs = new Object[] { uuid };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -799,6 +806,9 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 
 		Object[] finderArgs = new Object[] { uuid, groupId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -950,6 +960,9 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 				};
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		List<Artist> list = (List<Artist>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -1354,6 +1367,9 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 
 		Object[] finderArgs = new Object[] { uuid, companyId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -1495,6 +1511,9 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 			finderArgs = new Object[] { groupId, start, end, orderByComparator };
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		List<Artist> list = (List<Artist>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -2154,6 +2173,9 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 
 		Object[] finderArgs = new Object[] { groupId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -2322,6 +2344,9 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 			finderArgs = new Object[] { userId, start, end, orderByComparator };
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		List<Artist> list = (List<Artist>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -2673,6 +2698,9 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 
 		Object[] finderArgs = new Object[] { userId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -2795,6 +2823,9 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 			finderArgs = new Object[] { companyId, start, end, orderByComparator };
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		List<Artist> list = (List<Artist>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -3146,6 +3177,9 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 
 		Object[] finderArgs = new Object[] { companyId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -3274,6 +3308,9 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 				};
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		List<Artist> list = (List<Artist>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -3970,6 +4007,9 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 
 		Object[] finderArgs = new Object[] { userId, groupId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -4156,6 +4196,9 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 				};
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		List<Artist> list = (List<Artist>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -4852,6 +4895,9 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 
 		Object[] finderArgs = new Object[] { groupId, status };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -5034,6 +5080,9 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 				start, end, orderByComparator
 			};
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		List<Artist> list = (List<Artist>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -5827,6 +5876,9 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 
 		Object[] finderArgs = new Object[] { groupId, name, status };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -6038,21 +6090,17 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 		EntityCacheUtil.removeResult(ArtistModelImpl.ENTITY_CACHE_ENABLED,
 			ArtistImpl.class, artist.getPrimaryKey());
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
-
+		clearListFindersCache(artist);
 		clearUniqueFindersCache(artist);
 	}
 
 	@Override
 	public void clearCache(List<Artist> artists) {
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
-
 		for (Artist artist : artists) {
 			EntityCacheUtil.removeResult(ArtistModelImpl.ENTITY_CACHE_ENABLED,
 				ArtistImpl.class, artist.getPrimaryKey());
 
+			clearListFindersCache(artist);
 			clearUniqueFindersCache(artist);
 		}
 	}
@@ -6082,6 +6130,20 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 		}
 	}
 
+	protected void clearListFindersCache(Artist artist) {
+		ArtistModelImpl artistModelImpl = (ArtistModelImpl)artist;
+
+		FinderCachePartitionUtil.clearCache(FINDER_CLASS_NAME_ENTITY);
+
+		FinderCachePartitionUtil.clearCache(FINDER_CLASS_NAME_ENTITY, "groupId",
+			artist.getGroupId());
+
+		if (artistModelImpl.getOriginalGroupId() != artist.getGroupId()) {
+			FinderCachePartitionUtil.clearCache(FINDER_CLASS_NAME_ENTITY,
+				"groupId", artistModelImpl.getOriginalGroupId());
+		}
+	}
+
 	protected void clearUniqueFindersCache(Artist artist) {
 		ArtistModelImpl artistModelImpl = (ArtistModelImpl)artist;
 
@@ -6208,10 +6270,6 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 	public Artist updateImpl(org.liferay.jukebox.model.Artist artist) {
 		artist = toUnwrappedModel(artist);
 
-		boolean isNew = artist.isNew();
-
-		ArtistModelImpl artistModelImpl = (ArtistModelImpl)artist;
-
 		if (Validator.isNull(artist.getUuid())) {
 			String uuid = PortalUUIDUtil.generate();
 
@@ -6239,142 +6297,7 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 			closeSession(session);
 		}
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-
-		if (isNew || !ArtistModelImpl.COLUMN_BITMASK_ENABLED) {
-			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
-		}
-
-		else {
-			if ((artistModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_UUID.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] { artistModelImpl.getOriginalUuid() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_UUID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_UUID,
-					args);
-
-				args = new Object[] { artistModelImpl.getUuid() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_UUID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_UUID,
-					args);
-			}
-
-			if ((artistModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_UUID_C.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						artistModelImpl.getOriginalUuid(),
-						artistModelImpl.getOriginalCompanyId()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_UUID_C, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_UUID_C,
-					args);
-
-				args = new Object[] {
-						artistModelImpl.getUuid(),
-						artistModelImpl.getCompanyId()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_UUID_C, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_UUID_C,
-					args);
-			}
-
-			if ((artistModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_GROUPID.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						artistModelImpl.getOriginalGroupId()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_GROUPID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_GROUPID,
-					args);
-
-				args = new Object[] { artistModelImpl.getGroupId() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_GROUPID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_GROUPID,
-					args);
-			}
-
-			if ((artistModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] { artistModelImpl.getOriginalUserId() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_USERID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID,
-					args);
-
-				args = new Object[] { artistModelImpl.getUserId() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_USERID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID,
-					args);
-			}
-
-			if ((artistModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						artistModelImpl.getOriginalCompanyId()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_COMPANYID,
-					args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID,
-					args);
-
-				args = new Object[] { artistModelImpl.getCompanyId() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_COMPANYID,
-					args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID,
-					args);
-			}
-
-			if ((artistModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_U_G.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						artistModelImpl.getOriginalUserId(),
-						artistModelImpl.getOriginalGroupId()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_U_G, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_U_G,
-					args);
-
-				args = new Object[] {
-						artistModelImpl.getUserId(),
-						artistModelImpl.getGroupId()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_U_G, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_U_G,
-					args);
-			}
-
-			if ((artistModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_S.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						artistModelImpl.getOriginalGroupId(),
-						artistModelImpl.getOriginalStatus()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_G_S, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_S,
-					args);
-
-				args = new Object[] {
-						artistModelImpl.getGroupId(),
-						artistModelImpl.getStatus()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_G_S, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_S,
-					args);
-			}
-		}
+		clearListFindersCache(artist);
 
 		EntityCacheUtil.putResult(ArtistModelImpl.ENTITY_CACHE_ENABLED,
 			ArtistImpl.class, artist.getPrimaryKey(), artist, false);
@@ -6655,6 +6578,9 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 			finderArgs = new Object[] { start, end, orderByComparator };
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		List<Artist> list = (List<Artist>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -6736,8 +6662,11 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 	 */
 	@Override
 	public int countAll() {
+		Object[] finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				FINDER_ARGS_EMPTY);
+
 		Long count = (Long)FinderCacheUtil.getResult(FINDER_PATH_COUNT_ALL,
-				FINDER_ARGS_EMPTY, this);
+				finderArgs, this);
 
 		if (count == null) {
 			Session session = null;
@@ -6749,12 +6678,11 @@ public class ArtistPersistenceImpl extends BasePersistenceImpl<Artist>
 
 				count = (Long)q.uniqueResult();
 
-				FinderCacheUtil.putResult(FINDER_PATH_COUNT_ALL,
-					FINDER_ARGS_EMPTY, count);
+				FinderCacheUtil.putResult(FINDER_PATH_COUNT_ALL, finderArgs,
+					count);
 			}
 			catch (Exception e) {
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_ALL,
-					FINDER_ARGS_EMPTY);
+				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_ALL, finderArgs);
 
 				throw processException(e);
 			}
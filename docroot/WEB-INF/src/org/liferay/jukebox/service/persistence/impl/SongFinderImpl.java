@@ -0,0 +1,298 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.service.persistence.impl;
+
+import com.liferay.portal.kernel.dao.orm.QueryPos;
+import com.liferay.portal.kernel.dao.orm.QueryUtil;
+import com.liferay.portal.kernel.dao.orm.SQLQuery;
+import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.dao.orm.Type;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.workflow.WorkflowConstants;
+import com.liferay.portal.security.permission.InlineSQLHelperUtil;
+import com.liferay.portal.service.persistence.impl.BasePersistenceImpl;
+import com.liferay.portal.util.PortalUtil;
+import com.liferay.util.dao.orm.CustomSQLUtil;
+
+import org.liferay.jukebox.model.Song;
+import org.liferay.jukebox.model.impl.SongImpl;
+import org.liferay.jukebox.service.persistence.SongFinder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Julio Camarero
+ */
+public class SongFinderImpl
+	extends BasePersistenceImpl<Song> implements SongFinder {
+
+	public static final String DELETE_BY_ALBUM_ID =
+		SongFinder.class.getName() + ".deleteByAlbumId";
+
+	public static final String FIND_BY_G_S_AFTER =
+		SongFinder.class.getName() + ".findByG_S_After";
+
+	public static final String FIND_DELETED_SONG_IDS =
+		SongFinder.class.getName() + ".findDeletedSongIds";
+
+	public static final String FIND_NAMES_BY_G_S =
+		SongFinder.class.getName() + ".findNamesByG_S";
+
+	public static final String MOVE_TO_TRASH_BY_ALBUM_ID =
+		SongFinder.class.getName() + ".moveToTrashByAlbumId";
+
+	public static final String RESTORE_FROM_TRASH_BY_ALBUM_ID =
+		SongFinder.class.getName() + ".restoreFromTrashByAlbumId";
+
+	/**
+	 * Deletes the songs of the album with a single statement and returns the
+	 * number of songs deleted. The caches of the songs are not cleared, and
+	 * their asset entries, discussions, resources and folders are left for
+	 * {@link #findDeletedSongIds(int)}.
+	 */
+	@Override
+	public int deleteByAlbumId(long albumId) {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(DELETE_BY_ALBUM_ID);
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(albumId);
+
+			return q.executeUpdate();
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	public List<Song> filterFindByG_S_After(
+		long groupId, int status, String name, long songId, int size) {
+
+		return doFindByG_S_After(groupId, status, name, songId, size, true);
+	}
+
+	@Override
+	public List<Song> findByG_S_After(
+		long groupId, int status, String name, long songId, int size) {
+
+		return doFindByG_S_After(groupId, status, name, songId, size, false);
+	}
+
+	/**
+	 * Returns the IDs of up to <code>size</code> songs that were deleted but
+	 * still have an asset entry, lowest ID first.
+	 */
+	@Override
+	public List<Long> findDeletedSongIds(int size) {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(FIND_DELETED_SONG_IDS);
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			q.addScalar("songId", Type.LONG);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(PortalUtil.getClassNameId(Song.class));
+
+			return (List<Long>)QueryUtil.list(q, getDialect(), 0, size);
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	/**
+	 * Returns the names of the songs of the group with the status, keyed by
+	 * song ID, without loading the songs.
+	 */
+	@Override
+	public Map<Long, String> findNamesByG_S(long groupId, int status) {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(FIND_NAMES_BY_G_S);
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			q.addScalar("songId", Type.LONG);
+			q.addScalar("name", Type.STRING);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(groupId);
+			qPos.add(status);
+
+			List<Object[]> rows = (List<Object[]>)q.list();
+
+			Map<Long, String> names = new HashMap<Long, String>(rows.size());
+
+			for (Object[] row : rows) {
+				names.put((Long)row[0], (String)row[1]);
+			}
+
+			return names;
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	/**
+	 * Moves the songs of the album that are not in the trash yet to the trash
+	 * with a single statement and returns the number of songs moved.
+	 */
+	@Override
+	public int moveToTrashByAlbumId(long albumId) {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(MOVE_TO_TRASH_BY_ALBUM_ID);
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(WorkflowConstants.STATUS_IN_TRASH);
+			qPos.add(albumId);
+			qPos.add(WorkflowConstants.STATUS_IN_TRASH);
+
+			return q.executeUpdate();
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	/**
+	 * Approves, with a single statement, the songs of the album that are in
+	 * the trash and were not moved to the trash on their own, and returns the
+	 * number of songs restored. A song was moved to the trash on its own if
+	 * it has a trash entry, which is looked up by its class name and primary
+	 * key.
+	 */
+	@Override
+	public int restoreFromTrashByAlbumId(long albumId) {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(RESTORE_FROM_TRASH_BY_ALBUM_ID);
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(WorkflowConstants.STATUS_APPROVED);
+			qPos.add(albumId);
+			qPos.add(WorkflowConstants.STATUS_IN_TRASH);
+			qPos.add(PortalUtil.getClassNameId(Song.class));
+
+			return q.executeUpdate();
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected List<Song> doFindByG_S_After(
+		long groupId, int status, String name, long songId, int size,
+		boolean inlineSQLHelper) {
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(FIND_BY_G_S_AFTER);
+
+			if (songId > 0) {
+				sql = StringUtil.replace(sql, "[$AFTER$]", _AFTER_SQL);
+			}
+			else {
+				sql = StringUtil.replace(sql, "[$AFTER$]", StringPool.BLANK);
+			}
+
+			if (inlineSQLHelper) {
+				sql = InlineSQLHelperUtil.replacePermissionCheck(
+					sql, Song.class.getName(), "jukebox_Song.songId", groupId);
+			}
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			q.addEntity("jukebox_Song", SongImpl.class);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(groupId);
+			qPos.add(status);
+
+			if (songId > 0) {
+				qPos.add(name);
+				qPos.add(name);
+				qPos.add(songId);
+			}
+
+			return (List<Song>)QueryUtil.list(q, getDialect(), 0, size);
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	private static final String _AFTER_SQL =
+		"AND ((jukebox_Song.name > ?) OR ((jukebox_Song.name = ?) AND " +
+			"(jukebox_Song.songId > ?)))";
+
+}
\ No newline at end of file
@@ -47,6 +47,7 @@ import org.liferay.jukebox.model.Song;
 import org.liferay.jukebox.model.impl.SongImpl;
 import org.liferay.jukebox.model.impl.SongModelImpl;
 import org.liferay.jukebox.service.persistence.SongPersistence;
+import org.liferay.jukebox.util.FinderCachePartitionUtil;
 
 import java.io.Serializable;
 
@@ -170,6 +171,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 			finderArgs = new Object[] { uuid, start, end, orderByComparator };
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		List<Song> list = (List<Song>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -548,6 +552,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 
 		Object[] finderArgs = new Object[] { uuid };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -799,6 +806,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 
 		Object[] finderArgs = new Object[] { uuid, groupId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -950,6 +960,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 				};
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		List<Song> list = (List<Song>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -1353,6 +1366,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 
 		Object[] finderArgs = new Object[] { uuid, companyId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -1494,6 +1510,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 			finderArgs = new Object[] { groupId, start, end, orderByComparator };
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		List<Song> list = (List<Song>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -2150,6 +2169,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 
 		Object[] finderArgs = new Object[] { groupId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -2318,6 +2340,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 			finderArgs = new Object[] { userId, start, end, orderByComparator };
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		List<Song> list = (List<Song>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -2669,6 +2694,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 
 		Object[] finderArgs = new Object[] { userId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -2791,6 +2819,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 			finderArgs = new Object[] { companyId, start, end, orderByComparator };
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		List<Song> list = (List<Song>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -3142,6 +3173,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 
 		Object[] finderArgs = new Object[] { companyId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -3263,6 +3297,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 			finderArgs = new Object[] { artistId, start, end, orderByComparator };
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"artistId", artistId, finderArgs);
+
 		List<Song> list = (List<Song>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -3614,6 +3651,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 
 		Object[] finderArgs = new Object[] { artistId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"artistId", artistId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -3734,6 +3774,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 			finderArgs = new Object[] { albumId, start, end, orderByComparator };
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"albumId", albumId, finderArgs);
+
 		List<Song> list = (List<Song>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -4085,6 +4128,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 
 		Object[] finderArgs = new Object[] { albumId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"albumId", albumId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -4213,6 +4259,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 				};
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		List<Song> list = (List<Song>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -4908,6 +4957,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 
 		Object[] finderArgs = new Object[] { groupId, status };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -5094,6 +5146,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 				};
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"albumId", albumId, finderArgs);
+
 		List<Song> list = (List<Song>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -5790,6 +5845,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 
 		Object[] finderArgs = new Object[] { groupId, albumId };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"albumId", albumId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -5988,6 +6046,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 				};
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"albumId", albumId, finderArgs);
+
 		List<Song> list = (List<Song>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -6722,6 +6783,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 
 		Object[] finderArgs = new Object[] { groupId, albumId, status };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"albumId", albumId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -6914,6 +6978,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 				start, end, orderByComparator
 			};
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		List<Song> list = (List<Song>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -7707,6 +7774,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 
 		Object[] finderArgs = new Object[] { groupId, name, status };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"groupId", groupId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -8078,6 +8148,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 
 		Object[] finderArgs = new Object[] { groupId, artistId, albumId, name };
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				"albumId", albumId, finderArgs);
+
 		Long count = (Long)FinderCacheUtil.getResult(finderPath, finderArgs,
 				this);
 
@@ -8227,21 +8300,17 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 		EntityCacheUtil.removeResult(SongModelImpl.ENTITY_CACHE_ENABLED,
 			SongImpl.class, song.getPrimaryKey());
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
-
+		clearListFindersCache(song);
 		clearUniqueFindersCache(song);
 	}
 
 	@Override
 	public void clearCache(List<Song> songs) {
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
-
 		for (Song song : songs) {
 			EntityCacheUtil.removeResult(SongModelImpl.ENTITY_CACHE_ENABLED,
 				SongImpl.class, song.getPrimaryKey());
 
+			clearListFindersCache(song);
 			clearUniqueFindersCache(song);
 		}
 	}
@@ -8291,6 +8360,34 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 		}
 	}
 
+	protected void clearListFindersCache(Song song) {
+		SongModelImpl songModelImpl = (SongModelImpl)song;
+
+		FinderCachePartitionUtil.clearCache(FINDER_CLASS_NAME_ENTITY);
+
+		FinderCachePartitionUtil.clearCache(FINDER_CLASS_NAME_ENTITY, "groupId",
+			song.getGroupId());
+		FinderCachePartitionUtil.clearCache(FINDER_CLASS_NAME_ENTITY, "artistId",
+			song.getArtistId());
+		FinderCachePartitionUtil.clearCache(FINDER_CLASS_NAME_ENTITY, "albumId",
+			song.getAlbumId());
+
+		if (songModelImpl.getOriginalGroupId() != song.getGroupId()) {
+			FinderCachePartitionUtil.clearCache(FINDER_CLASS_NAME_ENTITY,
+				"groupId", songModelImpl.getOriginalGroupId());
+		}
+
+		if (songModelImpl.getOriginalArtistId() != song.getArtistId()) {
+			FinderCachePartitionUtil.clearCache(FINDER_CLASS_NAME_ENTITY,
+				"artistId", songModelImpl.getOriginalArtistId());
+		}
+
+		if (songModelImpl.getOriginalAlbumId() != song.getAlbumId()) {
+			FinderCachePartitionUtil.clearCache(FINDER_CLASS_NAME_ENTITY,
+				"albumId", songModelImpl.getOriginalAlbumId());
+		}
+	}
+
 	protected void clearUniqueFindersCache(Song song) {
 		SongModelImpl songModelImpl = (SongModelImpl)song;
 
@@ -8437,10 +8534,6 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 	public Song updateImpl(org.liferay.jukebox.model.Song song) {
 		song = toUnwrappedModel(song);
 
-		boolean isNew = song.isNew();
-
-		SongModelImpl songModelImpl = (SongModelImpl)song;
-
 		if (Validator.isNull(song.getUuid())) {
 			String uuid = PortalUUIDUtil.generate();
 
@@ -8468,189 +8561,7 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 			closeSession(session);
 		}
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-
-		if (isNew || !SongModelImpl.COLUMN_BITMASK_ENABLED) {
-			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
-		}
-
-		else {
-			if ((songModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_UUID.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] { songModelImpl.getOriginalUuid() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_UUID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_UUID,
-					args);
-
-				args = new Object[] { songModelImpl.getUuid() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_UUID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_UUID,
-					args);
-			}
-
-			if ((songModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_UUID_C.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						songModelImpl.getOriginalUuid(),
-						songModelImpl.getOriginalCompanyId()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_UUID_C, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_UUID_C,
-					args);
-
-				args = new Object[] {
-						songModelImpl.getUuid(), songModelImpl.getCompanyId()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_UUID_C, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_UUID_C,
-					args);
-			}
-
-			if ((songModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_GROUPID.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] { songModelImpl.getOriginalGroupId() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_GROUPID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_GROUPID,
-					args);
-
-				args = new Object[] { songModelImpl.getGroupId() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_GROUPID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_GROUPID,
-					args);
-			}
-
-			if ((songModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] { songModelImpl.getOriginalUserId() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_USERID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID,
-					args);
-
-				args = new Object[] { songModelImpl.getUserId() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_USERID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID,
-					args);
-			}
-
-			if ((songModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						songModelImpl.getOriginalCompanyId()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_COMPANYID,
-					args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID,
-					args);
-
-				args = new Object[] { songModelImpl.getCompanyId() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_COMPANYID,
-					args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID,
-					args);
-			}
-
-			if ((songModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_ARTISTID.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] { songModelImpl.getOriginalArtistId() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_ARTISTID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_ARTISTID,
-					args);
-
-				args = new Object[] { songModelImpl.getArtistId() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_ARTISTID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_ARTISTID,
-					args);
-			}
-
-			if ((songModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_ALBUMID.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] { songModelImpl.getOriginalAlbumId() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_ALBUMID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_ALBUMID,
-					args);
-
-				args = new Object[] { songModelImpl.getAlbumId() };
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_ALBUMID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_ALBUMID,
-					args);
-			}
-
-			if ((songModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_S.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						songModelImpl.getOriginalGroupId(),
-						songModelImpl.getOriginalStatus()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_G_S, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_S,
-					args);
-
-				args = new Object[] {
-						songModelImpl.getGroupId(), songModelImpl.getStatus()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_G_S, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_S,
-					args);
-			}
-
-			if ((songModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_A.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						songModelImpl.getOriginalGroupId(),
-						songModelImpl.getOriginalAlbumId()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_G_A, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_A,
-					args);
-
-				args = new Object[] {
-						songModelImpl.getGroupId(), songModelImpl.getAlbumId()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_G_A, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_A,
-					args);
-			}
-
-			if ((songModelImpl.getColumnBitmask() &
-					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_A_S.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						songModelImpl.getOriginalGroupId(),
-						songModelImpl.getOriginalAlbumId(),
-						songModelImpl.getOriginalStatus()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_G_A_S, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_A_S,
-					args);
-
-				args = new Object[] {
-						songModelImpl.getGroupId(), songModelImpl.getAlbumId(),
-						songModelImpl.getStatus()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_G_A_S, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_A_S,
-					args);
-			}
-		}
+		clearListFindersCache(song);
 
 		EntityCacheUtil.putResult(SongModelImpl.ENTITY_CACHE_ENABLED,
 			SongImpl.class, song.getPrimaryKey(), song, false);
@@ -8932,6 +8843,9 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 			finderArgs = new Object[] { start, end, orderByComparator };
 		}
 
+		finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				finderArgs);
+
 		List<Song> list = (List<Song>)FinderCacheUtil.getResult(finderPath,
 				finderArgs, this);
 
@@ -9013,8 +8927,11 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 	 */
 	@Override
 	public int countAll() {
+		Object[] finderArgs = FinderCachePartitionUtil.getFinderArgs(FINDER_CLASS_NAME_ENTITY,
+				FINDER_ARGS_EMPTY);
+
 		Long count = (Long)FinderCacheUtil.getResult(FINDER_PATH_COUNT_ALL,
-				FINDER_ARGS_EMPTY, this);
+				finderArgs, this);
 
 		if (count == null) {
 			Session session = null;
@@ -9026,12 +8943,11 @@ public class SongPersistenceImpl extends BasePersistenceImpl<Song>
 
 				count = (Long)q.uniqueResult();
 
-				FinderCacheUtil.putResult(FINDER_PATH_COUNT_ALL,
-					FINDER_ARGS_EMPTY, count);
+				FinderCacheUtil.putResult(FINDER_PATH_COUNT_ALL, finderArgs,
+					count);
 			}
 			catch (Exception e) {
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_ALL,
-					FINDER_ARGS_EMPTY);
+				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_ALL, finderArgs);
 
 				throw processException(e);
 			}
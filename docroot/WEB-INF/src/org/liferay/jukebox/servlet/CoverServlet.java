@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.servlet;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.repository.model.FileEntry;
+import com.liferay.portal.kernel.repository.model.FileVersion;
+import com.liferay.portal.kernel.servlet.HttpHeaders;
+import com.liferay.portal.kernel.servlet.ServletResponseUtil;
+import com.liferay.portal.kernel.util.CharPool;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.model.User;
+import com.liferay.portal.portletfilerepository.PortletFileRepositoryUtil;
+import com.liferay.portal.security.permission.ActionKeys;
+import com.liferay.portal.security.permission.PermissionChecker;
+import com.liferay.portal.security.permission.PermissionCheckerFactoryUtil;
+import com.liferay.portal.service.UserLocalServiceUtil;
+import com.liferay.portal.util.PortalUtil;
+import com.liferay.portlet.documentlibrary.NoSuchFileEntryException;
+import com.liferay.portlet.documentlibrary.NoSuchFileVersionException;
+import com.liferay.portlet.documentlibrary.model.DLFileEntry;
+import com.liferay.portlet.documentlibrary.service.DLAppLocalServiceUtil;
+
+import java.io.IOException;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.liferay.jukebox.model.Album;
+import org.liferay.jukebox.model.Artist;
+import org.liferay.jukebox.service.permission.AlbumPermission;
+import org.liferay.jukebox.service.permission.ArtistPermission;
+
+/**
+ * Serves the covers of albums and artists from
+ * <code>/delegate/jukebox-cover/{fileEntryId}/{fileVersionId}</code>.
+ *
+ * <p>
+ * A file version never changes, so covers are sent with a one year max age.
+ * Covers that guests can view are marked public so that proxies and CDNs can
+ * cache them too.
+ * </p>
+ *
+ * @author Julio Camarero
+ */
+public class CoverServlet extends HttpServlet {
+
+	@Override
+	protected void doGet(
+			HttpServletRequest request, HttpServletResponse response)
+		throws IOException, ServletException {
+
+		try {
+			sendCover(request, response);
+		}
+		catch (NoSuchFileEntryException nsfee) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+		}
+		catch (NoSuchFileVersionException nsfve) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+		}
+		catch (Exception e) {
+			_log.error(e, e);
+
+			if (!response.isCommitted()) {
+				response.sendError(
+					HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+			}
+		}
+	}
+
+	protected PermissionChecker getPermissionChecker(
+			HttpServletRequest request)
+		throws Exception {
+
+		User user = PortalUtil.getUser(request);
+
+		if (user == null) {
+			user = UserLocalServiceUtil.getDefaultUser(
+				PortalUtil.getCompanyId(request));
+		}
+
+		return PermissionCheckerFactoryUtil.create(user);
+	}
+
+	protected boolean hasPermission(
+			PermissionChecker permissionChecker, String className,
+			long classPK)
+		throws Exception {
+
+		if (className.equals(Album.class.getName())) {
+			return AlbumPermission.contains(
+				permissionChecker, classPK, ActionKeys.VIEW);
+		}
+		else if (className.equals(Artist.class.getName())) {
+			return ArtistPermission.contains(
+				permissionChecker, classPK, ActionKeys.VIEW);
+		}
+
+		return false;
+	}
+
+	protected void sendCover(
+			HttpServletRequest request, HttpServletResponse response)
+		throws Exception {
+
+		String[] pathArray = StringUtil.split(
+			request.getPathInfo(), CharPool.SLASH);
+
+		if (pathArray.length < 2) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+
+			return;
+		}
+
+		long fileEntryId = GetterUtil.getLong(pathArray[pathArray.length - 2]);
+		long fileVersionId = GetterUtil.getLong(
+			pathArray[pathArray.length - 1]);
+
+		FileEntry fileEntry = PortletFileRepositoryUtil.getPortletFileEntry(
+			fileEntryId);
+
+		FileVersion fileVersion = DLAppLocalServiceUtil.getFileVersion(
+			fileVersionId);
+
+		if ((fileVersion.getFileEntryId() != fileEntryId) ||
+			!(fileEntry.getModel() instanceof DLFileEntry)) {
+
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+
+			return;
+		}
+
+		DLFileEntry dlFileEntry = (DLFileEntry)fileEntry.getModel();
+
+		if (!hasPermission(
+				getPermissionChecker(request), dlFileEntry.getClassName(),
+				dlFileEntry.getClassPK())) {
+
+			response.sendError(HttpServletResponse.SC_FORBIDDEN);
+
+			return;
+		}
+
+		User defaultUser = UserLocalServiceUtil.getDefaultUser(
+			fileEntry.getCompanyId());
+
+		String cacheControl = HttpHeaders.CACHE_CONTROL_PRIVATE_VALUE;
+
+		if (hasPermission(
+				PermissionCheckerFactoryUtil.create(defaultUser),
+				dlFileEntry.getClassName(), dlFileEntry.getClassPK())) {
+
+			cacheControl = HttpHeaders.CACHE_CONTROL_PUBLIC_VALUE;
+		}
+
+		String eTag = StringPool.QUOTE + fileVersionId + StringPool.QUOTE;
+
+		response.setHeader(
+			HttpHeaders.CACHE_CONTROL,
+			cacheControl + StringPool.COMMA_AND_SPACE + _MAX_AGE);
+		response.setHeader(HttpHeaders.ETAG, eTag);
+
+		if (eTag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+
+			return;
+		}
+
+		response.setContentType(fileVersion.getMimeType());
+
+		ServletResponseUtil.write(
+			response, fileVersion.getContentStream(false),
+			fileVersion.getSize());
+	}
+
+	private static final String _MAX_AGE = "max-age=31536000, immutable";
+
+	private static Log _log = LogFactoryUtil.getLog(CoverServlet.class);
+
+}
\ No newline at end of file
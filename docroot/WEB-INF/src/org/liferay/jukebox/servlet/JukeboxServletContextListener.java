@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.servlet;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+
+import org.liferay.jukebox.util.DLProcessorQueueUtil;
+import org.liferay.jukebox.util.IndexingQueueUtil;
+
+/**
+ * Finishes the background work of the plugin when it is undeployed, so that
+ * no pending reindex is lost, and stops its conversion threads.
+ *
+ * @author Julio Camarero
+ */
+public class JukeboxServletContextListener implements ServletContextListener {
+
+	@Override
+	public void contextDestroyed(ServletContextEvent servletContextEvent) {
+		try {
+			IndexingQueueUtil.shutdown();
+		}
+		catch (Exception e) {
+			_log.error("Unable to process the pending reindexes", e);
+		}
+
+		try {
+			DLProcessorQueueUtil.shutdown();
+		}
+		catch (Exception e) {
+			_log.error("Unable to stop the conversion threads", e);
+		}
+	}
+
+	@Override
+	public void contextInitialized(ServletContextEvent servletContextEvent) {
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(
+		JukeboxServletContextListener.class);
+
+}
\ No newline at end of file
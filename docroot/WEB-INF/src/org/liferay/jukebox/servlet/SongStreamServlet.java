@@ -0,0 +1,443 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.servlet;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.repository.model.FileEntry;
+import com.liferay.portal.kernel.repository.model.FileVersion;
+import com.liferay.portal.kernel.servlet.HttpHeaders;
+import com.liferay.portal.kernel.util.CharPool;
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.MimeTypesUtil;
+import com.liferay.portal.kernel.util.StreamUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.model.User;
+import com.liferay.portal.security.permission.ActionKeys;
+import com.liferay.portal.security.permission.PermissionChecker;
+import com.liferay.portal.security.permission.PermissionCheckerFactoryUtil;
+import com.liferay.portal.service.UserLocalServiceUtil;
+import com.liferay.portal.util.PortalUtil;
+import com.liferay.portlet.documentlibrary.model.DLFileEntry;
+import com.liferay.portlet.documentlibrary.store.DLStoreUtil;
+import com.liferay.portlet.documentlibrary.util.AudioProcessorUtil;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.liferay.jukebox.model.Song;
+import org.liferay.jukebox.service.SongLocalServiceUtil;
+import org.liferay.jukebox.service.permission.SongPermission;
+
+/**
+ * Streams the audio of a song from
+ * <code>/delegate/jukebox-stream/{songId}/{bitRate}.{audioContainer}</code>.
+ *
+ * <p>
+ * The rendition with the highest bit rate that is not greater than the
+ * requested one is streamed if the renditions of the song are complete, and
+ * the audio preview of the song otherwise. Single byte ranges, conditional
+ * ranges and entity tags are supported, so seeking and resuming only transfer
+ * the bytes that are needed. Renditions kept on a local file system store are
+ * transferred from a file channel instead of being copied through the heap.
+ * </p>
+ *
+ * @author Julio Camarero
+ */
+public class SongStreamServlet extends HttpServlet {
+
+	@Override
+	protected void doGet(
+			HttpServletRequest request, HttpServletResponse response)
+		throws IOException, ServletException {
+
+		try {
+			sendSong(request, response);
+		}
+		catch (IOException ioe) {
+
+			// The client closed the connection, usually to seek
+
+			if (_log.isDebugEnabled()) {
+				_log.debug(ioe, ioe);
+			}
+		}
+		catch (Exception e) {
+			_log.error(e, e);
+
+			if (!response.isCommitted()) {
+				response.sendError(
+					HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+			}
+		}
+	}
+
+	protected File getFile(FileVersion fileVersion) throws Exception {
+		FileEntry fileEntry = fileVersion.getFileEntry();
+
+		if (!(fileEntry.getModel() instanceof DLFileEntry)) {
+			return null;
+		}
+
+		DLFileEntry dlFileEntry = (DLFileEntry)fileEntry.getModel();
+
+		try {
+			File file = DLStoreUtil.getFile(
+				fileVersion.getCompanyId(), dlFileEntry.getDataRepositoryId(),
+				dlFileEntry.getName(), fileVersion.getVersion());
+
+			if ((file != null) && file.isFile()) {
+				return file;
+			}
+		}
+		catch (UnsupportedOperationException uoe) {
+
+			// The store does not keep files on a local file system
+
+		}
+
+		return null;
+	}
+
+	protected PermissionChecker getPermissionChecker(
+			HttpServletRequest request)
+		throws Exception {
+
+		User user = PortalUtil.getUser(request);
+
+		if (user == null) {
+			user = UserLocalServiceUtil.getDefaultUser(
+				PortalUtil.getCompanyId(request));
+		}
+
+		return PermissionCheckerFactoryUtil.create(user);
+	}
+
+	/**
+	 * Returns the first and last byte of the requested range, an empty array
+	 * if the requested range cannot be satisfied, or <code>null</code> if the
+	 * whole content has to be sent.
+	 */
+	protected long[] getRange(
+		HttpServletRequest request, String eTag, long length) {
+
+		String range = request.getHeader(HttpHeaders.RANGE);
+
+		if (Validator.isNull(range) || !range.startsWith(_BYTES_PREFIX) ||
+			(range.indexOf(CharPool.COMMA) != -1)) {
+
+			return null;
+		}
+
+		String ifRange = request.getHeader(_IF_RANGE);
+
+		if (Validator.isNotNull(ifRange) && !ifRange.equals(eTag)) {
+			return null;
+		}
+
+		range = range.substring(_BYTES_PREFIX.length());
+
+		int pos = range.indexOf(CharPool.DASH);
+
+		if (pos == -1) {
+			return null;
+		}
+
+		String first = range.substring(0, pos).trim();
+		String last = range.substring(pos + 1).trim();
+
+		long start = 0;
+		long end = length - 1;
+
+		if (Validator.isNull(first)) {
+			long suffixLength = GetterUtil.getLong(last, -1);
+
+			if (suffixLength < 0) {
+				return null;
+			}
+
+			if (suffixLength == 0) {
+				return new long[0];
+			}
+
+			start = Math.max(0, length - suffixLength);
+		}
+		else {
+			start = GetterUtil.getLong(first, -1);
+
+			if (start < 0) {
+				return null;
+			}
+
+			if (Validator.isNotNull(last)) {
+				end = GetterUtil.getLong(last, -1);
+
+				if (end < start) {
+					return null;
+				}
+
+				end = Math.min(end, length - 1);
+			}
+		}
+
+		if (start >= length) {
+			return new long[0];
+		}
+
+		return new long[] {start, end};
+	}
+
+	protected void sendContent(
+			HttpServletRequest request, HttpServletResponse response,
+			FileVersion fileVersion, String fileName, String eTag,
+			long length, File file, InputStream inputStream)
+		throws IOException {
+
+		try {
+			response.setContentType(MimeTypesUtil.getContentType(fileName));
+			response.setDateHeader(
+				HttpHeaders.LAST_MODIFIED,
+				fileVersion.getModifiedDate().getTime());
+			response.setHeader(
+				HttpHeaders.ACCEPT_RANGES,
+				HttpHeaders.ACCEPT_RANGES_BYTES_VALUE);
+			response.setHeader(
+				HttpHeaders.CACHE_CONTROL,
+				HttpHeaders.CACHE_CONTROL_PRIVATE_VALUE);
+			response.setHeader(HttpHeaders.ETAG, eTag);
+
+			if (eTag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+				response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+
+				return;
+			}
+
+			long[] range = getRange(request, eTag, length);
+
+			long start = 0;
+			long end = length - 1;
+
+			if (range == null) {
+				response.setStatus(HttpServletResponse.SC_OK);
+			}
+			else if (range.length == 0) {
+				response.setHeader(
+					HttpHeaders.CONTENT_RANGE,
+					_BYTES_UNIT + StringPool.STAR + StringPool.SLASH + length);
+				response.setStatus(
+					HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+
+				return;
+			}
+			else {
+				start = range[0];
+				end = range[1];
+
+				response.setHeader(
+					HttpHeaders.CONTENT_RANGE,
+					_BYTES_UNIT + start + StringPool.DASH + end +
+						StringPool.SLASH + length);
+				response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+			}
+
+			long count = end - start + 1;
+
+			response.setHeader(
+				HttpHeaders.CONTENT_LENGTH, String.valueOf(count));
+
+			if (count <= 0) {
+				return;
+			}
+
+			if (file != null) {
+				transfer(file, start, count, response.getOutputStream());
+			}
+			else {
+				transfer(
+					inputStream, start, count, response.getOutputStream());
+			}
+		}
+		finally {
+			StreamUtil.cleanUp(inputStream);
+		}
+	}
+
+	protected void sendSong(
+			HttpServletRequest request, HttpServletResponse response)
+		throws Exception {
+
+		String[] pathArray = StringUtil.split(
+			request.getPathInfo(), CharPool.SLASH);
+
+		if (pathArray.length < 2) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+
+			return;
+		}
+
+		long songId = GetterUtil.getLong(pathArray[pathArray.length - 2]);
+		String fileName = pathArray[pathArray.length - 1];
+
+		Song song = SongLocalServiceUtil.fetchSong(songId);
+
+		if (song == null) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+
+			return;
+		}
+
+		if (!SongPermission.contains(
+				getPermissionChecker(request), song, ActionKeys.VIEW)) {
+
+			response.sendError(HttpServletResponse.SC_FORBIDDEN);
+
+			return;
+		}
+
+		String audioContainer = FileUtil.getExtension(fileName);
+		int bitRate = GetterUtil.getInteger(FileUtil.stripExtension(fileName));
+
+		FileVersion fileVersion = song.getRenditionFileVersion(
+			audioContainer, bitRate);
+
+		if (fileVersion != null) {
+			String eTag =
+				StringPool.QUOTE + fileVersion.getFileVersionId() +
+					StringPool.QUOTE;
+
+			File file = getFile(fileVersion);
+
+			InputStream inputStream = null;
+
+			if (file == null) {
+				inputStream = fileVersion.getContentStream(false);
+			}
+
+			sendContent(
+				request, response, fileVersion, fileName, eTag,
+				fileVersion.getSize(), file, inputStream);
+
+			return;
+		}
+
+		fileVersion = song.getAudioFileVersion();
+
+		if ((fileVersion == null) ||
+			!AudioProcessorUtil.hasAudio(fileVersion)) {
+
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+
+			return;
+		}
+
+		String eTag =
+			StringPool.QUOTE + fileVersion.getFileVersionId() +
+				StringPool.DASH + audioContainer + StringPool.QUOTE;
+
+		sendContent(
+			request, response, fileVersion, fileName, eTag,
+			AudioProcessorUtil.getPreviewFileSize(fileVersion, audioContainer),
+			null,
+			AudioProcessorUtil.getPreviewAsStream(fileVersion, audioContainer));
+	}
+
+	protected void transfer(
+			File file, long start, long count, OutputStream outputStream)
+		throws IOException {
+
+		FileInputStream fileInputStream = new FileInputStream(file);
+
+		try {
+			FileChannel fileChannel = fileInputStream.getChannel();
+
+			WritableByteChannel writableByteChannel = Channels.newChannel(
+				outputStream);
+
+			long position = start;
+			long end = start + count;
+
+			while (position < end) {
+				long transferred = fileChannel.transferTo(
+					position, end - position, writableByteChannel);
+
+				if (transferred <= 0) {
+					break;
+				}
+
+				position += transferred;
+			}
+		}
+		finally {
+			StreamUtil.cleanUp(fileInputStream);
+		}
+	}
+
+	protected void transfer(
+			InputStream inputStream, long start, long count,
+			OutputStream outputStream)
+		throws IOException {
+
+		while (start > 0) {
+			long skipped = inputStream.skip(start);
+
+			if (skipped <= 0) {
+				return;
+			}
+
+			start -= skipped;
+		}
+
+		byte[] buffer = new byte[_BUFFER_SIZE];
+
+		while (count > 0) {
+			int read = inputStream.read(
+				buffer, 0, (int)Math.min(buffer.length, count));
+
+			if (read == -1) {
+				break;
+			}
+
+			outputStream.write(buffer, 0, read);
+
+			count -= read;
+		}
+	}
+
+	private static final int _BUFFER_SIZE = 8192;
+
+	private static final String _BYTES_PREFIX = "bytes=";
+
+	private static final String _BYTES_UNIT = "bytes ";
+
+	private static final String _IF_RANGE = "If-Range";
+
+	private static Log _log = LogFactoryUtil.getLog(SongStreamServlet.class);
+
+}
\ No newline at end of file
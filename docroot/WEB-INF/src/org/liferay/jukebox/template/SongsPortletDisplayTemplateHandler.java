@@ -69,6 +69,7 @@ public class SongsPortletDisplayTemplateHandler
 		templateVariableGroup.addCollectionVariable(
 			"songs", List.class, PortletDisplayTemplateConstants.ENTRIES,
 			"song", Song.class, "curSong", "name");
+		templateVariableGroup.addVariable("song-media", Map.class, "songMedia");
 
 		return templateVariableGroups;
 	}
@@ -16,6 +16,10 @@ package org.liferay.jukebox.util;
 
 import com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.Property;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.search.BaseIndexer;
 import com.liferay.portal.kernel.search.BooleanQuery;
@@ -30,8 +34,7 @@ import com.liferay.portal.security.permission.PermissionChecker;
 import com.liferay.portal.util.PortalUtil;
 import com.liferay.portlet.documentlibrary.model.DLFileEntry;
 
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
 
 import javax.portlet.PortletRequest;
@@ -118,6 +121,14 @@ public class AlbumIndexer extends BaseIndexer {
 		addSearchTerm(searchQuery, searchContext, "year", false);
 	}
 
+	/**
+	 * Reindexes the albums of the company that come after the last batch
+	 * stored by a previous reindex that did not finish.
+	 */
+	public void resumeReindex(long companyId) throws PortalException {
+		reindexEntries(companyId, true);
+	}
+
 	@Override
 	protected void doDelete(Object obj) throws Exception {
 		Album album = (Album)obj;
@@ -179,19 +190,66 @@ public class AlbumIndexer extends BaseIndexer {
 		reindexEntries(companyId);
 	}
 
+	protected long getLastAlbumId(long companyId) {
+		DynamicQuery dynamicQuery = AlbumLocalServiceUtil.dynamicQuery();
+
+		Property property = PropertyFactoryUtil.forName("companyId");
+
+		dynamicQuery.add(property.eq(companyId));
+
+		dynamicQuery.setProjection(ProjectionFactoryUtil.max("albumId"));
+
+		List<Long> albumIds = AlbumLocalServiceUtil.dynamicQuery(dynamicQuery);
+
+		if (albumIds.isEmpty() || (albumIds.get(0) == null)) {
+			return 0;
+		}
+
+		return albumIds.get(0);
+	}
+
 	@Override
 	protected String getPortletId(SearchContext searchContext) {
 		return PORTLET_ID;
 	}
 
-	protected void reindexEntries(long companyId) throws PortalException {
-		final Collection<Document> documents = new ArrayList<Document>();
+	protected ActionableDynamicQuery getReindexActionableDynamicQuery(
+		long companyId, final long startAlbumId, final long endAlbumId,
+		final ReindexBatch reindexBatch) {
 
 		ActionableDynamicQuery actionableDynamicQuery =
 			new AlbumActionableDynamicQuery() {
 
 			@Override
 			protected void addCriteria(DynamicQuery dynamicQuery) {
+				Property property = PropertyFactoryUtil.forName("albumId");
+
+				if (startAlbumId > 0) {
+					dynamicQuery.add(property.gt(startAlbumId));
+				}
+
+				if (endAlbumId > 0) {
+					dynamicQuery.add(property.le(endAlbumId));
+				}
+
+				// Checkpoints assume that entries are added in primary key
+				// order
+
+				if (!_counting) {
+					dynamicQuery.addOrder(OrderFactoryUtil.asc("albumId"));
+				}
+			}
+
+			@Override
+			public long performCount() throws PortalException {
+				_counting = true;
+
+				try {
+					return super.performCount();
+				}
+				finally {
+					_counting = false;
+				}
 			}
 
 			@Override
@@ -200,17 +258,72 @@ public class AlbumIndexer extends BaseIndexer {
 
 				Document document = getDocument(album);
 
-				documents.add(document);
+				reindexBatch.add(album.getAlbumId(), document);
 			}
 
+			private boolean _counting;
+
 		};
 
 		actionableDynamicQuery.setCompanyId(companyId);
+		actionableDynamicQuery.setInterval(
+			PortletPropsValues.REINDEX_BATCH_SIZE);
 
-		actionableDynamicQuery.performActions();
+		return actionableDynamicQuery;
+	}
+
+	protected void reindexEntries(long companyId) throws PortalException {
+		reindexEntries(companyId, false);
+	}
+
+	protected void reindexEntries(final long companyId, boolean resume)
+		throws PortalException {
+
+		ReindexBatch reindexBatch = new ReindexBatch(
+			getSearchEngineId(), companyId, Album.class.getName());
+
+		long lastAlbumId = 0;
+
+		if (resume) {
+			lastAlbumId = reindexBatch.getCheckpoint();
+		}
+		else {
+			reindexBatch.clearCheckpoint();
+		}
+
+		ActionableDynamicQuery actionableDynamicQuery =
+			getReindexActionableDynamicQuery(
+				companyId, lastAlbumId, 0, reindexBatch);
+
+		reindexBatch.setTotal(actionableDynamicQuery.performCount());
+
+		if (resume || (PortletPropsValues.REINDEX_THREAD_COUNT <= 1)) {
+			actionableDynamicQuery.performActions();
+		}
+		else {
+			ParallelReindexer parallelReindexer = new ParallelReindexer(
+				companyId, reindexBatch) {
+
+				@Override
+				protected void reindex(
+						ReindexBatch partitionReindexBatch, long startAlbumId,
+						long endAlbumId)
+					throws PortalException {
+
+					ActionableDynamicQuery actionableDynamicQuery =
+						getReindexActionableDynamicQuery(
+							companyId, startAlbumId, endAlbumId,
+							partitionReindexBatch);
+
+					actionableDynamicQuery.performActions();
+				}
+
+			};
+
+			parallelReindexer.reindex(getLastAlbumId(companyId));
+		}
 
-		SearchEngineUtil.updateDocuments(
-			getSearchEngineId(), companyId, documents);
+		reindexBatch.finish();
 	}
 
 }
\ No newline at end of file
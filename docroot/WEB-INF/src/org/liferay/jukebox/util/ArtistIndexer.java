@@ -16,6 +16,10 @@ package org.liferay.jukebox.util;
 
 import com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.Property;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.search.BaseIndexer;
 import com.liferay.portal.kernel.search.BooleanQuery;
@@ -32,8 +36,7 @@ import com.liferay.portal.security.permission.PermissionChecker;
 import com.liferay.portal.util.PortalUtil;
 import com.liferay.portlet.documentlibrary.model.DLFileEntry;
 
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
 
 import javax.portlet.PortletRequest;
@@ -124,6 +127,14 @@ public class ArtistIndexer extends BaseIndexer {
 		addSearchTerm(searchQuery, searchContext, "bio", true);
 	}
 
+	/**
+	 * Reindexes the artists of the company that come after the last batch
+	 * stored by a previous reindex that did not finish.
+	 */
+	public void resumeReindex(long companyId) throws PortalException {
+		reindexEntries(companyId, true);
+	}
+
 	@Override
 	protected void doDelete(Object obj) throws Exception {
 		Artist artist = (Artist)obj;
@@ -192,19 +203,67 @@ public class ArtistIndexer extends BaseIndexer {
 		reindexEntries(companyId);
 	}
 
+	protected long getLastArtistId(long companyId) {
+		DynamicQuery dynamicQuery = ArtistLocalServiceUtil.dynamicQuery();
+
+		Property property = PropertyFactoryUtil.forName("companyId");
+
+		dynamicQuery.add(property.eq(companyId));
+
+		dynamicQuery.setProjection(ProjectionFactoryUtil.max("artistId"));
+
+		List<Long> artistIds = ArtistLocalServiceUtil.dynamicQuery(
+			dynamicQuery);
+
+		if (artistIds.isEmpty() || (artistIds.get(0) == null)) {
+			return 0;
+		}
+
+		return artistIds.get(0);
+	}
+
 	@Override
 	protected String getPortletId(SearchContext searchContext) {
 		return PORTLET_ID;
 	}
 
-	protected void reindexEntries(long companyId) throws PortalException {
-		final Collection<Document> documents = new ArrayList<Document>();
+	protected ActionableDynamicQuery getReindexActionableDynamicQuery(
+		long companyId, final long startArtistId, final long endArtistId,
+		final ReindexBatch reindexBatch) {
 
 		ActionableDynamicQuery actionableDynamicQuery =
 			new ArtistActionableDynamicQuery() {
 
 			@Override
 			protected void addCriteria(DynamicQuery dynamicQuery) {
+				Property property = PropertyFactoryUtil.forName("artistId");
+
+				if (startArtistId > 0) {
+					dynamicQuery.add(property.gt(startArtistId));
+				}
+
+				if (endArtistId > 0) {
+					dynamicQuery.add(property.le(endArtistId));
+				}
+
+				// Checkpoints assume that entries are added in primary key
+				// order
+
+				if (!_counting) {
+					dynamicQuery.addOrder(OrderFactoryUtil.asc("artistId"));
+				}
+			}
+
+			@Override
+			public long performCount() throws PortalException {
+				_counting = true;
+
+				try {
+					return super.performCount();
+				}
+				finally {
+					_counting = false;
+				}
 			}
 
 			@Override
@@ -213,17 +272,72 @@ public class ArtistIndexer extends BaseIndexer {
 
 				Document document = getDocument(artist);
 
-				documents.add(document);
+				reindexBatch.add(artist.getArtistId(), document);
 			}
 
+			private boolean _counting;
+
 		};
 
 		actionableDynamicQuery.setCompanyId(companyId);
+		actionableDynamicQuery.setInterval(
+			PortletPropsValues.REINDEX_BATCH_SIZE);
 
-		actionableDynamicQuery.performActions();
+		return actionableDynamicQuery;
+	}
+
+	protected void reindexEntries(long companyId) throws PortalException {
+		reindexEntries(companyId, false);
+	}
+
+	protected void reindexEntries(final long companyId, boolean resume)
+		throws PortalException {
+
+		ReindexBatch reindexBatch = new ReindexBatch(
+			getSearchEngineId(), companyId, Artist.class.getName());
+
+		long lastArtistId = 0;
+
+		if (resume) {
+			lastArtistId = reindexBatch.getCheckpoint();
+		}
+		else {
+			reindexBatch.clearCheckpoint();
+		}
+
+		ActionableDynamicQuery actionableDynamicQuery =
+			getReindexActionableDynamicQuery(
+				companyId, lastArtistId, 0, reindexBatch);
+
+		reindexBatch.setTotal(actionableDynamicQuery.performCount());
+
+		if (resume || (PortletPropsValues.REINDEX_THREAD_COUNT <= 1)) {
+			actionableDynamicQuery.performActions();
+		}
+		else {
+			ParallelReindexer parallelReindexer = new ParallelReindexer(
+				companyId, reindexBatch) {
+
+				@Override
+				protected void reindex(
+						ReindexBatch partitionReindexBatch, long startArtistId,
+						long endArtistId)
+					throws PortalException {
+
+					ActionableDynamicQuery actionableDynamicQuery =
+						getReindexActionableDynamicQuery(
+							companyId, startArtistId, endArtistId,
+							partitionReindexBatch);
+
+					actionableDynamicQuery.performActions();
+				}
+
+			};
+
+			parallelReindexer.reindex(getLastArtistId(companyId));
+		}
 
-		SearchEngineUtil.updateDocuments(
-			getSearchEngineId(), companyId, documents);
+		reindexBatch.finish();
 	}
 
 }
\ No newline at end of file
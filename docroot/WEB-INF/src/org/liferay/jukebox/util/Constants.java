@@ -14,16 +14,52 @@
 
 package org.liferay.jukebox.util;
 
+import com.liferay.portal.kernel.dao.search.SearchContainer;
+
 /**
  * @author Sergio González
  */
 public class Constants {
 
+	public static final String COVER_PATH = "/delegate/jukebox-cover";
+
+	public static final String COVER_VARIANT_HERO = "hero";
+
+	public static final String COVER_VARIANT_LIST = "list";
+
+	public static final String COVER_VARIANT_THUMBNAIL = "thumbnail";
+
+	/**
+	 * The maximum number of IDs in the IN clause of a query. Longer lists of
+	 * IDs are queried in chunks, since some databases, such as Oracle, reject
+	 * IN clauses with more than 1,000 values.
+	 */
+	public static final int IN_CLAUSE_SIZE_MAX = 500;
+
 	public static final String JUKEBOX_PORTLET_REPOSITORY =
 		"JukeboxPortletRepository";
 
 	public static final String LYRICS_FOLDER_NAME = "Lyrics";
 
+	/**
+	 * The maximum number of entries returned by a page of a list, one more
+	 * than the maximum delta so the list can tell whether there is a next
+	 * page.
+	 */
+	public static final int PAGE_SIZE_MAX = SearchContainer.MAX_DELTA + 1;
+
+	public static final String RENDITIONS_FOLDER_NAME = "Renditions";
+
+	public static final int RENDITION_STATUS_COMPLETE = 2;
+
+	public static final int RENDITION_STATUS_FAILED = 3;
+
+	public static final int RENDITION_STATUS_NONE = 0;
+
+	public static final int RENDITION_STATUS_PENDING = 1;
+
 	public static final String SONGS_FOLDER_NAME = "Songs";
 
+	public static final String SONG_STREAM_PATH = "/delegate/jukebox-stream";
+
 }
\ No newline at end of file
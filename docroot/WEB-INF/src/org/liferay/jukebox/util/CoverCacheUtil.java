@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.util;
+
+import com.liferay.portal.kernel.cache.Lifecycle;
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.ThreadLocalCache;
+import com.liferay.portal.kernel.cache.ThreadLocalCacheManager;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.Validator;
+
+import org.liferay.jukebox.model.CoverLocator;
+
+/**
+ * Caches, per album or artist and variant, the file entry and file version of
+ * its cover, so that rendering a cover URL does not look up the Jukebox
+ * portlet repository.
+ *
+ * <p>
+ * Covers are cached for the whole cluster and, to avoid going to the cluster
+ * cache every time an album is rendered again on the same page, for the
+ * current request.
+ * </p>
+ *
+ * @author Julio Camarero
+ */
+public class CoverCacheUtil {
+
+	public static final String CACHE_NAME = CoverCacheUtil.class.getName();
+
+	public static CoverLocator get(long classPK, String variant) {
+		String key = _encodeKey(classPK, variant);
+
+		ThreadLocalCache<CoverLocator> threadLocalCache =
+			_getThreadLocalCache();
+
+		CoverLocator coverLocator = threadLocalCache.get(key);
+
+		if (coverLocator != null) {
+			return coverLocator;
+		}
+
+		coverLocator = _portalCache.get(key);
+
+		if (coverLocator != null) {
+			threadLocalCache.put(key, coverLocator);
+		}
+
+		return coverLocator;
+	}
+
+	public static void put(
+		long classPK, String variant, CoverLocator coverLocator) {
+
+		String key = _encodeKey(classPK, variant);
+
+		ThreadLocalCache<CoverLocator> threadLocalCache =
+			_getThreadLocalCache();
+
+		threadLocalCache.put(key, coverLocator);
+
+		_portalCache.put(key, coverLocator);
+	}
+
+	public static void remove(long classPK) {
+		remove(classPK, null);
+
+		for (String variant : CoverImageUtil.VARIANTS) {
+			remove(classPK, variant);
+		}
+	}
+
+	public static void remove(long classPK, String variant) {
+		String key = _encodeKey(classPK, variant);
+
+		ThreadLocalCache<CoverLocator> threadLocalCache =
+			_getThreadLocalCache();
+
+		threadLocalCache.remove(key);
+
+		_portalCache.remove(key);
+	}
+
+	private static String _encodeKey(long classPK, String variant) {
+		if (Validator.isNull(variant)) {
+			return String.valueOf(classPK);
+		}
+
+		return String.valueOf(classPK).concat(StringPool.POUND).concat(
+			variant);
+	}
+
+	private static ThreadLocalCache<CoverLocator> _getThreadLocalCache() {
+		return ThreadLocalCacheManager.getThreadLocalCache(
+			Lifecycle.REQUEST, CACHE_NAME);
+	}
+
+	private static PortalCache<String, CoverLocator> _portalCache =
+		MultiVMPoolUtil.getCache(CACHE_NAME);
+
+}
\ No newline at end of file
@@ -0,0 +1,359 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.util;
+
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.image.ImageBag;
+import com.liferay.portal.kernel.image.ImageToolUtil;
+import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayInputStream;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.repository.model.FileEntry;
+import com.liferay.portal.kernel.repository.model.FileVersion;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackRegistryUtil;
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.MimeTypesUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.portletfilerepository.PortletFileRepositoryUtil;
+import com.liferay.portal.theme.ThemeDisplay;
+import com.liferay.portlet.documentlibrary.model.DLFolderConstants;
+
+import java.awt.image.RenderedImage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.concurrent.Callable;
+
+import org.liferay.jukebox.model.CoverLocator;
+
+/**
+ * Stores the cover images of albums and artists, together with a resized
+ * variant for every size they are displayed at.
+ *
+ * <p>
+ * Covers are served by the cover servlet from URLs that include the file
+ * version, so they never change and can be cached by browsers and proxies
+ * for as long as they like. The file entry and version of every cover are
+ * cached by {@link CoverCacheUtil} until the cover is uploaded again or
+ * deleted.
+ * </p>
+ *
+ * @author Julio Camarero
+ */
+public class CoverImageUtil {
+
+	public static final String[] VARIANTS = {
+		Constants.COVER_VARIANT_HERO, Constants.COVER_VARIANT_LIST,
+		Constants.COVER_VARIANT_THUMBNAIL
+	};
+
+	public static void addCoverImages(
+			long groupId, long userId, String className, long classPK,
+			InputStream inputStream)
+		throws PortalException {
+
+		byte[] bytes = null;
+
+		try {
+			bytes = FileUtil.getBytes(inputStream);
+		}
+		catch (IOException ioe) {
+			throw new SystemException(ioe);
+		}
+
+		_removeCoverLocators(classPK);
+
+		_addPortletFileEntry(
+			groupId, userId, className, classPK, bytes,
+			String.valueOf(classPK), StringPool.BLANK);
+
+		ImageBag imageBag = null;
+
+		try {
+			imageBag = ImageToolUtil.read(bytes);
+		}
+		catch (IOException ioe) {
+			if (_log.isWarnEnabled()) {
+				_log.warn("Unable to read the cover of " + classPK, ioe);
+			}
+
+			return;
+		}
+
+		RenderedImage renderedImage = imageBag.getRenderedImage();
+
+		if (renderedImage == null) {
+			return;
+		}
+
+		String type = imageBag.getType();
+
+		String mimeType = MimeTypesUtil.getContentType(
+			"cover".concat(StringPool.PERIOD).concat(type));
+
+		for (String variant : VARIANTS) {
+			int size = getSize(variant);
+
+			try {
+				RenderedImage variantRenderedImage = ImageToolUtil.scale(
+					renderedImage, size, size);
+
+				byte[] variantBytes = bytes;
+
+				if (variantRenderedImage != renderedImage) {
+					variantBytes = ImageToolUtil.getBytes(
+						variantRenderedImage, type);
+				}
+
+				_addPortletFileEntry(
+					groupId, userId, className, classPK, variantBytes,
+					getFileName(classPK, variant), mimeType);
+			}
+			catch (IOException ioe) {
+				if (_log.isWarnEnabled()) {
+					_log.warn(
+						"Unable to resize the cover of " + classPK + " to " +
+							variant,
+						ioe);
+				}
+			}
+		}
+	}
+
+	public static void deleteCoverImages(long groupId, long classPK) {
+		_deletePortletFileEntry(groupId, String.valueOf(classPK));
+
+		for (String variant : VARIANTS) {
+			_deletePortletFileEntry(groupId, getFileName(classPK, variant));
+		}
+
+		_removeCoverLocators(classPK);
+	}
+
+	/**
+	 * Returns the cover of the album or artist in the given variant, or the
+	 * original cover if the variant is <code>null</code>.
+	 */
+	public static FileEntry fetchCoverFileEntry(
+		long groupId, long classPK, String variant) {
+
+		CoverLocator coverLocator = fetchCoverLocator(
+			groupId, classPK, variant);
+
+		if (coverLocator.isEmpty()) {
+			return null;
+		}
+
+		try {
+			return PortletFileRepositoryUtil.getPortletFileEntry(
+				coverLocator.getFileEntryId());
+		}
+		catch (Exception e) {
+			CoverCacheUtil.remove(classPK, variant);
+
+			return _fetchCoverFileEntry(groupId, classPK, variant);
+		}
+	}
+
+	public static CoverLocator fetchCoverLocator(
+		long groupId, long classPK, String variant) {
+
+		CoverLocator coverLocator = CoverCacheUtil.get(classPK, variant);
+
+		if (coverLocator != null) {
+			return coverLocator;
+		}
+
+		FileEntry fileEntry = _fetchCoverFileEntry(groupId, classPK, variant);
+
+		if (fileEntry == null) {
+			coverLocator = CoverLocator.EMPTY;
+		}
+		else {
+			try {
+				FileVersion fileVersion = fileEntry.getLatestFileVersion();
+
+				coverLocator = new CoverLocator(
+					fileEntry.getFileEntryId(),
+					fileVersion.getFileVersionId());
+			}
+			catch (Exception e) {
+				if (_log.isDebugEnabled()) {
+					_log.debug("Unable to get the cover of " + classPK, e);
+				}
+
+				return CoverLocator.EMPTY;
+			}
+		}
+
+		CoverCacheUtil.put(classPK, variant, coverLocator);
+
+		return coverLocator;
+	}
+
+	/**
+	 * Returns the URL of the cover of the album resized to the variant. If the
+	 * variant is <code>null</code> or was not generated, returns the URL of
+	 * the original cover, and if the album has no cover, the URL of the
+	 * default album image.
+	 */
+	public static String getAlbumCoverURL(
+		ThemeDisplay themeDisplay, long groupId, long albumId,
+		String variant) {
+
+		CoverLocator coverLocator = CoverLocator.EMPTY;
+
+		if (Validator.isNotNull(variant)) {
+			coverLocator = fetchCoverLocator(groupId, albumId, variant);
+		}
+
+		if (coverLocator.isEmpty()) {
+			coverLocator = fetchCoverLocator(groupId, albumId, null);
+		}
+
+		if (!coverLocator.isEmpty()) {
+			return getCoverURL(themeDisplay, coverLocator);
+		}
+		else {
+			return themeDisplay.getPortalURL() +
+				"/jukebox-portlet/images/vinilo.png";
+		}
+	}
+
+	/**
+	 * Returns the URL of the cover of the artist resized to the variant. If
+	 * the variant is <code>null</code> or was not generated, returns the URL
+	 * of the original cover, and if the artist has no cover, the URL of the
+	 * default artist image.
+	 */
+	public static String getArtistCoverURL(
+		ThemeDisplay themeDisplay, long groupId, long artistId,
+		String variant) {
+
+		CoverLocator coverLocator = CoverLocator.EMPTY;
+
+		if (Validator.isNotNull(variant)) {
+			coverLocator = fetchCoverLocator(groupId, artistId, variant);
+		}
+
+		if (coverLocator.isEmpty()) {
+			coverLocator = fetchCoverLocator(groupId, artistId, null);
+		}
+
+		if (!coverLocator.isEmpty()) {
+			return getCoverURL(themeDisplay, coverLocator);
+		}
+		else {
+			return themeDisplay.getPortalURL() +
+				"/jukebox-portlet/images/singer2.jpeg";
+		}
+	}
+
+	public static String getCoverURL(
+		ThemeDisplay themeDisplay, CoverLocator coverLocator) {
+
+		return themeDisplay.getPortalURL() + themeDisplay.getPathContext() +
+			Constants.COVER_PATH + StringPool.SLASH +
+				coverLocator.getFileEntryId() + StringPool.SLASH +
+					coverLocator.getFileVersionId();
+	}
+
+	public static String getFileName(long classPK, String variant) {
+		if (Validator.isNull(variant)) {
+			return String.valueOf(classPK);
+		}
+
+		return String.valueOf(classPK).concat(StringPool.UNDERLINE).concat(
+			variant);
+	}
+
+	public static int getSize(String variant) {
+		if (variant.equals(Constants.COVER_VARIANT_HERO)) {
+			return PortletPropsValues.COVER_HERO_SIZE;
+		}
+		else if (variant.equals(Constants.COVER_VARIANT_LIST)) {
+			return PortletPropsValues.COVER_LIST_SIZE;
+		}
+
+		return PortletPropsValues.COVER_THUMBNAIL_SIZE;
+	}
+
+	private static void _addPortletFileEntry(
+			long groupId, long userId, String className, long classPK,
+			byte[] bytes, String fileName, String mimeType)
+		throws PortalException {
+
+		PortletFileRepositoryUtil.addPortletFileEntry(
+			groupId, userId, className, classPK,
+			Constants.JUKEBOX_PORTLET_REPOSITORY,
+			DLFolderConstants.DEFAULT_PARENT_FOLDER_ID,
+			new UnsyncByteArrayInputStream(bytes), fileName, mimeType, true);
+	}
+
+	private static FileEntry _fetchCoverFileEntry(
+		long groupId, long classPK, String variant) {
+
+		long repositoryId = JukeboxRepositoryUtil.fetchPortletRepositoryId(
+			groupId);
+
+		if (repositoryId <= 0) {
+			return null;
+		}
+
+		try {
+			return PortletFileRepositoryUtil.getPortletFileEntry(
+				repositoryId,
+				DLFolderConstants.DEFAULT_PARENT_FOLDER_ID,
+				getFileName(classPK, variant));
+		}
+		catch (Exception e) {
+			return null;
+		}
+	}
+
+	private static void _deletePortletFileEntry(long groupId, String fileName) {
+		try {
+			PortletFileRepositoryUtil.deletePortletFileEntry(
+				groupId, DLFolderConstants.DEFAULT_PARENT_FOLDER_ID, fileName);
+		}
+		catch (Exception e) {
+			if (_log.isDebugEnabled()) {
+				_log.debug("Cannot delete cover " + fileName);
+			}
+		}
+	}
+
+	private static void _removeCoverLocators(final long classPK) {
+		CoverCacheUtil.remove(classPK);
+
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					CoverCacheUtil.remove(classPK);
+
+					return null;
+				}
+
+			});
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(CoverImageUtil.class);
+
+}
\ No newline at end of file
@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.util;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.repository.model.FileEntry;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackRegistryUtil;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+import com.liferay.portlet.documentlibrary.util.DLProcessorRegistryUtil;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Processes the song and lyrics files, such as transcoding their renditions,
+ * in the background.
+ *
+ * <p>
+ * Files are processed on {@link PortletPropsValues#CONVERSION_THREAD_COUNT}
+ * threads per node, higher priority files first. At most {@link
+ * PortletPropsValues#CONVERSION_QUEUE_CAPACITY} files wait at a time. When
+ * the queue is full, the file is not queued, so that the caller never waits
+ * for a slot or processes the file itself.
+ * </p>
+ *
+ * <p>
+ * Triggering the document library processors only sends a message to the
+ * processors of the portal, which have threads of their own, so it is done
+ * right after the commit instead of on the queue.
+ * </p>
+ *
+ * @author Julio Camarero
+ */
+public class DLProcessorQueueUtil {
+
+	public static final int PRIORITY_HIGH = 1;
+
+	public static final int PRIORITY_LOW = 0;
+
+	public static int getPendingCount() {
+		return _threadPoolExecutor.getQueue().size();
+	}
+
+	/**
+	 * Queues the runnable and returns <code>true</code>, or returns
+	 * <code>false</code> without waiting if the queue is full or shut down.
+	 */
+	public static boolean queue(Runnable runnable, int priority) {
+		if (!_semaphore.tryAcquire()) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Dropped a file because the conversion queue is full");
+			}
+
+			return false;
+		}
+
+		try {
+			_threadPoolExecutor.execute(
+				new PriorityRunnable(
+					runnable, priority, _sequence.getAndIncrement()));
+
+			return true;
+		}
+		catch (RejectedExecutionException ree) {
+			_semaphore.release();
+
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Dropped a file because the conversion queue is shut " +
+						"down");
+			}
+
+			return false;
+		}
+	}
+
+	/**
+	 * Stops the conversion threads when the plugin is undeployed. The files
+	 * that are still queued are not processed.
+	 */
+	public static void shutdown() {
+		List<Runnable> runnables = _threadPoolExecutor.shutdownNow();
+
+		if (!runnables.isEmpty() && _log.isWarnEnabled()) {
+			_log.warn(
+				"Dropped " + runnables.size() + " queued files on shutdown");
+		}
+	}
+
+	public static void trigger(final FileEntry fileEntry) {
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					try {
+						DLProcessorRegistryUtil.trigger(fileEntry, null, true);
+					}
+					catch (Exception e) {
+						_log.error(
+							"Unable to process file entry " +
+								fileEntry.getFileEntryId(),
+							e);
+					}
+
+					return null;
+				}
+
+			});
+	}
+
+	private static int _getPositiveValue(String key, int value) {
+		if (value > 0) {
+			return value;
+		}
+
+		if (_log.isWarnEnabled()) {
+			_log.warn(
+				"Using 1 instead of " + value + " for " + key +
+					" because it must be positive");
+		}
+
+		return 1;
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(DLProcessorQueueUtil.class);
+
+	private static final Semaphore _semaphore = new Semaphore(
+		_getPositiveValue(
+			PortletPropsKeys.CONVERSION_QUEUE_CAPACITY,
+			PortletPropsValues.CONVERSION_QUEUE_CAPACITY));
+	private static final AtomicLong _sequence = new AtomicLong();
+	private static final int _threadCount = _getPositiveValue(
+		PortletPropsKeys.CONVERSION_THREAD_COUNT,
+		PortletPropsValues.CONVERSION_THREAD_COUNT);
+	private static final ThreadPoolExecutor _threadPoolExecutor =
+		new ThreadPoolExecutor(
+			_threadCount, _threadCount, 0, TimeUnit.MILLISECONDS,
+			new PriorityBlockingQueue<Runnable>(),
+			new NamedThreadFactory(
+				DLProcessorQueueUtil.class.getName(), Thread.NORM_PRIORITY,
+				DLProcessorQueueUtil.class.getClassLoader()));
+
+	private static class PriorityRunnable
+		implements Comparable<PriorityRunnable>, Runnable {
+
+		public PriorityRunnable(
+			Runnable runnable, int priority, long sequence) {
+
+			_runnable = runnable;
+			_priority = priority;
+			_sequence = sequence;
+		}
+
+		@Override
+		public int compareTo(PriorityRunnable priorityRunnable) {
+			if (_priority != priorityRunnable._priority) {
+				return priorityRunnable._priority - _priority;
+			}
+
+			if (_sequence < priorityRunnable._sequence) {
+				return -1;
+			}
+			else if (_sequence > priorityRunnable._sequence) {
+				return 1;
+			}
+
+			return 0;
+		}
+
+		@Override
+		public void run() {
+			try {
+				_runnable.run();
+			}
+			finally {
+				_semaphore.release();
+			}
+		}
+
+		private final int _priority;
+		private final Runnable _runnable;
+		private final long _sequence;
+
+	}
+
+}
\ No newline at end of file
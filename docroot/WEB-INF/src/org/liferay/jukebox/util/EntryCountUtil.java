@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.util;
+
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackRegistryUtil;
+import com.liferay.portal.kernel.util.StringPool;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Keeps in memory the number of songs, albums and artists of a group and the
+ * number of songs of an album, so that counting them does not run a query
+ * every time an entry is added or deleted.
+ *
+ * <p>
+ * A count is loaded from the database the first time it is needed, and is
+ * then incremented or decremented once the transaction that added or deleted
+ * an entry commits. Updating a count invalidates it on the other nodes, which
+ * load it again. All counts are dropped periodically by {@link
+ * org.liferay.jukebox.messaging.EntryCountRepairMessageListener}, so a count
+ * that drifted because of a concurrent load is repaired.
+ * </p>
+ *
+ * @author Julio Camarero
+ */
+public class EntryCountUtil {
+
+	public static final String CACHE_NAME = EntryCountUtil.class.getName();
+
+	public static void clearCache() {
+		_portalCache.removeAll();
+	}
+
+	public static Integer get(
+		String className, String columnName, long columnValue) {
+
+		return _portalCache.get(_encodeKey(className, columnName, columnValue));
+	}
+
+	/**
+	 * Adds the delta to the count once the current transaction commits. Counts
+	 * that are not loaded are left to be loaded from the database.
+	 */
+	public static void increment(
+		String className, String columnName, long columnValue,
+		final int delta) {
+
+		final String key = _encodeKey(className, columnName, columnValue);
+
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					_increment(key, delta);
+
+					return null;
+				}
+
+			});
+	}
+
+	public static void put(
+		String className, String columnName, long columnValue, int count) {
+
+		_portalCache.put(
+			_encodeKey(className, columnName, columnValue), count);
+	}
+
+	private static String _encodeKey(
+		String className, String columnName, long columnValue) {
+
+		StringBuilder sb = new StringBuilder(5);
+
+		sb.append(className);
+		sb.append(StringPool.POUND);
+		sb.append(columnName);
+		sb.append(StringPool.POUND);
+		sb.append(columnValue);
+
+		return sb.toString();
+	}
+
+	private static synchronized void _increment(String key, int delta) {
+		Integer count = _portalCache.get(key);
+
+		if (count == null) {
+			return;
+		}
+
+		_portalCache.put(key, Math.max(0, count + delta));
+	}
+
+	private static PortalCache<String, Integer> _portalCache =
+		MultiVMPoolUtil.getCache(CACHE_NAME);
+
+}
\ No newline at end of file
@@ -0,0 +1,277 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.util;
+
+import com.liferay.portal.kernel.util.StringPool;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import java.util.UUID;
+
+/**
+ * Reads and writes the fields of the song, album and artist cache models in
+ * a compact form, since they are replicated to the other nodes every time an
+ * entry is updated.
+ *
+ * <p>
+ * Numbers are written as variable length zigzag integers, so the small ids
+ * and statuses take one to three bytes instead of eight. A date is written as
+ * the difference from a previous date of the same entry, a string can refer
+ * to a previous string of the same entry instead of repeating it, and a
+ * canonical uuid is written as its sixteen bytes.
+ * </p>
+ *
+ * <p>
+ * The <code>readExternal</code> and <code>writeExternal</code> methods of
+ * <code>SongCacheModel</code>, <code>AlbumCacheModel</code> and
+ * <code>ArtistCacheModel</code> are edited by hand to call this class, since
+ * Service Builder has no hook for the cache model format. Running Service
+ * Builder reverts them to the default format, so they must be edited again
+ * after every run.
+ * </p>
+ *
+ * <p>
+ * Each cache model writes its format version first and refuses to read
+ * another version. Nodes that run an older format, including the default
+ * format of earlier releases, cannot read the entries replicated by nodes
+ * that run a newer one, and the reverse. A deploy that changes the format,
+ * or the version of a cache model, must therefore not be rolled out node by
+ * node while the cluster keeps replicating: either restart the whole cluster
+ * with the new plugin, or clear the entity caches of all the nodes once every
+ * node runs it.
+ * </p>
+ *
+ * @author Julio Camarero
+ */
+public class ExternalizableUtil {
+
+	public static void checkVersion(
+			ObjectInput objectInput, Class<?> clazz, int version)
+		throws IOException {
+
+		int streamVersion = objectInput.readUnsignedByte();
+
+		if (streamVersion != version) {
+			throw new IOException(
+				"Unable to read version " + streamVersion + " of " +
+					clazz.getName() + ", expected version " + version);
+		}
+	}
+
+	/**
+	 * Reads a date written by {@link #writeDate(ObjectOutput, long, long)},
+	 * returning <code>Long.MIN_VALUE</code> for a null date.
+	 */
+	public static long readDate(ObjectInput objectInput, long previousDate)
+		throws IOException {
+
+		long value = _readUnsignedVarLong(objectInput);
+
+		if (value == 0) {
+			return Long.MIN_VALUE;
+		}
+
+		return _getBaseDate(previousDate) + _decodeZigZag(value - 1);
+	}
+
+	public static int readInt(ObjectInput objectInput) throws IOException {
+		return (int)readLong(objectInput);
+	}
+
+	public static long readLong(ObjectInput objectInput) throws IOException {
+		return _decodeZigZag(_readUnsignedVarLong(objectInput));
+	}
+
+	public static String readString(ObjectInput objectInput)
+		throws IOException {
+
+		return objectInput.readUTF();
+	}
+
+	/**
+	 * Reads a string written by {@link #writeString(ObjectOutput, String,
+	 * String)}.
+	 */
+	public static String readString(
+			ObjectInput objectInput, String previousValue)
+		throws IOException {
+
+		if (objectInput.readBoolean()) {
+			return previousValue;
+		}
+
+		return objectInput.readUTF();
+	}
+
+	public static String readUuid(ObjectInput objectInput) throws IOException {
+		if (!objectInput.readBoolean()) {
+			return objectInput.readUTF();
+		}
+
+		UUID uuid = new UUID(objectInput.readLong(), objectInput.readLong());
+
+		return uuid.toString();
+	}
+
+	public static void writeDate(
+			ObjectOutput objectOutput, long date, long previousDate)
+		throws IOException {
+
+		if (date == Long.MIN_VALUE) {
+			_writeUnsignedVarLong(objectOutput, 0);
+
+			return;
+		}
+
+		_writeUnsignedVarLong(
+			objectOutput,
+			_encodeZigZag(date - _getBaseDate(previousDate)) + 1);
+	}
+
+	public static void writeInt(ObjectOutput objectOutput, int value)
+		throws IOException {
+
+		writeLong(objectOutput, value);
+	}
+
+	public static void writeLong(ObjectOutput objectOutput, long value)
+		throws IOException {
+
+		_writeUnsignedVarLong(objectOutput, _encodeZigZag(value));
+	}
+
+	public static void writeString(ObjectOutput objectOutput, String value)
+		throws IOException {
+
+		if (value == null) {
+			value = StringPool.BLANK;
+		}
+
+		objectOutput.writeUTF(value);
+	}
+
+	/**
+	 * Writes a string, or only a reference to the previous string when they
+	 * are equal, such as the status user name of an entry that is updated by
+	 * the user who created it.
+	 */
+	public static void writeString(
+			ObjectOutput objectOutput, String value, String previousValue)
+		throws IOException {
+
+		if (value == null) {
+			value = StringPool.BLANK;
+		}
+
+		if (previousValue == null) {
+			previousValue = StringPool.BLANK;
+		}
+
+		if (value.equals(previousValue)) {
+			objectOutput.writeBoolean(true);
+
+			return;
+		}
+
+		objectOutput.writeBoolean(false);
+		objectOutput.writeUTF(value);
+	}
+
+	public static void writeUuid(ObjectOutput objectOutput, String value)
+		throws IOException {
+
+		UUID uuid = _toUUID(value);
+
+		if (uuid == null) {
+			objectOutput.writeBoolean(false);
+
+			writeString(objectOutput, value);
+
+			return;
+		}
+
+		objectOutput.writeBoolean(true);
+		objectOutput.writeLong(uuid.getMostSignificantBits());
+		objectOutput.writeLong(uuid.getLeastSignificantBits());
+	}
+
+	private static long _decodeZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static long _encodeZigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long _getBaseDate(long previousDate) {
+		if (previousDate == Long.MIN_VALUE) {
+			return 0;
+		}
+
+		return previousDate;
+	}
+
+	private static long _readUnsignedVarLong(ObjectInput objectInput)
+		throws IOException {
+
+		long value = 0;
+
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = objectInput.readUnsignedByte();
+
+			value |= (long)(b & 0x7F) << shift;
+
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+
+		throw new IOException("Variable length long is too long");
+	}
+
+	private static UUID _toUUID(String value) {
+		if ((value == null) || (value.length() != 36)) {
+			return null;
+		}
+
+		try {
+			UUID uuid = UUID.fromString(value);
+
+			if (value.equals(uuid.toString())) {
+				return uuid;
+			}
+		}
+		catch (IllegalArgumentException iae) {
+		}
+
+		return null;
+	}
+
+	private static void _writeUnsignedVarLong(
+			ObjectOutput objectOutput, long value)
+		throws IOException {
+
+		while ((value & ~0x7FL) != 0) {
+			objectOutput.writeByte((int)((value & 0x7F) | 0x80));
+
+			value >>>= 7;
+		}
+
+		objectOutput.writeByte((int)value);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.util;
+
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackRegistryUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.uuid.PortalUUIDUtil;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Partitions the list finder caches of songs, albums and artists, so that
+ * adding, updating or deleting an entry only invalidates the cached lists it
+ * can be part of instead of every cached list of every site.
+ *
+ * <p>
+ * Every partition, such as the lists of a group or of an album, has a
+ * generation that is appended to the arguments of the finders in it. Clearing
+ * a partition removes its generation, so its cached lists are no longer found
+ * and age out of the finder cache. Generations are random, so a generation
+ * that is evicted or removed by another node is never reused.
+ * </p>
+ *
+ * @author Julio Camarero
+ */
+public class FinderCachePartitionUtil {
+
+	public static final String CACHE_NAME =
+		FinderCachePartitionUtil.class.getName();
+
+	/**
+	 * Clears the partition of the finders that are not scoped by any column,
+	 * such as the finders by company, user or UUID.
+	 */
+	public static void clearCache(String className) {
+		_clearCache(className);
+	}
+
+	public static void clearCache(
+		String className, String columnName, long columnValue) {
+
+		_clearCache(_encodeKey(className, columnName, columnValue));
+	}
+
+	public static Object[] getFinderArgs(
+		String className, Object[] finderArgs) {
+
+		return _getFinderArgs(className, finderArgs);
+	}
+
+	public static Object[] getFinderArgs(
+		String className, String columnName, long columnValue,
+		Object[] finderArgs) {
+
+		return _getFinderArgs(
+			_encodeKey(className, columnName, columnValue), finderArgs);
+	}
+
+	private static void _clearCache(final String key) {
+		_portalCache.remove(key);
+
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					_portalCache.remove(key);
+
+					return null;
+				}
+
+			});
+	}
+
+	private static String _encodeKey(
+		String className, String columnName, long columnValue) {
+
+		StringBuilder sb = new StringBuilder(5);
+
+		sb.append(className);
+		sb.append(StringPool.POUND);
+		sb.append(columnName);
+		sb.append(StringPool.POUND);
+		sb.append(columnValue);
+
+		return sb.toString();
+	}
+
+	private static Object[] _getFinderArgs(String key, Object[] finderArgs) {
+		String generation = _portalCache.get(key);
+
+		if (generation == null) {
+			generation = PortalUUIDUtil.generate();
+
+			_portalCache.put(key, generation);
+		}
+
+		Object[] partitionFinderArgs = new Object[finderArgs.length + 1];
+
+		System.arraycopy(
+			finderArgs, 0, partitionFinderArgs, 0, finderArgs.length);
+
+		partitionFinderArgs[finderArgs.length] = generation;
+
+		return partitionFinderArgs;
+	}
+
+	private static PortalCache<String, String> _portalCache =
+		MultiVMPoolUtil.getCache(CACHE_NAME);
+
+}
\ No newline at end of file
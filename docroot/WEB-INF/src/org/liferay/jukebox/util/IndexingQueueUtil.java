@@ -0,0 +1,718 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.util;
+
+import com.liferay.portal.NoSuchModelException;
+import com.liferay.portal.kernel.concurrent.ThreadPoolExecutor;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.search.Document;
+import com.liferay.portal.kernel.search.DocumentImpl;
+import com.liferay.portal.kernel.search.Field;
+import com.liferay.portal.kernel.search.Indexer;
+import com.liferay.portal.kernel.search.IndexerRegistryUtil;
+import com.liferay.portal.kernel.search.SearchEngineUtil;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackRegistryUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.HashUtil;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.Time;
+import com.liferay.portal.model.PersistedModel;
+import com.liferay.portal.service.PersistedModelLocalService;
+import com.liferay.portal.service.PersistedModelLocalServiceRegistryUtil;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reindexes entries, or deletes their documents, after the transaction that
+ * changed them commits, off the request thread.
+ *
+ * <p>
+ * An entry that is queued again before it is processed is only processed
+ * once, and a delete replaces a pending reindex of the same entry. Since
+ * deletes go through the same queue, a document is never added back after
+ * its entry was deleted. The queue is drained in batches of {@link
+ * PortletPropsValues#REINDEX_BATCH_SIZE} entries, and the documents of each
+ * batch are sent to the search engine together.
+ * </p>
+ *
+ * <p>
+ * An entry that fails does not fail the rest of its batch. It is queued
+ * again after {@link PortletPropsValues#REINDEX_RETRY_DELAY} seconds, a delay
+ * that doubles after each attempt, so that an outage of the search engine
+ * does not use up its attempts at once. An entry that fails {@link
+ * #MAX_ATTEMPTS} times is dropped and logged, so it can be reindexed by hand.
+ * An entry that is queued while it waits to be tried again is processed
+ * right away instead.
+ * </p>
+ *
+ * @author Julio Camarero
+ */
+public class IndexingQueueUtil {
+
+	public static final int MAX_ATTEMPTS = 6;
+
+	public static void delete(
+		final String className, final long companyId, final long classPK) {
+
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					_add(
+						new IndexingEntry(className, classPK, companyId, true));
+
+					return null;
+				}
+
+			});
+	}
+
+	public static long getCoalescedCount() {
+		synchronized (_pendingEntries) {
+			return _coalescedCount;
+		}
+	}
+
+	/**
+	 * Returns the number of milliseconds the oldest pending entry has been
+	 * waiting to be processed.
+	 */
+	public static long getLag() {
+		synchronized (_pendingEntries) {
+			Iterator<IndexingEntry> iterator =
+				_pendingEntries.values().iterator();
+
+			if (!iterator.hasNext()) {
+				return 0;
+			}
+
+			IndexingEntry indexingEntry = iterator.next();
+
+			return System.currentTimeMillis() - indexingEntry.getQueuedTime();
+		}
+	}
+
+	/**
+	 * Returns the number of failed entries that wait to be tried again.
+	 */
+	public static int getDelayedCount() {
+		synchronized (_pendingEntries) {
+			return _delayedEntries.size();
+		}
+	}
+
+	public static int getPendingCount() {
+		synchronized (_pendingEntries) {
+			return _pendingEntries.size();
+		}
+	}
+
+	public static long getProcessedCount() {
+		synchronized (_pendingEntries) {
+			return _processedCount;
+		}
+	}
+
+	public static void reindex(final String className, final long classPK) {
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					_add(new IndexingEntry(className, classPK, 0, false));
+
+					return null;
+				}
+
+			});
+	}
+
+	/**
+	 * Processes the pending entries, and the failed entries without waiting
+	 * for their delay, on the calling thread, and stops handing the queue to
+	 * the portal executor. Called when the plugin is undeployed, so that the
+	 * pending entries are not lost. Entries that fail again are dropped.
+	 */
+	public static void shutdown() {
+		_scheduledThreadPoolExecutor.shutdownNow();
+
+		synchronized (_pendingEntries) {
+			_shutdown = true;
+
+			for (IndexingEntry delayedIndexingEntry :
+					_delayedEntries.values()) {
+
+				if (!_pendingEntries.containsKey(delayedIndexingEntry)) {
+					_pendingEntries.put(
+						delayedIndexingEntry, delayedIndexingEntry);
+				}
+			}
+
+			_delayedEntries.clear();
+		}
+
+		_drain();
+	}
+
+	private static void _add(IndexingEntry indexingEntry) {
+		synchronized (_pendingEntries) {
+			IndexingEntry delayedIndexingEntry = _delayedEntries.remove(
+				indexingEntry);
+
+			if ((delayedIndexingEntry != null) &&
+				delayedIndexingEntry.isDelete() && !indexingEntry.isDelete()) {
+
+				indexingEntry = delayedIndexingEntry;
+			}
+
+			IndexingEntry pendingIndexingEntry = _pendingEntries.get(
+				indexingEntry);
+
+			if (pendingIndexingEntry != null) {
+				_coalescedCount++;
+
+				if (indexingEntry.isDelete() &&
+					!pendingIndexingEntry.isDelete()) {
+
+					_pendingEntries.put(indexingEntry, indexingEntry);
+				}
+
+				return;
+			}
+
+			_pendingEntries.put(indexingEntry, indexingEntry);
+
+			if (_draining || _shutdown) {
+				return;
+			}
+
+			_draining = true;
+		}
+
+		_execute();
+	}
+
+	private static void _addDocument(
+			Map<String, IndexingBatch> indexingBatches,
+			IndexingEntry indexingEntry)
+		throws Exception {
+
+		String className = indexingEntry.getClassName();
+
+		Indexer indexer = IndexerRegistryUtil.nullSafeGetIndexer(className);
+
+		if (indexingEntry.isDelete()) {
+			Document document = new DocumentImpl();
+
+			document.addUID(
+				indexer.getPortletId(), indexingEntry.getClassPK());
+
+			IndexingBatch indexingBatch = _getIndexingBatch(
+				indexingBatches, className, indexer,
+				indexingEntry.getCompanyId());
+
+			indexingBatch.addUID(indexingEntry, document.get(Field.UID));
+
+			return;
+		}
+
+		PersistedModelLocalService persistedModelLocalService =
+			PersistedModelLocalServiceRegistryUtil.
+				getPersistedModelLocalService(className);
+
+		PersistedModel persistedModel = null;
+
+		try {
+			persistedModel = persistedModelLocalService.getPersistedModel(
+				indexingEntry.getClassPK());
+		}
+		catch (NoSuchModelException nsme) {
+
+			// The entry was deleted and its document is deleted by the delete
+			// that was queued with it
+
+			if (_log.isDebugEnabled()) {
+				_log.debug(nsme, nsme);
+			}
+
+			return;
+		}
+
+		Document document = indexer.getDocument(persistedModel);
+
+		if (document == null) {
+			return;
+		}
+
+		long companyId = GetterUtil.getLong(document.get(Field.COMPANY_ID));
+
+		IndexingBatch indexingBatch = _getIndexingBatch(
+			indexingBatches, className, indexer, companyId);
+
+		indexingBatch.addDocument(indexingEntry, document);
+	}
+
+	private static void _drain() {
+		while (true) {
+			List<IndexingEntry> indexingEntries =
+				new ArrayList<IndexingEntry>();
+
+			synchronized (_pendingEntries) {
+				Iterator<IndexingEntry> iterator =
+					_pendingEntries.values().iterator();
+
+				while (iterator.hasNext()) {
+					if (indexingEntries.size() >=
+							PortletPropsValues.REINDEX_BATCH_SIZE) {
+
+						break;
+					}
+
+					indexingEntries.add(iterator.next());
+
+					iterator.remove();
+				}
+
+				if (indexingEntries.isEmpty()) {
+					_draining = false;
+
+					return;
+				}
+			}
+
+			List<IndexingEntry> failedIndexingEntries = _process(
+				indexingEntries);
+
+			_retry(failedIndexingEntries);
+
+			synchronized (_pendingEntries) {
+				_processedCount +=
+					indexingEntries.size() - failedIndexingEntries.size();
+			}
+
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					"Processed " + indexingEntries.size() + " entries with " +
+						failedIndexingEntries.size() + " failed, " +
+							getPendingCount() + " pending and a lag of " +
+								getLag() + " ms");
+			}
+		}
+	}
+
+	/**
+	 * Hands the queue to the portal executor. Called by the thread that set
+	 * <code>_draining</code>.
+	 */
+	private static void _execute() {
+		try {
+			ThreadPoolExecutor threadPoolExecutor =
+				PortalExecutorManagerUtil.getPortalExecutor(
+					IndexingQueueUtil.class.getName());
+
+			threadPoolExecutor.execute(
+				new Runnable() {
+
+					@Override
+					public void run() {
+						_drain();
+					}
+
+				});
+		}
+		catch (RuntimeException re) {
+			synchronized (_pendingEntries) {
+				_draining = false;
+			}
+
+			throw re;
+		}
+	}
+
+	private static IndexingBatch _getIndexingBatch(
+		Map<String, IndexingBatch> indexingBatches, String className,
+		Indexer indexer, long companyId) {
+
+		String key = className.concat(StringPool.POUND).concat(
+			String.valueOf(companyId));
+
+		IndexingBatch indexingBatch = indexingBatches.get(key);
+
+		if (indexingBatch == null) {
+			indexingBatch = new IndexingBatch(
+				indexer.getSearchEngineId(), companyId);
+
+			indexingBatches.put(key, indexingBatch);
+		}
+
+		return indexingBatch;
+	}
+
+	/**
+	 * Processes the entries and returns the ones that failed.
+	 */
+	private static List<IndexingEntry> _process(
+		List<IndexingEntry> indexingEntries) {
+
+		List<IndexingEntry> failedIndexingEntries =
+			new ArrayList<IndexingEntry>();
+
+		if (SearchEngineUtil.isIndexReadOnly()) {
+			return failedIndexingEntries;
+		}
+
+		Map<String, IndexingBatch> indexingBatches =
+			new LinkedHashMap<String, IndexingBatch>();
+
+		for (IndexingEntry indexingEntry : indexingEntries) {
+			try {
+				_addDocument(indexingBatches, indexingEntry);
+			}
+			catch (Exception e) {
+				_log.error("Unable to process " + indexingEntry, e);
+
+				failedIndexingEntries.add(indexingEntry);
+			}
+		}
+
+		for (IndexingBatch indexingBatch : indexingBatches.values()) {
+			try {
+				indexingBatch.send();
+			}
+			catch (Exception e) {
+				List<IndexingEntry> batchIndexingEntries =
+					indexingBatch.getIndexingEntries();
+
+				_log.error(
+					"Unable to send " + batchIndexingEntries.size() +
+						" entries to the search engine",
+					e);
+
+				failedIndexingEntries.addAll(batchIndexingEntries);
+			}
+		}
+
+		return failedIndexingEntries;
+	}
+
+	/**
+	 * Moves the failed entries whose delay elapsed back to the queue, and
+	 * schedules the next call if other failed entries are still waiting.
+	 */
+	private static void _requeue() {
+		long nextRetryTime = Long.MAX_VALUE;
+
+		synchronized (_pendingEntries) {
+			if (_shutdown) {
+				return;
+			}
+
+			long now = System.currentTimeMillis();
+
+			Iterator<IndexingEntry> iterator =
+				_delayedEntries.values().iterator();
+
+			while (iterator.hasNext()) {
+				IndexingEntry delayedIndexingEntry = iterator.next();
+
+				if (delayedIndexingEntry.getRetryTime() > now) {
+					nextRetryTime = Math.min(
+						nextRetryTime, delayedIndexingEntry.getRetryTime());
+
+					continue;
+				}
+
+				iterator.remove();
+
+				if (!_pendingEntries.containsKey(delayedIndexingEntry)) {
+					_pendingEntries.put(
+						delayedIndexingEntry, delayedIndexingEntry);
+				}
+			}
+
+			_schedule(nextRetryTime);
+
+			if (_pendingEntries.isEmpty() || _draining) {
+				return;
+			}
+
+			_draining = true;
+		}
+
+		_execute();
+	}
+
+	/**
+	 * Keeps the failed entries until their delay elapses, unless they were
+	 * queued again while they were processed. Entries that failed too many
+	 * times, or that fail while the queue shuts down, are dropped.
+	 */
+	private static void _retry(List<IndexingEntry> failedIndexingEntries) {
+		long nextRetryTime = Long.MAX_VALUE;
+
+		synchronized (_pendingEntries) {
+			for (IndexingEntry failedIndexingEntry : failedIndexingEntries) {
+				IndexingEntry indexingEntry = failedIndexingEntry.retry();
+
+				if (_shutdown ||
+					(indexingEntry.getAttempts() >= MAX_ATTEMPTS)) {
+
+					_log.error(
+						"Dropped " + indexingEntry + " after " +
+							indexingEntry.getAttempts() + " attempts. " +
+								"Reindex it once the search engine is " +
+									"available.");
+
+					continue;
+				}
+
+				IndexingEntry pendingIndexingEntry = _pendingEntries.get(
+					indexingEntry);
+
+				if (pendingIndexingEntry != null) {
+					if (indexingEntry.isDelete() &&
+						!pendingIndexingEntry.isDelete()) {
+
+						_pendingEntries.put(indexingEntry, indexingEntry);
+					}
+
+					continue;
+				}
+
+				_delayedEntries.put(indexingEntry, indexingEntry);
+
+				nextRetryTime = Math.min(
+					nextRetryTime, indexingEntry.getRetryTime());
+			}
+
+			_schedule(nextRetryTime);
+		}
+	}
+
+	/**
+	 * Schedules a call to {@link #_requeue()} at the time, unless the time is
+	 * <code>Long.MAX_VALUE</code>. Called while holding the lock of the queue.
+	 */
+	private static void _schedule(long retryTime) {
+		if ((retryTime == Long.MAX_VALUE) || _shutdown) {
+			return;
+		}
+
+		long delay = Math.max(0, retryTime - System.currentTimeMillis());
+
+		try {
+			_scheduledThreadPoolExecutor.schedule(
+				new Runnable() {
+
+					@Override
+					public void run() {
+						_requeue();
+					}
+
+				},
+				delay, TimeUnit.MILLISECONDS);
+		}
+		catch (RejectedExecutionException ree) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(ree, ree);
+			}
+		}
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(IndexingQueueUtil.class);
+
+	private static long _coalescedCount;
+	private static final Map<IndexingEntry, IndexingEntry> _delayedEntries =
+		new LinkedHashMap<IndexingEntry, IndexingEntry>();
+	private static boolean _draining;
+	private static final Map<IndexingEntry, IndexingEntry> _pendingEntries =
+		new LinkedHashMap<IndexingEntry, IndexingEntry>();
+	private static long _processedCount;
+	private static final ScheduledThreadPoolExecutor
+		_scheduledThreadPoolExecutor = new ScheduledThreadPoolExecutor(
+			1,
+			new NamedThreadFactory(
+				IndexingQueueUtil.class.getName(), Thread.NORM_PRIORITY,
+				IndexingQueueUtil.class.getClassLoader()));
+	private static boolean _shutdown;
+
+	private static class IndexingBatch {
+
+		public IndexingBatch(String searchEngineId, long companyId) {
+			_searchEngineId = searchEngineId;
+			_companyId = companyId;
+		}
+
+		public void addDocument(
+			IndexingEntry indexingEntry, Document document) {
+
+			_documents.add(document);
+			_indexingEntries.add(indexingEntry);
+		}
+
+		public void addUID(IndexingEntry indexingEntry, String uid) {
+			_indexingEntries.add(indexingEntry);
+			_uids.add(uid);
+		}
+
+		public List<IndexingEntry> getIndexingEntries() {
+			return _indexingEntries;
+		}
+
+		public void send() throws Exception {
+			if (!_uids.isEmpty()) {
+				SearchEngineUtil.deleteDocuments(
+					_searchEngineId, _companyId, _uids);
+			}
+
+			if (!_documents.isEmpty()) {
+				SearchEngineUtil.updateDocuments(
+					_searchEngineId, _companyId, _documents);
+			}
+		}
+
+		private final long _companyId;
+		private final List<Document> _documents = new ArrayList<Document>();
+		private final List<IndexingEntry> _indexingEntries =
+			new ArrayList<IndexingEntry>();
+		private final String _searchEngineId;
+		private final List<String> _uids = new ArrayList<String>();
+
+	}
+
+	private static class IndexingEntry {
+
+		public IndexingEntry(
+			String className, long classPK, long companyId, boolean delete) {
+
+			this(
+				className, classPK, companyId, delete, 0,
+				System.currentTimeMillis());
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof IndexingEntry)) {
+				return false;
+			}
+
+			IndexingEntry indexingEntry = (IndexingEntry)obj;
+
+			if (_className.equals(indexingEntry._className) &&
+				(_classPK == indexingEntry._classPK)) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		public int getAttempts() {
+			return _attempts;
+		}
+
+		public String getClassName() {
+			return _className;
+		}
+
+		public long getClassPK() {
+			return _classPK;
+		}
+
+		public long getCompanyId() {
+			return _companyId;
+		}
+
+		public long getQueuedTime() {
+			return _queuedTime;
+		}
+
+		public long getRetryTime() {
+			if (_attempts == 0) {
+				return _queuedTime;
+			}
+
+			long delay = PortletPropsValues.REINDEX_RETRY_DELAY * Time.SECOND;
+
+			return _queuedTime + (delay << (_attempts - 1));
+		}
+
+		@Override
+		public int hashCode() {
+			int hash = HashUtil.hash(0, _className);
+
+			return HashUtil.hash(hash, _classPK);
+		}
+
+		public boolean isDelete() {
+			return _delete;
+		}
+
+		public IndexingEntry retry() {
+			return new IndexingEntry(
+				_className, _classPK, _companyId, _delete, _attempts + 1,
+				System.currentTimeMillis());
+		}
+
+		@Override
+		public String toString() {
+			String s = _className.concat(StringPool.POUND).concat(
+				String.valueOf(_classPK));
+
+			if (_delete) {
+				s = s.concat(" (delete)");
+			}
+
+			return s;
+		}
+
+		private IndexingEntry(
+			String className, long classPK, long companyId, boolean delete,
+			int attempts, long queuedTime) {
+
+			_className = className;
+			_classPK = classPK;
+			_companyId = companyId;
+			_delete = delete;
+			_attempts = attempts;
+			_queuedTime = queuedTime;
+		}
+
+		private final int _attempts;
+		private final String _className;
+		private final long _classPK;
+		private final long _companyId;
+		private final boolean _delete;
+		private final long _queuedTime;
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,252 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.util;
+
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.repository.model.Folder;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackRegistryUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.model.Repository;
+import com.liferay.portal.portletfilerepository.PortletFileRepositoryUtil;
+import com.liferay.portal.service.ServiceContext;
+import com.liferay.portlet.documentlibrary.model.DLFolderConstants;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Resolves the Jukebox portlet repository of a group and the folders in it,
+ * caching their IDs so that the media of a song or a cover can be found
+ * without looking them up every time.
+ *
+ * <p>
+ * IDs are cached once the transaction that found or added them commits, and
+ * are removed right away and again after commit when a folder is deleted, so
+ * no node caches the ID of a repository or folder that was rolled back.
+ * Repositories and folders that are not found are not cached, since adding a
+ * portlet file entry can add them too.
+ * </p>
+ *
+ * @author Julio Camarero
+ */
+public class JukeboxRepositoryUtil {
+
+	public static final String FOLDER_CACHE_NAME =
+		JukeboxRepositoryUtil.class.getName() + "_FOLDER";
+
+	public static final String REPOSITORY_CACHE_NAME =
+		JukeboxRepositoryUtil.class.getName() + "_REPOSITORY";
+
+	public static long addPortletFolder(
+			long userId, long repositoryId, long parentFolderId, String name,
+			ServiceContext serviceContext)
+		throws PortalException {
+
+		String key = _encodeKey(repositoryId, parentFolderId, name);
+
+		Long folderId = _folderPortalCache.get(key);
+
+		if (folderId != null) {
+			return folderId;
+		}
+
+		Folder folder = PortletFileRepositoryUtil.addPortletFolder(
+			userId, repositoryId, parentFolderId, name, serviceContext);
+
+		_put(_folderPortalCache, key, folder.getFolderId());
+
+		return folder.getFolderId();
+	}
+
+	public static long addPortletRepository(
+			long groupId, ServiceContext serviceContext)
+		throws PortalException {
+
+		Long repositoryId = _repositoryPortalCache.get(groupId);
+
+		if (repositoryId != null) {
+			return repositoryId;
+		}
+
+		Repository repository = PortletFileRepositoryUtil.addPortletRepository(
+			groupId, Constants.JUKEBOX_PORTLET_REPOSITORY, serviceContext);
+
+		_put(_repositoryPortalCache, groupId, repository.getRepositoryId());
+
+		return repository.getRepositoryId();
+	}
+
+	/**
+	 * Returns the ID of the folder, or <code>0</code> if there is no such
+	 * folder.
+	 */
+	public static long fetchPortletFolderId(
+		long repositoryId, long parentFolderId, String name) {
+
+		String key = _encodeKey(repositoryId, parentFolderId, name);
+
+		Long folderId = _folderPortalCache.get(key);
+
+		if (folderId != null) {
+			return folderId;
+		}
+
+		try {
+			Folder folder = PortletFileRepositoryUtil.getPortletFolder(
+				0, repositoryId, parentFolderId, name, null);
+
+			_put(_folderPortalCache, key, folder.getFolderId());
+
+			return folder.getFolderId();
+		}
+		catch (Exception e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Returns the ID of the Jukebox portlet repository of the group, or
+	 * <code>0</code> if the group has none yet.
+	 */
+	public static long fetchPortletRepositoryId(long groupId) {
+		Long repositoryId = _repositoryPortalCache.get(groupId);
+
+		if (repositoryId != null) {
+			return repositoryId;
+		}
+
+		Repository repository =
+			PortletFileRepositoryUtil.fetchPortletRepository(
+				groupId, Constants.JUKEBOX_PORTLET_REPOSITORY);
+
+		if (repository == null) {
+			return 0;
+		}
+
+		_put(_repositoryPortalCache, groupId, repository.getRepositoryId());
+
+		return repository.getRepositoryId();
+	}
+
+	/**
+	 * Returns the ID of the media folder of the song, such as its songs,
+	 * lyrics or renditions folder, or <code>0</code> if the song has no such
+	 * folder.
+	 */
+	public static long fetchSongFolderId(
+		long groupId, long songId, String folderName) {
+
+		long repositoryId = fetchPortletRepositoryId(groupId);
+
+		if (repositoryId <= 0) {
+			return 0;
+		}
+
+		long folderId = fetchPortletFolderId(
+			repositoryId, DLFolderConstants.DEFAULT_PARENT_FOLDER_ID,
+			String.valueOf(songId));
+
+		if (folderId <= 0) {
+			return 0;
+		}
+
+		return fetchPortletFolderId(repositoryId, folderId, folderName);
+	}
+
+	public static void removePortletFolder(
+		long repositoryId, long parentFolderId, String name) {
+
+		_remove(
+			_folderPortalCache, _encodeKey(repositoryId, parentFolderId, name));
+	}
+
+	/**
+	 * Removes the cached IDs of the folder of the song and of its media
+	 * folders.
+	 */
+	public static void removeSongFolders(long repositoryId, long songId) {
+		String key = _encodeKey(
+			repositoryId, DLFolderConstants.DEFAULT_PARENT_FOLDER_ID,
+			String.valueOf(songId));
+
+		Long folderId = _folderPortalCache.get(key);
+
+		if (folderId != null) {
+			removePortletFolder(
+				repositoryId, folderId, Constants.LYRICS_FOLDER_NAME);
+			removePortletFolder(
+				repositoryId, folderId, Constants.RENDITIONS_FOLDER_NAME);
+			removePortletFolder(
+				repositoryId, folderId, Constants.SONGS_FOLDER_NAME);
+		}
+
+		_remove(_folderPortalCache, key);
+	}
+
+	private static String _encodeKey(
+		long repositoryId, long parentFolderId, String name) {
+
+		StringBuilder sb = new StringBuilder(5);
+
+		sb.append(repositoryId);
+		sb.append(StringPool.POUND);
+		sb.append(parentFolderId);
+		sb.append(StringPool.POUND);
+		sb.append(name);
+
+		return sb.toString();
+	}
+
+	private static <K> void _put(
+		final PortalCache<K, Long> portalCache, final K key, final long id) {
+
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					portalCache.put(key, id);
+
+					return null;
+				}
+
+			});
+	}
+
+	private static <K> void _remove(
+		final PortalCache<K, Long> portalCache, final K key) {
+
+		portalCache.remove(key);
+
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					portalCache.remove(key);
+
+					return null;
+				}
+
+			});
+	}
+
+	private static PortalCache<String, Long> _folderPortalCache =
+		MultiVMPoolUtil.getCache(FOLDER_CACHE_NAME);
+	private static PortalCache<Long, Long> _repositoryPortalCache =
+		MultiVMPoolUtil.getCache(REPOSITORY_CACHE_NAME);
+
+}
\ No newline at end of file
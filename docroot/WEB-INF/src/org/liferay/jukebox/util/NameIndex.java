@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.util;
+
+import com.liferay.portal.kernel.util.StringUtil;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes the names of the approved entries of one type in a group by their
+ * trigrams, so a "name contains keywords" lookup only has to check the
+ * entries that share the rarest trigram of the keywords.
+ *
+ * @author Julio Camarero
+ */
+public class NameIndex implements Serializable {
+
+	public synchronized void add(long classPK, String name) {
+		remove(classPK);
+
+		if (name == null) {
+			return;
+		}
+
+		String normalizedName = StringUtil.toLowerCase(name);
+
+		_names.put(classPK, normalizedName);
+
+		for (String trigram : _getTrigrams(normalizedName)) {
+			Set<Long> classPKs = _trigrams.get(trigram);
+
+			if (classPKs == null) {
+				classPKs = new HashSet<Long>();
+
+				_trigrams.put(trigram, classPKs);
+			}
+
+			classPKs.add(classPK);
+		}
+	}
+
+	public synchronized void remove(long classPK) {
+		String normalizedName = _names.remove(classPK);
+
+		if (normalizedName == null) {
+			return;
+		}
+
+		for (String trigram : _getTrigrams(normalizedName)) {
+			Set<Long> classPKs = _trigrams.get(trigram);
+
+			if (classPKs == null) {
+				continue;
+			}
+
+			classPKs.remove(classPK);
+
+			if (classPKs.isEmpty()) {
+				_trigrams.remove(trigram);
+			}
+		}
+	}
+
+	/**
+	 * Returns the primary keys, in ascending order, of the entries whose
+	 * name contains the keywords, ignoring case.
+	 */
+	public synchronized long[] search(String keywords) {
+		String normalizedKeywords = StringUtil.toLowerCase(keywords);
+
+		Collection<Long> candidateClassPKs = _names.keySet();
+
+		for (String trigram : _getTrigrams(normalizedKeywords)) {
+			Set<Long> classPKs = _trigrams.get(trigram);
+
+			if (classPKs == null) {
+				return new long[0];
+			}
+
+			if (classPKs.size() < candidateClassPKs.size()) {
+				candidateClassPKs = classPKs;
+			}
+		}
+
+		List<Long> matchingClassPKs = new ArrayList<Long>();
+
+		for (Long classPK : candidateClassPKs) {
+			String normalizedName = _names.get(classPK);
+
+			if (normalizedName.contains(normalizedKeywords)) {
+				matchingClassPKs.add(classPK);
+			}
+		}
+
+		long[] classPKs = new long[matchingClassPKs.size()];
+
+		for (int i = 0; i < classPKs.length; i++) {
+			classPKs[i] = matchingClassPKs.get(i);
+		}
+
+		Arrays.sort(classPKs);
+
+		return classPKs;
+	}
+
+	private Set<String> _getTrigrams(String normalizedName) {
+		Set<String> trigrams = new HashSet<String>();
+
+		for (int i = 0; (i + 3) <= normalizedName.length(); i++) {
+			trigrams.add(normalizedName.substring(i, i + 3));
+		}
+
+		return trigrams;
+	}
+
+	private static final long serialVersionUID = 1L;
+
+	private final Map<Long, String> _names = new HashMap<Long, String>();
+	private final Map<String, Set<Long>> _trigrams =
+		new HashMap<String, Set<Long>>();
+
+}
\ No newline at end of file
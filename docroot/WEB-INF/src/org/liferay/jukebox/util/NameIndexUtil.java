@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.util;
+
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackRegistryUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.uuid.PortalUUIDUtil;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Holds the {@link NameIndex} of every group and entry type that has been
+ * searched from the toolbar. The local services remove the index of a group
+ * whenever they change one of its entries, and it is built again the next
+ * time it is searched.
+ *
+ * <p>
+ * Every index is cached with a version that a change removes, so an index
+ * built from entries read before the change is not cached after it.
+ * </p>
+ *
+ * @author Julio Camarero
+ */
+public class NameIndexUtil {
+
+	public static final String CACHE_NAME = NameIndexUtil.class.getName();
+
+	public static NameIndex get(String className, long groupId) {
+		return _portalCache.get(_encodeKey(className, groupId));
+	}
+
+	/**
+	 * Returns the text of a <code>%text%</code> LIKE pattern, or
+	 * <code>null</code> if the pattern uses any other wildcard and can only be
+	 * answered by the database.
+	 */
+	public static String getNameKeywords(String keywords) {
+		if ((keywords == null) || (keywords.length() < 2) ||
+			!keywords.startsWith(StringPool.PERCENT) ||
+			!keywords.endsWith(StringPool.PERCENT)) {
+
+			return null;
+		}
+
+		String nameKeywords = keywords.substring(1, keywords.length() - 1);
+
+		if (nameKeywords.contains(StringPool.PERCENT) ||
+			nameKeywords.contains(StringPool.UNDERLINE)) {
+
+			return null;
+		}
+
+		return nameKeywords;
+	}
+
+	/**
+	 * Returns the version of the index of the group, which has to be read
+	 * before the entries the index is built from.
+	 */
+	public static String getVersion(String className, long groupId) {
+		String key = _encodeKey(className, groupId);
+
+		String version = _versionPortalCache.get(key);
+
+		if (version == null) {
+			version = PortalUUIDUtil.generate();
+
+			_versionPortalCache.put(key, version);
+		}
+
+		return version;
+	}
+
+	/**
+	 * Caches the index unless the entries of the group changed since the
+	 * version was read, in which case the index may miss the change.
+	 */
+	public static void put(
+		String className, long groupId, String version, NameIndex nameIndex) {
+
+		String key = _encodeKey(className, groupId);
+
+		if (!version.equals(_versionPortalCache.get(key))) {
+			return;
+		}
+
+		_portalCache.put(key, nameIndex);
+
+		// Drop the index if the entries changed while it was being cached
+
+		if (!version.equals(_versionPortalCache.get(key))) {
+			_portalCache.remove(key);
+		}
+	}
+
+	/**
+	 * Removes the index of the group right away and again once the current
+	 * transaction commits, so that it is built again with the changes.
+	 */
+	public static void remove(String className, long groupId) {
+		final String key = _encodeKey(className, groupId);
+
+		_remove(key);
+
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					_remove(key);
+
+					return null;
+				}
+
+			});
+	}
+
+	private static String _encodeKey(String className, long groupId) {
+		return className.concat(StringPool.POUND).concat(
+			String.valueOf(groupId));
+	}
+
+	private static void _remove(String key) {
+		_versionPortalCache.remove(key);
+		_portalCache.remove(key);
+	}
+
+	private static PortalCache<String, NameIndex> _portalCache =
+		MultiVMPoolUtil.getCache(CACHE_NAME);
+	private static PortalCache<String, String> _versionPortalCache =
+		MultiVMPoolUtil.getCache(CACHE_NAME + "_VERSION");
+
+}
\ No newline at end of file
@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.util;
+
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+import com.liferay.portal.security.auth.CompanyThreadLocal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Reindexes the entries of a company on {@link
+ * PortletPropsValues#REINDEX_THREAD_COUNT} threads by splitting their primary
+ * keys into ranges. Every range is reindexed with its own partition of the
+ * {@link ReindexBatch}, so documents are only sent in order within a batch.
+ *
+ * <p>
+ * Once a range and all the ranges before it are reindexed, the end of the
+ * range is stored as the checkpoint of the batch, so a reindex that did not
+ * finish is resumed from the first range that was not reindexed.
+ * </p>
+ *
+ * @author Julio Camarero
+ */
+public abstract class ParallelReindexer {
+
+	public ParallelReindexer(long companyId, ReindexBatch reindexBatch) {
+		_companyId = companyId;
+		_reindexBatch = reindexBatch;
+	}
+
+	/**
+	 * Reindexes the entries whose primary key is greater than zero and not
+	 * greater than the given primary key, and waits for all the ranges to
+	 * finish.
+	 */
+	public void reindex(long lastClassPK) throws PortalException {
+		int threadCount = PortletPropsValues.REINDEX_THREAD_COUNT;
+
+		long rangeSize = Math.max(
+			(lastClassPK / (threadCount * _RANGES_PER_THREAD)) + 1,
+			PortletPropsValues.REINDEX_BATCH_SIZE);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(
+			threadCount,
+			new NamedThreadFactory(
+				ParallelReindexer.class.getName(), Thread.NORM_PRIORITY,
+				ParallelReindexer.class.getClassLoader()));
+
+		List<Long> endClassPKs = new ArrayList<Long>();
+
+		for (long startClassPK = 0; startClassPK < lastClassPK;
+				startClassPK += rangeSize) {
+
+			endClassPKs.add(Math.min(startClassPK + rangeSize, lastClassPK));
+		}
+
+		_endClassPKs = endClassPKs;
+		_reindexedRanges = new boolean[endClassPKs.size()];
+		_reindexedRangesCount = 0;
+
+		List<Future<Void>> futures = new ArrayList<Future<Void>>();
+
+		try {
+			long startClassPK = 0;
+
+			for (int i = 0; i < endClassPKs.size(); i++) {
+				long endClassPK = endClassPKs.get(i);
+
+				futures.add(
+					executorService.submit(
+						new RangeCallable(i, startClassPK, endClassPK)));
+
+				startClassPK = endClassPK;
+			}
+
+			for (Future<Void> future : futures) {
+				future.get();
+			}
+		}
+		catch (ExecutionException ee) {
+			Throwable cause = ee.getCause();
+
+			if (cause instanceof PortalException) {
+				throw (PortalException)cause;
+			}
+
+			throw new SystemException(cause);
+		}
+		catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+
+			throw new SystemException(ie);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	/**
+	 * Reindexes the entries whose primary key is greater than the start
+	 * primary key and not greater than the end primary key, adding their
+	 * documents to the partition of the batch.
+	 */
+	protected abstract void reindex(
+			ReindexBatch reindexBatch, long startClassPK, long endClassPK)
+		throws PortalException;
+
+	/**
+	 * Stores the end of the last range before which all the ranges are
+	 * reindexed as the checkpoint of the batch.
+	 */
+	private synchronized void _setReindexed(int range) {
+		_reindexedRanges[range] = true;
+
+		int reindexedRangesCount = _reindexedRangesCount;
+
+		while ((reindexedRangesCount < _reindexedRanges.length) &&
+			   _reindexedRanges[reindexedRangesCount]) {
+
+			reindexedRangesCount++;
+		}
+
+		if (reindexedRangesCount == _reindexedRangesCount) {
+			return;
+		}
+
+		_reindexedRangesCount = reindexedRangesCount;
+
+		_reindexBatch.setCheckpoint(
+			_endClassPKs.get(reindexedRangesCount - 1));
+	}
+
+	private static final int _RANGES_PER_THREAD = 4;
+
+	private final long _companyId;
+	private List<Long> _endClassPKs;
+	private final ReindexBatch _reindexBatch;
+	private boolean[] _reindexedRanges;
+	private int _reindexedRangesCount;
+
+	private class RangeCallable implements Callable<Void> {
+
+		public RangeCallable(int range, long startClassPK, long endClassPK) {
+			_range = range;
+			_startClassPK = startClassPK;
+			_endClassPK = endClassPK;
+		}
+
+		@Override
+		public Void call() throws Exception {
+			CompanyThreadLocal.setCompanyId(_companyId);
+
+			ReindexBatch reindexBatch = _reindexBatch.createPartition();
+
+			reindex(reindexBatch, _startClassPK, _endClassPK);
+
+			reindexBatch.finish();
+
+			_setReindexed(_range);
+
+			return null;
+		}
+
+		private final long _endClassPK;
+		private final int _range;
+		private final long _startClassPK;
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.util;
+
+import com.liferay.portal.kernel.cache.Lifecycle;
+import com.liferay.portal.kernel.cache.ThreadLocalCache;
+import com.liferay.portal.kernel.cache.ThreadLocalCacheManager;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.security.permission.PermissionChecker;
+
+/**
+ * Caches, for the current request, whether a user can perform an action on a
+ * song, album or artist, so that checking the same permission for every row
+ * of a list, for every search hit and again in the asset renderers neither
+ * loads the entry nor asks the staging permissions again.
+ *
+ * <p>
+ * The cache is cleared at the end of the request, and also whenever the portal
+ * clears its permission cache, for example after the permissions of an entry
+ * are updated.
+ * </p>
+ *
+ * @author Julio Camarero
+ */
+public class PermissionResultCacheUtil {
+
+	public static final String CACHE_NAME =
+		PermissionResultCacheUtil.class.getName();
+
+	public static Boolean get(
+		PermissionChecker permissionChecker, String className, long classPK,
+		String actionId) {
+
+		ThreadLocalCache<Boolean> threadLocalCache = _getThreadLocalCache();
+
+		return threadLocalCache.get(
+			_encodeKey(permissionChecker, className, classPK, actionId));
+	}
+
+	public static void put(
+		PermissionChecker permissionChecker, String className, long classPK,
+		String actionId, boolean hasPermission) {
+
+		ThreadLocalCache<Boolean> threadLocalCache = _getThreadLocalCache();
+
+		threadLocalCache.put(
+			_encodeKey(permissionChecker, className, classPK, actionId),
+			hasPermission);
+	}
+
+	private static String _encodeKey(
+		PermissionChecker permissionChecker, String className, long classPK,
+		String actionId) {
+
+		StringBuilder sb = new StringBuilder(7);
+
+		sb.append(permissionChecker.getUserId());
+		sb.append(StringPool.POUND);
+		sb.append(className);
+		sb.append(StringPool.POUND);
+		sb.append(classPK);
+		sb.append(StringPool.POUND);
+		sb.append(actionId);
+
+		return sb.toString();
+	}
+
+	private static ThreadLocalCache<Boolean> _getThreadLocalCache() {
+		return ThreadLocalCacheManager.getThreadLocalCache(
+			Lifecycle.REQUEST, CACHE_NAME);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.util;
+
+/**
+ * @author Julio Camarero
+ */
+public class PortletPropsKeys {
+
+	public static final String CASCADE_BATCH_SIZE = "cascade.batch.size";
+
+	public static final String CASCADE_CLEANUP_INTERVAL =
+		"cascade.cleanup.interval";
+
+	public static final String CONVERSION_QUEUE_CAPACITY =
+		"conversion.queue.capacity";
+
+	public static final String CONVERSION_THREAD_COUNT =
+		"conversion.thread.count";
+
+	public static final String COVER_HERO_SIZE = "cover.hero.size";
+
+	public static final String COVER_LIST_SIZE = "cover.list.size";
+
+	public static final String COVER_THUMBNAIL_SIZE = "cover.thumbnail.size";
+
+	public static final String IMPORT_BATCH_SIZE = "import.batch.size";
+
+	public static final String REINDEX_BATCH_SIZE = "reindex.batch.size";
+
+	public static final String REINDEX_RETRY_DELAY = "reindex.retry.delay";
+
+	public static final String REINDEX_THREAD_COUNT = "reindex.thread.count";
+
+	public static final String RENDITION_BIT_RATES = "rendition.bit.rates";
+
+	public static final String RENDITION_CONTAINERS = "rendition.containers";
+
+	public static final String RENDITION_DEFAULT_BIT_RATE =
+		"rendition.default.bit.rate";
+
+	public static final String RENDITION_FFMPEG_PATH = "rendition.ffmpeg.path";
+
+	public static final String RENDITION_RETRY_INTERVAL =
+		"rendition.retry.interval";
+
+	public static final String RENDITION_TIMEOUT = "rendition.timeout";
+
+}
\ No newline at end of file
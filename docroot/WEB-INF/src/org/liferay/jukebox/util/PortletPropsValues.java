@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.util;
+
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.util.portlet.PortletProps;
+
+/**
+ * @author Julio Camarero
+ */
+public class PortletPropsValues {
+
+	public static final int CASCADE_BATCH_SIZE = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.CASCADE_BATCH_SIZE));
+
+	public static final int CASCADE_CLEANUP_INTERVAL = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.CASCADE_CLEANUP_INTERVAL), 5);
+
+	public static final int CONVERSION_QUEUE_CAPACITY = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.CONVERSION_QUEUE_CAPACITY), 1000);
+
+	public static final int CONVERSION_THREAD_COUNT = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.CONVERSION_THREAD_COUNT), 2);
+
+	public static final int COVER_HERO_SIZE = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.COVER_HERO_SIZE));
+
+	public static final int COVER_LIST_SIZE = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.COVER_LIST_SIZE));
+
+	public static final int COVER_THUMBNAIL_SIZE = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.COVER_THUMBNAIL_SIZE));
+
+	public static final int IMPORT_BATCH_SIZE = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.IMPORT_BATCH_SIZE));
+
+	public static final int REINDEX_BATCH_SIZE = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.REINDEX_BATCH_SIZE));
+
+	public static final long REINDEX_RETRY_DELAY = GetterUtil.getLong(
+		PortletProps.get(PortletPropsKeys.REINDEX_RETRY_DELAY), 30);
+
+	public static final int REINDEX_THREAD_COUNT = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.REINDEX_THREAD_COUNT),
+		Runtime.getRuntime().availableProcessors());
+
+	public static final int[] RENDITION_BIT_RATES = GetterUtil.getIntegerValues(
+		PortletProps.getArray(PortletPropsKeys.RENDITION_BIT_RATES));
+
+	public static final String[] RENDITION_CONTAINERS = PortletProps.getArray(
+		PortletPropsKeys.RENDITION_CONTAINERS);
+
+	public static final int RENDITION_DEFAULT_BIT_RATE = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.RENDITION_DEFAULT_BIT_RATE));
+
+	public static final String RENDITION_FFMPEG_PATH = GetterUtil.getString(
+		PortletProps.get(PortletPropsKeys.RENDITION_FFMPEG_PATH));
+
+	public static final int RENDITION_RETRY_INTERVAL = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.RENDITION_RETRY_INTERVAL), 15);
+
+	public static final long RENDITION_TIMEOUT = GetterUtil.getLong(
+		PortletProps.get(PortletPropsKeys.RENDITION_TIMEOUT), 600);
+
+}
\ No newline at end of file
@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.util;
+
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.search.Document;
+import com.liferay.portal.kernel.search.SearchEngineUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.PrefsPropsUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.portlet.PortletPreferences;
+
+/**
+ * Sends the documents of a company wide reindex to the search engine in
+ * batches of {@link PortletPropsValues#REINDEX_BATCH_SIZE} documents.
+ *
+ * <p>
+ * Entries must be added in ascending primary key order. After every batch the
+ * primary key of its last entry is stored in the company preferences, so a
+ * reindex that did not finish can be resumed from that entry.
+ * </p>
+ *
+ * <p>
+ * A reindex that runs on several threads gives each thread its own partition
+ * of the batch. Partitions share the progress of the reindex, but do not store
+ * checkpoints because their entries are not added in primary key order.
+ * {@link ParallelReindexer} stores the checkpoint of such a reindex instead,
+ * once the ranges of primary keys before it are reindexed.
+ * </p>
+ *
+ * @author Julio Camarero
+ */
+public class ReindexBatch {
+
+	public ReindexBatch(
+		String searchEngineId, long companyId, String className) {
+
+		_searchEngineId = searchEngineId;
+		_companyId = companyId;
+		_className = className;
+
+		_count = new AtomicInteger();
+		_partition = false;
+	}
+
+	public void add(long classPK, Document document) throws PortalException {
+		_documents.add(document);
+
+		_lastClassPK = classPK;
+
+		if (_documents.size() >= PortletPropsValues.REINDEX_BATCH_SIZE) {
+			flush();
+		}
+	}
+
+	/**
+	 * Removes the checkpoint of a previous reindex, so that a new reindex that
+	 * does not finish is not resumed from it.
+	 */
+	public void clearCheckpoint() {
+		setCheckpoint(0);
+	}
+
+	public ReindexBatch createPartition() {
+		return new ReindexBatch(this);
+	}
+
+	public void finish() throws PortalException {
+		flush();
+
+		if (_partition) {
+			return;
+		}
+
+		setCheckpoint(0);
+
+		if (_log.isInfoEnabled()) {
+			_log.info(
+				"Finished reindexing " + _count.get() + " entries of " +
+					_className + " for company " + _companyId);
+		}
+	}
+
+	public long getCheckpoint() throws PortalException {
+		PortletPreferences portletPreferences = PrefsPropsUtil.getPreferences(
+			_companyId);
+
+		return GetterUtil.getLong(
+			portletPreferences.getValue(_getCheckpointKey(), null));
+	}
+
+	public void setTotal(long total) {
+		_total = total;
+	}
+
+	protected ReindexBatch(ReindexBatch reindexBatch) {
+		_searchEngineId = reindexBatch._searchEngineId;
+		_companyId = reindexBatch._companyId;
+		_className = reindexBatch._className;
+
+		_count = reindexBatch._count;
+		_partition = true;
+		_total = reindexBatch._total;
+	}
+
+	protected void flush() throws PortalException {
+		if (_documents.isEmpty()) {
+			return;
+		}
+
+		SearchEngineUtil.updateDocuments(
+			_searchEngineId, _companyId, _documents);
+
+		int count = _count.addAndGet(_documents.size());
+
+		_documents = new ArrayList<Document>();
+
+		setCheckpoint(_lastClassPK);
+
+		if (_log.isInfoEnabled()) {
+			_log.info(
+				"Reindexed " + count + " of " + _total + " entries of " +
+					_className + " for company " + _companyId);
+		}
+	}
+
+	protected void setCheckpoint(long classPK) {
+		if (_partition) {
+			return;
+		}
+
+		try {
+			PortletPreferences portletPreferences =
+				PrefsPropsUtil.getPreferences(_companyId);
+
+			if (classPK > 0) {
+				portletPreferences.setValue(
+					_getCheckpointKey(), String.valueOf(classPK));
+			}
+			else {
+				portletPreferences.reset(_getCheckpointKey());
+			}
+
+			portletPreferences.store();
+		}
+		catch (Exception e) {
+			_log.error(
+				"Unable to store the reindex checkpoint of " + _className, e);
+		}
+	}
+
+	private String _getCheckpointKey() {
+		return _className.concat(".reindex.checkpoint");
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(ReindexBatch.class);
+
+	private final String _className;
+	private final long _companyId;
+	private final AtomicInteger _count;
+	private List<Document> _documents = new ArrayList<Document>();
+	private long _lastClassPK;
+	private final boolean _partition;
+	private final String _searchEngineId;
+	private long _total;
+
+}
\ No newline at end of file
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.util;
+
+import com.liferay.portal.kernel.concurrent.ThreadPoolExecutor;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackRegistryUtil;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.liferay.jukebox.service.SongLocalServiceUtil;
+
+/**
+ * Removes the folders, asset entries, discussions and resources of the songs
+ * that were deleted with their album, in transactions of {@link
+ * PortletPropsValues#CASCADE_BATCH_SIZE} songs.
+ *
+ * <p>
+ * The cleanup runs on the portal executor right after an album is deleted,
+ * and on the master node every {@link
+ * PortletPropsValues#CASCADE_CLEANUP_INTERVAL} minutes, so that a cleanup
+ * that was interrupted, or requested while another one was finishing, is
+ * resumed. Only one cleanup runs at a time on each node.
+ * </p>
+ *
+ * @author Julio Camarero
+ */
+public class SongCleanupUtil {
+
+	/**
+	 * Removes the dependents of the deleted songs on the calling thread until
+	 * none are left.
+	 */
+	public static void cleanUp() {
+		_requested.set(true);
+
+		if (!_running.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			while (_requested.getAndSet(false)) {
+				_cleanUp();
+			}
+		}
+		finally {
+			_running.set(false);
+		}
+	}
+
+	/**
+	 * Starts a cleanup on the portal executor once the current transaction
+	 * commits.
+	 */
+	public static void cleanUpAfterCommit() {
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					ThreadPoolExecutor threadPoolExecutor =
+						PortalExecutorManagerUtil.getPortalExecutor(
+							SongCleanupUtil.class.getName());
+
+					threadPoolExecutor.execute(
+						new Runnable() {
+
+							@Override
+							public void run() {
+								cleanUp();
+							}
+
+						});
+
+					return null;
+				}
+
+			});
+	}
+
+	private static void _cleanUp() {
+		int size = Math.max(1, PortletPropsValues.CASCADE_BATCH_SIZE);
+
+		int total = 0;
+
+		try {
+			while (true) {
+				int count = SongLocalServiceUtil.cleanUpDeletedSongs(size);
+
+				total += count;
+
+				if (count < size) {
+					break;
+				}
+			}
+		}
+		catch (Exception e) {
+			_log.error(
+				"Unable to clean up deleted songs, the cleanup is resumed " +
+					"by the next scheduled run",
+				e);
+		}
+
+		if ((total > 0) && _log.isInfoEnabled()) {
+			_log.info("Cleaned up " + total + " deleted songs");
+		}
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(SongCleanupUtil.class);
+
+	private static final AtomicBoolean _requested = new AtomicBoolean();
+	private static final AtomicBoolean _running = new AtomicBoolean();
+
+}
\ No newline at end of file
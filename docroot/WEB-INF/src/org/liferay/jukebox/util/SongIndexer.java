@@ -16,6 +16,10 @@ package org.liferay.jukebox.util;
 
 import com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.Property;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.search.BaseIndexer;
 import com.liferay.portal.kernel.search.BooleanQuery;
@@ -30,9 +34,13 @@ import com.liferay.portal.security.permission.PermissionChecker;
 import com.liferay.portal.util.PortalUtil;
 import com.liferay.portlet.documentlibrary.model.DLFileEntry;
 
+import java.io.Serializable;
+
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import javax.portlet.PortletRequest;
 import javax.portlet.PortletResponse;
@@ -45,6 +53,8 @@ import org.liferay.jukebox.service.AlbumLocalServiceUtil;
 import org.liferay.jukebox.service.ArtistLocalServiceUtil;
 import org.liferay.jukebox.service.SongLocalServiceUtil;
 import org.liferay.jukebox.service.permission.SongPermission;
+import org.liferay.jukebox.service.persistence.AlbumUtil;
+import org.liferay.jukebox.service.persistence.ArtistUtil;
 import org.liferay.jukebox.service.persistence.SongActionableDynamicQuery;
 
 /**
@@ -119,6 +129,42 @@ public class SongIndexer extends BaseIndexer {
 		addSearchTerm(searchQuery, searchContext, "artist", true);
 	}
 
+	/**
+	 * Reindexes the songs of the company that come after the last batch
+	 * stored by a previous reindex that did not finish.
+	 */
+	public void resumeReindex(long companyId) throws PortalException {
+		reindexEntries(companyId, true);
+	}
+
+	protected void addDocuments(List<Song> songs, ReindexBatch reindexBatch)
+		throws PortalException {
+
+		if (songs.isEmpty()) {
+			return;
+		}
+
+		Set<Serializable> albumIds = new HashSet<Serializable>();
+		Set<Serializable> artistIds = new HashSet<Serializable>();
+
+		for (Song song : songs) {
+			albumIds.add(song.getAlbumId());
+			artistIds.add(song.getArtistId());
+		}
+
+		// Fetch the albums and artists of the whole batch at once so that the
+		// lookups made while building each document hit the entity cache
+
+		AlbumUtil.fetchByPrimaryKeys(albumIds);
+		ArtistUtil.fetchByPrimaryKeys(artistIds);
+
+		for (Song song : songs) {
+			Document document = getDocument(song);
+
+			reindexBatch.add(song.getSongId(), document);
+		}
+	}
+
 	@Override
 	protected void doDelete(Object obj) throws Exception {
 		Song song = (Song)obj;
@@ -184,38 +230,150 @@ public class SongIndexer extends BaseIndexer {
 		reindexEntries(companyId);
 	}
 
+	protected long getLastSongId(long companyId) {
+		DynamicQuery dynamicQuery = SongLocalServiceUtil.dynamicQuery();
+
+		Property property = PropertyFactoryUtil.forName("companyId");
+
+		dynamicQuery.add(property.eq(companyId));
+
+		dynamicQuery.setProjection(ProjectionFactoryUtil.max("songId"));
+
+		List<Long> songIds = SongLocalServiceUtil.dynamicQuery(dynamicQuery);
+
+		if (songIds.isEmpty() || (songIds.get(0) == null)) {
+			return 0;
+		}
+
+		return songIds.get(0);
+	}
+
 	@Override
 	protected String getPortletId(SearchContext searchContext) {
 		return PORTLET_ID;
 	}
 
-	protected void reindexEntries(long companyId) throws PortalException {
-		final Collection<Document> documents = new ArrayList<Document>();
+	protected ActionableDynamicQuery getReindexActionableDynamicQuery(
+		long companyId, final long startSongId, final long endSongId,
+		final ReindexBatch reindexBatch) {
 
 		ActionableDynamicQuery actionableDynamicQuery =
 			new SongActionableDynamicQuery() {
 
 			@Override
 			protected void addCriteria(DynamicQuery dynamicQuery) {
+				Property property = PropertyFactoryUtil.forName("songId");
+
+				if (startSongId > 0) {
+					dynamicQuery.add(property.gt(startSongId));
+				}
+
+				if (endSongId > 0) {
+					dynamicQuery.add(property.le(endSongId));
+				}
+
+				// Checkpoints assume that entries are added in primary key
+				// order
+
+				if (!_counting) {
+					dynamicQuery.addOrder(OrderFactoryUtil.asc("songId"));
+				}
+			}
+
+			@Override
+			public long performCount() throws PortalException {
+				_counting = true;
+
+				try {
+					return super.performCount();
+				}
+				finally {
+					_counting = false;
+				}
+			}
+
+			@Override
+			public void performActions() throws PortalException {
+				super.performActions();
+
+				addDocuments(_songs, reindexBatch);
 			}
 
 			@Override
 			protected void performAction(Object object) throws PortalException {
-				Song song = (Song)object;
+				_songs.add((Song)object);
 
-				Document document = getDocument(song);
+				if (_songs.size() >= PortletPropsValues.REINDEX_BATCH_SIZE) {
+					addDocuments(_songs, reindexBatch);
 
-				documents.add(document);
+					_songs.clear();
+				}
 			}
 
+			private boolean _counting;
+			private final List<Song> _songs = new ArrayList<Song>();
+
 		};
 
 		actionableDynamicQuery.setCompanyId(companyId);
+		actionableDynamicQuery.setInterval(
+			PortletPropsValues.REINDEX_BATCH_SIZE);
+
+		return actionableDynamicQuery;
+	}
+
+	protected void reindexEntries(long companyId) throws PortalException {
+		reindexEntries(companyId, false);
+	}
+
+	protected void reindexEntries(final long companyId, boolean resume)
+		throws PortalException {
+
+		ReindexBatch reindexBatch = new ReindexBatch(
+			getSearchEngineId(), companyId, Song.class.getName());
 
-		actionableDynamicQuery.performActions();
+		long lastSongId = 0;
+
+		if (resume) {
+			lastSongId = reindexBatch.getCheckpoint();
+		}
+		else {
+			reindexBatch.clearCheckpoint();
+		}
+
+		ActionableDynamicQuery actionableDynamicQuery =
+			getReindexActionableDynamicQuery(
+				companyId, lastSongId, 0, reindexBatch);
+
+		reindexBatch.setTotal(actionableDynamicQuery.performCount());
+
+		if (resume || (PortletPropsValues.REINDEX_THREAD_COUNT <= 1)) {
+			actionableDynamicQuery.performActions();
+		}
+		else {
+			ParallelReindexer parallelReindexer = new ParallelReindexer(
+				companyId, reindexBatch) {
+
+				@Override
+				protected void reindex(
+						ReindexBatch partitionReindexBatch, long startSongId,
+						long endSongId)
+					throws PortalException {
+
+					ActionableDynamicQuery actionableDynamicQuery =
+						getReindexActionableDynamicQuery(
+							companyId, startSongId, endSongId,
+							partitionReindexBatch);
+
+					actionableDynamicQuery.performActions();
+				}
+
+			};
+
+			parallelReindexer.reindex(getLastSongId(companyId));
+		}
 
-		SearchEngineUtil.updateDocuments(
-			getSearchEngineId(), companyId, documents);
+		reindexBatch.finish();
 	}
 
 }
\ No newline at end of file
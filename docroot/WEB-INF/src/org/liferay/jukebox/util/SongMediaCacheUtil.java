@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.util;
+
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.repository.model.FileEntry;
+import com.liferay.portal.kernel.repository.model.FileVersion;
+import com.liferay.portal.kernel.util.StringPool;
+
+import org.liferay.jukebox.model.SongMediaLocator;
+
+/**
+ * Caches, per song and media folder, the file entry and latest file version
+ * that hold the song audio, its renditions or the lyrics, so rendering a song
+ * does not have to walk the Jukebox portlet repository folders.
+ *
+ * @author Julio Camarero
+ */
+public class SongMediaCacheUtil {
+
+	public static final String CACHE_NAME = SongMediaCacheUtil.class.getName();
+
+	public static SongMediaLocator get(long songId, String folderName) {
+		return _portalCache.get(_encodeKey(songId, folderName));
+	}
+
+	/**
+	 * Returns the folder name under which the rendition with the given file
+	 * name is cached.
+	 */
+	public static String getRenditionFolderName(String fileName) {
+		return Constants.RENDITIONS_FOLDER_NAME.concat(StringPool.SLASH).concat(
+			fileName);
+	}
+
+	public static void put(
+			long songId, String folderName, FileEntry fileEntry)
+		throws PortalException {
+
+		SongMediaLocator songMediaLocator = SongMediaLocator.EMPTY;
+
+		if (fileEntry != null) {
+			FileVersion fileVersion = fileEntry.getLatestFileVersion();
+
+			songMediaLocator = new SongMediaLocator(
+				fileEntry.getFileEntryId(), fileVersion.getFileVersionId());
+		}
+
+		put(songId, folderName, songMediaLocator);
+	}
+
+	public static void put(
+		long songId, String folderName, SongMediaLocator songMediaLocator) {
+
+		_portalCache.put(_encodeKey(songId, folderName), songMediaLocator);
+	}
+
+	public static void remove(long songId) {
+		remove(songId, Constants.LYRICS_FOLDER_NAME);
+		remove(songId, Constants.SONGS_FOLDER_NAME);
+
+		removeRenditions(songId);
+	}
+
+	public static void remove(long songId, String folderName) {
+		_portalCache.remove(_encodeKey(songId, folderName));
+	}
+
+	public static void removeRenditions(long songId) {
+		for (String audioContainer : PortletPropsValues.RENDITION_CONTAINERS) {
+			for (int bitRate : PortletPropsValues.RENDITION_BIT_RATES) {
+				String fileName = SongRenditionUtil.getFileName(
+					audioContainer, bitRate);
+
+				remove(songId, getRenditionFolderName(fileName));
+			}
+		}
+	}
+
+	private static String _encodeKey(long songId, String folderName) {
+		return String.valueOf(songId).concat(StringPool.POUND).concat(
+			folderName);
+	}
+
+	private static PortalCache<String, SongMediaLocator> _portalCache =
+		MultiVMPoolUtil.getCache(CACHE_NAME);
+
+}
\ No newline at end of file
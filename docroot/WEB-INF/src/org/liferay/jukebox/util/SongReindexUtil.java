@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.util;
+
+import com.liferay.portal.kernel.concurrent.ThreadPoolExecutor;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.search.Document;
+import com.liferay.portal.kernel.search.Indexer;
+import com.liferay.portal.kernel.search.IndexerRegistryUtil;
+import com.liferay.portal.kernel.search.SearchEngineUtil;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackRegistryUtil;
+import com.liferay.portal.security.auth.CompanyThreadLocal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.liferay.jukebox.model.Song;
+import org.liferay.jukebox.service.persistence.SongUtil;
+
+/**
+ * Reindexes, off the request thread, the songs whose documents hold the name
+ * of an album or artist that was renamed, or of an album whose artist
+ * changed. The songs are reindexed in batches
+ * of {@link PortletPropsValues#REINDEX_BATCH_SIZE} documents once the
+ * transaction of the rename commits.
+ *
+ * @author Julio Camarero
+ */
+public class SongReindexUtil {
+
+	public static void reindexAlbumSongs(long companyId, long albumId) {
+		_reindexSongs(companyId, albumId, true);
+	}
+
+	public static void reindexArtistSongs(long companyId, long artistId) {
+		_reindexSongs(companyId, artistId, false);
+	}
+
+	private static void _doReindexSongs(
+			long companyId, long classPK, boolean album)
+		throws Exception {
+
+		if (SearchEngineUtil.isIndexReadOnly()) {
+			return;
+		}
+
+		CompanyThreadLocal.setCompanyId(companyId);
+
+		Indexer indexer = IndexerRegistryUtil.nullSafeGetIndexer(Song.class);
+
+		int size = PortletPropsValues.REINDEX_BATCH_SIZE;
+
+		for (int start = 0;; start += size) {
+			List<Song> songs = null;
+
+			if (album) {
+				songs = SongUtil.findByAlbumId(classPK, start, start + size);
+			}
+			else {
+				songs = SongUtil.findByArtistId(classPK, start, start + size);
+			}
+
+			if (songs.isEmpty()) {
+				return;
+			}
+
+			List<Document> documents = new ArrayList<Document>(songs.size());
+
+			for (Song song : songs) {
+				documents.add(indexer.getDocument(song));
+			}
+
+			SearchEngineUtil.updateDocuments(
+				indexer.getSearchEngineId(), companyId, documents);
+
+			if (songs.size() < size) {
+				return;
+			}
+		}
+	}
+
+	private static void _reindexSongs(
+		final long companyId, final long classPK, final boolean album) {
+
+		final Runnable runnable = new Runnable() {
+
+			@Override
+			public void run() {
+				try {
+					_doReindexSongs(companyId, classPK, album);
+				}
+				catch (Exception e) {
+					_log.error(
+						"Unable to reindex the songs of " +
+							(album ? "album " : "artist ") + classPK,
+						e);
+				}
+			}
+
+		};
+
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					ThreadPoolExecutor threadPoolExecutor =
+						PortalExecutorManagerUtil.getPortalExecutor(
+							SongReindexUtil.class.getName());
+
+					threadPoolExecutor.execute(runnable);
+
+					return null;
+				}
+
+			});
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(SongReindexUtil.class);
+
+}
\ No newline at end of file
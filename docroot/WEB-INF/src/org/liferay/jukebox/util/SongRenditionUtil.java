@@ -0,0 +1,277 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.util;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.repository.model.FileEntry;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackRegistryUtil;
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.StreamUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.Validator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.liferay.jukebox.service.SongLocalServiceUtil;
+
+/**
+ * Transcodes the audio of a song into a rendition for every container and bit
+ * rate in {@link PortletPropsValues#RENDITION_CONTAINERS} and {@link
+ * PortletPropsValues#RENDITION_BIT_RATES}.
+ *
+ * <p>
+ * Renditions are transcoded with ffmpeg on the conversion queue once the song
+ * is committed, and are stored in the renditions folder of the song. Until
+ * they are complete, the song is played from its audio preview.
+ * </p>
+ *
+ * <p>
+ * Renditions are never transcoded by the committing thread. If the queue is
+ * full, or the plugin is undeployed before they are transcoded, they are left
+ * pending and queued again by {@link
+ * org.liferay.jukebox.messaging.RenditionRetryMessageListener}. An ffmpeg
+ * process that runs longer than {@link PortletPropsValues#RENDITION_TIMEOUT}
+ * seconds is destroyed and the renditions of the song are marked as failed.
+ * </p>
+ *
+ * @author Julio Camarero
+ */
+public class SongRenditionUtil {
+
+	/**
+	 * Queues the renditions of the song once the current transaction
+	 * commits.
+	 */
+	public static void generateRenditions(
+		final long songId, final FileEntry fileEntry, final int priority) {
+
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					queueRenditions(songId, fileEntry, priority);
+
+					return null;
+				}
+
+			});
+	}
+
+	/**
+	 * Returns the highest rendition bit rate that is not greater than the
+	 * given bit rate, or the lowest rendition bit rate if all of them are
+	 * greater.
+	 */
+	public static int getBitRate(int maxBitRate) {
+		int bitRate = 0;
+		int minBitRate = Integer.MAX_VALUE;
+
+		for (int renditionBitRate : PortletPropsValues.RENDITION_BIT_RATES) {
+			if ((renditionBitRate <= maxBitRate) &&
+				(renditionBitRate > bitRate)) {
+
+				bitRate = renditionBitRate;
+			}
+
+			minBitRate = Math.min(minBitRate, renditionBitRate);
+		}
+
+		if (bitRate > 0) {
+			return bitRate;
+		}
+
+		return minBitRate;
+	}
+
+	public static String getFileName(String audioContainer, int bitRate) {
+		return String.valueOf(bitRate).concat(StringPool.PERIOD).concat(
+			audioContainer);
+	}
+
+	public static boolean isEnabled() {
+		if (Validator.isNull(PortletPropsValues.RENDITION_FFMPEG_PATH) ||
+			(PortletPropsValues.RENDITION_BIT_RATES.length == 0) ||
+			(PortletPropsValues.RENDITION_CONTAINERS.length == 0)) {
+
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Queues the renditions of the song, unless they are already queued on
+	 * this node, and returns <code>false</code> if the conversion queue is
+	 * full.
+	 */
+	public static boolean queueRenditions(
+		final long songId, final FileEntry fileEntry, int priority) {
+
+		if (!_queuedSongIds.add(songId)) {
+			return true;
+		}
+
+		Runnable runnable = new Runnable() {
+
+			@Override
+			public void run() {
+				try {
+					_generateRenditions(songId, fileEntry);
+				}
+				catch (InterruptedException ie) {
+
+					// The plugin is undeployed, so leave the renditions
+					// pending
+
+					Thread.currentThread().interrupt();
+				}
+				catch (Exception e) {
+					_log.error(
+						"Unable to generate the renditions of song " + songId,
+						e);
+
+					_updateRenditionStatus(
+						songId, Constants.RENDITION_STATUS_FAILED);
+				}
+				finally {
+					_queuedSongIds.remove(songId);
+				}
+			}
+
+		};
+
+		if (DLProcessorQueueUtil.queue(runnable, priority)) {
+			return true;
+		}
+
+		_queuedSongIds.remove(songId);
+
+		return false;
+	}
+
+	private static void _generateRenditions(long songId, FileEntry fileEntry)
+		throws Exception {
+
+		Map<String, File> renditionFiles = new LinkedHashMap<String, File>();
+
+		File file = FileUtil.createTempFile(fileEntry.getExtension());
+
+		try {
+			InputStream inputStream = fileEntry.getContentStream();
+
+			try {
+				FileUtil.write(file, inputStream);
+			}
+			finally {
+				StreamUtil.cleanUp(inputStream);
+			}
+
+			for (String audioContainer :
+					PortletPropsValues.RENDITION_CONTAINERS) {
+
+				for (int bitRate : PortletPropsValues.RENDITION_BIT_RATES) {
+					File renditionFile = FileUtil.createTempFile(
+						audioContainer);
+
+					renditionFiles.put(
+						getFileName(audioContainer, bitRate), renditionFile);
+
+					_transcode(file, renditionFile, audioContainer, bitRate);
+				}
+			}
+
+			SongLocalServiceUtil.updateRenditions(
+				songId, fileEntry.getFileEntryId(), renditionFiles);
+		}
+		finally {
+			FileUtil.delete(file);
+
+			for (File renditionFile : renditionFiles.values()) {
+				FileUtil.delete(renditionFile);
+			}
+		}
+	}
+
+	private static void _transcode(
+			File file, File renditionFile, String audioContainer, int bitRate)
+		throws Exception {
+
+		ProcessBuilder processBuilder = new ProcessBuilder(
+			PortletPropsValues.RENDITION_FFMPEG_PATH, "-y", "-loglevel",
+			"error", "-i", file.getAbsolutePath(), "-vn", "-b:a",
+			bitRate + "k", "-f", audioContainer,
+			renditionFile.getAbsolutePath());
+
+		File outputFile = FileUtil.createTempFile("log");
+
+		processBuilder.redirectErrorStream(true);
+		processBuilder.redirectOutput(outputFile);
+
+		Process process = processBuilder.start();
+
+		try {
+			if (!process.waitFor(
+					PortletPropsValues.RENDITION_TIMEOUT, TimeUnit.SECONDS)) {
+
+				throw new IOException(
+					"Unable to transcode to " +
+						getFileName(audioContainer, bitRate) + " in " +
+							PortletPropsValues.RENDITION_TIMEOUT + " seconds");
+			}
+
+			if (process.exitValue() != 0) {
+				throw new IOException(
+					"Unable to transcode to " +
+						getFileName(audioContainer, bitRate) + ": " +
+							FileUtil.read(outputFile));
+			}
+		}
+		finally {
+			process.destroy();
+
+			FileUtil.delete(outputFile);
+		}
+	}
+
+	private static void _updateRenditionStatus(
+		long songId, int renditionStatus) {
+
+		try {
+			SongLocalServiceUtil.updateRenditionStatus(songId, renditionStatus);
+		}
+		catch (Exception e) {
+			_log.error(
+				"Unable to update the rendition status of song " + songId, e);
+		}
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(SongRenditionUtil.class);
+
+	private static final Set<Long> _queuedSongIds = Collections.newSetFromMap(
+		new ConcurrentHashMap<Long, Boolean>());
+
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package org.liferay.jukebox.util;
+
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackRegistryUtil;
+import com.liferay.portal.kernel.util.StringPool;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Caches the summaries of all the albums or artists of a group, such as the
+ * ones listed to pick the album of a song or the artist of an album. A cache
+ * entry holds only the summaries, so it is much smaller to keep and replicate
+ * than the entities.
+ *
+ * <p>
+ * The local services remove the summaries of a group right away and again
+ * after commit whenever they add, update or delete one of its entries.
+ * </p>
+ *
+ * @author Julio Camarero
+ */
+public class SummaryCacheUtil {
+
+	public static final String CACHE_NAME = SummaryCacheUtil.class.getName();
+
+	public static <T extends Serializable> List<T> get(
+		String className, long groupId) {
+
+		return (List<T>)_portalCache.get(_encodeKey(className, groupId));
+	}
+
+	/**
+	 * Caches a copy of the summaries and returns it, unmodifiable.
+	 */
+	public static <T extends Serializable> List<T> put(
+		String className, long groupId, List<T> summaries) {
+
+		List<T> cachedSummaries = Collections.unmodifiableList(
+			new ArrayList<T>(summaries));
+
+		_portalCache.put(
+			_encodeKey(className, groupId), (Serializable)cachedSummaries);
+
+		return cachedSummaries;
+	}
+
+	public static void remove(String className, long groupId) {
+		final String key = _encodeKey(className, groupId);
+
+		_portalCache.remove(key);
+
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					_portalCache.remove(key);
+
+					return null;
+				}
+
+			});
+	}
+
+	private static String _encodeKey(String className, long groupId) {
+		return className.concat(StringPool.POUND).concat(
+			String.valueOf(groupId));
+	}
+
+	private static PortalCache<String, Serializable> _portalCache =
+		MultiVMPoolUtil.getCache(CACHE_NAME);
+
+}
\ No newline at end of file
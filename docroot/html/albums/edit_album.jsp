@@ -48,12 +48,12 @@ if (albumId > 0) {
 	<aui:select label="artist" name="artistId">
 
 		<%
-		List<Artist> artists = ArtistLocalServiceUtil.getArtists(scopeGroupId);
+		List<ArtistSummary> artistSummaries = ArtistLocalServiceUtil.getArtistSummaries(scopeGroupId);
 
-		for (Artist artist : artists) {
+		for (ArtistSummary artistSummary : artistSummaries) {
 		%>
 
-			<aui:option label="<%= artist.getName() %>" value="<%= artist.getArtistId() %>" />
+			<aui:option label="<%= artistSummary.getName() %>" value="<%= artistSummary.getArtistId() %>" />
 
 		<%
 		}
@@ -32,7 +32,7 @@ else {
 
 Artist artist = ArtistLocalServiceUtil.getArtist(album.getArtistId());
 
-List<Song> songs = SongLocalServiceUtil.getSongsByAlbumId(album.getAlbumId());
+int songsCount = SongServiceUtil.getSongsCountByAlbumId(scopeGroupId, album.getAlbumId(), WorkflowConstants.STATUS_ANY);
 
 boolean showHeader = ParamUtil.getBoolean(request, "showHeader", true);
 %>
@@ -44,7 +44,7 @@ boolean showHeader = ParamUtil.getBoolean(request, "showHeader", true);
 	/>
 </c:if>
 
-<c:if test="<%= AlbumPermission.contains(permissionChecker, album.getAlbumId(), ActionKeys.UPDATE) %>">
+<c:if test="<%= AlbumPermission.contains(permissionChecker, album, ActionKeys.UPDATE) %>">
 	<aui:nav-bar>
 		<aui:nav cssClass="navbar-nav">
 			<portlet:renderURL var="editAlbumURL">
@@ -68,7 +68,7 @@ boolean showHeader = ParamUtil.getBoolean(request, "showHeader", true);
 			</aui:nav>
 		</c:if>
 
-		<c:if test="<%= AlbumPermission.contains(permissionChecker, album.getAlbumId(), ActionKeys.PERMISSIONS) %>">
+		<c:if test="<%= AlbumPermission.contains(permissionChecker, album, ActionKeys.PERMISSIONS) %>">
 			<aui:nav cssClass="navbar-nav">
 				<liferay-security:permissionsURL
 					modelResource="<%= Album.class.getName() %>"
@@ -82,7 +82,7 @@ boolean showHeader = ParamUtil.getBoolean(request, "showHeader", true);
 			</aui:nav>
 		</c:if>
 
-		<c:if test="<%= AlbumPermission.contains(permissionChecker, album.getAlbumId(), ActionKeys.DELETE) %>">
+		<c:if test="<%= AlbumPermission.contains(permissionChecker, album, ActionKeys.DELETE) %>">
 
 			<%
 			boolean trashEnabled = TrashUtil.isTrashEnabled(scopeGroupId);
@@ -110,19 +110,19 @@ boolean showHeader = ParamUtil.getBoolean(request, "showHeader", true);
 
 <div class="album-detail">
 	<div class="container-fluid">
-		<img alt="" class="img-rounded album-image" src="<%= album.getImageURL(themeDisplay) %>" />
+		<img alt="" class="img-rounded album-image" src="<%= album.getImageURL(themeDisplay, "hero") %>" />
 
 		<div class="album-metainfo">
 			<div class="album-artist">
 				<div>
-					<img alt="" class="img-circle artist-image" src="<%= artist.getImageURL(themeDisplay) %>" />
+					<img alt="" class="img-circle artist-image" src="<%= artist.getImageURL(themeDisplay, "thumbnail") %>" />
 
 					<%= artist.getName() %>
 
 					<span class="album-year">(<%= album.getYear() %>)</span>
 
 					<div class="album-songs-number">
-						<liferay-ui:message arguments="<%= songs.size() %>" key="x-songs" />
+						<liferay-ui:message arguments="<%= songsCount %>" key="x-songs" />
 					</div>
 				</div>
 			</div>
@@ -150,7 +150,7 @@ boolean showHeader = ParamUtil.getBoolean(request, "showHeader", true);
 				/>
 			</div>
 
-			<c:if test="<%= !songs.isEmpty() %>">
+			<c:if test="<%= songsCount > 0 %>">
 				<liferay-util:include page="/html/songs/view.jsp" servletContext="<%= application %>">
 					<liferay-util:param name="albumId" value="<%= String.valueOf(album.getAlbumId()) %>" />
 					<liferay-util:param name="showToolbar" value="<%= String.valueOf(false) %>" />
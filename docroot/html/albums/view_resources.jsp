@@ -22,29 +22,62 @@ String redirect = ParamUtil.getString(liferayPortletRequest, "redirect");
 
 long artistId = ParamUtil.getLong(request, "artistId");
 
+long cursorId = ParamUtil.getLong(liferayPortletRequest, "cursorId");
+String cursorName = ParamUtil.getString(liferayPortletRequest, "cursorName");
+int delta = ParamUtil.getInteger(liferayPortletRequest, "delta", SearchContainer.DEFAULT_DELTA);
+
+delta = Math.max(1, Math.min(delta, SearchContainer.MAX_DELTA));
+
 String displayStyle = GetterUtil.getString(portletPreferences.getValue("displayStyle", StringPool.BLANK));
 long displayStyleGroupId = GetterUtil.getLong(portletPreferences.getValue("displayStyleGroupId", null), scopeGroupId);
 
 long portletDisplayDDMTemplateId = PortletDisplayTemplateUtil.getPortletDisplayTemplateDDMTemplateId(displayStyleGroupId, displayStyle);
 
-List<Album> albums = null;
+List<AlbumSummary> albumSummaries = null;
+
+long nextCursorId = 0;
+String nextCursorName = StringPool.BLANK;
 
 if (artistId > 0) {
-	albums = AlbumServiceUtil.getAlbumsByArtistId(scopeGroupId, artistId);
+	albumSummaries = AlbumServiceUtil.getAlbumSummariesByArtistId(scopeGroupId, artistId);
 }
 else if (Validator.isNotNull(keywords)) {
-	albums = AlbumServiceUtil.getAlbums(scopeGroupId, StringPool.PERCENT + keywords + StringPool.PERCENT);
+	albumSummaries = AlbumServiceUtil.getAlbumSummaries(scopeGroupId, StringPool.PERCENT + keywords + StringPool.PERCENT);
 }
 else {
-	albums = AlbumServiceUtil.getAlbums(scopeGroupId);
+	albumSummaries = AlbumServiceUtil.getAlbumSummariesAfter(scopeGroupId, cursorName, cursorId, delta + 1);
+
+	if (albumSummaries.size() > delta) {
+		albumSummaries = albumSummaries.subList(0, delta);
+
+		AlbumSummary lastAlbumSummary = albumSummaries.get(delta - 1);
+
+		nextCursorId = lastAlbumSummary.getAlbumId();
+		nextCursorName = lastAlbumSummary.getName();
+	}
 }
 %>
 
 <c:choose>
 	<c:when test="<%= portletDisplayDDMTemplateId > 0 %>">
-		<%= PortletDisplayTemplateUtil.renderDDMTemplate(request, response, portletDisplayDDMTemplateId, albums) %>
+
+		<%
+		long[] albumIds = new long[albumSummaries.size()];
+
+		for (int i = 0; i < albumSummaries.size(); i++) {
+			AlbumSummary albumSummary = albumSummaries.get(i);
+
+			albumIds[i] = albumSummary.getAlbumId();
+		}
+
+		List<Album> albums = AlbumLocalServiceUtil.getAlbums(albumIds);
+		%>
+
+		<div class="jukebox-page">
+			<%= PortletDisplayTemplateUtil.renderDDMTemplate(request, response, portletDisplayDDMTemplateId, albums) %>
+		</div>
 	</c:when>
-	<c:when test="<%= albums.isEmpty() %>">
+	<c:when test="<%= albumSummaries.isEmpty() %>">
 		<div class="alert alert-info">
 			<c:choose>
 				<c:when test="<%= artistId > 0 %>">
@@ -57,34 +90,29 @@ else {
 		</div>
 	</c:when>
 	<c:otherwise>
-		<ul class="list-unstyled albums-list">
+		<ul class="albums-list jukebox-page list-unstyled">
 
 			<%
-			for (Album album : albums) {
+			for (AlbumSummary albumSummary : albumSummaries) {
 			%>
 
 			<li class="album">
-
-				<%
-				Artist artist = ArtistLocalServiceUtil.getArtist(album.getArtistId());
-				%>
-
 				<portlet:renderURL var="viewAlbumURL">
 					<portlet:param name="jspPage" value="/html/albums/view_album.jsp" />
-					<portlet:param name="albumId" value="<%= String.valueOf(album.getAlbumId()) %>" />
+					<portlet:param name="albumId" value="<%= String.valueOf(albumSummary.getAlbumId()) %>" />
 					<portlet:param name="redirect" value="<%= currentURL %>" />
 				</portlet:renderURL>
 
 				<aui:a href="<%= viewAlbumURL %>">
-					<img alt="" class="album-image img-rounded" src="<%= album.getImageURL(themeDisplay) %>" />
+					<img alt="" class="album-image img-rounded" src="<%= CoverImageUtil.getAlbumCoverURL(themeDisplay, albumSummary.getGroupId(), albumSummary.getAlbumId(), "list") %>" />
 
-					<%= album.getName() %>
+					<%= albumSummary.getName() %>
 				</aui:a>
 
-				<c:if test="<%= AlbumPermission.contains(permissionChecker, album.getAlbumId(), ActionKeys.UPDATE) %>">
+				<c:if test="<%= AlbumPermission.contains(permissionChecker, albumSummary, ActionKeys.UPDATE) %>">
 					<portlet:renderURL var="editAlbumURL">
 						<portlet:param name="jspPage" value="/html/albums/edit_album.jsp" />
-						<portlet:param name="albumId" value="<%= String.valueOf(album.getAlbumId()) %>" />
+						<portlet:param name="albumId" value="<%= String.valueOf(albumSummary.getAlbumId()) %>" />
 						<portlet:param name="redirect" value="<%= currentURL %>" />
 					</portlet:renderURL>
 
@@ -92,7 +120,7 @@ else {
 				</c:if>
 
 				<div class="album-artist-name">
-					<%= artist.getName() %>
+					<%= albumSummary.getArtistName() %>
 				</div>
 
 			</li>
@@ -103,4 +131,10 @@ else {
 
 		</ul>
 	</c:otherwise>
-</c:choose>
\ No newline at end of file
+</c:choose>
+
+<c:if test="<%= nextCursorId > 0 %>">
+	<div class="jukebox-load-more" data-cursor-id="<%= nextCursorId %>" data-cursor-name="<%= HtmlUtil.escapeAttribute(nextCursorName) %>">
+		<aui:a cssClass="btn" href="javascript:;" label="load-more" />
+	</div>
+</c:if>
\ No newline at end of file
@@ -108,7 +108,7 @@ Hits hits = indexer.search(searchContext);
 					fileEntryTuples="<%= searchResult.getFileEntryTuples() %>"
 					mbMessages="<%= searchResult.getMBMessages() %>"
 					queryTerms="<%= hits.getQueryTerms() %>"
-					thumbnailSrc="<%= album.getImageURL(themeDisplay) %>"
+					thumbnailSrc="<%= album.getImageURL(themeDisplay, "thumbnail") %>"
 					title="<%= (summary != null) ? HtmlUtil.escape(summary.getTitle()) : album.getName() %>"
 					url="<%= viewAlbumURL %>"
 				/>
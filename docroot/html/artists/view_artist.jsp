@@ -30,7 +30,7 @@ else {
 	artist = (Artist)request.getAttribute("jukebox_artist");
 }
 
-List<Album> albums = AlbumLocalServiceUtil.getAlbumsByArtistId(artist.getArtistId());
+int albumsCount = AlbumServiceUtil.getAlbumsCountByArtistId(scopeGroupId, artist.getArtistId());
 
 boolean showHeader = ParamUtil.getBoolean(request, "showHeader", true);
 %>
@@ -42,7 +42,7 @@ boolean showHeader = ParamUtil.getBoolean(request, "showHeader", true);
 	/>
 </c:if>
 
-<c:if test="<%= ArtistPermission.contains(permissionChecker, artist.getArtistId(), ActionKeys.UPDATE) %>">
+<c:if test="<%= ArtistPermission.contains(permissionChecker, artist, ActionKeys.UPDATE) %>">
 	<aui:nav-bar>
 		<aui:nav cssClass="navbar-nav">
 			<portlet:renderURL var="editArtistURL">
@@ -66,7 +66,7 @@ boolean showHeader = ParamUtil.getBoolean(request, "showHeader", true);
 			</aui:nav>
 		</c:if>
 
-		<c:if test="<%= ArtistPermission.contains(permissionChecker, artist.getArtistId(), ActionKeys.PERMISSIONS) %>">
+		<c:if test="<%= ArtistPermission.contains(permissionChecker, artist, ActionKeys.PERMISSIONS) %>">
 			<aui:nav cssClass="navbar-nav">
 				<liferay-security:permissionsURL
 					modelResource="<%= Artist.class.getName() %>"
@@ -80,7 +80,7 @@ boolean showHeader = ParamUtil.getBoolean(request, "showHeader", true);
 			</aui:nav>
 		</c:if>
 
-		<c:if test="<%= ArtistPermission.contains(permissionChecker, artist.getArtistId(), ActionKeys.DELETE) %>">
+		<c:if test="<%= ArtistPermission.contains(permissionChecker, artist, ActionKeys.DELETE) %>">
 			<aui:nav cssClass="navbar-nav">
 				<portlet:actionURL name="deleteArtist" var="deleteArtistURL">
 					<portlet:param name="artistId" value="<%= String.valueOf(artist.getArtistId()) %>" />
@@ -95,7 +95,7 @@ boolean showHeader = ParamUtil.getBoolean(request, "showHeader", true);
 
 <div class="artist-detail">
 	<div class="container-fluid">
-		<img alt="" class="img-circle artist-image" src="<%= artist.getImageURL(themeDisplay) %>" />
+		<img alt="" class="img-circle artist-image" src="<%= artist.getImageURL(themeDisplay, "hero") %>" />
 
 		<div class="artist-metainfo">
 			<div class="artist-bio">
@@ -103,7 +103,7 @@ boolean showHeader = ParamUtil.getBoolean(request, "showHeader", true);
 			</div>
 
 			<div class="album-songs-number">
-				<liferay-ui:message arguments="<%= albums.size() %>" key="x-albums" />
+				<liferay-ui:message arguments="<%= albumsCount %>" key="x-albums" />
 			</div>
 
 			<div class="entry-categories">
@@ -131,7 +131,7 @@ boolean showHeader = ParamUtil.getBoolean(request, "showHeader", true);
 		</div>
 	</div>
 
-	<c:if test="<%= !albums.isEmpty() %>">
+	<c:if test="<%= albumsCount > 0 %>">
 		<liferay-util:include page="/html/albums/view.jsp" servletContext="<%= application %>">
 			<liferay-util:param name="artistId" value="<%= String.valueOf(artist.getArtistId()) %>" />
 			<liferay-util:param name="showToolbar" value="<%= String.valueOf(false) %>" />
@@ -19,54 +19,87 @@
 <%
 String keywords = ParamUtil.getString(liferayPortletRequest, "keywords");
 
+long cursorId = ParamUtil.getLong(liferayPortletRequest, "cursorId");
+String cursorName = ParamUtil.getString(liferayPortletRequest, "cursorName");
+int delta = ParamUtil.getInteger(liferayPortletRequest, "delta", SearchContainer.DEFAULT_DELTA);
+
+delta = Math.max(1, Math.min(delta, SearchContainer.MAX_DELTA));
+
 String displayStyle = GetterUtil.getString(portletPreferences.getValue("displayStyle", StringPool.BLANK));
 long displayStyleGroupId = GetterUtil.getLong(portletPreferences.getValue("displayStyleGroupId", null), scopeGroupId);
 
 long portletDisplayDDMTemplateId = PortletDisplayTemplateUtil.getPortletDisplayTemplateDDMTemplateId(displayStyleGroupId, displayStyle);
 
-List<Artist> artists = null;
+List<ArtistSummary> artistSummaries = null;
+
+long nextCursorId = 0;
+String nextCursorName = StringPool.BLANK;
 
 if (Validator.isNotNull(keywords)) {
-	artists = ArtistServiceUtil.getArtists(scopeGroupId, StringPool.PERCENT + keywords + StringPool.PERCENT);
+	artistSummaries = ArtistServiceUtil.getArtistSummaries(scopeGroupId, StringPool.PERCENT + keywords + StringPool.PERCENT);
 }
 else {
-	artists = ArtistServiceUtil.getArtists(scopeGroupId);
+	artistSummaries = ArtistServiceUtil.getArtistSummariesAfter(scopeGroupId, cursorName, cursorId, delta + 1);
+
+	if (artistSummaries.size() > delta) {
+		artistSummaries = artistSummaries.subList(0, delta);
+
+		ArtistSummary lastArtistSummary = artistSummaries.get(delta - 1);
+
+		nextCursorId = lastArtistSummary.getArtistId();
+		nextCursorName = lastArtistSummary.getName();
+	}
 }
 %>
 
 <c:choose>
 	<c:when test="<%= portletDisplayDDMTemplateId > 0 %>">
-		<%= PortletDisplayTemplateUtil.renderDDMTemplate(request, response, portletDisplayDDMTemplateId, artists) %>
+
+		<%
+		long[] artistIds = new long[artistSummaries.size()];
+
+		for (int i = 0; i < artistSummaries.size(); i++) {
+			ArtistSummary artistSummary = artistSummaries.get(i);
+
+			artistIds[i] = artistSummary.getArtistId();
+		}
+
+		List<Artist> artists = ArtistLocalServiceUtil.getArtists(artistIds);
+		%>
+
+		<div class="jukebox-page">
+			<%= PortletDisplayTemplateUtil.renderDDMTemplate(request, response, portletDisplayDDMTemplateId, artists) %>
+		</div>
 	</c:when>
-	<c:when test="<%= artists.isEmpty() %>">
+	<c:when test="<%= artistSummaries.isEmpty() %>">
 		<div class="alert alert-info">
 			<liferay-ui:message key="there-are-no-artists" />
 		</div>
 	</c:when>
 	<c:otherwise>
-		<ul class="artists-list list-unstyled">
+		<ul class="artists-list jukebox-page list-unstyled">
 
 			<%
-			for (Artist artist : artists) {
+			for (ArtistSummary artistSummary : artistSummaries) {
 			%>
 
 				<li class="artist">
 					<portlet:renderURL var="viewArtistURL">
 						<portlet:param name="jspPage" value="/html/artists/view_artist.jsp" />
-						<portlet:param name="artistId" value="<%= String.valueOf(artist.getArtistId()) %>" />
+						<portlet:param name="artistId" value="<%= String.valueOf(artistSummary.getArtistId()) %>" />
 						<portlet:param name="redirect" value="<%= currentURL %>" />
 					</portlet:renderURL>
 
 					<aui:a href="<%= viewArtistURL %>">
-						<img alt="" class="artist-image img-circle" src="<%= artist.getImageURL(themeDisplay) %>" />
+						<img alt="" class="artist-image img-circle" src="<%= CoverImageUtil.getArtistCoverURL(themeDisplay, artistSummary.getGroupId(), artistSummary.getArtistId(), "list") %>" />
 
-						<%= artist.getName() %>
+						<%= artistSummary.getName() %>
 					</aui:a>
 
-					<c:if test="<%= ArtistPermission.contains(permissionChecker, artist.getArtistId(), ActionKeys.UPDATE) %>">
+					<c:if test="<%= ArtistPermission.contains(permissionChecker, artistSummary, ActionKeys.UPDATE) %>">
 						<portlet:renderURL var="editArtistURL">
 							<portlet:param name="jspPage" value="/html/artists/edit_artist.jsp" />
-							<portlet:param name="artistId" value="<%= String.valueOf(artist.getArtistId()) %>" />
+							<portlet:param name="artistId" value="<%= String.valueOf(artistSummary.getArtistId()) %>" />
 							<portlet:param name="redirect" value="<%= currentURL %>" />
 						</portlet:renderURL>
 
@@ -80,4 +113,10 @@ else {
 
 		</ul>
 	</c:otherwise>
-</c:choose>
\ No newline at end of file
+</c:choose>
+
+<c:if test="<%= nextCursorId > 0 %>">
+	<div class="jukebox-load-more" data-cursor-id="<%= nextCursorId %>" data-cursor-name="<%= HtmlUtil.escapeAttribute(nextCursorName) %>">
+		<aui:a cssClass="btn" href="javascript:;" label="load-more" />
+	</div>
+</c:if>
\ No newline at end of file
@@ -108,7 +108,7 @@ Hits hits = indexer.search(searchContext);
 					fileEntryTuples="<%= searchResult.getFileEntryTuples() %>"
 					mbMessages="<%= searchResult.getMBMessages() %>"
 					queryTerms="<%= hits.getQueryTerms() %>"
-					thumbnailSrc="<%= artist.getImageURL(themeDisplay) %>"
+					thumbnailSrc="<%= artist.getImageURL(themeDisplay, "thumbnail") %>"
 					title="<%= (summary != null) ? HtmlUtil.escape(summary.getTitle()) : artist.getName() %>"
 					url="<%= viewArtistURL %>"
 				/>
@@ -38,17 +38,22 @@
 <%@ page import="org.liferay.jukebox.service.AlbumLocalServiceUtil" %>
 <%@ page import="org.liferay.jukebox.service.SongLocalServiceUtil" %>
 <%@ page import="org.liferay.jukebox.model.Artist" %>
+<%@ page import="org.liferay.jukebox.model.ArtistSummary" %>
 <%@ page import="org.liferay.jukebox.model.Album" %>
+<%@ page import="org.liferay.jukebox.model.AlbumSummary" %>
 <%@ page import="org.liferay.jukebox.model.Song" %>
+<%@ page import="org.liferay.jukebox.model.SongMedia" %>
 <%@ page import="org.liferay.jukebox.service.permission.JukeBoxPermission" %>
 <%@ page import="org.liferay.jukebox.service.permission.ArtistPermission" %>
 <%@ page import="org.liferay.jukebox.service.permission.AlbumPermission" %>
 <%@ page import="org.liferay.jukebox.service.permission.SongPermission" %>
+<%@ page import="org.liferay.jukebox.util.CoverImageUtil" %>
 <%@ page import="org.liferay.jukebox.AlbumNameException" %>
 <%@ page import="org.liferay.jukebox.ArtistNameException" %>
 <%@ page import="org.liferay.jukebox.DuplicatedSongException" %>
 <%@ page import="org.liferay.jukebox.SongNameException" %>
 
+<%@ page import="com.liferay.portal.kernel.dao.search.SearchContainer" %>
 <%@ page import="com.liferay.portal.kernel.language.LanguageUtil" %>
 <%@ page import="com.liferay.portal.kernel.template.TemplateHandler" %>
 <%@ page import="com.liferay.portal.kernel.template.TemplateHandlerRegistryUtil" %>
@@ -90,6 +95,7 @@
 <%@ page import="java.util.Collections" %>
 <%@ page import="java.util.Date" %>
 <%@ page import="java.util.GregorianCalendar" %>
+<%@ page import="java.util.HashMap" %>
 <%@ page import="java.util.List" %>
 <%@ page import="java.util.Locale" %>
 <%@ page import="java.util.Map" %>
@@ -48,12 +48,12 @@ if (songId > 0) {
 	<aui:select label="album" name="albumId">
 
 		<%
-		List<Album> albums = AlbumLocalServiceUtil.getAlbums(scopeGroupId);
+		List<AlbumSummary> albumSummaries = AlbumLocalServiceUtil.getAlbumSummaries(scopeGroupId);
 
-		for (Album album : albums) {
+		for (AlbumSummary albumSummary : albumSummaries) {
 		%>
 
-			<aui:option label="<%= album.getName() %>" value="<%= album.getAlbumId() %>" />
+			<aui:option label="<%= albumSummary.getName() %>" value="<%= albumSummary.getAlbumId() %>" />
 
 		<%
 		}
@@ -22,6 +22,12 @@ String redirect = ParamUtil.getString(liferayPortletRequest, "redirect");
 
 long albumId = ParamUtil.getLong(request, "albumId");
 
+long cursorId = ParamUtil.getLong(liferayPortletRequest, "cursorId");
+String cursorName = ParamUtil.getString(liferayPortletRequest, "cursorName");
+int delta = ParamUtil.getInteger(liferayPortletRequest, "delta", SearchContainer.DEFAULT_DELTA);
+
+delta = Math.max(1, Math.min(delta, SearchContainer.MAX_DELTA));
+
 String displayStyle = GetterUtil.getString(portletPreferences.getValue("displayStyle", StringPool.BLANK));
 long displayStyleGroupId = GetterUtil.getLong(portletPreferences.getValue("displayStyleGroupId", null), scopeGroupId);
 
@@ -29,6 +35,9 @@ long portletDisplayDDMTemplateId = PortletDisplayTemplateUtil.getPortletDisplayT
 
 List<Song> songs = null;
 
+long nextCursorId = 0;
+String nextCursorName = StringPool.BLANK;
+
 if (albumId > 0) {
 	Album album = AlbumLocalServiceUtil.getAlbum(albumId);
 
@@ -44,13 +53,38 @@ else if (Validator.isNotNull(keywords)) {
 	songs = SongServiceUtil.getSongs(scopeGroupId, StringPool.PERCENT + keywords + StringPool.PERCENT);
 }
 else {
-	songs = SongServiceUtil.getSongs(scopeGroupId);
+	songs = SongServiceUtil.getSongsAfter(scopeGroupId, cursorName, cursorId, delta + 1);
+
+	if (songs.size() > delta) {
+		songs = songs.subList(0, delta);
+
+		Song lastSong = songs.get(delta - 1);
+
+		nextCursorId = lastSong.getSongId();
+		nextCursorName = lastSong.getName();
+	}
+}
+
+long[] songIds = new long[songs.size()];
+
+for (int i = 0; i < songs.size(); i++) {
+	Song song = songs.get(i);
+
+	songIds[i] = song.getSongId();
 }
+
+Map<Long, SongMedia> songMediaMap = SongLocalServiceUtil.getSongMedia(scopeGroupId, songIds);
+
+Map<String, Object> contextObjects = new HashMap<String, Object>();
+
+contextObjects.put("songMedia", songMediaMap);
 %>
 
 <c:choose>
 	<c:when test="<%= portletDisplayDDMTemplateId > 0 %>">
-		<%= PortletDisplayTemplateUtil.renderDDMTemplate(request, response, portletDisplayDDMTemplateId, songs) %>
+		<div class="jukebox-page">
+			<%= PortletDisplayTemplateUtil.renderDDMTemplate(request, response, portletDisplayDDMTemplateId, songs, contextObjects) %>
+		</div>
 	</c:when>
 	<c:when test="<%= songs.isEmpty() %>">
 		<div class="alert alert-info">
@@ -76,7 +110,7 @@ else {
 			</div>
 		</c:if>
 
-		<ul class="songs-list graphic">
+		<ul class="graphic jukebox-page songs-list">
 
 			<%
 			for (Song song : songs) {
@@ -85,12 +119,26 @@ else {
 				<li class="song">
 
 					<%
-					String songURL = song.getSongURL(themeDisplay, "mp3");
+					SongMedia songMedia = songMediaMap.get(song.getSongId());
+
+					String songURL = StringPool.BLANK;
+					String renditionURLs = StringPool.BLANK;
+
+					if (songMedia.hasSong()) {
+						songURL = song.getSongURL(themeDisplay, "mp3");
+						renditionURLs = String.valueOf(song.getRenditionURLs(themeDisplay, "mp3", songMedia));
+					}
+
+					String lyricsURL = StringPool.BLANK;
+
+					if (songMedia.hasLyrics()) {
+						lyricsURL = song.getLyricsURL(themeDisplay);
+					}
 					%>
 
 					<c:choose>
 						<c:when test="<%= Validator.isNotNull(songURL) %>">
-							<a class="song-link" href="<%= songURL %>" type="audio/mpeg">
+							<a class="song-link" data-renditions="<%= HtmlUtil.escapeAttribute(renditionURLs) %>" href="<%= songURL %>" type="audio/mpeg">
 								<%= song.getName() %>
 							</a>
 						</c:when>
@@ -101,7 +149,7 @@ else {
 						</c:otherwise>
 					</c:choose>
 
-					<c:if test="<%= SongPermission.contains(permissionChecker, song.getSongId(), ActionKeys.UPDATE) %>">
+					<c:if test="<%= SongPermission.contains(permissionChecker, song, ActionKeys.UPDATE) %>">
 						<portlet:renderURL var="editSongURL">
 							<portlet:param name="jspPage" value="/html/songs/edit_song.jsp" />
 							<portlet:param name="songId" value="<%= String.valueOf(song.getSongId()) %>" />
@@ -119,8 +167,8 @@ else {
 
 					<liferay-ui:icon cssClass="song-small-link" image="../aui/info" message="info" url="<%= viewSongURL %>" />
 
-					<c:if test="<%= Validator.isNotNull(song.getLyricsURL(themeDisplay)) %>">
-						<liferay-ui:icon cssClass="song-small-link" image="../aui/align-left" message="lyrics" method="get" url="<%= song.getLyricsURL(themeDisplay) %>" />
+					<c:if test="<%= Validator.isNotNull(lyricsURL) %>">
+						<liferay-ui:icon cssClass="song-small-link" image="../aui/align-left" message="lyrics" method="get" url="<%= lyricsURL %>" />
 					</c:if>
 				</li>
 
@@ -130,4 +178,10 @@ else {
 
 		</ul>
 	</c:otherwise>
-</c:choose>
\ No newline at end of file
+</c:choose>
+
+<c:if test="<%= nextCursorId > 0 %>">
+	<div class="jukebox-load-more" data-cursor-id="<%= nextCursorId %>" data-cursor-name="<%= HtmlUtil.escapeAttribute(nextCursorName) %>">
+		<aui:a cssClass="btn" href="javascript:;" label="load-more" />
+	</div>
+</c:if>
\ No newline at end of file
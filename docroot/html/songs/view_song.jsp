@@ -44,7 +44,7 @@ boolean showHeader = ParamUtil.getBoolean(request, "showHeader", true);
 	/>
 </c:if>
 
-<c:if test="<%= SongPermission.contains(permissionChecker, song.getSongId(), ActionKeys.UPDATE) %>">
+<c:if test="<%= SongPermission.contains(permissionChecker, song, ActionKeys.UPDATE) %>">
 	<aui:nav-bar>
 		<aui:nav cssClass="navbar-nav">
 			<portlet:renderURL var="editSongURL">
@@ -56,7 +56,7 @@ boolean showHeader = ParamUtil.getBoolean(request, "showHeader", true);
 			<aui:nav-item href="<%= editSongURL %>" iconCssClass="icon-pencil" label="edit" />
 		</aui:nav>
 
-		<c:if test="<%= SongPermission.contains(permissionChecker, song.getSongId(), ActionKeys.PERMISSIONS) %>">
+		<c:if test="<%= SongPermission.contains(permissionChecker, song, ActionKeys.PERMISSIONS) %>">
 			<aui:nav cssClass="navbar-nav">
 				<liferay-security:permissionsURL
 					modelResource="<%= Song.class.getName() %>"
@@ -70,7 +70,7 @@ boolean showHeader = ParamUtil.getBoolean(request, "showHeader", true);
 			</aui:nav>
 		</c:if>
 
-		<c:if test="<%= SongPermission.contains(permissionChecker, song.getSongId(), ActionKeys.DELETE) %>">
+		<c:if test="<%= SongPermission.contains(permissionChecker, song, ActionKeys.DELETE) %>">
 
 			<%
 			boolean trashEnabled = TrashUtil.isTrashEnabled(scopeGroupId);
@@ -99,13 +99,13 @@ boolean showHeader = ParamUtil.getBoolean(request, "showHeader", true);
 <div class="song-details">
 	<div class="song-info">
 		<div class="song-artist">
-			<img alt="" class="img-circle artist-image" src="<%= artist.getImageURL(themeDisplay) %>" />
+			<img alt="" class="img-circle artist-image" src="<%= artist.getImageURL(themeDisplay, "thumbnail") %>" />
 
 			<%= artist.getName() %>
 		</div>
 
 		<div class="song-album">
-			<img alt="" class="img-rounded album-image" src="<%= album.getImageURL(themeDisplay) %>" />
+			<img alt="" class="img-rounded album-image" src="<%= album.getImageURL(themeDisplay, "thumbnail") %>" />
 
 			<%= album.getName() %>
 			<span class="song-year">(<%= album.getYear() %>)</span>
@@ -118,12 +118,18 @@ boolean showHeader = ParamUtil.getBoolean(request, "showHeader", true);
 				<li class="song">
 
 					<%
+					Map<Long, SongMedia> songMediaMap = SongLocalServiceUtil.getSongMedia(song.getGroupId(), new long[] {song.getSongId()});
+
+					SongMedia songMedia = songMediaMap.get(song.getSongId());
+
 					String songURL = song.getSongURL(themeDisplay, "mp3");
+					String renditionURLs = String.valueOf(song.getRenditionURLs(themeDisplay, "mp3", songMedia));
+					String lyricsURL = song.getLyricsURL(themeDisplay);
 					%>
 
 					<c:choose>
 						<c:when test="<%= Validator.isNotNull(songURL) %>">
-							<a class="song-link" href="<%= songURL %>" type="audio/mpeg">
+							<a class="song-link" data-renditions="<%= HtmlUtil.escapeAttribute(renditionURLs) %>" href="<%= songURL %>" type="audio/mpeg">
 								<%= song.isInTrash() ? TrashUtil.getOriginalTitle(song.getName()) : song.getName() %>
 							</a>
 						</c:when>
@@ -134,8 +140,8 @@ boolean showHeader = ParamUtil.getBoolean(request, "showHeader", true);
 						</c:otherwise>
 					</c:choose>
 
-					<c:if test="<%= Validator.isNotNull(song.getLyricsURL(themeDisplay)) %>">
-						<liferay-ui:icon cssClass="song-small-link" image="../aui/align-left" label="<%= true %>" message="lyrics" method="get" url="<%= song.getLyricsURL(themeDisplay) %>" />
+					<c:if test="<%= Validator.isNotNull(lyricsURL) %>">
+						<liferay-ui:icon cssClass="song-small-link" image="../aui/align-left" label="<%= true %>" message="lyrics" method="get" url="<%= lyricsURL %>" />
 					</c:if>
 				</li>
 			</ul>
@@ -207,12 +207,41 @@ this.stopSound = function(oSound) {
 	soundManager.unload(oSound.id);
 }
 
+this.selectRendition = function(o) {
+	// pick the highest bit rate rendition (in kbps) that the downlink of the client can sustain
+	var renditions = o.getAttribute('data-renditions');
+	var connection = (navigator.connection || navigator.mozConnection || navigator.webkitConnection);
+	if (!renditions || !connection || !connection.downlink) {
+	  return;
+	}
+	renditions = JSON.parse(renditions);
+	var maxBitRate = (connection.saveData ? 0 : connection.downlink * 1000 / 2); // keep half of the downlink as headroom
+	var bitRate = null;
+	var minBitRate = null;
+	for (var key in renditions) {
+	  var renditionBitRate = parseInt(key, 10);
+	  if (renditionBitRate <= maxBitRate && (bitRate === null || renditionBitRate > bitRate)) {
+		bitRate = renditionBitRate;
+	  }
+	  if (minBitRate === null || renditionBitRate < minBitRate) {
+		minBitRate = renditionBitRate;
+	  }
+	}
+	if (bitRate === null) {
+	  bitRate = minBitRate;
+	}
+	if (bitRate !== null) {
+	  o.href = renditions[bitRate];
+	}
+}
+
 this.init = function() {
 	sm._writeDebug('inlinePlayer.init()');
 	var oLinks = document.getElementsByTagName('a');
 	// grab all links, look for .mp3
 	var foundItems = 0;
 	for (var i=0, j=oLinks.length; i<j; i++) {
+	  self.selectRendition(oLinks[i]);
 	  if ((sm.canPlayLink(oLinks[i]) || self.classContains(oLinks[i],self.playableClass)) && !self.classContains(oLinks[i],self.excludeClass)) {
 		self.addClass(oLinks[i],self.css.sDefault); // add default CSS decoration
 		self.links[foundItems] = (oLinks[i]);
@@ -88,6 +88,49 @@ AUI.add(
 						instance._search = contentSearch;
 
 						instance._bindUISearch();
+						instance._bindUIPagination();
+					},
+
+					destructor: function() {
+						var instance = this;
+
+						instance._scrollHandle.detach();
+					},
+
+					_afterNextPageEnd: function(event) {
+						var instance = this;
+
+						instance._loadingNextPage = false;
+					},
+
+					_afterNextPageSuccess: function(loadMoreNode, event) {
+						var instance = this;
+
+						if (!loadMoreNode.inDoc()) {
+							return;
+						}
+
+						var responseNode = A.Node.create('<div>' + event.currentTarget.get('responseData') + '</div>');
+
+						var currentPage = instance._contentPanel.one('.jukebox-page');
+						var nextPage = responseNode.one('.jukebox-page');
+
+						if (currentPage && nextPage) {
+							nextPage.get('children').each(
+								function(item, index, collection) {
+									currentPage.append(item);
+								}
+							);
+						}
+
+						var nextLoadMoreNode = responseNode.one('.jukebox-load-more');
+
+						if (nextLoadMoreNode) {
+							loadMoreNode.replace(nextLoadMoreNode);
+						}
+						else {
+							loadMoreNode.remove();
+						}
 					},
 
 					_afterSuccess: function(event) {
@@ -96,12 +139,66 @@ AUI.add(
 						instance._contentPanel.setContent(event.currentTarget.get('responseData'));
 					},
 
+					_bindUIPagination: function() {
+						var instance = this;
+
+						instance._contentPanel.delegate('click', instance._onLoadMoreClick, '.jukebox-load-more a', instance);
+
+						instance._scrollHandle = A.getWin().on('scroll', A.throttle(A.bind('_onWindowScroll', instance), 200));
+					},
+
 					_bindUISearch: function() {
 						var instance = this;
 
 						instance._search.after('query', instance._refreshContentList, instance);
 					},
 
+					_loadNextPage: function() {
+						var instance = this;
+
+						var loadMoreNode = instance._contentPanel.one('.jukebox-load-more');
+
+						if (!loadMoreNode || instance._loadingNextPage) {
+							return;
+						}
+
+						instance._loadingNextPage = true;
+
+						A.io.request(
+							instance._resourceURL,
+							{
+								after: {
+									end: A.bind('_afterNextPageEnd', instance),
+									success: A.bind('_afterNextPageSuccess', instance, loadMoreNode)
+								},
+								data: instance.ns(
+									{
+										cursorId: loadMoreNode.attr('data-cursor-id'),
+										cursorName: loadMoreNode.attr('data-cursor-name')
+									}
+								)
+							}
+						);
+					},
+
+					_onLoadMoreClick: function(event) {
+						var instance = this;
+
+						event.preventDefault();
+
+						instance._loadNextPage();
+					},
+
+					_onWindowScroll: function(event) {
+						var instance = this;
+
+						var loadMoreNode = instance._contentPanel.one('.jukebox-load-more');
+
+						if (loadMoreNode && loadMoreNode.inViewportRegion()) {
+							instance._loadNextPage();
+						}
+					},
+
 					_refreshContentList: function(event) {
 						var instance = this;
 
@@ -128,6 +225,6 @@ AUI.add(
 	},
 	'',
 	{
-		requires: ['aui-base', 'aui-io-request', 'autocomplete-base', 'autocomplete-filters', 'liferay-portlet-base']
+		requires: ['aui-base', 'aui-io-request', 'autocomplete-base', 'autocomplete-filters', 'liferay-portlet-base', 'node-screen', 'yui-throttle']
 	}
 );
\ No newline at end of file